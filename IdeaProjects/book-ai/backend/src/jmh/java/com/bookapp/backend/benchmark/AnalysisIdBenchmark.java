@@ -0,0 +1,151 @@
+package com.bookapp.backend.benchmark;
+
+import com.bookapp.backend.domain.analysis.AnalysisIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ai_analyses 형태의 테이블에서 기본 키 형식별 INSERT/조회 처리량 비교.
+ * VARCHAR_V4는 이전 방식(랜덤 UUID 문자열), BINARY_V7은 현재 방식(시간 순 UUIDv7, 16바이트)이다.
+ * 테이블을 prefillRows건으로 채운 뒤 측정하며, insert는 한 번에 1,000건을 배치로 넣는다.
+ * insert는 반복마다 테이블을 prefillRows건 상태로 다시 만들어 앞 반복에서 늘어난 행이 다음 반복의 측정값에 섞이지 않게 한다.
+ * H2 MVStore 기준이므로 InnoDB 클러스터드 인덱스의 페이지 분할 비용은 그대로 재현되지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+public class AnalysisIdBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    public enum IdFormat {
+        VARCHAR_V4, BINARY_V7
+    }
+
+    @Param({"VARCHAR_V4", "BINARY_V7"})
+    private IdFormat idFormat;
+
+    @Param({"200000"})
+    private int prefillRows;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private final List<Object> sampleIds = new ArrayList<>();
+    private long insertedRows;
+
+    @Setup(Level.Trial)
+    public void open() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:analysis-id-" + UUID.randomUUID() + ";MODE=MySQL", "sa", "");
+        createTable();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetTable() throws SQLException {
+        if (insertedRows == prefillRows) {
+            return;
+        }
+        insert.close();
+        lookup.close();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE ai_analyses");
+        }
+        createTable();
+        System.gc();
+    }
+
+    private void createTable() throws SQLException {
+        String idColumn = idFormat == IdFormat.VARCHAR_V4 ? "VARCHAR(36)" : "BINARY(16)";
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ai_analyses (analysis_id " + idColumn + " PRIMARY KEY,"
+                    + " user_id BIGINT NOT NULL, book_id BIGINT NOT NULL, analysis_type VARCHAR(50) NOT NULL,"
+                    + " content VARCHAR(1000) NOT NULL, created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_ai_analyses_user_created ON ai_analyses(user_id, created_at)");
+        }
+        insert = connection.prepareStatement(
+                "INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content) VALUES (?, ?, ?, 'SUMMARY', ?)");
+        lookup = connection.prepareStatement("SELECT content FROM ai_analyses WHERE analysis_id = ?");
+
+        sampleIds.clear();
+        insertedRows = 0;
+        while (insertedRows < prefillRows) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_BATCH_SIZE)
+    public int insertRows() throws SQLException {
+        return insertBatch();
+    }
+
+    @Benchmark
+    public boolean lookupById() throws SQLException {
+        lookup.setObject(1, sampleIds.get(ThreadLocalRandom.current().nextInt(sampleIds.size())));
+        try (ResultSet resultSet = lookup.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    private int insertBatch() throws SQLException {
+        for (int i = 0; i < INSERT_BATCH_SIZE; i++) {
+            Object id = nextId();
+            insert.setObject(1, id);
+            insert.setLong(2, ThreadLocalRandom.current().nextLong(1, 1000));
+            insert.setLong(3, ThreadLocalRandom.current().nextLong(1, 10000));
+            insert.setString(4, "analysis content");
+            insert.addBatch();
+            // 조회 대상은 prefill 행에서만 고름
+            if (insertedRows < prefillRows && sampleIds.size() < 100_000 && i % 10 == 0) {
+                sampleIds.add(id);
+            }
+        }
+        int inserted = insert.executeBatch().length;
+        insertedRows += inserted;
+        return inserted;
+    }
+
+    private Object nextId() {
+        if (idFormat == IdFormat.VARCHAR_V4) {
+            return UUID.randomUUID().toString();
+        }
+        UUID uuid = UUID.fromString(AnalysisIdGenerator.generate());
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
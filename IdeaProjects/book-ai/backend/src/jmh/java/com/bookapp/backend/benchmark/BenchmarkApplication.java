@@ -0,0 +1,48 @@
+package com.bookapp.backend.benchmark;
+
+import com.bookapp.backend.BackendApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 벤치마크마다 독립된 H2 메모리 DB로 애플리케이션 컨텍스트를 띄운다 (웹 서버와 스케줄 작업 제외).
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.generate_statistics", "false");
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("book.search.full-text-enabled", "false");
+        properties.put("search.index.snapshot-dir", "build/search-index-bench");
+        // 측정 중 끼어들지 않도록 주기 작업을 끔
+        for (String task : new String[]{"app.purge", "app.analysis.archive", "app.stats.reconcile",
+                "app.compression.recompress", "app.library-view.reconcile", "app.job-lease"}) {
+            properties.put(task + ".enabled", "false");
+        }
+        properties.put("logging.level.root", "WARN");
+        properties.putAll(overrides);
+        // application.properties보다 우선하도록 명령행 인자로 전달
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+}
@@ -0,0 +1,122 @@
+package com.bookapp.backend.benchmark;
+
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL(Testcontainers)에 책 rows건을 users명에게 나눠 넣고 한 사용자의 책을 검색하는 시간.
+ * fullText=true는 idx_books_search(ngram FULLTEXT) 관련도 검색, false는 제목/저자/설명 LIKE 검색이다.
+ * Docker가 있어야 실행된다. 데이터 적재에 수 분이 걸리므로 Trial마다 한 번만 채운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BookSearchBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 2000;
+    private static final String[] WORDS = {
+            "자바", "스프링", "데이터베이스", "여행", "역사", "소설", "경제", "심리학", "요리", "건축",
+            "철학", "음악", "과학", "우주", "정원", "미술", "사진", "투자", "육아", "영화"
+    };
+    private static final String[] KEYWORDS = {"자바", "여행 역사", "데이터베이스", "심리학 소설"};
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"100"})
+    private int users;
+
+    @Param({"true", "false"})
+    private boolean fullText;
+
+    private MySQLContainer<?> mysql;
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        mysql = new MySQLContainer<>("mysql:8.0")
+                .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci",
+                        "--innodb-buffer-pool-size=1G");
+        mysql.start();
+        context = BenchmarkApplication.start(Map.of(
+                "spring.datasource.url", mysql.getJdbcUrl() + "?rewriteBatchedStatements=true",
+                "spring.datasource.driver-class-name", mysql.getDriverClassName(),
+                "spring.datasource.username", mysql.getUsername(),
+                "spring.datasource.password", mysql.getPassword(),
+                "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.MySQLDialect",
+                "book.search.full-text-enabled", String.valueOf(fullText)));
+        bookRepository = context.getBean(BookRepository.class);
+        fill(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public List<Book> search() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return bookRepository.searchByUserId(random.nextLong(1, users + 1), KEYWORDS[random.nextInt(KEYWORDS.length)], 20);
+    }
+
+    private void fill(JdbcTemplate jdbcTemplate) {
+        List<Object[]> accounts = new ArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            accounts.add(new Object[]{userId, "search-" + userId + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, "
+                + "'$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi', 'search')", accounts);
+
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            batch.add(new Object[]{id, phrase(random, 3), phrase(random, 1) + " 지음", phrase(random, 12), id % users + 1});
+            if (batch.size() == INSERT_BATCH_SIZE || id == rows) {
+                jdbcTemplate.batchUpdate("INSERT INTO books (id, title, author, genre, description, user_id) "
+                        + "VALUES (?, ?, ?, 'FICTION', ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.execute("ANALYZE TABLE books");
+    }
+
+    private static String phrase(Random random, int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                phrase.append(' ');
+            }
+            phrase.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return phrase.toString();
+    }
+}
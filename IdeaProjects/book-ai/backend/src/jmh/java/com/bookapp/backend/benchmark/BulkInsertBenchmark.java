@@ -0,0 +1,127 @@
+package com.bookapp.backend.benchmark;
+
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.user.User;
+import com.bookapp.backend.domain.user.UserRepository;
+import com.bookapp.backend.infrastructure.search.InvertedSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 책 rows건을 BookRepository.saveAll로 저장하는 시간 (1,000건씩 트랜잭션).
+ * batchSize=1은 IDENTITY 전략처럼 행마다 한 번씩 왕복하는 경우, 50은 pooled 시퀀스 + JDBC 배치를 쓰는 경우다.
+ * 같은 프로세스의 H2 메모리 DB는 문장마다 왕복 비용이 없어 차이가 드러나지 않으므로,
+ * H2 TCP 서버(loopback)에 접속해 문장마다 실제 네트워크 왕복이 생기게 한다.
+ * 반복마다 books와 함께 메모리에 쌓이는 검색 인덱스, 2차 캐시를 비워 이전 반복의 데이터가 측정값(GC)에 섞이지 않게 한다.
+ * batchSize=1은 실행 경로가 길어 JIT가 늦게 안정되므로 예열을 길게 잡는다.
+ * 종료 시 행 1,000건당 준비된 JDBC 문장 수(Hibernate 통계)를 출력한다 - 시간과 달리 실행마다 같은 값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 15)
+@Fork(2)
+public class BulkInsertBenchmark {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"10000"})
+    private int rows;
+
+    private Server server;
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+    private long isbnSequence;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        context = BenchmarkApplication.start(Map.of(
+                "spring.datasource.url", "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bulk-insert;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                "spring.jpa.properties.hibernate.jdbc.batch_size", String.valueOf(batchSize),
+                "spring.jpa.properties.hibernate.order_inserts", "true",
+                "spring.jpa.properties.hibernate.generate_statistics", "true"));
+        bookRepository = context.getBean(BookRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        userId = context.getBean(UserRepository.class).save(User.builder()
+                .email("bulk-insert@example.com")
+                .password("$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi")
+                .nickname("bulk")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearBooks() {
+        context.getBean(JdbcTemplate.class).update("DELETE FROM books");
+        context.getBean(InvertedSearchIndex.class).removeUser(userId);
+        context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getCache().evictAllRegions();
+        System.gc();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        System.out.printf("%n[bulk insert] batchSize=%d: %.1f JDBC statements per 1,000 rows%n",
+                batchSize, statistics.getPrepareStatementCount() * 1000.0 / statistics.getEntityInsertCount());
+        context.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public int insertBooks() {
+        int inserted = 0;
+        while (inserted < rows) {
+            List<Book> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = 0; i < CHUNK_SIZE && inserted + i < rows; i++) {
+                chunk.add(Book.builder()
+                        .title("Bulk Book " + isbnSequence)
+                        .author("Benchmark")
+                        .isbn(String.format("978%010d", isbnSequence++))
+                        .genre(Genre.TECHNOLOGY)
+                        .userId(userId)
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(status -> bookRepository.saveAll(chunk));
+            inserted += chunk.size();
+        }
+        return inserted;
+    }
+}
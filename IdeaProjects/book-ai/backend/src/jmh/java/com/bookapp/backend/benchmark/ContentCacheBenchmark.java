@@ -0,0 +1,182 @@
+package com.bookapp.backend.benchmark;
+
+import com.bookapp.backend.infrastructure.persistence.cache.OffHeapContentCache;
+import org.ehcache.Cache;
+import org.ehcache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheManagerBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * 본문 캐시 비교: 힙 밖 OffHeapContentCache, 2차 캐시가 쓰는 Ehcache 힙 저장소, ConcurrentHashMap.
+ * 같은 본문 entries건을 채우고 임의 키로 읽기/덮어쓰기 시간을 잰다.
+ * 준비 단계에서 구조마다 채운 뒤 남은 힙 증가량을 출력한다 (힙 밖 캐시는 본문이 direct memory에 있어 힙에는 색인만 남음).
+ * 읽기는 힙 밖 캐시가 매번 바이트를 복사해 String을 만들므로 느리고 할당도 많다 -
+ * 대신 본문 크기만큼의 오래 사는 힙 객체가 없어 GC가 훑을 old generation이 늘지 않는다.
+ * GC 영향은 -prof gc, 락 경합은 -t 4처럼 스레드 수를 늘려 따로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g", "-XX:MaxDirectMemorySize=512m"})
+public class ContentCacheBenchmark {
+
+    private static final long VERSION = 1L;
+
+    @Param({"2000", "20000"})
+    private int contentChars;
+
+    @Param({"1000"})
+    private int entries;
+
+    private OffHeapContentCache offHeapCache;
+    private CacheManager cacheManager;
+    private Cache<Long, String> ehcacheHeap;
+    private Map<Long, String> hashMap;
+    private String[] replacements;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long contentBytes = (long) entries * contentChars * 3;
+
+        long offHeapRetained = retainedHeap(() -> {
+            // 모든 항목이 내보내지지 않고 들어가도록 UTF-8 최대 크기의 두 배로 잡음 (마지막 블록 낭비 여유)
+            offHeapCache = new OffHeapContentCache(contentBytes * 2, 2048, entries * 2);
+            fill(key -> offHeapCache.put(key, VERSION, content(key)));
+        });
+
+        long ehcacheRetained = retainedHeap(() -> {
+            cacheManager = CacheManagerBuilder.newCacheManagerBuilder()
+                    .withCache("content", CacheConfigurationBuilder.newCacheConfigurationBuilder(
+                            Long.class, String.class, ResourcePoolsBuilder.heap(entries * 2L)))
+                    .build(true);
+            ehcacheHeap = cacheManager.getCache("content", Long.class, String.class);
+            fill(key -> ehcacheHeap.put(key, content(key)));
+        });
+
+        long hashMapRetained = retainedHeap(() -> {
+            hashMap = new ConcurrentHashMap<>(entries * 2);
+            fill(key -> hashMap.put(key, content(key)));
+        });
+
+        replacements = new String[16];
+        for (int i = 0; i < replacements.length; i++) {
+            replacements[i] = content(1_000_000L + i);
+        }
+
+        OffHeapContentCache.Stats stats = offHeapCache.stats();
+        System.out.printf("%n[content cache] entries=%d, contentChars=%d%n", entries, contentChars);
+        System.out.printf("  off-heap: heap +%.1f MB, direct %.1f MB used of %.1f MB%n",
+                mb(offHeapRetained), mb(stats.usedBytes()), mb(stats.capacityBytes()));
+        System.out.printf("  ehcache heap: heap +%.1f MB%n", mb(ehcacheRetained));
+        System.out.printf("  ConcurrentHashMap: heap +%.1f MB%n", mb(hashMapRetained));
+        if (stats.entries() != entries) {
+            throw new IllegalStateException("힙 밖 캐시에 모든 항목이 들어가지 않았습니다: " + stats.entries());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cacheManager.close();
+    }
+
+    @Benchmark
+    public String offHeapGet() {
+        return offHeapCache.get(randomKey(), VERSION);
+    }
+
+    @Benchmark
+    public String ehcacheHeapGet() {
+        return ehcacheHeap.get(randomKey());
+    }
+
+    @Benchmark
+    public String hashMapGet() {
+        return hashMap.get(randomKey());
+    }
+
+    @Benchmark
+    public void offHeapPut() {
+        offHeapCache.put(randomKey(), VERSION, randomReplacement());
+    }
+
+    @Benchmark
+    public void ehcacheHeapPut() {
+        ehcacheHeap.put(randomKey(), randomReplacement());
+    }
+
+    @Benchmark
+    public void hashMapPut() {
+        hashMap.put(randomKey(), randomReplacement());
+    }
+
+    private long randomKey() {
+        return ThreadLocalRandom.current().nextInt(entries);
+    }
+
+    private String randomReplacement() {
+        return replacements[ThreadLocalRandom.current().nextInt(replacements.length)];
+    }
+
+    private void fill(LongFunctionConsumer put) {
+        for (long key = 0; key < entries; key++) {
+            put.accept(key);
+        }
+    }
+
+    // 한글과 ASCII가 섞인 본문 (키마다 내용이 다르도록 앞에 키를 붙임)
+    private String content(long key) {
+        StringBuilder builder = new StringBuilder(contentChars);
+        builder.append(key).append(' ');
+        LongFunction<String> sentence = i -> i % 3 == 0 ? "오늘 읽은 부분에서 인상 깊었던 문장. " : "Notes on chapter " + i + ". ";
+        for (long i = 0; builder.length() < contentChars; i++) {
+            builder.append(sentence.apply(i + key));
+        }
+        builder.setLength(contentChars);
+        return builder.toString();
+    }
+
+    private static long retainedHeap(Runnable populate) {
+        long before = usedHeapAfterGc();
+        populate.run();
+        return usedHeapAfterGc() - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    @FunctionalInterface
+    private interface LongFunctionConsumer {
+        void accept(long key);
+    }
+}
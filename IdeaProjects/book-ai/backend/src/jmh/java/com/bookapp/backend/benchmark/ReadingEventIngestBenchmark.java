@@ -0,0 +1,117 @@
+package com.bookapp.backend.benchmark;
+
+import com.bookapp.backend.domain.activity.ReadingEvent;
+import com.bookapp.backend.domain.activity.ReadingEventType;
+import com.bookapp.backend.infrastructure.activity.ReadingEventRingBuffer;
+import com.bookapp.backend.infrastructure.persistence.activity.ReadingEventDrainTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 독서 이벤트를 링 버퍼에 넣고(요청 스레드) ReadingEventDrainTask.drain()으로 H2의 reading_events와
+ * reading_activity_daily까지 기록하는 처리량. 점수는 초당 이벤트 수다.
+ * 사용자 100명이 책 10권씩 30초 간격 HEARTBEAT를 100개 단위 배치로 보내는 상황이며,
+ * batchSize는 드레인 한 번에 꺼내 한 트랜잭션으로 쓰는 이벤트 수(app.activity.drain.batch-size)다.
+ * 주기 드레인은 측정에 끼어들지 않도록 사실상 끄고 벤치마크 안에서 직접 호출한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReadingEventIngestBenchmark {
+
+    private static final int USERS = 100;
+    private static final int BOOKS_PER_USER = 10;
+    private static final int REQUEST_BATCH_SIZE = 100;
+    private static final int EVENTS_PER_INVOCATION = 10_000;
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ReadingEventRingBuffer ringBuffer;
+    private ReadingEventDrainTask drainTask;
+    private JdbcTemplate jdbcTemplate;
+    private LocalDateTime clock;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = BenchmarkApplication.start(Map.of(
+                "app.activity.drain.batch-size", String.valueOf(batchSize),
+                "app.activity.drain.interval-ms", String.valueOf(TimeUnit.HOURS.toMillis(1))));
+        ringBuffer = context.getBean(ReadingEventRingBuffer.class);
+        drainTask = context.getBean(ReadingEventDrainTask.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> books = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            users.add(new Object[]{userId, "events-" + userId + "@example.com"});
+            for (long book = 0; book < BOOKS_PER_USER; book++) {
+                books.add(new Object[]{bookId(userId, book), "책 " + bookId(userId, book), userId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, "
+                + "'$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi', 'events')", users);
+        jdbcTemplate.batchUpdate("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, ?, '저자', 'FICTION', ?)", books);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearEvents() {
+        jdbcTemplate.update("DELETE FROM reading_events");
+        jdbcTemplate.update("DELETE FROM reading_activity_daily");
+        clock = LocalDateTime.now().minusDays(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public int offerAndDrain() {
+        for (int offered = 0; offered < EVENTS_PER_INVOCATION; offered += REQUEST_BATCH_SIZE) {
+            // 세션마다 시각이 앞으로만 가도록 배치마다 30초씩 진행
+            clock = clock.plusSeconds(30);
+            List<ReadingEvent> batch = new ArrayList<>(REQUEST_BATCH_SIZE);
+            for (int i = 0; i < REQUEST_BATCH_SIZE; i++) {
+                int session = (offered + i) % (USERS * BOOKS_PER_USER);
+                long userId = session / BOOKS_PER_USER + 1;
+                batch.add(new ReadingEvent(userId, bookId(userId, session % BOOKS_PER_USER), ReadingEventType.HEARTBEAT,
+                        clock, clock));
+            }
+            if (!ringBuffer.offerAll(batch)) {
+                throw new IllegalStateException("링 버퍼가 가득 찼습니다");
+            }
+        }
+        drainTask.drain();
+        return ringBuffer.size();
+    }
+
+    private static long bookId(long userId, long book) {
+        return userId * BOOKS_PER_USER + book;
+    }
+}
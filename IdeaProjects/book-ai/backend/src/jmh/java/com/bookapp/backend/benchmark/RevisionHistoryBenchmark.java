@@ -0,0 +1,146 @@
+package com.bookapp.backend.benchmark;
+
+import com.bookapp.backend.application.reading.ReadingRecordRevisionHistory;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevision;
+import com.bookapp.backend.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 약 45,000자 독서 기록을 revisions번 수정한 뒤 임의 버전과 스냅샷에서 가장 먼 버전의 복원 시간.
+ * 준비 단계에서 저장된 이력 크기를 버전마다 전체 본문을 저장했을 때와 비교해 출력한다.
+ * snapshotInterval이 복원 시 적용할 차이 개수의 상한이므로 간격을 늘리면 저장량은 줄고 복원 시간은 늘어난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class RevisionHistoryBenchmark {
+
+    private static final long READING_RECORD_ID = 1L;
+
+    @Param({"20", "100"})
+    private int snapshotInterval;
+
+    @Param({"1000"})
+    private int revisions;
+
+    private ConfigurableApplicationContext context;
+    private ReadingRecordRevisionHistory revisionHistory;
+    private List<ReadingRecordRevision> summaries;
+    private ReadingRecordRevision longestChain;
+
+    @Setup(Level.Trial)
+    public void recordRevisions() {
+        context = BenchmarkApplication.start(Map.of(
+                "app.reading.revisions.snapshot-interval", String.valueOf(snapshotInterval)));
+        revisionHistory = context.getBean(ReadingRecordRevisionHistory.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 900; i++) {
+            lines.add(sentence(random, i));
+        }
+        String content = String.join("\n", lines);
+        long fullCopyChars = content.length();
+        LocalDateTime updatedAt = LocalDateTime.now().minusDays(1);
+        long started = System.nanoTime();
+        for (int edit = 0; edit < revisions; edit++) {
+            int index = random.nextInt(lines.size());
+            switch (random.nextInt(3)) {
+                case 0 -> lines.set(index, sentence(random, edit));
+                case 1 -> lines.add(index, sentence(random, edit));
+                default -> lines.remove(index);
+            }
+            String previousContent = content;
+            LocalDateTime previousUpdatedAt = updatedAt;
+            content = String.join("\n", lines);
+            updatedAt = updatedAt.plusSeconds(1);
+            ReadingRecord saved = readingRecord(content, updatedAt);
+            transactionTemplate.executeWithoutResult(status ->
+                    revisionHistory.recordChange(saved, previousContent, previousUpdatedAt));
+            fullCopyChars += content.length();
+        }
+        long recordMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        summaries = revisionHistory.findSummaries(READING_RECORD_ID);
+        ReadingRecordRevision longest = summaries.stream()
+                .max(Comparator.comparingInt(ReadingRecordRevision::getChainLength))
+                .orElseThrow();
+        longestChain = revisionHistory.findRevision(READING_RECORD_ID, longest.getRevisionNumber());
+        long storedBytes = context.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT SUM(OCTET_LENGTH(payload)) FROM reading_record_revisions WHERE reading_record_id = ?",
+                Long.class, READING_RECORD_ID);
+        System.out.printf("%n[revision storage] interval=%d revisions=%d stored=%,d bytes (%,d bytes/revision), "
+                        + "full copies=%,d chars, record time=%,d ms%n",
+                snapshotInterval, summaries.size(), storedBytes, storedBytes / summaries.size(), fullCopyChars, recordMillis);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int rebuildRandomRevision() {
+        ReadingRecordRevision summary = summaries.get(ThreadLocalRandom.current().nextInt(summaries.size()));
+        return revisionHistory.rebuildContent(
+                revisionHistory.findRevision(READING_RECORD_ID, summary.getRevisionNumber())).length();
+    }
+
+    @Benchmark
+    public int rebuildLongestChain() {
+        return revisionHistory.rebuildContent(longestChain).length();
+    }
+
+    private static String sentence(Random random, int seed) {
+        return seed + "번째 문단: 인물의 선택과 결과를 다시 읽으며 남긴 메모 " + Integer.toHexString(random.nextInt());
+    }
+
+    private static ReadingRecord readingRecord(String content, LocalDateTime updatedAt) {
+        User user = User.builder()
+                .id(1L)
+                .email("revision-bench@example.com")
+                .password("$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi")
+                .nickname("bench")
+                .build();
+        Book book = Book.builder().id(1L).title("책").author("저자").genre(Genre.FICTION).userId(1L).build();
+        return ReadingRecord.builder()
+                .id(READING_RECORD_ID)
+                .user(user)
+                .book(book)
+                .content(content)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
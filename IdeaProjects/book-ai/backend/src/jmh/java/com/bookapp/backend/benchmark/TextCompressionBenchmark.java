@@ -0,0 +1,78 @@
+package com.bookapp.backend.benchmark;
+
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 본문 저장 형식(TextCompression)의 인코딩/디코딩 시간과 압축률. 한글 독서 기록 형태의 본문을 쓴다.
+ * 기준 크기(1 KiB) 미만은 UTF-8 원문 그대로라 비용이 거의 없고, 그 이상은 Deflate 비용이 붙는다.
+ * 준비 단계에서 크기별 저장 바이트 수와 압축률을 출력한다.
+ * 본문은 정해진 문장들을 섞어 만들므로 실제 기록보다 반복이 많아 압축률이 높게 나올 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class TextCompressionBenchmark {
+
+    private static final String[] SENTENCES = {
+            "오늘은 3장까지 읽었다. ",
+            "주인공이 고향을 떠나며 어머니와 나눈 대화가 오래 남는다. ",
+            "작가는 계절의 변화를 인물의 감정에 겹쳐 보여 준다. ",
+            "이 부분은 다시 읽어 봐야겠다.\n",
+            "전쟁 직후의 서울 풍경을 묘사한 문단이 특히 생생했다. ",
+            "친구가 추천해 준 이유를 조금 알 것 같다. ",
+            "등장인물이 많아 관계도를 따로 정리해 두었다.\n",
+            "마지막 문장에서 제목의 의미가 드러난다. "
+    };
+
+    // 100/260자(236B/624B)는 기준 미만이라 원문 저장, 700자(1,676B)부터 압축 대상
+    @Param({"100", "260", "700", "5000", "20000"})
+    private int contentChars;
+
+    private String content;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(contentChars);
+        StringBuilder builder = new StringBuilder(contentChars + 64);
+        while (builder.length() < contentChars) {
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        content = builder.substring(0, contentChars);
+        encoded = TextCompression.encode(content);
+
+        int rawBytes = content.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n[text compression] chars=%d: UTF-8 %d B -> stored %d B (%s, ratio %.2f)%n",
+                contentChars, rawBytes, encoded.length, TextCompression.isCompressed(encoded) ? "deflate" : "raw",
+                (double) encoded.length / rawBytes);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return TextCompression.encode(content);
+    }
+
+    @Benchmark
+    public String decode() {
+        return TextCompression.decode(encoded);
+    }
+}
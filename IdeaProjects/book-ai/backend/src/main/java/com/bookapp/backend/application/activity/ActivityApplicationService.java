@@ -0,0 +1,27 @@
+package com.bookapp.backend.application.activity;
+
+import com.bookapp.backend.application.activity.dto.ReadingActivityDayResponse;
+import com.bookapp.backend.application.activity.dto.ReadingEventBatchRequest;
+import com.bookapp.backend.application.activity.usecase.GetReadingActivityUseCase;
+import com.bookapp.backend.application.activity.usecase.IngestReadingEventsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ActivityApplicationService {
+    
+    private final IngestReadingEventsUseCase ingestReadingEventsUseCase;
+    private final GetReadingActivityUseCase getReadingActivityUseCase;
+    
+    public boolean ingestReadingEvents(ReadingEventBatchRequest request) {
+        return ingestReadingEventsUseCase.execute(request);
+    }
+    
+    public List<ReadingActivityDayResponse> getMyReadingActivity(LocalDate from, LocalDate to) {
+        return getReadingActivityUseCase.execute(from, to);
+    }
+}
@@ -0,0 +1,21 @@
+package com.bookapp.backend.application.activity.dto;
+
+import com.bookapp.backend.domain.book.Genre;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 활동 히트맵의 하루 칸. 분은 초 합계를 반올림한 값이다.
+ */
+@Getter
+@Builder
+public class ReadingActivityDayResponse {
+    
+    private LocalDate date;
+    private long readingMinutes;
+    private Map<Genre, Long> minutesByGenre;
+    private Map<Long, Long> minutesByBook;
+}
@@ -0,0 +1,41 @@
+package com.bookapp.backend.application.activity.dto;
+
+import com.bookapp.backend.domain.activity.ReadingEventType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReadingEventBatchRequest {
+    
+    @NotEmpty(message = "이벤트 목록이 비어 있습니다")
+    @Size(max = 500, message = "한 번에 최대 500개의 이벤트를 보낼 수 있습니다")
+    @Valid
+    private List<Event> events;
+    
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Event {
+        
+        @NotNull(message = "책 ID는 필수입니다")
+        @Positive(message = "책 ID는 양수여야 합니다")
+        private Long bookId;
+        
+        @NotNull(message = "이벤트 종류는 필수입니다")
+        private ReadingEventType type;
+        
+        @NotNull(message = "발생 시각은 필수입니다")
+        private LocalDateTime occurredAt;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bookapp.backend.application.activity.usecase;
+
+import com.bookapp.backend.application.activity.dto.ReadingActivityDayResponse;
+import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.domain.activity.DailyReadingActivity;
+import com.bookapp.backend.domain.activity.ReadingActivityRepository;
+import com.bookapp.backend.domain.book.Genre;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetReadingActivityUseCase {
+    
+    private static final int MAX_RANGE_DAYS = 366;
+    
+    private final ReadingActivityRepository readingActivityRepository;
+    private final CurrentUserService currentUserService;
+    
+    /**
+     * 기간(from, to 포함)의 일별 독서 시간. 읽은 기록이 있는 날만 돌려준다.
+     */
+    public List<ReadingActivityDayResponse> execute(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 366일입니다");
+        }
+        
+        Long currentUserId = currentUserService.getCurrentUserId();
+        Map<LocalDate, List<DailyReadingActivity>> byDate = new LinkedHashMap<>();
+        for (DailyReadingActivity activity : readingActivityRepository.findDaily(currentUserId, from, to)) {
+            byDate.computeIfAbsent(activity.date(), date -> new ArrayList<>()).add(activity);
+        }
+        
+        List<ReadingActivityDayResponse> days = new ArrayList<>(byDate.size());
+        byDate.forEach((date, activities) -> {
+            long totalSeconds = 0;
+            Map<Genre, Long> secondsByGenre = new EnumMap<>(Genre.class);
+            Map<Long, Long> secondsByBook = new LinkedHashMap<>();
+            for (DailyReadingActivity activity : activities) {
+                totalSeconds += activity.readingSeconds();
+                secondsByGenre.merge(activity.genre(), activity.readingSeconds(), Long::sum);
+                secondsByBook.merge(activity.bookId(), activity.readingSeconds(), Long::sum);
+            }
+            days.add(ReadingActivityDayResponse.builder()
+                    .date(date)
+                    .readingMinutes(toMinutes(totalSeconds))
+                    .minutesByGenre(toMinutes(secondsByGenre))
+                    .minutesByBook(toMinutes(secondsByBook))
+                    .build());
+        });
+        return days;
+    }
+    
+    private static long toMinutes(long seconds) {
+        return Math.round(seconds / 60.0);
+    }
+    
+    private static <K> Map<K, Long> toMinutes(Map<K, Long> seconds) {
+        Map<K, Long> minutes = new LinkedHashMap<>();
+        seconds.forEach((key, value) -> minutes.put(key, toMinutes(value)));
+        return minutes;
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookapp.backend.application.activity.usecase;
+
+import com.bookapp.backend.application.activity.dto.ReadingEventBatchRequest;
+import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.domain.activity.ReadingEvent;
+import com.bookapp.backend.infrastructure.activity.ReadingEventRingBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 독서 이벤트 배치를 링 버퍼에 담기만 한다. 트랜잭션과 DB 접근 없이 반환하며,
+ * 소유자 확인과 기록은 ReadingEventDrainTask가 배치로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class IngestReadingEventsUseCase {
+    
+    // 기기 시각 오차 허용 범위 - 이보다 미래이거나 오래된 이벤트는 받지 않음
+    private static final Duration MAX_FUTURE_SKEW = Duration.ofMinutes(5);
+    private static final Duration MAX_AGE = Duration.ofDays(7);
+    
+    private final ReadingEventRingBuffer ringBuffer;
+    private final CurrentUserService currentUserService;
+    
+    /**
+     * @return 버퍼에 담았으면 true, 버퍼가 가득 차 배치 전체를 받지 못했으면 false
+     */
+    public boolean execute(ReadingEventBatchRequest request) {
+        Long currentUserId = currentUserService.getCurrentUserId();
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<ReadingEvent> events = request.getEvents().stream()
+                .map(event -> {
+                    validateOccurredAt(event.getOccurredAt(), now);
+                    return new ReadingEvent(currentUserId, event.getBookId(), event.getType(), event.getOccurredAt(), now);
+                })
+                .collect(Collectors.toList());
+        
+        return ringBuffer.offerAll(events);
+    }
+    
+    private void validateOccurredAt(LocalDateTime occurredAt, LocalDateTime now) {
+        if (occurredAt.isAfter(now.plus(MAX_FUTURE_SKEW)) || occurredAt.isBefore(now.minus(MAX_AGE))) {
+            throw new IllegalArgumentException("이벤트 발생 시각이 허용 범위를 벗어났습니다: " + occurredAt);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.bookapp.backend.application.analysis.usecase;
 
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
+import com.bookapp.backend.domain.analysis.AIAnalysis;
 import com.bookapp.backend.domain.analysis.AIAnalysisRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -10,17 +13,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteAnalysisUseCase {
 
     private final AIAnalysisRepository analysisRepository;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
 
     @Autowired
-    public DeleteAnalysisUseCase(AIAnalysisRepository analysisRepository) {
+    public DeleteAnalysisUseCase(AIAnalysisRepository analysisRepository, UserStatsRecorder userStatsRecorder,
+                                 LibraryViewRecorder libraryViewRecorder) {
         this.analysisRepository = analysisRepository;
+        this.userStatsRecorder = userStatsRecorder;
+        this.libraryViewRecorder = libraryViewRecorder;
     }
 
     public void execute(String analysisId) {
-        if (!analysisRepository.existsById(analysisId)) {
-            throw new IllegalArgumentException("분석 결과를 찾을 수 없습니다: " + analysisId);
-        }
+        // 통계에서 뺄 분석 유형을 알아야 하므로 존재 확인 대신 조회
+        AIAnalysis analysis = analysisRepository.findById(analysisId)
+                .orElseThrow(() -> new IllegalArgumentException("분석 결과를 찾을 수 없습니다: " + analysisId));
         
         analysisRepository.deleteById(analysisId);
+        userStatsRecorder.analysisRemoved(analysis.getUserId(), analysis.getAnalysisType());
+        libraryViewRecorder.bookChanged(analysis.getBookId());
     }
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package com.bookapp.backend.application.analysis.usecase;
 
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
+import com.bookapp.backend.application.common.Workload;
+import com.bookapp.backend.application.common.WorkloadType;
 import com.bookapp.backend.domain.analysis.AIAnalysis;
 import com.bookapp.backend.domain.analysis.AIAnalysisRepository;
+import com.bookapp.backend.domain.analysis.AnalysisIdGenerator;
 import com.bookapp.backend.domain.analysis.AnalysisType;
 import com.bookapp.backend.domain.book.Book;
 import com.bookapp.backend.domain.book.BookRepository;
@@ -15,6 +20,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+// AI 응답을 기다리는 동안 커넥션을 잡고 있으므로 일반 요청과 다른 풀 사용
+@Workload(WorkloadType.BACKGROUND)
 @Transactional
 public class GenerateAnalysisUseCase {
 
@@ -22,17 +29,23 @@ public class GenerateAnalysisUseCase {
     private final ReadingRecordRepository readingRepository;
     private final BookRepository bookRepository;
     private final AIServiceClient aiServiceClient;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
 
     @Autowired
     public GenerateAnalysisUseCase(
             AIAnalysisRepository analysisRepository,
             ReadingRecordRepository readingRepository,
             BookRepository bookRepository,
-            AIServiceClient aiServiceClient) {
+            AIServiceClient aiServiceClient,
+            UserStatsRecorder userStatsRecorder,
+            LibraryViewRecorder libraryViewRecorder) {
         this.analysisRepository = analysisRepository;
         this.readingRepository = readingRepository;
         this.bookRepository = bookRepository;
         this.aiServiceClient = aiServiceClient;
+        this.userStatsRecorder = userStatsRecorder;
+        this.libraryViewRecorder = libraryViewRecorder;
     }
 
     public AIAnalysis execute(Long readingRecordId, AnalysisType analysisType) {
@@ -69,7 +82,7 @@ public class GenerateAnalysisUseCase {
 
         // AI 분석 결과 저장
         AIAnalysis analysis = AIAnalysis.builder()
-                .analysisId(java.util.UUID.randomUUID().toString())
+                .analysisId(AnalysisIdGenerator.generate())
                 .userId(readingRecord.getUserId())
                 .bookId(book.getId())
                 .analysisType(analysisType)
@@ -79,6 +92,9 @@ public class GenerateAnalysisUseCase {
         
         analysis.validate();
 
-        return analysisRepository.save(analysis);
+        AIAnalysis savedAnalysis = analysisRepository.save(analysis);
+        userStatsRecorder.analysisAdded(savedAnalysis.getUserId(), savedAnalysis.getAnalysisType());
+        libraryViewRecorder.bookChanged(savedAnalysis.getBookId());
+        return savedAnalysis;
     }
 }
\ No newline at end of file
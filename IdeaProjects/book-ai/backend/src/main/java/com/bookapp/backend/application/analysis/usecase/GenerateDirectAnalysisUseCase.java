@@ -1,8 +1,13 @@
 package com.bookapp.backend.application.analysis.usecase;
 
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
+import com.bookapp.backend.application.common.Workload;
+import com.bookapp.backend.application.common.WorkloadType;
 import com.bookapp.backend.domain.analysis.AIAnalysis;
 import com.bookapp.backend.domain.analysis.AnalysisType;
 import com.bookapp.backend.domain.analysis.AIAnalysisRepository;
+import com.bookapp.backend.domain.analysis.AnalysisIdGenerator;
 import com.bookapp.backend.domain.book.Book;
 import com.bookapp.backend.domain.book.BookRepository;
 import com.bookapp.backend.infrastructure.external.ai.AIAnalysisRequest;
@@ -21,6 +26,8 @@ import java.util.UUID;
  * 독서 기록 없이 바로 AI 분석을 수행
  */
 @Service
+// AI 응답을 기다리는 동안 커넥션을 잡고 있으므로 일반 요청과 다른 풀 사용
+@Workload(WorkloadType.BACKGROUND)
 @Transactional
 public class GenerateDirectAnalysisUseCase {
 
@@ -29,15 +36,21 @@ public class GenerateDirectAnalysisUseCase {
     private final BookRepository bookRepository;
     private final AIAnalysisRepository analysisRepository;
     private final FastAPIServiceClient fastAPIServiceClient;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
 
     @Autowired
     public GenerateDirectAnalysisUseCase(
             BookRepository bookRepository,
             AIAnalysisRepository analysisRepository,
-            FastAPIServiceClient fastAPIServiceClient) {
+            FastAPIServiceClient fastAPIServiceClient,
+            UserStatsRecorder userStatsRecorder,
+            LibraryViewRecorder libraryViewRecorder) {
         this.bookRepository = bookRepository;
         this.analysisRepository = analysisRepository;
         this.fastAPIServiceClient = fastAPIServiceClient;
+        this.userStatsRecorder = userStatsRecorder;
+        this.libraryViewRecorder = libraryViewRecorder;
     }
 
     /**
@@ -78,7 +91,7 @@ public class GenerateDirectAnalysisUseCase {
 
         // 4. AI 분석 도메인 객체 생성
         AIAnalysis analysis = AIAnalysis.builder()
-                .analysisId(UUID.randomUUID().toString())
+                .analysisId(AnalysisIdGenerator.generate())
                 .userId(book.getUserId())
                 .bookId(bookId)
                 .analysisType(analysisType)
@@ -88,6 +101,8 @@ public class GenerateDirectAnalysisUseCase {
 
         // 5. 분석 결과 저장
         AIAnalysis savedAnalysis = analysisRepository.save(analysis);
+        userStatsRecorder.analysisAdded(savedAnalysis.getUserId(), savedAnalysis.getAnalysisType());
+        libraryViewRecorder.bookChanged(savedAnalysis.getBookId());
         log.info("AI 분석 저장 완료 - analysisId: {}", savedAnalysis.getAnalysisId());
 
         return savedAnalysis;
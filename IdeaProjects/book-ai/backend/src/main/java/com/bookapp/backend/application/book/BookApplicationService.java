@@ -1,11 +1,14 @@
 package com.bookapp.backend.application.book;
 
 import com.bookapp.backend.application.book.dto.BookCreateRequest;
+import com.bookapp.backend.application.book.dto.BookImportResult;
 import com.bookapp.backend.application.book.dto.BookResponse;
 import com.bookapp.backend.application.book.dto.BookUpdateRequest;
 import com.bookapp.backend.application.book.usecase.CreateBookUseCase;
 import com.bookapp.backend.application.book.usecase.DeleteBookUseCase;
+import com.bookapp.backend.application.book.importer.ImportFormat;
 import com.bookapp.backend.application.book.usecase.GetBookUseCase;
+import com.bookapp.backend.application.book.usecase.ImportBooksUseCase;
 import com.bookapp.backend.application.book.usecase.SearchBookUseCase;
 import com.bookapp.backend.application.book.usecase.UpdateBookUseCase;
 import com.bookapp.backend.application.common.CurrentUserService;
@@ -15,30 +18,37 @@ import com.bookapp.backend.domain.book.BookRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class BookApplicationService {
     
+    private static final int MAX_SEARCH_RESULTS = 100;
+    
     private final CreateBookUseCase createBookUseCase;
     private final UpdateBookUseCase updateBookUseCase;
     private final DeleteBookUseCase deleteBookUseCase;
     private final GetBookUseCase getBookUseCase;
     private final SearchBookUseCase searchBookUseCase;
+    private final ImportBooksUseCase importBooksUseCase;
     private final CurrentUserService currentUserService;
     private final BookRepository bookRepository;
 
     @Autowired
     public BookApplicationService(CreateBookUseCase createBookUseCase, UpdateBookUseCase updateBookUseCase, 
                                 DeleteBookUseCase deleteBookUseCase, GetBookUseCase getBookUseCase, 
-                                SearchBookUseCase searchBookUseCase, CurrentUserService currentUserService,
-                                BookRepository bookRepository) {
+                                SearchBookUseCase searchBookUseCase, ImportBooksUseCase importBooksUseCase,
+                                CurrentUserService currentUserService, BookRepository bookRepository) {
         this.createBookUseCase = createBookUseCase;
         this.updateBookUseCase = updateBookUseCase;
         this.deleteBookUseCase = deleteBookUseCase;
         this.getBookUseCase = getBookUseCase;
         this.searchBookUseCase = searchBookUseCase;
+        this.importBooksUseCase = importBooksUseCase;
         this.currentUserService = currentUserService;
         this.bookRepository = bookRepository;
     }
@@ -47,8 +57,8 @@ public class BookApplicationService {
         return createBookUseCase.execute(request);
     }
     
-    public BookResponse updateBook(Long id, BookUpdateRequest request) {
-        return updateBookUseCase.execute(id, request);
+    public BookResponse updateBook(Long id, BookUpdateRequest request, Set<Long> expectedVersions) {
+        return updateBookUseCase.execute(id, request, expectedVersions);
     }
     
     public void deleteBook(Long id) {
@@ -58,7 +68,7 @@ public class BookApplicationService {
     public BookResponse findBookById(Long id) {
         // 현재 사용자의 책만 조회
         Long currentUserId = currentUserService.getCurrentUserId();
-        Book book = bookRepository.findByIdAndUserId(id, currentUserId)
+        Book book = bookRepository.findDetailByIdAndUserId(id, currentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책이거나 조회 권한이 없습니다"));
         return BookResponse.fromDomain(book);
     }
@@ -82,12 +92,22 @@ public class BookApplicationService {
     }
     
     
-    public List<BookResponse> findBooksByTitle(String title) {
-        // 현재 사용자의 책 중 제목으로 검색
+    public List<BookResponse> searchBooks(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        // 현재 사용자의 책 중 제목/저자/설명으로 검색 (관련도 순)
         Long currentUserId = currentUserService.getCurrentUserId();
-        List<Book> books = bookRepository.findByUserIdAndTitleContaining(currentUserId, title);
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        List<Book> books = bookRepository.searchByUserId(currentUserId, keyword, boundedLimit);
         return books.stream()
                 .map(BookResponse::fromDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+    
+    public BookImportResult importBooks(InputStream inputStream, ImportFormat format) throws IOException {
+        // 현재 사용자의 서재로 대량 등록 (배치 단위 커밋)
+        Long currentUserId = currentUserService.getCurrentUserId();
+        return importBooksUseCase.execute(currentUserId, inputStream, format);
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookapp.backend.application.book.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 등록 결과 요약. 거절 사유는 앞에서부터 최대 maxReportedRejections건만 담는다.
+ */
+@Getter
+public class BookImportResult {
+
+    private int processedLines;
+    private int importedBooks;
+    private int importedReadingRecords;
+    private int rejectedLines;
+    private final List<ImportRejection> rejections = new ArrayList<>();
+
+    @Getter(AccessLevel.NONE)
+    private final int maxReportedRejections;
+
+    public BookImportResult(int maxReportedRejections) {
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    public void countProcessed() {
+        processedLines++;
+    }
+
+    public void addImported(int books, int readingRecords) {
+        importedBooks += books;
+        importedReadingRecords += readingRecords;
+    }
+
+    public void reject(int lineNumber, String reason) {
+        rejectedLines++;
+        if (rejections.size() < maxReportedRejections) {
+            rejections.add(new ImportRejection(lineNumber, reason));
+        }
+    }
+
+    public boolean isRejectionsTruncated() {
+        return rejectedLines > rejections.size();
+    }
+}
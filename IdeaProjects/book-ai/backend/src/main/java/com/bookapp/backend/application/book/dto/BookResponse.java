@@ -20,6 +20,7 @@ public class BookResponse {
     private String content;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     
     public static BookResponse from(Book book) {
         return BookResponse.builder()
@@ -32,6 +33,7 @@ public class BookResponse {
                 .content(book.getContent())
                 .createdAt(book.getCreatedAt())
                 .updatedAt(book.getUpdatedAt())
+                .version(book.getVersion())
                 .build();
     }
 
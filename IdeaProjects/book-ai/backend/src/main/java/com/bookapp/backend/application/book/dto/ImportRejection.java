@@ -0,0 +1,11 @@
+package com.bookapp.backend.application.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportRejection {
+    private final int lineNumber;
+    private final String reason;
+}
@@ -0,0 +1,13 @@
+package com.bookapp.backend.application.book.importer;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase().contains("csv")) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
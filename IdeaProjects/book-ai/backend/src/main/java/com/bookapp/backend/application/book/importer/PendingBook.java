@@ -0,0 +1,9 @@
+package com.bookapp.backend.application.book.importer;
+
+import com.bookapp.backend.domain.book.Book;
+
+/**
+ * 검증을 통과해 다음 배치에 저장될 책 (원본 줄 번호 포함)
+ */
+public record PendingBook(int lineNumber, Book book) {
+}
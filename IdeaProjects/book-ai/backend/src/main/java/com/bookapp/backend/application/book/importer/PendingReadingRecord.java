@@ -0,0 +1,9 @@
+package com.bookapp.backend.application.book.importer;
+
+import com.bookapp.backend.domain.reading.ReadingStatus;
+
+/**
+ * 다음 배치에 저장될 독서 기록. 책은 ISBN으로 참조하며 저장 시점에 사용자 서재에서 찾는다.
+ */
+public record PendingReadingRecord(int lineNumber, String isbn, String content, ReadingStatus status) {
+}
@@ -0,0 +1,93 @@
+package com.bookapp.backend.application.book.usecase;
+
+import com.bookapp.backend.application.book.dto.ImportRejection;
+import com.bookapp.backend.application.book.importer.PendingBook;
+import com.bookapp.backend.application.book.importer.PendingReadingRecord;
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.ReadingRecordRepository;
+import com.bookapp.backend.domain.user.User;
+import com.bookapp.backend.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 등록의 배치 하나를 별도 트랜잭션으로 저장한다.
+ * 배치마다 커밋하므로 중간에 실패해도 앞서 저장된 배치는 유지된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookImportBatchWriter {
+
+    private final BookRepository bookRepository;
+    private final ReadingRecordRepository readingRecordRepository;
+    private final UserRepository userRepository;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
+
+    public record Outcome(int savedBooks, int savedReadingRecords, List<ImportRejection> rejections) {
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Outcome write(Long userId, List<PendingBook> books, List<PendingReadingRecord> readingRecords) {
+        List<Book> savedBooks = bookRepository.saveAll(books.stream()
+                .map(PendingBook::book)
+                .collect(Collectors.toList()));
+        userStatsRecorder.booksAdded(userId, savedBooks);
+        // 독서 기록이 붙는 기존 책까지 한 번에 갱신하도록 책 ID를 모아 둠
+        Set<Long> changedBookIds = savedBooks.stream().map(Book::getId).collect(Collectors.toCollection(LinkedHashSet::new));
+
+        List<ImportRejection> rejections = new ArrayList<>();
+        if (readingRecords.isEmpty()) {
+            libraryViewRecorder.booksChanged(changedBookIds);
+            return new Outcome(savedBooks.size(), 0, rejections);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
+
+        // 방금 저장한 책을 포함해 사용자 서재에서 ISBN으로 한 번에 조회
+        Set<String> isbns = readingRecords.stream()
+                .map(PendingReadingRecord::isbn)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Book> booksByIsbn = bookRepository.findByUserIdAndIsbnIn(userId, isbns)
+                .stream()
+                .collect(Collectors.toMap(Book::getIsbn, Function.identity()));
+
+        List<ReadingRecord> records = new ArrayList<>();
+        for (PendingReadingRecord pending : readingRecords) {
+            Book book = booksByIsbn.get(pending.isbn());
+            if (book == null) {
+                rejections.add(new ImportRejection(pending.lineNumber(), "해당 ISBN의 책이 서재에 없습니다"));
+                continue;
+            }
+            records.add(ReadingRecord.builder()
+                    .user(user)
+                    .book(book)
+                    .content(pending.content())
+                    .status(pending.status())
+                    .build());
+        }
+        readingRecordRepository.saveAll(records);
+        userStatsRecorder.readingRecordsAdded(userId, records);
+        records.forEach(record -> changedBookIds.add(record.getBookId()));
+        libraryViewRecorder.booksChanged(changedBookIds);
+
+        return new Outcome(savedBooks.size(), records.size(), rejections);
+    }
+}
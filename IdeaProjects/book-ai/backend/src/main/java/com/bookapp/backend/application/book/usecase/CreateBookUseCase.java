@@ -3,12 +3,16 @@ package com.bookapp.backend.application.book.usecase;
 import com.bookapp.backend.application.book.dto.BookCreateRequest;
 import com.bookapp.backend.application.book.dto.BookResponse;
 import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
 import com.bookapp.backend.domain.book.Book;
 import com.bookapp.backend.domain.book.BookRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -16,6 +20,8 @@ public class CreateBookUseCase {
     
     private final BookRepository bookRepository;
     private final CurrentUserService currentUserService;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
     
     public BookResponse execute(BookCreateRequest request) {
         validateIsbnNotExists(request.getIsbn());
@@ -34,6 +40,8 @@ public class CreateBookUseCase {
                 .build();
         
         Book savedBook = bookRepository.save(book);
+        userStatsRecorder.booksAdded(currentUserId, List.of(savedBook));
+        libraryViewRecorder.bookChanged(savedBook.getId());
         return BookResponse.from(savedBook);
     }
     
@@ -1,28 +1,48 @@
 package com.bookapp.backend.application.book.usecase;
 
 import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
+import com.bookapp.backend.domain.analysis.AIAnalysisRepository;
+import com.bookapp.backend.domain.analysis.AnalysisType;
 import com.bookapp.backend.domain.book.Book;
 import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.reading.ReadingRecordRepository;
+import com.bookapp.backend.domain.reading.ReadingStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class DeleteBookUseCase {
     
     private final BookRepository bookRepository;
+    private final ReadingRecordRepository readingRecordRepository;
+    private final AIAnalysisRepository analysisRepository;
     private final CurrentUserService currentUserService;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
     
     public void execute(Long bookId) {
         // 현재 인증된 사용자 ID 가져오기
         Long currentUserId = currentUserService.getCurrentUserId();
         
-        // 사용자의 책인지 확인하면서 조회
         Book book = bookRepository.findByIdAndUserId(bookId, currentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책이거나 삭제 권한이 없습니다"));
         
-        bookRepository.deleteById(bookId);
+        // 삭제 요청 후에는 하위 데이터가 조회되지 않으므로 통계에서 뺄 개수를 먼저 집계
+        Map<ReadingStatus, Long> readingRecordsByStatus = readingRecordRepository.countByBook_IdGroupByStatus(bookId);
+        Map<AnalysisType, Long> analysesByType = analysisRepository.countByBook_IdGroupByType(bookId);
+        
+        // 소유자 확인과 삭제 요청 표시를 한 번에 처리 - 하위 데이터는 DeletionPurgeTask가 나눠서 삭제
+        if (!bookRepository.markForDeletion(bookId, currentUserId)) {
+            throw new IllegalArgumentException("존재하지 않는 책이거나 삭제 권한이 없습니다");
+        }
+        userStatsRecorder.bookRemoved(book, readingRecordsByStatus, analysesByType);
+        libraryViewRecorder.bookRemoved(bookId);
     }
 }
\ No newline at end of file
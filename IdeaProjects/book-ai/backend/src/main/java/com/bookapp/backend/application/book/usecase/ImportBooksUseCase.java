@@ -0,0 +1,261 @@
+package com.bookapp.backend.application.book.usecase;
+
+import com.bookapp.backend.application.book.dto.BookImportResult;
+import com.bookapp.backend.application.book.dto.ImportRejection;
+import com.bookapp.backend.application.book.importer.CsvRecordReader;
+import com.bookapp.backend.application.book.importer.ImportFormat;
+import com.bookapp.backend.application.book.importer.PendingBook;
+import com.bookapp.backend.application.book.importer.PendingReadingRecord;
+import com.bookapp.backend.application.common.Workload;
+import com.bookapp.backend.application.common.WorkloadType;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 책/독서 기록 대량 등록 유스케이스
+ *
+ * <ul>
+ *   <li>입력을 한 줄(레코드)씩 읽어 검증하고 BATCH_SIZE건마다 저장한다.</li>
+ *   <li>ISBN 중복은 배치마다 한 번의 IN 조회로 확인한다 (파일 안의 중복도 거절).</li>
+ *   <li>배치마다 별도 트랜잭션으로 커밋하며, 실패한 배치의 줄만 거절로 보고한다.</li>
+ *   <li>CSV는 책만, NDJSON은 "type": "reading_record" 줄로 독서 기록도 등록할 수 있다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Workload(WorkloadType.BATCH)
+public class ImportBooksUseCase {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookImportBatchWriter batchWriter;
+    private final ObjectMapper objectMapper;
+
+    public BookImportResult execute(Long userId, InputStream inputStream, ImportFormat format) throws IOException {
+        BookImportResult result = new BookImportResult(MAX_REPORTED_REJECTIONS);
+        Batch batch = new Batch();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        if (format == ImportFormat.CSV) {
+            readCsv(reader, userId, batch, result);
+        } else {
+            readNdjson(reader, userId, batch, result);
+        }
+        flush(userId, batch, result);
+
+        log.info("대량 등록 완료 - userId: {}, 처리: {}, 책: {}, 독서 기록: {}, 거절: {}", userId,
+                result.getProcessedLines(), result.getImportedBooks(),
+                result.getImportedReadingRecords(), result.getRejectedLines());
+        return result;
+    }
+
+    private void readCsv(BufferedReader reader, Long userId, Batch batch, BookImportResult result) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = header.stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        if (!columns.contains("title") || !columns.contains("author") || !columns.contains("genre")) {
+            throw new IllegalArgumentException("CSV 헤더에 title, author, genre 컬럼이 필요합니다");
+        }
+
+        List<String> row;
+        while ((row = csv.next()) != null) {
+            if (row.size() == 1 && row.get(0).isBlank()) {
+                continue;
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < columns.size() && i < row.size(); i++) {
+                fields.put(columns.get(i), row.get(i));
+            }
+            acceptBook(csv.getRecordLineNumber(), fields, userId, batch, result);
+            flushIfFull(userId, batch, result);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Long userId, Batch batch, BookImportResult result) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    throw new IllegalArgumentException("JSON 객체가 아닙니다");
+                }
+                node.fields().forEachRemaining(entry -> {
+                    if (!entry.getValue().isNull()) {
+                        fields.put(entry.getKey(), entry.getValue().asText());
+                    }
+                });
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                result.countProcessed();
+                result.reject(lineNumber, "JSON 형식이 올바르지 않습니다");
+                continue;
+            }
+
+            if ("reading_record".equals(fields.get("type"))) {
+                acceptReadingRecord(lineNumber, fields, batch, result);
+            } else {
+                acceptBook(lineNumber, fields, userId, batch, result);
+            }
+            flushIfFull(userId, batch, result);
+        }
+    }
+
+    private void acceptBook(int lineNumber, Map<String, String> fields, Long userId, Batch batch, BookImportResult result) {
+        result.countProcessed();
+        try {
+            Book book = Book.builder()
+                    .title(trimToNull(fields.get("title")))
+                    .author(trimToNull(fields.get("author")))
+                    .isbn(trimToNull(fields.get("isbn")))
+                    .genre(parseGenre(fields.get("genre")))
+                    .description(trimToNull(fields.get("description")))
+                    .content(fields.get("content"))
+                    .userId(userId)
+                    .build();
+            batch.books.add(new PendingBook(lineNumber, book));
+        } catch (IllegalArgumentException e) {
+            result.reject(lineNumber, e.getMessage());
+        }
+    }
+
+    private void acceptReadingRecord(int lineNumber, Map<String, String> fields, Batch batch, BookImportResult result) {
+        result.countProcessed();
+        String isbn = trimToNull(fields.get("isbn"));
+        if (isbn == null) {
+            result.reject(lineNumber, "독서 기록에는 책의 ISBN이 필요합니다");
+            return;
+        }
+        try {
+            String status = trimToNull(fields.get("status"));
+            ReadingStatus readingStatus = status != null ? ReadingStatus.valueOf(status.toUpperCase(Locale.ROOT)) : null;
+            batch.readingRecords.add(new PendingReadingRecord(lineNumber, isbn, fields.get("content"), readingStatus));
+        } catch (IllegalArgumentException e) {
+            result.reject(lineNumber, "올바르지 않은 독서 상태입니다");
+        }
+    }
+
+    private void flushIfFull(Long userId, Batch batch, BookImportResult result) {
+        if (batch.size() >= BATCH_SIZE) {
+            flush(userId, batch, result);
+        }
+    }
+
+    private void flush(Long userId, Batch batch, BookImportResult result) {
+        if (batch.size() == 0) {
+            return;
+        }
+
+        // 파일 안에서 중복된 ISBN은 먼저 나온 줄만 남김
+        Set<String> batchIsbns = new HashSet<>();
+        List<PendingBook> candidates = new ArrayList<>();
+        for (PendingBook pending : batch.books) {
+            String isbn = pending.book().getIsbn();
+            if (isbn != null && (!batchIsbns.add(isbn) || batch.importedIsbns.contains(isbn))) {
+                result.reject(pending.lineNumber(), "파일 안에서 중복된 ISBN입니다");
+                continue;
+            }
+            candidates.add(pending);
+        }
+
+        // 배치 전체의 ISBN 중복을 한 번의 조회로 확인
+        Set<String> existingIsbns = bookRepository.findExistingIsbns(batchIsbns);
+        List<PendingBook> accepted = new ArrayList<>();
+        for (PendingBook pending : candidates) {
+            if (existingIsbns.contains(pending.book().getIsbn())) {
+                result.reject(pending.lineNumber(), "이미 존재하는 ISBN입니다");
+            } else {
+                accepted.add(pending);
+            }
+        }
+
+        try {
+            BookImportBatchWriter.Outcome outcome = batchWriter.write(userId, accepted, batch.readingRecords);
+            result.addImported(outcome.savedBooks(), outcome.savedReadingRecords());
+            for (ImportRejection rejection : outcome.rejections()) {
+                result.reject(rejection.getLineNumber(), rejection.getReason());
+            }
+            accepted.stream()
+                    .map(pending -> pending.book().getIsbn())
+                    .filter(isbn -> isbn != null)
+                    .forEach(batch.importedIsbns::add);
+        } catch (RuntimeException e) {
+            // 배치가 롤백되었으므로 배치의 모든 줄을 거절로 보고
+            log.warn("대량 등록 배치 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
+            accepted.forEach(pending -> result.reject(pending.lineNumber(), "배치 저장 실패: " + e.getMessage()));
+            batch.readingRecords.forEach(pending -> result.reject(pending.lineNumber(), "배치 저장 실패: " + e.getMessage()));
+        }
+
+        batch.clear();
+    }
+
+    private Genre parseGenre(String value) {
+        String genre = trimToNull(value);
+        if (genre == null) {
+            throw new IllegalArgumentException("장르는 필수입니다");
+        }
+        for (Genre candidate : Genre.values()) {
+            if (candidate.name().equalsIgnoreCase(genre) || candidate.getDescription().equals(genre)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 장르입니다: " + genre);
+    }
+
+    private String trimToNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private static class Batch {
+        private final List<PendingBook> books = new ArrayList<>();
+        private final List<PendingReadingRecord> readingRecords = new ArrayList<>();
+        // 이전 배치에서 저장한 ISBN (커밋되어 DB 조회로도 걸러지지만 조회 전에 빠르게 거절)
+        private final Set<String> importedIsbns = new HashSet<>();
+
+        int size() {
+            return books.size() + readingRecords.size();
+        }
+
+        void clear() {
+            books.clear();
+            readingRecords.clear();
+        }
+    }
+}
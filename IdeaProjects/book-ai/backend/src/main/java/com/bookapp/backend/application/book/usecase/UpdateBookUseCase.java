@@ -3,12 +3,16 @@ package com.bookapp.backend.application.book.usecase;
 import com.bookapp.backend.application.book.dto.BookResponse;
 import com.bookapp.backend.application.book.dto.BookUpdateRequest;
 import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.common.LibraryViewRecorder;
 import com.bookapp.backend.domain.book.Book;
 import com.bookapp.backend.domain.book.BookRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -16,8 +20,12 @@ public class UpdateBookUseCase {
     
     private final BookRepository bookRepository;
     private final CurrentUserService currentUserService;
+    private final LibraryViewRecorder libraryViewRecorder;
     
-    public BookResponse execute(Long bookId, BookUpdateRequest request) {
+    /**
+     * @param expectedVersions If-Match로 받은 버전 목록 - 현재 버전이 이 중 하나여야 함 (비어 있으면 조회한 버전 기준으로만 동시 수정 감지)
+     */
+    public BookResponse execute(Long bookId, BookUpdateRequest request, Set<Long> expectedVersions) {
         // 현재 인증된 사용자 ID 가져오기
         Long currentUserId = currentUserService.getCurrentUserId();
         
@@ -25,6 +33,10 @@ public class UpdateBookUseCase {
         Book book = bookRepository.findByIdAndUserId(bookId, currentUserId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책이거나 수정 권한이 없습니다"));
         
+        if (!expectedVersions.isEmpty() && !expectedVersions.contains(book.getVersion())) {
+            throw new OptimisticLockingFailureException("다른 곳에서 먼저 수정된 책입니다");
+        }
+        
         // 제목과 저자가 다른 책과 중복되는지 확인 (자기 자신 제외)
         validateTitleAndAuthorNotDuplicated(bookId, request.getTitle(), request.getAuthor());
         
@@ -45,9 +57,11 @@ public class UpdateBookUseCase {
                 .userId(book.getUserId())
                 .createdAt(book.getCreatedAt())
                 .updatedAt(null) // JPA에서 자동으로 현재 시간 설정
+                .version(book.getVersion()) // 저장 시 이 버전으로 조건부 UPDATE
                 .build();
         
         Book savedBook = bookRepository.save(updatedBook);
+        libraryViewRecorder.bookChanged(savedBook.getId());
         return BookResponse.from(savedBook);
     }
     
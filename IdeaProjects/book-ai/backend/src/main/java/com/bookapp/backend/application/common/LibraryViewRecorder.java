@@ -0,0 +1,35 @@
+package com.bookapp.backend.application.common;
+
+import com.bookapp.backend.domain.library.LibraryViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 쓰기 유스케이스에서 바뀐 책의 library_view 행을 다시 계산한다.
+ * 증감 대신 책 단위로 다시 계산하므로 최근 상태처럼 삭제 시 되돌릴 수 없는 값도 정확하게 유지된다.
+ * 호출하는 유스케이스의 트랜잭션 안에서 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LibraryViewRecorder {
+    
+    private final LibraryViewRepository libraryViewRepository;
+    
+    /**
+     * 책 정보, 독서 기록, 분석 중 하나라도 바뀐 책
+     */
+    public void bookChanged(Long bookId) {
+        libraryViewRepository.refresh(List.of(bookId));
+    }
+    
+    public void booksChanged(Collection<Long> bookIds) {
+        libraryViewRepository.refresh(bookIds);
+    }
+    
+    public void bookRemoved(Long bookId) {
+        libraryViewRepository.remove(bookId);
+    }
+}
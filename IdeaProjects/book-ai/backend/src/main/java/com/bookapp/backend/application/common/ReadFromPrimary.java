@@ -0,0 +1,18 @@
+package com.bookapp.backend.application.common;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * readOnly 트랜잭션이어도 replica가 아닌 primary에서 읽는다.
+ * 복제 지연이 곧 실패로 이어지는 경로(로그인처럼 인증 주체가 아직 없어 read-your-writes가 적용되지 않는 곳)에 붙인다.
+ * replica 라우팅(app.datasource.replica.enabled)을 켜지 않았으면 아무 효과가 없다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromPrimary {
+}
@@ -0,0 +1,73 @@
+package com.bookapp.backend.application.common;
+
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import com.bookapp.backend.domain.stats.StatKey;
+import com.bookapp.backend.domain.stats.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 쓰기 유스케이스에서 user_stats 카운터를 증감한다.
+ * 호출하는 유스케이스의 트랜잭션 안에서 실행되므로 기본 테이블 변경과 함께 커밋/롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsRecorder {
+    
+    private final UserStatsRepository userStatsRepository;
+    
+    public void booksAdded(Long userId, Collection<Book> books) {
+        countBy(books, Book::getGenre)
+                .forEach((genre, count) -> userStatsRepository.increment(userId, StatKey.bookGenre(genre), count));
+    }
+    
+    /**
+     * 책을 지우면 그 책의 독서 기록과 분석도 함께 통계에서 빠진다.
+     */
+    public void bookRemoved(Book book, Map<ReadingStatus, Long> readingRecordsByStatus,
+                            Map<AnalysisType, Long> analysesByType) {
+        Long userId = book.getUserId();
+        userStatsRepository.increment(userId, StatKey.bookGenre(book.getGenre()), -1);
+        readingRecordsByStatus.forEach((status, count) ->
+                userStatsRepository.increment(userId, StatKey.readingStatus(status), -count));
+        analysesByType.forEach((analysisType, count) ->
+                userStatsRepository.increment(userId, StatKey.analysisType(analysisType), -count));
+    }
+    
+    public void readingRecordsAdded(Long userId, Collection<ReadingRecord> readingRecords) {
+        countBy(readingRecords, ReadingRecord::getStatus)
+                .forEach((status, count) -> userStatsRepository.increment(userId, StatKey.readingStatus(status), count));
+    }
+    
+    public void readingStatusChanged(Long userId, ReadingStatus from, ReadingStatus to) {
+        if (from == to) {
+            return;
+        }
+        userStatsRepository.increment(userId, StatKey.readingStatus(from), -1);
+        userStatsRepository.increment(userId, StatKey.readingStatus(to), 1);
+    }
+    
+    public void readingRecordRemoved(ReadingRecord readingRecord) {
+        userStatsRepository.increment(readingRecord.getUserId(), StatKey.readingStatus(readingRecord.getStatus()), -1);
+    }
+    
+    public void analysisAdded(Long userId, AnalysisType analysisType) {
+        userStatsRepository.increment(userId, StatKey.analysisType(analysisType), 1);
+    }
+    
+    public void analysisRemoved(Long userId, AnalysisType analysisType) {
+        userStatsRepository.increment(userId, StatKey.analysisType(analysisType), -1);
+    }
+    
+    private <T, K> Map<K, Long> countBy(Collection<T> items, Function<T, K> classifier) {
+        return items.stream().collect(Collectors.groupingBy(classifier, Collectors.counting()));
+    }
+}
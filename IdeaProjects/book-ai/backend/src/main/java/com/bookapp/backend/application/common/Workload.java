@@ -0,0 +1,20 @@
+package com.bookapp.backend.application.common;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 유스케이스가 사용할 커넥션 풀을 지정한다. 메서드에 붙이면 클래스에 붙인 값보다 우선한다.
+ * 지정하지 않으면 HTTP 요청은 INTERACTIVE, 요청 밖(스케줄 작업 등)은 BACKGROUND 풀을 쓴다.
+ * 풀 분리(app.datasource.workloads.enabled)를 켜지 않았으면 아무 효과가 없다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+    WorkloadType value();
+}
@@ -0,0 +1,13 @@
+package com.bookapp.backend.application.common;
+
+/**
+ * DB 커넥션 풀을 나눠 쓰는 작업 종류.
+ */
+public enum WorkloadType {
+    // 사용자가 응답을 기다리는 짧은 요청 (로그인, CRUD)
+    INTERACTIVE,
+    // 스케줄 작업, 외부 API를 기다리는 동안 트랜잭션을 잡는 작업
+    BACKGROUND,
+    // 서재 전체를 읽거나 쓰는 긴 작업 (내보내기, 가져오기)
+    BATCH
+}
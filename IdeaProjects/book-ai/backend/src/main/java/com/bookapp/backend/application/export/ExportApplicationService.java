@@ -0,0 +1,28 @@
+package com.bookapp.backend.application.export;
+
+import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.export.usecase.ExportLibraryUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class ExportApplicationService {
+
+    private final ExportLibraryUseCase exportLibraryUseCase;
+    private final CurrentUserService currentUserService;
+
+    /**
+     * 응답 본문은 비동기 스레드에서 쓰이므로 요청 스레드에서 사용자 ID를 먼저 확정한다.
+     */
+    public Long getExportOwnerId() {
+        return currentUserService.getCurrentUserId();
+    }
+
+    public void exportLibrary(Long userId, OutputStream outputStream) throws IOException {
+        exportLibraryUseCase.execute(userId, outputStream);
+    }
+}
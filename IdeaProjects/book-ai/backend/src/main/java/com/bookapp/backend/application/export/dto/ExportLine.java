@@ -0,0 +1,22 @@
+package com.bookapp.backend.application.export.dto;
+
+import lombok.Getter;
+
+/**
+ * NDJSON 내보내기의 한 줄 - type으로 종류를 구분한다 (book, reading_record, analysis).
+ */
+@Getter
+public class ExportLine {
+
+    private final String type;
+    private final Object data;
+
+    private ExportLine(String type, Object data) {
+        this.type = type;
+        this.data = data;
+    }
+
+    public static ExportLine of(String type, Object data) {
+        return new ExportLine(type, data);
+    }
+}
@@ -0,0 +1,34 @@
+package com.bookapp.backend.application.export.dto;
+
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 독서 기록 - 책 정보는 book 줄에 이미 있으므로 ID만 포함
+ */
+@Getter
+@Builder
+public class ReadingRecordExportItem {
+
+    private Long id;
+    private Long bookId;
+    private String content;
+    private ReadingStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ReadingRecordExportItem from(ReadingRecord readingRecord) {
+        return ReadingRecordExportItem.builder()
+                .id(readingRecord.getId())
+                .bookId(readingRecord.getBookId())
+                .content(readingRecord.getContent())
+                .status(readingRecord.getStatus())
+                .createdAt(readingRecord.getCreatedAt())
+                .updatedAt(readingRecord.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.bookapp.backend.application.export.usecase;
+
+import com.bookapp.backend.application.analysis.dto.AnalysisResponse;
+import com.bookapp.backend.application.book.dto.BookResponse;
+import com.bookapp.backend.application.common.Workload;
+import com.bookapp.backend.application.common.WorkloadType;
+import com.bookapp.backend.application.export.dto.ExportLine;
+import com.bookapp.backend.application.export.dto.ReadingRecordExportItem;
+import com.bookapp.backend.domain.analysis.AIAnalysis;
+import com.bookapp.backend.domain.analysis.AIAnalysisRepository;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.ReadingRecordRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Workload(WorkloadType.BATCH)
+@Transactional(readOnly = true)
+public class ExportLibraryUseCase {
+
+    private final BookRepository bookRepository;
+    private final ReadingRecordRepository readingRecordRepository;
+    private final AIAnalysisRepository aiAnalysisRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자의 책, 독서 기록, AI 분석을 한 줄에 하나씩 NDJSON으로 쓴다.
+     * 저장소 스트림에서 읽는 즉시 써서 서재 크기와 관계없이 메모리 사용량이 일정하다.
+     */
+    public void execute(Long userId, OutputStream outputStream) throws IOException {
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+            writeAll(writer, bookRepository.streamByUserId(userId),
+                    book -> ExportLine.of("book", BookResponse.from(book)));
+            writeAll(writer, readingRecordRepository.streamByUser_Id(userId),
+                    record -> ExportLine.of("reading_record", ReadingRecordExportItem.from(record)));
+            writeAll(writer, aiAnalysisRepository.streamByUser_Id(userId),
+                    analysis -> ExportLine.of("analysis", AnalysisResponse.fromDomain(analysis)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
+    private <T> void writeAll(SequenceWriter writer, Stream<T> source, Function<T, ExportLine> toLine) {
+        try (Stream<T> stream = source) {
+            stream.forEach(item -> {
+                try {
+                    writer.write(toLine.apply(item));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
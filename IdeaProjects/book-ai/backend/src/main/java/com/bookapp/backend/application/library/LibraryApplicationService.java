@@ -0,0 +1,17 @@
+package com.bookapp.backend.application.library;
+
+import com.bookapp.backend.application.library.dto.LibraryPageResponse;
+import com.bookapp.backend.application.library.usecase.GetLibraryUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class LibraryApplicationService {
+    
+    private final GetLibraryUseCase getLibraryUseCase;
+    
+    public LibraryPageResponse getMyLibrary(Long before, int size) {
+        return getLibraryUseCase.execute(before, size);
+    }
+}
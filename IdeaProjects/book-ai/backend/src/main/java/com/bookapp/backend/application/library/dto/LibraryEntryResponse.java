@@ -0,0 +1,42 @@
+package com.bookapp.backend.application.library.dto;
+
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.library.LibraryEntry;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class LibraryEntryResponse {
+    
+    private Long bookId;
+    private String title;
+    private String author;
+    private Genre genre;
+    private LocalDateTime bookCreatedAt;
+    private int readingRecordCount;
+    private int completedReadingCount;
+    private ReadingStatus latestReadingStatus;
+    private LocalDateTime latestReadingStartedAt;
+    private int analysisCount;
+    private LocalDateTime latestAnalysisAt;
+    
+    public static LibraryEntryResponse from(LibraryEntry entry) {
+        return LibraryEntryResponse.builder()
+                .bookId(entry.bookId())
+                .title(entry.title())
+                .author(entry.author())
+                .genre(entry.genre())
+                .bookCreatedAt(entry.bookCreatedAt())
+                .readingRecordCount(entry.readingRecordCount())
+                .completedReadingCount(entry.completedReadingCount())
+                .latestReadingStatus(entry.latestReadingStatus())
+                .latestReadingStartedAt(entry.latestReadingStartedAt())
+                .analysisCount(entry.analysisCount())
+                .latestAnalysisAt(entry.latestAnalysisAt())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.bookapp.backend.application.library.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 다음 페이지는 nextBefore를 before로 넘겨 조회한다. null이면 마지막 페이지.
+ */
+@Getter
+@AllArgsConstructor
+public class LibraryPageResponse {
+    
+    private List<LibraryEntryResponse> entries;
+    private Long nextBefore;
+}
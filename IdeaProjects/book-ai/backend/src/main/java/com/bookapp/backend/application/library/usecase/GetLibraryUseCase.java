@@ -0,0 +1,42 @@
+package com.bookapp.backend.application.library.usecase;
+
+import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.library.dto.LibraryEntryResponse;
+import com.bookapp.backend.application.library.dto.LibraryPageResponse;
+import com.bookapp.backend.domain.library.LibraryEntry;
+import com.bookapp.backend.domain.library.LibraryViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetLibraryUseCase {
+    
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private final LibraryViewRepository libraryViewRepository;
+    private final CurrentUserService currentUserService;
+    
+    /**
+     * 최근 등록한 책부터 한 페이지. 책마다 추가 조회 없이 library_view 한 번으로 끝난다.
+     */
+    public LibraryPageResponse execute(Long before, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~100 사이여야 합니다");
+        }
+        Long currentUserId = currentUserService.getCurrentUserId();
+        
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        List<LibraryEntry> entries = libraryViewRepository.findByUserId(currentUserId, before, size + 1);
+        boolean hasMore = entries.size() > size;
+        List<LibraryEntry> page = hasMore ? entries.subList(0, size) : entries;
+        
+        Long nextBefore = hasMore ? page.get(page.size() - 1).bookId() : null;
+        return new LibraryPageResponse(page.stream().map(LibraryEntryResponse::from).toList(), nextBefore);
+    }
+}
@@ -1,7 +1,10 @@
 package com.bookapp.backend.application.reading;
 
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchRequest;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchResponse;
 import com.bookapp.backend.application.reading.dto.ReadingRecordCreateRequest;
 import com.bookapp.backend.application.reading.dto.ReadingRecordResponse;
+import com.bookapp.backend.application.reading.dto.ReadingRecordRevisionResponse;
 import com.bookapp.backend.application.reading.dto.ReadingRecordUpdateRequest;
 import com.bookapp.backend.application.reading.usecase.*;
 import com.bookapp.backend.domain.reading.ReadingRecord;
@@ -10,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,6 +24,8 @@ public class ReadingApplicationService {
     private final UpdateReadingRecordUseCase updateReadingRecordUseCase;
     private final CompleteReadingUseCase completeReadingUseCase;
     private final DeleteReadingRecordUseCase deleteReadingRecordUseCase;
+    private final GetReadingRecordRevisionUseCase getReadingRecordRevisionUseCase;
+    private final RestoreReadingRecordRevisionUseCase restoreReadingRecordRevisionUseCase;
 
     @Autowired
     public ReadingApplicationService(
@@ -27,12 +33,16 @@ public class ReadingApplicationService {
             GetReadingRecordUseCase getReadingRecordUseCase,
             UpdateReadingRecordUseCase updateReadingRecordUseCase,
             CompleteReadingUseCase completeReadingUseCase,
-            DeleteReadingRecordUseCase deleteReadingRecordUseCase) {
+            DeleteReadingRecordUseCase deleteReadingRecordUseCase,
+            GetReadingRecordRevisionUseCase getReadingRecordRevisionUseCase,
+            RestoreReadingRecordRevisionUseCase restoreReadingRecordRevisionUseCase) {
         this.createReadingRecordUseCase = createReadingRecordUseCase;
         this.getReadingRecordUseCase = getReadingRecordUseCase;
         this.updateReadingRecordUseCase = updateReadingRecordUseCase;
         this.completeReadingUseCase = completeReadingUseCase;
         this.deleteReadingRecordUseCase = deleteReadingRecordUseCase;
+        this.getReadingRecordRevisionUseCase = getReadingRecordRevisionUseCase;
+        this.restoreReadingRecordRevisionUseCase = restoreReadingRecordRevisionUseCase;
     }
     
     public ReadingRecordResponse createReadingRecord(ReadingRecordCreateRequest request) {
@@ -65,8 +75,12 @@ public class ReadingApplicationService {
                 .collect(Collectors.toList());
     }
     
-    public ReadingRecordResponse updateReadingRecord(Long readingRecordId, ReadingRecordUpdateRequest request) {
-        return updateReadingRecordUseCase.execute(readingRecordId, request);
+    public ReadingRecordResponse updateReadingRecord(Long readingRecordId, ReadingRecordUpdateRequest request, Set<Long> expectedVersions) {
+        return updateReadingRecordUseCase.execute(readingRecordId, request, expectedVersions);
+    }
+    
+    public ReadingRecordContentPatchResponse patchReadingRecordContent(Long readingRecordId, ReadingRecordContentPatchRequest request) {
+        return updateReadingRecordUseCase.patchContent(readingRecordId, request);
     }
     
     public ReadingRecordResponse completeReading(Long readingRecordId) {
@@ -76,4 +90,16 @@ public class ReadingApplicationService {
     public void deleteReadingRecord(Long readingRecordId) {
         deleteReadingRecordUseCase.execute(readingRecordId);
     }
+    
+    public List<ReadingRecordRevisionResponse> findRevisions(Long readingRecordId) {
+        return getReadingRecordRevisionUseCase.findAll(readingRecordId);
+    }
+    
+    public ReadingRecordRevisionResponse findRevision(Long readingRecordId, int revisionNumber) {
+        return getReadingRecordRevisionUseCase.findByRevisionNumber(readingRecordId, revisionNumber);
+    }
+    
+    public ReadingRecordResponse restoreRevision(Long readingRecordId, int revisionNumber, Set<Long> expectedVersions) {
+        return restoreReadingRecordRevisionUseCase.execute(readingRecordId, revisionNumber, expectedVersions);
+    }
 }
\ No newline at end of file
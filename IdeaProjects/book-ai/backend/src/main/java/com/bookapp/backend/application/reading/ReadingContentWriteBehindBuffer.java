@@ -0,0 +1,274 @@
+package com.bookapp.backend.application.reading;
+
+import com.bookapp.backend.application.reading.usecase.FlushBufferedContentUseCase;
+import com.bookapp.backend.domain.reading.BufferedContent;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.infrastructure.persistence.reading.ContentWriteAheadLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 자동 저장 본문 수정을 독서 기록별로 메모리에 모았다가 주기적으로 DB에 반영한다 (write-behind).
+ *
+ * <ul>
+ *   <li>버퍼에 담은 편집은 ContentWriteAheadLog에 기록해 fsync가 끝난 뒤 응답하고, 기동 시 로그를 재생해 반영되지 않은 편집을 복구한다.</li>
+ *   <li>같은 기록의 연속된 편집은 마지막 본문 하나로 합쳐져 flush 때 UPDATE 한 번, 수정 이력 하나가 된다.</li>
+ *   <li>주기 flush 외에 완료 처리/복원/삭제 전과 종료 시에도 flush한다.</li>
+ *   <li>조회 유스케이스는 overlay로 버퍼의 최신 본문과 버전을 돌려준다.</li>
+ *   <li>버퍼에 담을 때마다 기록의 버전(revision)을 1씩 올려 ETag/baseVersion으로 내주고, 버전 확인과 편집 적용을 기록별 잠금 안에서
+ *       한 번에 하므로 같은 버전을 가진 두 클라이언트 중 나중 요청은 거절된다. flush하면 DB 버전을 마지막 revision으로 맞춘다.</li>
+ *   <li>잠금은 기록별(나눠 둔 잠금 중 하나)이고 fsync는 잠금 밖에서 기다리므로 다른 사용자의 자동 저장을 막지 않는다.</li>
+ * </ul>
+ * 버퍼는 인스턴스 로컬이므로 같은 기록을 여러 인스턴스가 받는 배포에서는 켜지 않는다 (기본값 off).
+ */
+@Slf4j
+@Service
+public class ReadingContentWriteBehindBuffer {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ContentWriteAheadLog writeAheadLog;
+    private final FlushBufferedContentUseCase flushBufferedContentUseCase;
+    private final boolean enabled;
+    private final Map<Long, BufferedContent> pending = new ConcurrentHashMap<>();
+    // 직전 flush 주기들에 DB에 쓴 본문과 버전. flush가 커밋되기 전에 읽은 독서 기록으로 들어온 요청이
+    // 옛 본문/버전을 기준으로 삼지 않도록 다음 주기까지 둔다
+    private final Map<Long, BufferedContent> recentlyFlushed = new ConcurrentHashMap<>();
+    private Map<Long, BufferedContent> previouslyFlushed = Map.of();
+    // 같은 기록의 버전 확인, 버퍼 갱신, 로그 기록, DB 반영을 한 순서로 묶기 위한 잠금
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public ReadingContentWriteBehindBuffer(ContentWriteAheadLog writeAheadLog,
+                                           FlushBufferedContentUseCase flushBufferedContentUseCase,
+                                           @Value("${app.reading.write-behind.enabled:false}") boolean enabled) {
+        this.writeAheadLog = writeAheadLog;
+        this.flushBufferedContentUseCase = flushBufferedContentUseCase;
+        this.enabled = enabled;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 버전이 expectedVersions 중 하나이면(비어 있으면 조건 없음) 현재 본문(버퍼에 있으면 버퍼, 없으면 DB 값)에
+     * edit을 적용한 결과를 다음 revision으로 버퍼에 담는다. 로그가 디스크에 내려간 뒤 돌아온다.
+     *
+     * @throws OptimisticLockingFailureException 다른 요청이 먼저 버퍼에 담았거나 DB를 바꿔 버전이 다른 경우
+     */
+    public BufferedContent buffer(ReadingRecord readingRecord, Set<Long> expectedVersions, UnaryOperator<String> edit) {
+        BufferedContent bufferedContent;
+        long sequence;
+        synchronized (lockFor(readingRecord.getId())) {
+            BufferedContent latest = latest(readingRecord);
+            long currentVersion = latest != null ? latest.revision() : versionOf(readingRecord);
+            if (!expectedVersions.isEmpty() && !expectedVersions.contains(currentVersion)) {
+                throw new OptimisticLockingFailureException("다른 곳에서 먼저 수정된 독서 기록입니다");
+            }
+            String current = latest != null ? latest.content() : readingRecord.getContent();
+            // 아직 반영되지 않은 편집이 있으면 그 편집들이 덮어쓸 DB 버전을 그대로 이어받음
+            Long baseVersion = latest == null ? readingRecord.getVersion()
+                    : pending.containsKey(readingRecord.getId()) ? latest.baseVersion() : Long.valueOf(latest.revision());
+            bufferedContent = new BufferedContent(readingRecord.getId(), baseVersion, currentVersion + 1,
+                    edit.apply(current), LocalDateTime.now());
+            pending.put(readingRecord.getId(), bufferedContent);
+            sequence = writeAheadLog.write(bufferedContent);
+        }
+        writeAheadLog.awaitDurable(sequence);
+        return bufferedContent;
+    }
+
+    /**
+     * 클라이언트가 보낸 기준 버전이 현재 버전(버퍼에 있으면 마지막 revision, 없으면 DB 버전)이면 true
+     */
+    public boolean acceptsVersion(ReadingRecord readingRecord, Long clientVersion) {
+        return clientVersion == null || clientVersion == currentVersion(readingRecord);
+    }
+
+    /**
+     * If-Match 목록용. 비어 있으면 조건 없음, 아니면 목록 중 하나라도 acceptsVersion을 만족하면 true
+     */
+    public boolean acceptsAnyVersion(ReadingRecord readingRecord, Set<Long> clientVersions) {
+        return clientVersions.isEmpty()
+                || clientVersions.stream().anyMatch(clientVersion -> acceptsVersion(readingRecord, clientVersion));
+    }
+
+    public long currentVersion(ReadingRecord readingRecord) {
+        BufferedContent latest = latest(readingRecord);
+        return latest != null ? latest.revision() : versionOf(readingRecord);
+    }
+
+    public String currentContent(ReadingRecord readingRecord) {
+        BufferedContent latest = latest(readingRecord);
+        return latest != null ? latest.content() : readingRecord.getContent();
+    }
+
+    /**
+     * 버퍼에 아직 반영되지 않은 본문이 있으면 그 본문과 revision으로 바꾼 사본을 돌려준다.
+     */
+    public ReadingRecord overlay(ReadingRecord readingRecord) {
+        BufferedContent latest = latest(readingRecord);
+        if (latest == null) {
+            return readingRecord;
+        }
+        return ReadingRecord.builder()
+                .id(readingRecord.getId())
+                .user(readingRecord.getUser())
+                .book(readingRecord.getBook())
+                .content(latest.content())
+                .status(readingRecord.getStatus())
+                .createdAt(readingRecord.getCreatedAt())
+                .updatedAt(latest.bufferedAt())
+                .completedAt(readingRecord.getCompletedAt())
+                .version(latest.revision())
+                .build();
+    }
+
+    public Optional<BufferedContent> find(Long readingRecordId) {
+        return Optional.ofNullable(pending.get(readingRecordId));
+    }
+
+    /**
+     * 버퍼를 거치지 않는 변경(완료, 복원) 전에 호출해 DB를 최신 본문으로 맞춘다.
+     * 로그도 바로 정리해 이후 재기동 시 옛 본문이 그 변경을 덮어쓰지 않게 한다.
+     */
+    public void flush(Long readingRecordId) {
+        if (pending.containsKey(readingRecordId)) {
+            write(readingRecordId);
+            compactLog();
+        }
+    }
+
+    public void discard(Long readingRecordId) {
+        synchronized (lockFor(readingRecordId)) {
+            pending.remove(readingRecordId);
+            recentlyFlushed.remove(readingRecordId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reading.write-behind.flush-interval-ms:5000}")
+    public void flushAll() {
+        if (!enabled) {
+            return;
+        }
+        // 두 주기 전에 반영한 본문은 그 사이 시작한 요청이 없으므로 버림
+        previouslyFlushed.forEach(recentlyFlushed::remove);
+        previouslyFlushed = Map.copyOf(recentlyFlushed);
+        if (pending.isEmpty()) {
+            return;
+        }
+        int flushed = 0;
+        for (Long readingRecordId : new ArrayList<>(pending.keySet())) {
+            if (write(readingRecordId)) {
+                flushed++;
+            }
+        }
+        compactLog();
+        log.debug("자동 저장분 반영 - flushed: {}, remaining: {}", flushed, pending.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        if (!enabled) {
+            return;
+        }
+        List<BufferedContent> records = writeAheadLog.readAll();
+        // 같은 기록은 revision이 큰 레코드가 최신
+        records.forEach(record -> pending.merge(record.readingRecordId(), record,
+                (existing, replayed) -> replayed.revision() >= existing.revision() ? replayed : existing));
+        if (!records.isEmpty()) {
+            log.info("자동 저장 로그 재생 - records: {}, readingRecords: {}", records.size(), pending.size());
+        }
+        if (pending.isEmpty()) {
+            // 재생할 레코드가 없어도 끝에 남은 불완전한 레코드는 지운다 (그 뒤에 붙은 레코드는 다음 재생에서 읽히지 않음)
+            compactLog();
+        } else {
+            flushAll();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        flushAll();
+        writeAheadLog.close();
+    }
+
+    /**
+     * 반영하는 동안 같은 기록의 편집은 잠금에서 기다리므로 반영 뒤의 편집은 반영된 revision을 기준으로 삼는다.
+     *
+     * @return DB에 반영했으면 true
+     */
+    private boolean write(Long readingRecordId) {
+        synchronized (lockFor(readingRecordId)) {
+            BufferedContent bufferedContent = pending.get(readingRecordId);
+            if (bufferedContent == null) {
+                return false;
+            }
+            boolean saved;
+            try {
+                saved = flushBufferedContentUseCase.execute(bufferedContent);
+            } catch (RuntimeException e) {
+                // 로그에 남아 있으므로 다음 주기에 다시 시도
+                log.warn("자동 저장분 반영 실패 - readingRecordId: {}", readingRecordId, e);
+                return false;
+            }
+            pending.remove(readingRecordId);
+            if (saved) {
+                recentlyFlushed.put(readingRecordId, bufferedContent);
+            } else {
+                recentlyFlushed.remove(readingRecordId);
+            }
+            return saved;
+        }
+    }
+
+    /**
+     * 버퍼의 편집과 최근 flush 결과 중 readingRecord보다 새 것. 둘 다 없거나 DB 값이 더 새로우면 null
+     */
+    private BufferedContent latest(ReadingRecord readingRecord) {
+        BufferedContent buffered = pending.get(readingRecord.getId());
+        if (buffered != null) {
+            return buffered;
+        }
+        BufferedContent flushed = recentlyFlushed.get(readingRecord.getId());
+        return flushed != null && flushed.revision() > versionOf(readingRecord) ? flushed : null;
+    }
+
+    private Object lockFor(Long readingRecordId) {
+        return locks[Math.floorMod(readingRecordId.hashCode(), locks.length)];
+    }
+
+    private static long versionOf(ReadingRecord readingRecord) {
+        return readingRecord.getVersion() != null ? readingRecord.getVersion() : 0L;
+    }
+
+    private void compactLog() {
+        try {
+            writeAheadLog.rewrite(() -> new ArrayList<>(pending.values()));
+        } catch (RuntimeException e) {
+            // 정리하지 못해도 로그에는 반영된 레코드가 더 남을 뿐이고 재생 시 같은 본문을 다시 쓸 뿐이다
+            log.warn("자동 저장 로그 정리 실패", e);
+        }
+    }
+}
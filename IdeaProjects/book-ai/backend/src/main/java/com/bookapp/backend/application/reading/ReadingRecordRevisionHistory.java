@@ -0,0 +1,113 @@
+package com.bookapp.backend.application.reading;
+
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevision;
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevisionRepository;
+import com.bookapp.backend.domain.reading.revision.RevisionKind;
+import com.bookapp.backend.domain.reading.revision.TextDelta;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 독서 기록 본문의 수정 이력을 쌓고 임의의 버전을 복원한다.
+ *
+ * <ul>
+ *   <li>수정마다 직전 본문과의 줄 단위 차이(TextDelta)만 저장한다.</li>
+ *   <li>스냅샷 이후 snapshotInterval번째 수정이거나 차이가 본문보다 크면 전체 본문을 스냅샷으로 저장한다.</li>
+ *   <li>복원은 가장 가까운 이전 스냅샷부터 차이를 순서대로 적용하므로 최대 snapshotInterval - 1번의 적용으로 끝난다.</li>
+ * </ul>
+ * 호출하는 유스케이스의 트랜잭션 안에서 실행되므로 본문 저장과 함께 커밋/롤백된다.
+ */
+@Service
+public class ReadingRecordRevisionHistory {
+
+    private final ReadingRecordRevisionRepository revisionRepository;
+    private final int snapshotInterval;
+
+    public ReadingRecordRevisionHistory(ReadingRecordRevisionRepository revisionRepository,
+                                        @Value("${app.reading.revisions.snapshot-interval:20}") int snapshotInterval) {
+        this.revisionRepository = revisionRepository;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * 본문이 previousContent에서 saved의 본문으로 바뀌었음을 기록한다.
+     * 이력이 없던 기록(이력 기능 이전에 만들어진 기록 포함)은 수정 전 본문을 1번 스냅샷으로 먼저 남긴다.
+     */
+    public void recordChange(ReadingRecord saved, String previousContent, LocalDateTime previousUpdatedAt) {
+        String content = saved.getContent();
+        if (content.equals(previousContent)) {
+            return;
+        }
+
+        ReadingRecordRevision latest = revisionRepository.findLatest(saved.getId())
+                .orElseGet(() -> revisionRepository.save(revision(saved, 1, RevisionKind.SNAPSHOT, 0,
+                        previousContent, previousContent, previousUpdatedAt)));
+
+        String delta = TextDelta.diff(previousContent, content);
+        // 마지막 이력과 수정 전 본문이 어긋나 있으면 차이를 이어 붙일 수 없으므로 스냅샷으로 저장
+        // (길이가 같아도 내용이 다를 수 있으므로 본문 해시로 비교)
+        boolean snapshot = latest.getChainLength() + 1 >= snapshotInterval
+                || delta.length() >= content.length()
+                || !latest.hasContent(previousContent);
+
+        int revisionNumber = latest.getRevisionNumber() + 1;
+        if (snapshot) {
+            revisionRepository.save(revision(saved, revisionNumber, RevisionKind.SNAPSHOT, 0,
+                    content, content, saved.getUpdatedAt()));
+        } else {
+            revisionRepository.save(revision(saved, revisionNumber, RevisionKind.DELTA, latest.getChainLength() + 1,
+                    delta, content, saved.getUpdatedAt()));
+        }
+    }
+
+    public List<ReadingRecordRevision> findSummaries(Long readingRecordId) {
+        return revisionRepository.findSummaries(readingRecordId);
+    }
+
+    public ReadingRecordRevision findRevision(Long readingRecordId, int revisionNumber) {
+        return revisionRepository.findByRevisionNumber(readingRecordId, revisionNumber)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 수정 이력입니다: " + revisionNumber));
+    }
+
+    public String rebuildContent(ReadingRecordRevision target) {
+        if (target.isSnapshot()) {
+            return target.getPayload();
+        }
+
+        List<ReadingRecordRevision> chain = revisionRepository.findRange(target.getReadingRecordId(),
+                target.getRevisionNumber() - target.getChainLength(), target.getRevisionNumber());
+        if (chain.isEmpty() || !chain.get(0).isSnapshot() || chain.size() != target.getChainLength() + 1) {
+            throw new IllegalStateException("수정 이력을 복원할 수 없습니다: " + target.getRevisionNumber());
+        }
+
+        String content = chain.get(0).getPayload();
+        for (ReadingRecordRevision revision : chain.subList(1, chain.size())) {
+            content = TextDelta.apply(content, revision.getPayload());
+        }
+        return content;
+    }
+
+    public void deleteHistory(Long readingRecordId) {
+        revisionRepository.deleteByReadingRecordId(readingRecordId);
+    }
+
+    private ReadingRecordRevision revision(ReadingRecord readingRecord, int revisionNumber, RevisionKind kind,
+                                           int chainLength, String payload, String content, LocalDateTime createdAt) {
+        return ReadingRecordRevision.builder()
+                .readingRecordId(readingRecord.getId())
+                .revisionNumber(revisionNumber)
+                .userId(readingRecord.getUserId())
+                .bookId(readingRecord.getBookId())
+                .kind(kind)
+                .chainLength(chainLength)
+                .payload(payload)
+                .contentLength(content.length())
+                .contentHash(ReadingRecordRevision.contentHash(content))
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookapp.backend.application.reading.dto;
+
+import com.bookapp.backend.domain.reading.ContentEdit;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 본문 전체 대신 baseVersion 본문에 대한 편집 목록만 보내는 자동 저장 요청
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReadingRecordContentPatchRequest {
+    
+    @NotNull(message = "기준 버전은 필수입니다")
+    private Long baseVersion;
+    
+    @NotEmpty(message = "편집 목록이 비어 있습니다")
+    @Valid
+    private List<Operation> operations;
+    
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Operation {
+        
+        @NotNull(message = "편집 종류는 필수입니다")
+        private ContentEdit.Type type;
+        
+        @PositiveOrZero(message = "편집 위치는 0 이상이어야 합니다")
+        private int offset;
+        
+        private String text;
+        
+        @PositiveOrZero(message = "삭제 길이는 0 이상이어야 합니다")
+        private int length;
+    }
+    
+    public List<ContentEdit> toContentEdits() {
+        return operations.stream()
+                .map(operation -> new ContentEdit(operation.getType(), operation.getOffset(),
+                        operation.getText(), operation.getLength()))
+                .collect(Collectors.toList());
+    }
+}
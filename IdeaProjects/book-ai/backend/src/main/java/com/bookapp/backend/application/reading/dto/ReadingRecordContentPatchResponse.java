@@ -0,0 +1,29 @@
+package com.bookapp.backend.application.reading.dto;
+
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 부분 수정 결과. 본문은 클라이언트가 이미 가지고 있으므로 다음 편집에 필요한 버전과 길이만 돌려준다.
+ */
+@Getter
+@Builder
+public class ReadingRecordContentPatchResponse {
+    
+    private Long id;
+    private Long version;
+    private int contentLength;
+    private LocalDateTime updatedAt;
+    
+    public static ReadingRecordContentPatchResponse from(ReadingRecord readingRecord) {
+        return ReadingRecordContentPatchResponse.builder()
+                .id(readingRecord.getId())
+                .version(readingRecord.getVersion())
+                .contentLength(readingRecord.getContent().length())
+                .updatedAt(readingRecord.getUpdatedAt())
+                .build();
+    }
+}
@@ -20,6 +20,8 @@ public class ReadingRecordResponse {
     private ReadingStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+    private Long version;
     
     public static ReadingRecordResponse from(ReadingRecord readingRecord) {
         return ReadingRecordResponse.builder()
@@ -30,6 +32,8 @@ public class ReadingRecordResponse {
                 .status(readingRecord.getStatus())
                 .createdAt(readingRecord.getCreatedAt())
                 .updatedAt(readingRecord.getUpdatedAt())
+                .completedAt(readingRecord.getCompletedAt())
+                .version(readingRecord.getVersion())
                 .build();
     }
 }
\ No newline at end of file
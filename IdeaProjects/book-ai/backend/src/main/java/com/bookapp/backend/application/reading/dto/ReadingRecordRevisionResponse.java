@@ -0,0 +1,32 @@
+package com.bookapp.backend.application.reading.dto;
+
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevision;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ReadingRecordRevisionResponse {
+    
+    private Long readingRecordId;
+    private int revisionNumber;
+    private int contentLength;
+    private String content;  // 목록 조회에서는 null
+    private LocalDateTime createdAt;
+    
+    public static ReadingRecordRevisionResponse from(ReadingRecordRevision revision) {
+        return from(revision, null);
+    }
+    
+    public static ReadingRecordRevisionResponse from(ReadingRecordRevision revision, String content) {
+        return ReadingRecordRevisionResponse.builder()
+                .readingRecordId(revision.getReadingRecordId())
+                .revisionNumber(revision.getRevisionNumber())
+                .contentLength(revision.getContentLength())
+                .content(content)
+                .createdAt(revision.getCreatedAt())
+                .build();
+    }
+}
@@ -1,8 +1,12 @@
 package com.bookapp.backend.application.reading.usecase;
 
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
+import com.bookapp.backend.application.reading.ReadingContentWriteBehindBuffer;
 import com.bookapp.backend.application.reading.dto.ReadingRecordResponse;
 import com.bookapp.backend.domain.reading.ReadingRecord;
 import com.bookapp.backend.domain.reading.ReadingRecordRepository;
+import com.bookapp.backend.domain.reading.ReadingStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,8 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompleteReadingUseCase {
     
     private final ReadingRecordRepository readingRecordRepository;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
+    private final ReadingContentWriteBehindBuffer writeBehindBuffer;
     
     public ReadingRecordResponse execute(Long readingRecordId) {
+        // 완료 후에는 본문을 수정할 수 없으므로 버퍼에 남은 자동 저장분을 먼저 반영
+        writeBehindBuffer.flush(readingRecordId);
         ReadingRecord readingRecord = findReadingRecordById(readingRecordId);
         
         // 이미 완료된 경우 현재 상태 반환 (에러 대신 idempotent 처리)
@@ -22,9 +31,12 @@ public class CompleteReadingUseCase {
             return ReadingRecordResponse.from(readingRecord);
         }
         
+        ReadingStatus previousStatus = readingRecord.getStatus();
         readingRecord.complete();
         
         ReadingRecord completedRecord = readingRecordRepository.save(readingRecord);
+        userStatsRecorder.readingStatusChanged(completedRecord.getUserId(), previousStatus, completedRecord.getStatus());
+        libraryViewRecorder.bookChanged(completedRecord.getBookId());
         return ReadingRecordResponse.from(completedRecord);
     }
     
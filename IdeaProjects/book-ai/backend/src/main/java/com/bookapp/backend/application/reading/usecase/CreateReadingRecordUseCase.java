@@ -3,6 +3,8 @@ package com.bookapp.backend.application.reading.usecase;
 import com.bookapp.backend.application.reading.dto.ReadingRecordCreateRequest;
 import com.bookapp.backend.application.reading.dto.ReadingRecordResponse;
 import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
 import com.bookapp.backend.domain.book.Book;
 import com.bookapp.backend.domain.book.BookRepository;
 import com.bookapp.backend.domain.reading.ReadingRecord;
@@ -14,6 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 독서 기록 생성 유스케이스
  * 
@@ -39,6 +43,8 @@ public class CreateReadingRecordUseCase {
     private final UserRepository userRepository;
     private final BookRepository bookRepository;
     private final CurrentUserService currentUserService;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
     
     public ReadingRecordResponse execute(ReadingRecordCreateRequest request) {
         Long currentUserId = currentUserService.getCurrentUserId();
@@ -66,6 +72,8 @@ public class CreateReadingRecordUseCase {
                     .build();
             
             ReadingRecord savedRecord = readingRecordRepository.save(readingRecord);
+            userStatsRecorder.readingRecordsAdded(currentUserId, List.of(savedRecord));
+            libraryViewRecorder.bookChanged(savedRecord.getBookId());
             
             log.info("독서 기록 생성 완료 - userId: {}, bookId: {}, recordId: {}", 
                     currentUserId, book.getId(), savedRecord.getId());
@@ -1,5 +1,10 @@
 package com.bookapp.backend.application.reading.usecase;
 
+import com.bookapp.backend.application.common.LibraryViewRecorder;
+import com.bookapp.backend.application.common.UserStatsRecorder;
+import com.bookapp.backend.application.reading.ReadingContentWriteBehindBuffer;
+import com.bookapp.backend.application.reading.ReadingRecordRevisionHistory;
+import com.bookapp.backend.domain.reading.ReadingRecord;
 import com.bookapp.backend.domain.reading.ReadingRecordRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -10,17 +15,33 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteReadingRecordUseCase {
 
     private final ReadingRecordRepository readingRecordRepository;
+    private final UserStatsRecorder userStatsRecorder;
+    private final LibraryViewRecorder libraryViewRecorder;
+    private final ReadingRecordRevisionHistory revisionHistory;
+    private final ReadingContentWriteBehindBuffer writeBehindBuffer;
 
     @Autowired
-    public DeleteReadingRecordUseCase(ReadingRecordRepository readingRecordRepository) {
+    public DeleteReadingRecordUseCase(ReadingRecordRepository readingRecordRepository,
+                                      UserStatsRecorder userStatsRecorder,
+                                      LibraryViewRecorder libraryViewRecorder,
+                                      ReadingRecordRevisionHistory revisionHistory,
+                                      ReadingContentWriteBehindBuffer writeBehindBuffer) {
         this.readingRecordRepository = readingRecordRepository;
+        this.userStatsRecorder = userStatsRecorder;
+        this.libraryViewRecorder = libraryViewRecorder;
+        this.revisionHistory = revisionHistory;
+        this.writeBehindBuffer = writeBehindBuffer;
     }
 
     public void execute(Long id) {
-        if (!readingRecordRepository.existsById(id)) {
-            throw new IllegalArgumentException("독서 기록을 찾을 수 없습니다: " + id);
-        }
+        // 통계에서 뺄 상태를 알아야 하므로 존재 확인 대신 조회
+        ReadingRecord readingRecord = readingRecordRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("독서 기록을 찾을 수 없습니다: " + id));
         
+        writeBehindBuffer.discard(id);
+        revisionHistory.deleteHistory(id);
         readingRecordRepository.deleteById(id);
+        userStatsRecorder.readingRecordRemoved(readingRecord);
+        libraryViewRecorder.bookChanged(readingRecord.getBookId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.bookapp.backend.application.reading.usecase;
+
+import com.bookapp.backend.application.reading.ReadingRecordRevisionHistory;
+import com.bookapp.backend.domain.reading.BufferedContent;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.ReadingRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * write-behind 버퍼에 모인 본문 하나를 DB에 반영하고 DB 버전을 버퍼의 revision으로 맞춘다.
+ * 호출한 쪽의 트랜잭션과 무관하게 바로 커밋되어야 하므로 별도 트랜잭션으로 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlushBufferedContentUseCase {
+    
+    private final ReadingRecordRepository readingRecordRepository;
+    private final ReadingRecordRevisionHistory revisionHistory;
+    
+    /**
+     * @return 반영했거나 이미 반영되어 있으면 true, 기록이 삭제/완료되었거나 버퍼를 거치지 않고 바뀌어 버려야 하면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean execute(BufferedContent bufferedContent) {
+        ReadingRecord readingRecord = readingRecordRepository.findById(bufferedContent.readingRecordId()).orElse(null);
+        if (readingRecord == null || readingRecord.isCompleted()) {
+            log.warn("반영할 수 없는 자동 저장분을 버립니다 - readingRecordId: {}", bufferedContent.readingRecordId());
+            return false;
+        }
+        // 이미 반영된 뒤 로그 정리 전에 재기동되어 다시 재생된 경우
+        if (Objects.equals(readingRecord.getVersion(), bufferedContent.revision())
+                && readingRecord.getContent().equals(bufferedContent.content())) {
+            return true;
+        }
+        if (!Objects.equals(readingRecord.getVersion(), bufferedContent.baseVersion())) {
+            // 버퍼를 거치지 않는 변경은 먼저 flush하므로 다른 인스턴스나 직접 수정으로 바뀐 경우 - 덮어쓰지 않음
+            log.warn("버퍼에 담은 뒤 다른 곳에서 수정된 기록이라 자동 저장분을 버립니다 - readingRecordId: {}, base: {}, current: {}",
+                    readingRecord.getId(), bufferedContent.baseVersion(), readingRecord.getVersion());
+            return false;
+        }
+        
+        String previousContent = readingRecord.getContent();
+        LocalDateTime previousUpdatedAt = readingRecord.getUpdatedAt();
+        readingRecord.updateContent(bufferedContent.content());
+        
+        ReadingRecord savedRecord = readingRecordRepository.save(readingRecord);
+        revisionHistory.recordChange(savedRecord, previousContent, previousUpdatedAt);
+        // 여러 편집을 UPDATE 한 번으로 합쳤으므로 클라이언트가 마지막으로 받은 revision까지 버전을 건너뜀
+        if (!Objects.equals(savedRecord.getVersion(), bufferedContent.revision())
+                && !readingRecordRepository.updateVersion(savedRecord.getId(), savedRecord.getVersion(), bufferedContent.revision())) {
+            throw new IllegalStateException("자동 저장분 반영 중 버전을 맞추지 못했습니다 - readingRecordId: " + savedRecord.getId());
+        }
+        return true;
+    }
+}
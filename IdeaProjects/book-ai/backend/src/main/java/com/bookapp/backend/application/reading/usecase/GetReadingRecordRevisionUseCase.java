@@ -0,0 +1,42 @@
+package com.bookapp.backend.application.reading.usecase;
+
+import com.bookapp.backend.application.reading.ReadingRecordRevisionHistory;
+import com.bookapp.backend.application.reading.dto.ReadingRecordRevisionResponse;
+import com.bookapp.backend.domain.reading.ReadingRecordRepository;
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevision;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetReadingRecordRevisionUseCase {
+    
+    private final ReadingRecordRepository readingRecordRepository;
+    private final ReadingRecordRevisionHistory revisionHistory;
+    
+    public List<ReadingRecordRevisionResponse> findAll(Long readingRecordId) {
+        validateReadingRecordExists(readingRecordId);
+        return revisionHistory.findSummaries(readingRecordId)
+                .stream()
+                .map(ReadingRecordRevisionResponse::from)
+                .collect(Collectors.toList());
+    }
+    
+    public ReadingRecordRevisionResponse findByRevisionNumber(Long readingRecordId, int revisionNumber) {
+        validateReadingRecordExists(readingRecordId);
+        ReadingRecordRevision revision = revisionHistory.findRevision(readingRecordId, revisionNumber);
+        return ReadingRecordRevisionResponse.from(revision, revisionHistory.rebuildContent(revision));
+    }
+    
+    // 삭제 요청된 책의 기록이면 조회되지 않으므로 이력도 숨김
+    private void validateReadingRecordExists(Long readingRecordId) {
+        if (!readingRecordRepository.existsById(readingRecordId)) {
+            throw new IllegalArgumentException("존재하지 않는 독서 기록입니다");
+        }
+    }
+}
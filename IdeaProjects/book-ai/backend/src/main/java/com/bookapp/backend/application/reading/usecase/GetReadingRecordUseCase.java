@@ -1,5 +1,6 @@
 package com.bookapp.backend.application.reading.usecase;
 
+import com.bookapp.backend.application.reading.ReadingContentWriteBehindBuffer;
 import com.bookapp.backend.domain.reading.ReadingRecord;
 import com.bookapp.backend.domain.reading.ReadingRecordRepository;
 import com.bookapp.backend.domain.reading.ReadingStatus;
@@ -8,32 +9,44 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class GetReadingRecordUseCase {
 
     private final ReadingRecordRepository readingRecordRepository;
+    private final ReadingContentWriteBehindBuffer writeBehindBuffer;
 
     @Autowired
-    public GetReadingRecordUseCase(ReadingRecordRepository readingRecordRepository) {
+    public GetReadingRecordUseCase(ReadingRecordRepository readingRecordRepository,
+                                   ReadingContentWriteBehindBuffer writeBehindBuffer) {
         this.readingRecordRepository = readingRecordRepository;
+        this.writeBehindBuffer = writeBehindBuffer;
     }
 
+    // 아직 DB에 반영되지 않은 자동 저장분이 있으면 그 본문으로 응답
     public ReadingRecord findById(Long id) {
-        return readingRecordRepository.findById(id)
+        return readingRecordRepository.findDetailById(id)
+                .map(writeBehindBuffer::overlay)
                 .orElseThrow(() -> new IllegalArgumentException("독서 기록을 찾을 수 없습니다: " + id));
     }
 
     public List<ReadingRecord> findByUser_Id(Long userId) {
-        return readingRecordRepository.findByUser_Id(userId);
+        return overlay(readingRecordRepository.findByUser_Id(userId));
     }
 
     public List<ReadingRecord> findByUser_IdAndStatus(Long userId, ReadingStatus status) {
-        return readingRecordRepository.findByUser_IdAndStatus(userId, status);
+        return overlay(readingRecordRepository.findByUser_IdAndStatus(userId, status));
     }
 
     public List<ReadingRecord> findByBook_Id(Long bookId) {
-        return readingRecordRepository.findByBook_Id(bookId);
+        return overlay(readingRecordRepository.findByBook_Id(bookId));
+    }
+
+    private List<ReadingRecord> overlay(List<ReadingRecord> readingRecords) {
+        return readingRecords.stream()
+                .map(writeBehindBuffer::overlay)
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.bookapp.backend.application.reading.usecase;
+
+import com.bookapp.backend.application.reading.ReadingContentWriteBehindBuffer;
+import com.bookapp.backend.application.reading.ReadingRecordRevisionHistory;
+import com.bookapp.backend.application.reading.dto.ReadingRecordResponse;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.ReadingRecordRepository;
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevision;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 이전 버전의 본문으로 되돌린다. 되돌린 결과도 새 수정 이력으로 남으므로 복원 자체를 다시 되돌릴 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RestoreReadingRecordRevisionUseCase {
+    
+    private final ReadingRecordRepository readingRecordRepository;
+    private final ReadingRecordRevisionHistory revisionHistory;
+    private final ReadingContentWriteBehindBuffer writeBehindBuffer;
+    
+    public ReadingRecordResponse execute(Long readingRecordId, int revisionNumber, Set<Long> expectedVersions) {
+        // 버퍼에 남은 자동 저장분도 이력에 남긴 뒤 되돌림
+        writeBehindBuffer.flush(readingRecordId);
+        ReadingRecord readingRecord = readingRecordRepository.findById(readingRecordId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 독서 기록입니다"));
+        
+        if (!writeBehindBuffer.acceptsAnyVersion(readingRecord, expectedVersions)) {
+            throw new OptimisticLockingFailureException("다른 곳에서 먼저 수정된 독서 기록입니다");
+        }
+        
+        ReadingRecordRevision revision = revisionHistory.findRevision(readingRecordId, revisionNumber);
+        String previousContent = readingRecord.getContent();
+        LocalDateTime previousUpdatedAt = readingRecord.getUpdatedAt();
+        readingRecord.updateContent(revisionHistory.rebuildContent(revision));
+        
+        ReadingRecord restoredRecord = readingRecordRepository.save(readingRecord);
+        revisionHistory.recordChange(restoredRecord, previousContent, previousUpdatedAt);
+        return ReadingRecordResponse.from(restoredRecord);
+    }
+}
@@ -1,29 +1,101 @@
 package com.bookapp.backend.application.reading.usecase;
 
+import com.bookapp.backend.application.reading.ReadingContentWriteBehindBuffer;
+import com.bookapp.backend.application.reading.ReadingRecordRevisionHistory;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchRequest;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchResponse;
 import com.bookapp.backend.application.reading.dto.ReadingRecordResponse;
 import com.bookapp.backend.application.reading.dto.ReadingRecordUpdateRequest;
+import com.bookapp.backend.domain.reading.ContentEdit;
 import com.bookapp.backend.domain.reading.ReadingRecord;
 import com.bookapp.backend.domain.reading.ReadingRecordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UpdateReadingRecordUseCase {
     
+    private static final int MAX_CONTENT_LENGTH = 50000;
+    
     private final ReadingRecordRepository readingRecordRepository;
+    private final ReadingRecordRevisionHistory revisionHistory;
+    private final ReadingContentWriteBehindBuffer writeBehindBuffer;
     
-    public ReadingRecordResponse execute(Long readingRecordId, ReadingRecordUpdateRequest request) {
+    public ReadingRecordResponse execute(Long readingRecordId, ReadingRecordUpdateRequest request, Set<Long> expectedVersions) {
         ReadingRecord readingRecord = findReadingRecordById(readingRecordId);
         
+        if (writeBehindBuffer.isEnabled()) {
+            validateEditable(readingRecord);
+            // 버전 확인과 버퍼 갱신을 기록별 잠금 안에서 함께 해야 같은 버전의 두 요청이 모두 통과하지 않음
+            writeBehindBuffer.buffer(readingRecord, expectedVersions,
+                    current -> request.getContent() != null ? request.getContent() : "");
+            return ReadingRecordResponse.from(writeBehindBuffer.overlay(readingRecord));
+        }
+        
+        // 조회 이후의 동시 수정은 저장 시 WHERE version = ? 조건으로 감지됨
+        if (!writeBehindBuffer.acceptsAnyVersion(readingRecord, expectedVersions)) {
+            throw new OptimisticLockingFailureException("다른 곳에서 먼저 수정된 독서 기록입니다");
+        }
+        
+        String previousContent = readingRecord.getContent();
+        LocalDateTime previousUpdatedAt = readingRecord.getUpdatedAt();
         readingRecord.updateContent(request.getContent());
         
         ReadingRecord updatedRecord = readingRecordRepository.save(readingRecord);
+        revisionHistory.recordChange(updatedRecord, previousContent, previousUpdatedAt);
         return ReadingRecordResponse.from(updatedRecord);
     }
     
+    /**
+     * baseVersion 본문에 편집 목록을 적용한다. 클라이언트가 본 버전과 현재 버전이 다르면
+     * 편집 위치가 어긋나므로 적용하지 않고 거부한다 (최신 본문을 다시 받아 편집을 재구성해야 함).
+     */
+    public ReadingRecordContentPatchResponse patchContent(Long readingRecordId, ReadingRecordContentPatchRequest request) {
+        ReadingRecord readingRecord = findReadingRecordById(readingRecordId);
+        
+        if (writeBehindBuffer.isEnabled()) {
+            validateEditable(readingRecord);
+            // 편집 위치는 baseVersion의 본문 기준이므로 버퍼의 최신 revision이 baseVersion일 때만 같은 잠금 안에서 적용
+            Set<Long> expectedVersions = request.getBaseVersion() != null ? Set.of(request.getBaseVersion()) : Set.of();
+            writeBehindBuffer.buffer(readingRecord, expectedVersions, current -> applyEdits(current, request));
+            return ReadingRecordContentPatchResponse.from(writeBehindBuffer.overlay(readingRecord));
+        }
+        
+        if (!writeBehindBuffer.acceptsVersion(readingRecord, request.getBaseVersion())) {
+            throw new OptimisticLockingFailureException("기준 버전 이후에 수정된 독서 기록입니다");
+        }
+        
+        String previousContent = readingRecord.getContent();
+        LocalDateTime previousUpdatedAt = readingRecord.getUpdatedAt();
+        readingRecord.updateContent(applyEdits(previousContent, request));
+        
+        ReadingRecord updatedRecord = readingRecordRepository.save(readingRecord);
+        revisionHistory.recordChange(updatedRecord, previousContent, previousUpdatedAt);
+        return ReadingRecordContentPatchResponse.from(updatedRecord);
+    }
+    
+    private String applyEdits(String content, ReadingRecordContentPatchRequest request) {
+        String patchedContent = ContentEdit.applyAll(content, request.toContentEdits());
+        if (patchedContent.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("독서 기록은 50,000자를 초과할 수 없습니다");
+        }
+        return patchedContent;
+    }
+    
+    // 버퍼에 담을 때는 도메인 객체를 바꾸지 않으므로 수정 가능 여부를 따로 확인
+    private void validateEditable(ReadingRecord readingRecord) {
+        if (readingRecord.isCompleted()) {
+            throw new IllegalStateException("완료된 독서는 수정할 수 없습니다");
+        }
+    }
+    
     private ReadingRecord findReadingRecordById(Long readingRecordId) {
         return readingRecordRepository.findById(readingRecordId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 독서 기록입니다"));
@@ -0,0 +1,39 @@
+package com.bookapp.backend.application.search;
+
+import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.search.dto.SearchResultResponse;
+import com.bookapp.backend.domain.search.ContentSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SearchApplicationService {
+
+    private static final int MAX_SEARCH_RESULTS = 100;
+
+    private final ContentSearchIndex contentSearchIndex;
+    private final CurrentUserService currentUserService;
+
+    public List<SearchResultResponse> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        // 현재 사용자의 독서 기록, 책 설명, AI 분석에서 검색 (BM25 점수 순)
+        Long currentUserId = currentUserService.getCurrentUserId();
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        return contentSearchIndex.search(currentUserId, query, boundedLimit)
+                .stream()
+                .map(SearchResultResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    public int rebuildIndex() {
+        // 현재 사용자의 인덱스만 DB 기준으로 다시 생성
+        Long currentUserId = currentUserService.getCurrentUserId();
+        return contentSearchIndex.rebuild(currentUserId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookapp.backend.application.search.dto;
+
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import com.bookapp.backend.domain.search.SearchHit;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SearchResultResponse {
+
+    private SearchDocumentType type;
+    private String id;
+    private Long bookId;
+    private double score;
+
+    public static SearchResultResponse from(SearchHit hit) {
+        return SearchResultResponse.builder()
+                .type(hit.getType())
+                .id(hit.getId())
+                .bookId(hit.getBookId())
+                .score(hit.getScore())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.bookapp.backend.application.timeline;
+
+import com.bookapp.backend.application.timeline.dto.TimelinePageResponse;
+import com.bookapp.backend.application.timeline.usecase.GetTimelineUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TimelineApplicationService {
+    
+    private final GetTimelineUseCase getTimelineUseCase;
+    
+    public TimelinePageResponse getMyTimeline(String cursor, int size) {
+        return getTimelineUseCase.execute(cursor, size);
+    }
+}
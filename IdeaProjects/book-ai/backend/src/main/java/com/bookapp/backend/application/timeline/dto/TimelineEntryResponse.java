@@ -0,0 +1,32 @@
+package com.bookapp.backend.application.timeline.dto;
+
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.timeline.TimelineEntry;
+import com.bookapp.backend.domain.timeline.TimelineEntryType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TimelineEntryResponse {
+    
+    private TimelineEntryType type;
+    private LocalDateTime occurredAt;
+    private String id;
+    private Long bookId;
+    private String bookTitle;
+    private AnalysisType analysisType;
+    
+    public static TimelineEntryResponse from(TimelineEntry entry) {
+        return TimelineEntryResponse.builder()
+                .type(entry.type())
+                .occurredAt(entry.occurredAt())
+                .id(entry.id())
+                .bookId(entry.bookId())
+                .bookTitle(entry.bookTitle())
+                .analysisType(entry.analysisType())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.bookapp.backend.application.timeline.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * nextCursor가 null이면 마지막 페이지.
+ */
+@Getter
+@AllArgsConstructor
+public class TimelinePageResponse {
+    
+    private List<TimelineEntryResponse> entries;
+    private String nextCursor;
+}
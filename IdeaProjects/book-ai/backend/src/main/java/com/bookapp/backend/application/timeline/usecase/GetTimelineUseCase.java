@@ -0,0 +1,111 @@
+package com.bookapp.backend.application.timeline.usecase;
+
+import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.timeline.dto.TimelineEntryResponse;
+import com.bookapp.backend.application.timeline.dto.TimelinePageResponse;
+import com.bookapp.backend.domain.timeline.TimelineCursor;
+import com.bookapp.backend.domain.timeline.TimelineEntry;
+import com.bookapp.backend.domain.timeline.TimelineEntryType;
+import com.bookapp.backend.domain.timeline.TimelineRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 책 등록, 독서 시작/완료, 분석을 한 줄로 합친 최신순 타임라인.
+ *
+ * <p>종류마다 이미 정렬된 keyset 조회 결과를 작은 청크로 읽고, 각 소스의 맨 앞 항목만 우선순위 큐에 올려
+ * 한 페이지가 찰 때까지 k-way 병합한다. 청크를 다 쓴 소스만 마지막 항목을 커서로 다음 청크를 읽으므로
+ * 어느 소스도 페이지에 필요한 양 이상을 크게 넘겨 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetTimelineUseCase {
+    
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    private final TimelineRepository timelineRepository;
+    private final CurrentUserService currentUserService;
+    
+    public TimelinePageResponse execute(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~100 사이여야 합니다");
+        }
+        TimelineCursor after = cursor != null && !cursor.isBlank() ? TimelineCursor.decode(cursor) : null;
+        Long currentUserId = currentUserService.getCurrentUserId();
+        // 한 종류가 페이지를 다 채우는 경우도 청크 두 번이면 되도록 절반 + 1
+        int chunkSize = size / 2 + 1;
+        
+        PriorityQueue<Source> heads = new PriorityQueue<>(
+                Comparator.comparing(Source::peek, TimelineEntry.NEWEST_FIRST));
+        for (TimelineEntryType type : TimelineEntryType.values()) {
+            Source source = new Source(currentUserId, type, after, chunkSize);
+            if (source.peek() != null) {
+                heads.add(source);
+            }
+        }
+        
+        // 다음 페이지 존재 여부를 알기 위해 size + 1번째 항목까지 확인
+        List<TimelineEntry> page = new ArrayList<>(size);
+        boolean hasMore = false;
+        while (!heads.isEmpty()) {
+            if (page.size() == size) {
+                hasMore = true;
+                break;
+            }
+            Source source = heads.poll();
+            page.add(source.next());
+            if (source.peek() != null) {
+                heads.add(source);
+            }
+        }
+        
+        String nextCursor = hasMore ? page.get(page.size() - 1).toCursor().encode() : null;
+        return new TimelinePageResponse(page.stream().map(TimelineEntryResponse::from).toList(), nextCursor);
+    }
+    
+    /**
+     * 한 종류의 정렬된 스트림. 버퍼가 비면 마지막으로 읽은 항목 다음부터 청크를 더 읽는다.
+     */
+    private class Source {
+        private final Long userId;
+        private final TimelineEntryType type;
+        private final int chunkSize;
+        private final Deque<TimelineEntry> buffer = new ArrayDeque<>();
+        private TimelineCursor position;
+        private boolean exhausted;
+        
+        Source(Long userId, TimelineEntryType type, TimelineCursor after, int chunkSize) {
+            this.userId = userId;
+            this.type = type;
+            this.position = after;
+            this.chunkSize = chunkSize;
+        }
+        
+        TimelineEntry peek() {
+            if (buffer.isEmpty() && !exhausted) {
+                List<TimelineEntry> chunk = timelineRepository.findEntries(userId, type, position, chunkSize);
+                buffer.addAll(chunk);
+                exhausted = chunk.size() < chunkSize;
+                if (!chunk.isEmpty()) {
+                    position = chunk.get(chunk.size() - 1).toCursor();
+                }
+            }
+            return buffer.peekFirst();
+        }
+        
+        TimelineEntry next() {
+            peek();
+            return buffer.pollFirst();
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.bookapp.backend.application.user;
 import com.bookapp.backend.application.user.dto.LoginRequest;
 import com.bookapp.backend.application.user.dto.UserCreateRequest;
 import com.bookapp.backend.application.user.dto.UserResponse;
+import com.bookapp.backend.application.user.dto.UserStatsResponse;
 import com.bookapp.backend.application.user.usecase.CreateUserUseCase;
+import com.bookapp.backend.application.user.usecase.DeleteAccountUseCase;
+import com.bookapp.backend.application.user.usecase.GetUserStatsUseCase;
 import com.bookapp.backend.application.user.usecase.LoginUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,6 +17,8 @@ public class UserApplicationService {
     
     private final CreateUserUseCase createUserUseCase;
     private final LoginUseCase loginUseCase;
+    private final DeleteAccountUseCase deleteAccountUseCase;
+    private final GetUserStatsUseCase getUserStatsUseCase;
     
     public UserResponse createUser(UserCreateRequest request) {
         return createUserUseCase.execute(request);
@@ -22,4 +27,12 @@ public class UserApplicationService {
     public UserResponse login(LoginRequest request) {
         return loginUseCase.execute(request);
     }
-}
\ No newline at end of file
+    
+    public void deleteAccount() {
+        deleteAccountUseCase.execute();
+    }
+    
+    public UserStatsResponse getMyStats() {
+        return getUserStatsUseCase.execute();
+    }
+}
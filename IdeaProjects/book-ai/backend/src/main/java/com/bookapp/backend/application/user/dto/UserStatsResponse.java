@@ -0,0 +1,54 @@
+package com.bookapp.backend.application.user.dto;
+
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import com.bookapp.backend.domain.stats.StatKey;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+@Getter
+@Builder
+public class UserStatsResponse {
+    
+    private long totalBooks;
+    private Map<Genre, Long> booksByGenre;
+    private long totalReadingRecords;
+    private Map<ReadingStatus, Long> readingRecordsByStatus;
+    private long totalAnalyses;
+    private Map<AnalysisType, Long> analysesByType;
+    
+    /**
+     * user_stats 카운터(키 -> 값)로 응답을 만든다. 카운터가 없는 항목은 0으로 채운다.
+     */
+    public static UserStatsResponse from(Map<String, Long> counters) {
+        Map<Genre, Long> booksByGenre = breakdown(Genre.values(), StatKey::bookGenre, counters);
+        Map<ReadingStatus, Long> readingRecordsByStatus = breakdown(ReadingStatus.values(), StatKey::readingStatus, counters);
+        Map<AnalysisType, Long> analysesByType = breakdown(AnalysisType.values(), StatKey::analysisType, counters);
+        
+        return UserStatsResponse.builder()
+                .totalBooks(sum(booksByGenre))
+                .booksByGenre(booksByGenre)
+                .totalReadingRecords(sum(readingRecordsByStatus))
+                .readingRecordsByStatus(readingRecordsByStatus)
+                .totalAnalyses(sum(analysesByType))
+                .analysesByType(analysesByType)
+                .build();
+    }
+    
+    private static <E> Map<E, Long> breakdown(E[] values, Function<E, String> keyOf, Map<String, Long> counters) {
+        Map<E, Long> result = new LinkedHashMap<>();
+        for (E value : values) {
+            result.put(value, counters.getOrDefault(keyOf.apply(value), 0L));
+        }
+        return result;
+    }
+    
+    private static long sum(Map<?, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,28 @@
+package com.bookapp.backend.application.user.usecase;
+
+import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class DeleteAccountUseCase {
+    
+    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    
+    public void execute() {
+        Long currentUserId = currentUserService.getCurrentUserId();
+        
+        // 탈퇴 요청만 표시하고 즉시 응답 - 서재 전체는 DeletionPurgeTask가 나눠서 삭제
+        if (!userRepository.markForDeletion(currentUserId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자이거나 이미 탈퇴 처리 중입니다");
+        }
+        log.info("계정 삭제 요청 - userId: {}", currentUserId);
+    }
+}
@@ -0,0 +1,24 @@
+package com.bookapp.backend.application.user.usecase;
+
+import com.bookapp.backend.application.common.CurrentUserService;
+import com.bookapp.backend.application.user.dto.UserStatsResponse;
+import com.bookapp.backend.domain.stats.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetUserStatsUseCase {
+    
+    private final UserStatsRepository userStatsRepository;
+    private final CurrentUserService currentUserService;
+    
+    public UserStatsResponse execute() {
+        Long currentUserId = currentUserService.getCurrentUserId();
+        
+        // 기본 테이블을 집계하지 않고 미리 유지된 카운터만 기본키 범위로 읽음
+        return UserStatsResponse.from(userStatsRepository.findByUserId(currentUserId));
+    }
+}
@@ -1,5 +1,6 @@
 package com.bookapp.backend.application.user.usecase;
 
+import com.bookapp.backend.application.common.ReadFromPrimary;
 import com.bookapp.backend.application.user.dto.LoginRequest;
 import com.bookapp.backend.application.user.dto.UserResponse;
 import com.bookapp.backend.domain.user.User;
@@ -10,9 +11,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+// 가입 직후 로그인이 복제 지연으로 실패하지 않도록 primary에서 읽음
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@ReadFromPrimary
 public class LoginUseCase {
     
     private final UserRepository userRepository;
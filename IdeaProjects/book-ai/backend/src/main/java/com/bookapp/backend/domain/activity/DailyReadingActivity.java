@@ -0,0 +1,11 @@
+package com.bookapp.backend.domain.activity;
+
+import com.bookapp.backend.domain.book.Genre;
+
+import java.time.LocalDate;
+
+/**
+ * 하루 동안 한 책을 읽은 시간 (reading_activity_daily의 한 행)
+ */
+public record DailyReadingActivity(LocalDate date, Long bookId, Genre genre, long readingSeconds) {
+}
@@ -0,0 +1,9 @@
+package com.bookapp.backend.domain.activity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReadingActivityRepository {
+    // from, to 모두 포함, 날짜 오름차순
+    List<DailyReadingActivity> findDaily(Long userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,10 @@
+package com.bookapp.backend.domain.activity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 앱에서 보낸 독서 세션 이벤트 하나. occurredAt은 기기 시각, receivedAt은 서버 수신 시각이다.
+ */
+public record ReadingEvent(Long userId, Long bookId, ReadingEventType type,
+                           LocalDateTime occurredAt, LocalDateTime receivedAt) {
+}
@@ -0,0 +1,7 @@
+package com.bookapp.backend.domain.activity;
+
+public enum ReadingEventType {
+    START,      // 책을 펼침
+    HEARTBEAT,  // 읽는 중 주기적으로 전송
+    STOP        // 책을 닫음
+}
@@ -1,7 +1,9 @@
 package com.bookapp.backend.domain.analysis;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AIAnalysisRepository {
     AIAnalysis save(AIAnalysis analysis);
@@ -9,6 +11,8 @@ public interface AIAnalysisRepository {
     List<AIAnalysis> findByUser_Id(Long userId);
     List<AIAnalysis> findByBook_Id(Long bookId);
     List<AIAnalysis> findByUserIdAndAnalysisType(Long userId, AnalysisType analysisType);
+    Stream<AIAnalysis> streamByUser_Id(Long userId);
+    Map<AnalysisType, Long> countByBook_IdGroupByType(Long bookId);
     void deleteById(String analysisId);
     boolean existsById(String analysisId);
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.bookapp.backend.domain.analysis;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * 시간 순으로 정렬되는 UUIDv7 형식의 분석 ID 생성기 (RFC 9562)
+ * 
+ * 상위 48비트에 밀리초 타임스탬프가 들어가므로 새 ID는 항상 인덱스의 끝에 추가되어
+ * 랜덤 UUID(v4)처럼 클러스터드 인덱스를 조각내지 않습니다.
+ * 같은 밀리초 안에서는 12비트 카운터로 단조 증가를 보장합니다.
+ */
+public final class AnalysisIdGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastTimestamp = -1L;
+    private static int sequence = 0;
+
+    private AnalysisIdGenerator() {
+    }
+
+    public static String generate() {
+        long timestamp;
+        int seq;
+        synchronized (AnalysisIdGenerator.class) {
+            timestamp = Math.max(System.currentTimeMillis(), lastTimestamp);
+            if (timestamp == lastTimestamp) {
+                sequence++;
+                if (sequence > MAX_SEQUENCE) {
+                    // 카운터 소진 시 다음 밀리초를 빌려 단조성을 유지
+                    timestamp++;
+                    sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+                }
+            } else {
+                sequence = RANDOM.nextInt(MAX_SEQUENCE / 2);
+            }
+            lastTimestamp = timestamp;
+            seq = sequence;
+        }
+
+        long mostSigBits = (timestamp << 16) | (0x7L << 12) | seq;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
@@ -20,10 +20,12 @@ public class Book {
     private final Long userId; // 책 소유자 ID
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private final Long version; // 낙관적 잠금 버전 (저장 전에는 null)
 
     @Builder
     public Book(Long id, String title, String author, String isbn, Genre genre, 
-                String description, String content, Long userId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                String description, String content, Long userId, LocalDateTime createdAt, LocalDateTime updatedAt,
+                Long version) {
         validateTitle(title);
         validateAuthor(author);
         validateGenre(genre);
@@ -41,6 +43,7 @@ public class Book {
         this.userId = userId;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.updatedAt = updatedAt != null ? updatedAt : LocalDateTime.now();
+        this.version = version;
     }
 
     private void validateTitle(String title) {
@@ -1,10 +1,14 @@
 package com.bookapp.backend.domain.book;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface BookRepository {
     Book save(Book book);
+    List<Book> saveAll(List<Book> books);
     Optional<Book> findById(Long id);
     Optional<Book> findByIsbn(String isbn);
     List<Book> findByGenre(Genre genre);
@@ -12,9 +16,23 @@ public interface BookRepository {
     List<Book> findAll();
     void deleteById(Long id);
     
+    // 삭제 요청 표시 - 표시된 책은 즉시 조회에서 빠지고 하위 데이터와 함께 백그라운드에서 삭제됨
+    boolean markForDeletion(Long id, Long userId);
+    
     // 사용자별 책 관리 메서드
     Optional<Book> findByIdAndUserId(Long id, Long userId);
+    // 상세 조회용 - 본문은 버전이 같으면 캐시에서 읽음
+    Optional<Book> findDetailByIdAndUserId(Long id, Long userId);
     List<Book> findByUserId(Long userId);
     List<Book> findByUserIdAndGenre(Long userId, Genre genre);
-    List<Book> findByUserIdAndTitleContaining(Long userId, String title);
+    
+    // 제목/저자/설명 전체를 대상으로 관련도 순 검색
+    List<Book> searchByUserId(Long userId, String keyword, int limit);
+    
+    // 대량 등록용 집합 조회 (배치당 한 번)
+    Set<String> findExistingIsbns(Collection<String> isbns);
+    List<Book> findByUserIdAndIsbnIn(Long userId, Collection<String> isbns);
+    
+    // 대량 조회용 스트림 - 트랜잭션 안에서 사용하고 반드시 닫아야 함
+    Stream<Book> streamByUserId(Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.bookapp.backend.domain.library;
+
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서재 화면의 책 한 권. 책 정보와 독서 기록/분석 요약을 한 행에 담은 비정규화 읽기 모델.
+ *
+ * @param latestReadingStatus    가장 최근에 시작한 독서 기록의 상태 (기록이 없으면 null)
+ * @param latestReadingStartedAt 가장 최근에 시작한 독서 기록의 생성 시각
+ * @param latestAnalysisAt       가장 최근 분석 시각 (아카이브 포함)
+ */
+public record LibraryEntry(Long bookId, Long userId, String title, String author, Genre genre,
+                           LocalDateTime bookCreatedAt,
+                           int readingRecordCount, int completedReadingCount,
+                           ReadingStatus latestReadingStatus, LocalDateTime latestReadingStartedAt,
+                           int analysisCount, LocalDateTime latestAnalysisAt) {
+}
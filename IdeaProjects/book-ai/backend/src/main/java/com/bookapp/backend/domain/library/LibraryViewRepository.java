@@ -0,0 +1,22 @@
+package com.bookapp.backend.domain.library;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LibraryViewRepository {
+
+    /**
+     * 기본 테이블에서 책들의 행을 다시 계산해 저장한다. 책이 없거나 삭제 요청된 상태면 행을 지운다.
+     * 호출한 트랜잭션 안에서 실행되므로 기본 테이블 변경과 함께 커밋/롤백된다.
+     */
+    void refresh(Collection<Long> bookIds);
+
+    void remove(Long bookId);
+
+    /**
+     * book_id 역순(최근 등록순)으로 beforeBookId 미만의 행을 최대 limit개 조회한다.
+     *
+     * @param beforeBookId null이면 처음부터
+     */
+    List<LibraryEntry> findByUserId(Long userId, Long beforeBookId, int limit);
+}
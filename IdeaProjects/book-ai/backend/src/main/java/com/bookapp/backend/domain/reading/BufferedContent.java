@@ -0,0 +1,11 @@
+package com.bookapp.backend.domain.reading;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 DB에 반영되지 않은 독서 기록 본문 (write-behind 모드의 자동 저장분).
+ * baseVersion은 이 본문이 덮어쓸 DB 버전(버퍼에 처음 담을 때의 DB 버전)이고,
+ * revision은 이 편집으로 클라이언트에 내주는 버전이다. 편집마다 1씩 올라가며 flush하면 DB 버전도 이 값이 된다.
+ */
+public record BufferedContent(Long readingRecordId, Long baseVersion, long revision, String content, LocalDateTime bufferedAt) {
+}
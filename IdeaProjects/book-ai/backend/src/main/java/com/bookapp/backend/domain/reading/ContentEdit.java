@@ -0,0 +1,46 @@
+package com.bookapp.backend.domain.reading;
+
+import java.util.List;
+
+/**
+ * 독서 기록 본문에 대한 부분 편집 한 건. offset과 length는 UTF-16 문자 단위(브라우저 문자열 인덱스와 동일)다.
+ * 여러 건은 앞의 편집이 적용된 결과를 기준으로 순서대로 적용한다.
+ */
+public record ContentEdit(Type type, int offset, String text, int length) {
+
+    public enum Type {
+        INSERT,  // offset 위치에 text 삽입
+        DELETE   // offset부터 length자 삭제
+    }
+
+    public static String applyAll(String content, List<ContentEdit> edits) {
+        StringBuilder result = new StringBuilder(content);
+        for (ContentEdit edit : edits) {
+            edit.applyTo(result);
+        }
+        return result.toString();
+    }
+
+    private void applyTo(StringBuilder content) {
+        if (type == null) {
+            throw new IllegalArgumentException("편집 종류는 필수입니다");
+        }
+        if (offset < 0 || offset > content.length()) {
+            throw new IllegalArgumentException("편집 위치가 본문 범위를 벗어났습니다: " + offset);
+        }
+        switch (type) {
+            case INSERT -> {
+                if (text == null || text.isEmpty()) {
+                    throw new IllegalArgumentException("삽입할 내용이 없습니다");
+                }
+                content.insert(offset, text);
+            }
+            case DELETE -> {
+                if (length <= 0 || offset + length > content.length()) {
+                    throw new IllegalArgumentException("삭제 범위가 본문 범위를 벗어났습니다: " + offset + "+" + length);
+                }
+                content.delete(offset, offset + length);
+            }
+        }
+    }
+}
@@ -16,10 +16,13 @@ public class ReadingRecord {
     private ReadingStatus status;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+    private final Long version;
 
     @Builder
     public ReadingRecord(Long id, User user, Book book, String content, 
-                        ReadingStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                        ReadingStatus status, LocalDateTime createdAt, LocalDateTime updatedAt,
+                        LocalDateTime completedAt, Long version) {
         validateUser(user);
         validateBook(book);
         
@@ -30,6 +33,9 @@ public class ReadingRecord {
         this.status = status != null ? status : ReadingStatus.IN_PROGRESS;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.updatedAt = updatedAt != null ? updatedAt : LocalDateTime.now();
+        // 완료 상태로 가져온 기록은 완료 시각을 모르므로 마지막 수정 시각으로 둠
+        this.completedAt = completedAt != null || this.status != ReadingStatus.COMPLETED ? completedAt : this.updatedAt;
+        this.version = version;
     }
 
     private void validateUser(User user) {
@@ -60,6 +66,7 @@ public class ReadingRecord {
         
         this.status = ReadingStatus.COMPLETED;
         this.updatedAt = LocalDateTime.now();
+        this.completedAt = this.updatedAt;
     }
 
     public boolean isCompleted() {
@@ -1,15 +1,24 @@
 package com.bookapp.backend.domain.reading;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReadingRecordRepository {
     ReadingRecord save(ReadingRecord readingRecord);
+    List<ReadingRecord> saveAll(List<ReadingRecord> readingRecords);
     Optional<ReadingRecord> findById(Long id);
+    // 상세 조회용 - 본문은 버전이 같으면 캐시에서 읽음
+    Optional<ReadingRecord> findDetailById(Long id);
     List<ReadingRecord> findByUser_Id(Long userId);
     List<ReadingRecord> findByUser_IdAndStatus(Long userId, ReadingStatus status);
     List<ReadingRecord> findByBook_Id(Long bookId);
     Optional<ReadingRecord> findByUser_IdAndBook_Id(Long userId, Long bookId);
+    Stream<ReadingRecord> streamByUser_Id(Long userId);
+    Map<ReadingStatus, Long> countByBook_IdGroupByStatus(Long bookId);
     boolean existsById(Long id);
+    // write-behind flush용 - 버전이 expectedVersion일 때만 newVersion으로 바꿈
+    boolean updateVersion(Long id, Long expectedVersion, Long newVersion);
     void deleteById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.bookapp.backend.domain.reading.revision;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32;
+
+/**
+ * 독서 기록 본문의 한 버전. payload는 kind에 따라 전체 본문이거나 직전 수정본과의 차이다.
+ * chainLength는 가장 가까운 이전 스냅샷으로부터의 거리로, 복원 시 적용할 차이의 개수와 같다.
+ * contentHash는 이 버전 전체 본문의 CRC32로, 다음 수정의 기준 본문이 이 버전과 같은지 복원 없이 확인하는 데 쓴다
+ * (해시를 저장하기 전에 만든 이력은 null).
+ */
+@Getter
+@Builder
+public class ReadingRecordRevision {
+    private final Long readingRecordId;
+    private final int revisionNumber;
+    private final Long userId;
+    private final Long bookId;
+    private final RevisionKind kind;
+    private final int chainLength;
+    private final String payload;
+    private final int contentLength;
+    private final Long contentHash;
+    private final LocalDateTime createdAt;
+
+    public boolean isSnapshot() {
+        return kind == RevisionKind.SNAPSHOT;
+    }
+
+    /**
+     * 이 버전의 본문이 content와 같은지. 해시가 없는 이력은 알 수 없으므로 다르다고 본다.
+     */
+    public boolean hasContent(String content) {
+        return contentHash != null && contentLength == content.length() && contentHash == contentHash(content);
+    }
+
+    public static long contentHash(String content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
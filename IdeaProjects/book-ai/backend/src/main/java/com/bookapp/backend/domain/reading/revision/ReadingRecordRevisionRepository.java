@@ -0,0 +1,18 @@
+package com.bookapp.backend.domain.reading.revision;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReadingRecordRevisionRepository {
+    ReadingRecordRevision save(ReadingRecordRevision revision);
+    Optional<ReadingRecordRevision> findLatest(Long readingRecordId);
+    Optional<ReadingRecordRevision> findByRevisionNumber(Long readingRecordId, int revisionNumber);
+    
+    // 최신순 목록 (payload 제외)
+    List<ReadingRecordRevision> findSummaries(Long readingRecordId);
+    
+    // fromRevision부터 toRevision까지 오름차순 (복원용)
+    List<ReadingRecordRevision> findRange(Long readingRecordId, int fromRevision, int toRevision);
+    
+    void deleteByReadingRecordId(Long readingRecordId);
+}
@@ -0,0 +1,6 @@
+package com.bookapp.backend.domain.reading.revision;
+
+public enum RevisionKind {
+    SNAPSHOT,  // 전체 본문
+    DELTA      // 직전 수정본과의 차이 (TextDelta 형식)
+}
@@ -0,0 +1,218 @@
+package com.bookapp.backend.domain.reading.revision;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 두 본문의 줄 단위 차이를 문자열로 인코딩하고 다시 적용한다.
+ *
+ * <p>형식은 연산의 나열이며 길이는 문자 수다.
+ * <ul>
+ *   <li>{@code =n,} 이전 본문에서 n자를 그대로 복사</li>
+ *   <li>{@code -n,} 이전 본문에서 n자를 건너뜀</li>
+ *   <li>{@code +n,텍스트} n자 길이의 텍스트를 삽입</li>
+ * </ul>
+ *
+ * <p>공통 앞/뒤 줄을 먼저 잘라낸 뒤 나머지에 Myers 차이 알고리즘을 적용한다.
+ * 바뀐 줄이 MAX_EDIT_DISTANCE를 넘으면 계산을 멈추고 가운데 구간 전체를 교체하는 것으로 인코딩한다.
+ */
+public final class TextDelta {
+
+    private static final int MAX_EDIT_DISTANCE = 500;
+
+    private TextDelta() {
+    }
+
+    public static String diff(String base, String target) {
+        List<String> a = splitLines(base);
+        List<String> b = splitLines(target);
+
+        int prefix = 0;
+        while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.size() - prefix && suffix < b.size() - prefix
+                && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        Encoder encoder = new Encoder();
+        encoder.copy(a.subList(0, prefix));
+        List<String> middleA = a.subList(prefix, a.size() - suffix);
+        List<String> middleB = b.subList(prefix, b.size() - suffix);
+        if (!encodeMiddle(middleA, middleB, encoder)) {
+            encoder.delete(middleA);
+            encoder.insert(middleB);
+        }
+        encoder.copy(a.subList(a.size() - suffix, a.size()));
+        return encoder.finish();
+    }
+
+    public static String apply(String base, String delta) {
+        StringBuilder result = new StringBuilder(base.length());
+        int position = 0;
+        int index = 0;
+        while (index < delta.length()) {
+            char op = delta.charAt(index);
+            int comma = delta.indexOf(',', index);
+            if (comma < 0) {
+                throw new IllegalStateException("손상된 수정 이력입니다");
+            }
+            int length = Integer.parseInt(delta, index + 1, comma, 10);
+            index = comma + 1;
+            switch (op) {
+                case '=' -> {
+                    result.append(base, position, position + length);
+                    position += length;
+                }
+                case '-' -> position += length;
+                case '+' -> {
+                    result.append(delta, index, index + length);
+                    index += length;
+                }
+                default -> throw new IllegalStateException("손상된 수정 이력입니다");
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return 편집 거리가 한도 안이라 줄 단위로 인코딩했으면 true
+     */
+    private static boolean encodeMiddle(List<String> a, List<String> b, Encoder encoder) {
+        int n = a.size();
+        int m = b.size();
+        int max = n + m;
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        // 단계 d를 시작할 때의 v 중 역추적에 필요한 [-d-1, d+1] 구간만 보관
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= Math.min(max, MAX_EDIT_DISTANCE); d++) {
+            trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    backtrack(a, b, trace, d, encoder);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void backtrack(List<String> a, List<String> b, List<int[]> trace, int distance, Encoder encoder) {
+        // 뒤에서부터 (종류, 줄) 쌍을 모은 뒤 뒤집어 인코딩
+        List<Edit> edits = new ArrayList<>();
+        int x = a.size();
+        int y = b.size();
+        for (int d = distance; d > 0; d--) {
+            int[] previous = trace.get(d);
+            int k = x - y;
+            int previousK = (k == -d || (k != d && previous[k - 1 + d + 1] < previous[k + 1 + d + 1])) ? k + 1 : k - 1;
+            int previousX = previous[previousK + d + 1];
+            int previousY = previousX - previousK;
+            while (x > previousX && y > previousY) {
+                edits.add(new Edit('=', a.get(--x)));
+                y--;
+            }
+            if (x == previousX) {
+                edits.add(new Edit('+', b.get(--y)));
+            } else {
+                edits.add(new Edit('-', a.get(--x)));
+            }
+        }
+        while (x > 0) {
+            edits.add(new Edit('=', a.get(--x)));
+        }
+
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            Edit edit = edits.get(i);
+            switch (edit.op()) {
+                case '=' -> encoder.copy(List.of(edit.line()));
+                case '-' -> encoder.delete(List.of(edit.line()));
+                default -> encoder.insert(List.of(edit.line()));
+            }
+        }
+    }
+
+    private record Edit(char op, String line) {
+    }
+
+    /**
+     * 줄바꿈을 각 줄 끝에 남긴 채로 나눈다 (이어 붙이면 원문과 같음)
+     */
+    private static List<String> splitLines(String text) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines;
+    }
+
+    /**
+     * 같은 종류의 연속된 연산을 하나로 합쳐 인코딩
+     */
+    private static class Encoder {
+        private final StringBuilder out = new StringBuilder();
+        private final StringBuilder pendingInsert = new StringBuilder();
+        private char pendingOp;
+        private int pendingLength;
+
+        void copy(List<String> lines) {
+            lines.forEach(line -> append('=', line));
+        }
+
+        void delete(List<String> lines) {
+            lines.forEach(line -> append('-', line));
+        }
+
+        void insert(List<String> lines) {
+            lines.forEach(line -> append('+', line));
+        }
+
+        private void append(char op, String line) {
+            if (line.isEmpty()) {
+                return;
+            }
+            if (op != pendingOp) {
+                flush();
+                pendingOp = op;
+            }
+            pendingLength += line.length();
+            if (op == '+') {
+                pendingInsert.append(line);
+            }
+        }
+
+        private void flush() {
+            if (pendingLength > 0) {
+                out.append(pendingOp).append(pendingLength).append(',').append(pendingInsert);
+            }
+            pendingInsert.setLength(0);
+            pendingLength = 0;
+        }
+
+        String finish() {
+            flush();
+            return out.toString();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bookapp.backend.domain.search;
+
+import java.util.List;
+
+/**
+ * 사용자별 본문 검색 인덱스 (독서 기록, 책 설명, AI 분석)
+ */
+public interface ContentSearchIndex {
+    List<SearchHit> search(Long userId, String query, int limit);
+
+    /**
+     * 해당 사용자의 인덱스를 DB 기준으로 다시 만든다. 색인된 문서 수를 반환한다.
+     */
+    int rebuild(Long userId);
+}
@@ -0,0 +1,7 @@
+package com.bookapp.backend.domain.search;
+
+public enum SearchDocumentType {
+    BOOK,
+    READING_RECORD,
+    ANALYSIS
+}
@@ -0,0 +1,13 @@
+package com.bookapp.backend.domain.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SearchHit {
+    private final SearchDocumentType type;
+    private final String id;
+    private final Long bookId;
+    private final double score;
+}
@@ -0,0 +1,30 @@
+package com.bookapp.backend.domain.stats;
+
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+
+/**
+ * user_stats 카운터 키. "분류:값" 형식 (예: BOOK_GENRE:FICTION)
+ */
+public final class StatKey {
+
+    public static final String BOOK_GENRE_PREFIX = "BOOK_GENRE:";
+    public static final String READING_STATUS_PREFIX = "READING_STATUS:";
+    public static final String ANALYSIS_TYPE_PREFIX = "ANALYSIS_TYPE:";
+
+    private StatKey() {
+    }
+
+    public static String bookGenre(Genre genre) {
+        return BOOK_GENRE_PREFIX + genre.name();
+    }
+
+    public static String readingStatus(ReadingStatus status) {
+        return READING_STATUS_PREFIX + status.name();
+    }
+
+    public static String analysisType(AnalysisType analysisType) {
+        return ANALYSIS_TYPE_PREFIX + analysisType.name();
+    }
+}
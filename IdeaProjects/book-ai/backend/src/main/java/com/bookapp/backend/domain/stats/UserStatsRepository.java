@@ -0,0 +1,11 @@
+package com.bookapp.backend.domain.stats;
+
+import java.util.Map;
+
+public interface UserStatsRepository {
+    // 기본 테이블 변경과 같은 트랜잭션에서 호출 (delta는 음수 가능)
+    void increment(Long userId, String statKey, long delta);
+    
+    // 사용자의 모든 카운터 (키 -> 값)
+    Map<String, Long> findByUserId(Long userId);
+}
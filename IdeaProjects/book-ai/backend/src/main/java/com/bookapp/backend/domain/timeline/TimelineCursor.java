@@ -0,0 +1,37 @@
+package com.bookapp.backend.domain.timeline;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 직전 페이지의 마지막 항목 위치. 다음 페이지는 NEWEST_FIRST 순서로 이 위치 뒤의 항목부터 시작한다.
+ * 클라이언트에는 내용을 해석하지 않도록 Base64 URL 문자열로 내보낸다.
+ */
+public record TimelineCursor(LocalDateTime occurredAt, TimelineEntryType type, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = occurredAt + SEPARATOR + type.name() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TimelineCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 타임라인 커서입니다");
+            }
+            TimelineCursor cursor = new TimelineCursor(
+                    LocalDateTime.parse(parts[0]), TimelineEntryType.valueOf(parts[1]), parts[2]);
+            // ID 형식도 여기서 확인해 저장소 조회 중에 터지지 않게 함
+            TimelineEntry.compareIds(cursor.type(), cursor.id(), cursor.id());
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 타임라인 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.bookapp.backend.domain.timeline;
+
+import com.bookapp.backend.domain.analysis.AnalysisType;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 타임라인 한 줄. 본문 없이 목록 표시에 필요한 값만 담는다.
+ *
+ * @param id           항목 원본의 ID (책/독서 기록은 숫자, 분석은 UUID 문자열)
+ * @param analysisType ANALYSIS_CREATED일 때만 값이 있음
+ */
+public record TimelineEntry(TimelineEntryType type, LocalDateTime occurredAt, String id,
+                            Long bookId, String bookTitle, AnalysisType analysisType) {
+
+    /**
+     * 최신순 정렬: 시각 역순, 같은 시각이면 종류 역순, 같은 종류면 ID 역순.
+     * 저장소의 ORDER BY, keyset 조건과 같은 순서여야 페이지 경계에서 항목이 빠지거나 겹치지 않는다.
+     */
+    public static final Comparator<TimelineEntry> NEWEST_FIRST = Comparator
+            .comparing(TimelineEntry::occurredAt)
+            .thenComparing(TimelineEntry::type)
+            .thenComparing((left, right) -> compareIds(left.type(), left.id(), right.id()))
+            .reversed();
+
+    public TimelineCursor toCursor() {
+        return new TimelineCursor(occurredAt, type, id);
+    }
+
+    // 분석 ID는 BINARY(16) 바이트 순서와 같은 UUID 문자열 순서로, 나머지는 숫자로 비교
+    static int compareIds(TimelineEntryType type, String left, String right) {
+        if (type == TimelineEntryType.ANALYSIS_CREATED) {
+            return left.compareTo(right);
+        }
+        return Long.compare(Long.parseLong(left), Long.parseLong(right));
+    }
+}
@@ -0,0 +1,11 @@
+package com.bookapp.backend.domain.timeline;
+
+/**
+ * 타임라인 항목 종류. 같은 시각의 항목은 선언 순서의 역순(ANALYSIS_CREATED가 먼저)으로 정렬된다.
+ */
+public enum TimelineEntryType {
+    BOOK_ADDED,
+    READING_STARTED,
+    READING_COMPLETED,
+    ANALYSIS_CREATED
+}
@@ -0,0 +1,14 @@
+package com.bookapp.backend.domain.timeline;
+
+import java.util.List;
+
+public interface TimelineRepository {
+
+    /**
+     * 한 종류의 항목을 NEWEST_FIRST 순서로 after 다음부터 최대 limit개 조회한다.
+     * 삭제 요청된 책에 속한 항목은 제외한다.
+     *
+     * @param after null이면 가장 최신 항목부터
+     */
+    List<TimelineEntry> findEntries(Long userId, TimelineEntryType type, TimelineCursor after, int limit);
+}
@@ -8,4 +8,7 @@ public interface UserRepository {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     void deleteById(Long id);
+    
+    // 탈퇴 요청 표시 - 서재 전체는 백그라운드에서 나눠 삭제됨
+    boolean markForDeletion(Long id);
 }
\ No newline at end of file
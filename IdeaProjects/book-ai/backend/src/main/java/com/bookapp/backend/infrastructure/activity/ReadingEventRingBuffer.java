@@ -0,0 +1,83 @@
+package com.bookapp.backend.infrastructure.activity;
+
+import com.bookapp.backend.domain.activity.ReadingEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 수집 요청과 DB 기록을 분리하는 고정 크기 링 버퍼.
+ * 요청 스레드는 배열에 복사만 하고 반환하며, ReadingEventDrainTask가 배치 단위로 꺼내 기록한다.
+ * 공간이 모자라면 배치 전체를 거절해 클라이언트가 같은 배치를 다시 보내게 한다 (일부만 받으면 재전송 시 중복).
+ */
+@Component
+public class ReadingEventRingBuffer {
+
+    private final ReadingEvent[] slots;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int head;   // 다음에 꺼낼 위치
+    private int size;
+    private long dropped;
+
+    public ReadingEventRingBuffer(@Value("${app.activity.buffer-capacity:65536}") int capacity) {
+        this.slots = new ReadingEvent[capacity];
+    }
+
+    /**
+     * @return 모두 담았으면 true, 공간이 모자라 아무것도 담지 않았으면 false
+     */
+    public boolean offerAll(List<ReadingEvent> events) {
+        lock.lock();
+        try {
+            if (events.size() > slots.length - size) {
+                dropped += events.size();
+                return false;
+            }
+            for (ReadingEvent event : events) {
+                slots[(head + size) % slots.length] = event;
+                size++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<ReadingEvent> drain(int maxEvents) {
+        lock.lock();
+        try {
+            int count = Math.min(maxEvents, size);
+            List<ReadingEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                events.add(slots[head]);
+                slots[head] = null;
+                head = (head + 1) % slots.length;
+            }
+            size -= count;
+            return events;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long droppedCount() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
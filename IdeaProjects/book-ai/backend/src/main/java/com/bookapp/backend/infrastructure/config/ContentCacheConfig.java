@@ -0,0 +1,30 @@
+package com.bookapp.backend.infrastructure.config;
+
+import com.bookapp.backend.infrastructure.persistence.cache.OffHeapContentCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 책/독서 기록 상세 조회에 쓰는 힙 밖 본문 캐시.
+ * app.content-cache.enabled=false 이면 아무것도 저장하지 않는 캐시를 등록해 조회 코드는 그대로 DB를 읽는다.
+ * 예산만큼 기동 시 direct memory를 확보하므로 -XX:MaxDirectMemorySize를 정했다면 그보다 작아야 한다.
+ */
+@Slf4j
+@Configuration
+public class ContentCacheConfig {
+
+    @Bean
+    public OffHeapContentCache offHeapContentCache(@Value("${app.content-cache.enabled:true}") boolean enabled,
+                                                   @Value("${app.content-cache.max-bytes:64MB}") DataSize maxBytes,
+                                                   @Value("${app.content-cache.block-size:2KB}") DataSize blockSize,
+                                                   @Value("${app.content-cache.max-entries:20000}") int maxEntries) {
+        long budget = enabled ? maxBytes.toBytes() : 0;
+        if (enabled) {
+            log.info("본문 캐시 - 힙 밖 {}MB, 블록 {}B, 최대 {}건", maxBytes.toMegabytes(), blockSize.toBytes(), maxEntries);
+        }
+        return new OffHeapContentCache(budget, Math.toIntExact(blockSize.toBytes()), maxEntries);
+    }
+}
@@ -0,0 +1,161 @@
+package com.bookapp.backend.infrastructure.config;
+
+import com.bookapp.backend.infrastructure.datasource.shard.ConsistentHashRing;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardAdminQueries;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardDirectory;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardProperties;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardRebalancer;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardRoutingDataSource;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardTopology;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardUserMirror;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * app.datasource.shards.enabled=true 일 때만 사용자 단위 샤드 라우팅 DataSource를 구성한다.
+ *
+ * <ul>
+ *   <li>기존 spring.datasource.* DB가 카탈로그 샤드이고, app.datasource.shards.nodes[*]가 추가 샤드다.</li>
+ *   <li>요청은 인증된 사용자의 배치 샤드로, 인증 전 요청(로그인, 회원가입)은 카탈로그로 간다.</li>
+ *   <li>샤드마다 books/reading_records ID 시퀀스를 노드 id별 구간에서 시작시켜 사용자를 옮겨도 ID가 겹치지 않게 한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.shards", name = "enabled", havingValue = "true")
+public class ShardDataSourceConfig {
+
+    // 노드 id마다 2^40개씩 ID 구간을 나눔 (노드 id 8191까지 JavaScript 안전 정수 범위 안)
+    private static final long ID_RANGE_PER_SHARD = 1L << 40;
+    private static final List<String> SEQUENCE_TABLES = List.of("books_seq", "reading_records_seq");
+
+    @Bean
+    @ConfigurationProperties("app.datasource.shards")
+    public ShardProperties shardProperties() {
+        return new ShardProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource catalogDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ShardTopology shardTopology(@Qualifier("catalogDataSource") DataSource catalogDataSource,
+                                       ShardProperties properties,
+                                       @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                                       @Value("${app.reading.write-behind.enabled:false}") boolean writeBehindEnabled) {
+        if (replicaEnabled) {
+            throw new IllegalStateException("샤드 라우팅과 replica 라우팅은 함께 사용할 수 없습니다");
+        }
+        // 쓰기 지연 버퍼는 인증 정보 없이 기록 ID만으로 반영하므로 대상 샤드를 알 수 없음
+        if (writeBehindEnabled) {
+            throw new IllegalStateException("샤드 라우팅과 독서 기록 쓰기 지연(app.reading.write-behind)은 함께 사용할 수 없습니다");
+        }
+
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        dataSources.put(properties.getCatalogName(), catalogDataSource);
+
+        Set<Integer> nodeIds = new HashSet<>(Set.of(0));
+        for (ShardProperties.Node node : properties.getNodes()) {
+            if (node.getId() <= 0 || !nodeIds.add(node.getId())) {
+                throw new IllegalStateException("샤드 노드 id는 1 이상이고 서로 달라야 합니다: " + node.getId());
+            }
+            if (dataSources.containsKey(node.getName())) {
+                throw new IllegalStateException("샤드 이름이 중복되었습니다: " + node.getName());
+            }
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(node.getUrl());
+            dataSource.setUsername(node.getUsername());
+            dataSource.setPassword(node.getPassword());
+            dataSource.setPoolName(node.getName());
+
+            if (properties.isMigrate()) {
+                Flyway.configure()
+                        .dataSource(dataSource)
+                        .locations("classpath:db/migration/" + DatabaseDriver.fromJdbcUrl(node.getUrl()).getId())
+                        .load()
+                        .migrate();
+            }
+            reserveIdRange(new JdbcTemplate(dataSource), node);
+            dataSources.put(node.getName(), dataSource);
+        }
+
+        List<String> shardNames = new ArrayList<>(dataSources.keySet());
+        log.info("샤드 라우팅 구성 - 카탈로그: {}, 샤드: {}", properties.getCatalogName(), shardNames);
+        return new ShardTopology(shardNames, properties.getCatalogName(),
+                new ConsistentHashRing(shardNames, properties.getVirtualNodes()), dataSources);
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(@Qualifier("catalogDataSource") DataSource catalogDataSource,
+                                         ShardTopology topology) {
+        return new ShardDirectory(new JdbcTemplate(catalogDataSource), topology.catalog());
+    }
+
+    @Bean
+    public ShardUserMirror shardUserMirror(ShardTopology topology, ShardDirectory directory) {
+        return new ShardUserMirror(topology, directory);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardTopology topology, ShardDirectory directory) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(directory, topology.catalog());
+        routingDataSource.setTargetDataSources(new LinkedHashMap<>(topology.dataSources()));
+        routingDataSource.setDefaultTargetDataSource(topology.dataSource(topology.catalog()));
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.shards.rebalance", name = "run", havingValue = "true")
+    public ShardRebalancer shardRebalancer(ShardTopology topology, ShardDirectory directory,
+                                           ShardAdminQueries adminQueries, ConfigurableApplicationContext context,
+                                           @Value("${app.datasource.shards.rebalance.dry-run:false}") boolean dryRun) {
+        return new ShardRebalancer(topology, directory, adminQueries, context, dryRun);
+    }
+
+    /**
+     * Hibernate pooled 생성기는 시퀀스(H2) 또는 시퀀스 테이블의 next_val(MySQL)에서 블록을 받아 가므로,
+     * 현재 값이 구간 시작값보다 작을 때만 올려 둔다.
+     */
+    private void reserveIdRange(JdbcTemplate jdbcTemplate, ShardProperties.Node node) {
+        long rangeStart = node.getId() * ID_RANGE_PER_SHARD + 51;
+        boolean nativeSequences = DatabaseDriver.fromJdbcUrl(node.getUrl()) == DatabaseDriver.H2;
+        for (String table : SEQUENCE_TABLES) {
+            if (!nativeSequences) {
+                jdbcTemplate.update("UPDATE " + table + " SET next_val = ? WHERE next_val < ?", rangeStart, rangeStart);
+                continue;
+            }
+            Long next = jdbcTemplate.queryForObject(
+                    "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)",
+                    Long.class, table);
+            if (next != null && next < rangeStart) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + table + " RESTART WITH " + rangeStart);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.bookapp.backend.infrastructure.config;
+
+import com.bookapp.backend.application.common.WorkloadType;
+import com.bookapp.backend.infrastructure.datasource.workload.WorkloadAspect;
+import com.bookapp.backend.infrastructure.datasource.workload.WorkloadPoolMonitor;
+import com.bookapp.backend.infrastructure.datasource.workload.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * app.datasource.workloads.enabled=true 일 때만 같은 DB에 대해 작업 종류별 커넥션 풀을 나눠 구성한다.
+ *
+ * <ul>
+ *   <li>interactive 풀은 기존 spring.datasource.hikari.* 설정을, background/batch 풀은
+ *       app.datasource.workloads.{background,batch}.hikari.* 설정을 사용한다.</li>
+ *   <li>긴 내보내기/가져오기가 자기 풀만 다 써도 로그인 같은 요청은 interactive 풀에서 커넥션을 얻는다.</li>
+ *   <li>풀마다 최대 크기와 대기 시간을 따로 두므로 DB의 max_connections는 세 풀 크기의 합 이상이어야 한다.</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.workloads", name = "enabled", havingValue = "true")
+public class WorkloadDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource interactiveDataSource(DataSourceProperties properties) {
+        return pool(properties, "interactive", 10, 30_000);
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.workloads.background.hikari")
+    public HikariDataSource backgroundDataSource(DataSourceProperties properties) {
+        return pool(properties, "background", 4, 60_000);
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.workloads.batch.hikari")
+    public HikariDataSource batchDataSource(DataSourceProperties properties) {
+        return pool(properties, "batch", 2, 120_000);
+    }
+
+    @Bean
+    public WorkloadAspect workloadAspect() {
+        return new WorkloadAspect();
+    }
+
+    @Bean
+    public WorkloadPoolMonitor workloadPoolMonitor(@Qualifier("interactiveDataSource") HikariDataSource interactive,
+                                                   @Qualifier("backgroundDataSource") HikariDataSource background,
+                                                   @Qualifier("batchDataSource") HikariDataSource batch) {
+        return new WorkloadPoolMonitor(pools(interactive, background, batch));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("interactiveDataSource") HikariDataSource interactive,
+                                 @Qualifier("backgroundDataSource") HikariDataSource background,
+                                 @Qualifier("batchDataSource") HikariDataSource batch,
+                                 @Value("${app.datasource.replica.enabled:false}") boolean replicaEnabled,
+                                 @Value("${app.datasource.shards.enabled:false}") boolean shardsEnabled) {
+        if (replicaEnabled || shardsEnabled) {
+            throw new IllegalStateException("작업별 커넥션 풀 분리는 replica/샤드 라우팅과 함께 사용할 수 없습니다");
+        }
+        WorkloadRoutingDataSource routingDataSource = new WorkloadRoutingDataSource();
+        routingDataSource.setTargetDataSources(new HashMap<>(pools(interactive, background, batch)));
+        routingDataSource.setDefaultTargetDataSource(interactive);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 기본값은 @ConfigurationProperties 바인딩 전에 정해지므로 설정 파일 값이 우선한다
+    private HikariDataSource pool(DataSourceProperties properties, String poolName, int maximumPoolSize, long connectionTimeoutMs) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setConnectionTimeout(connectionTimeoutMs);
+        dataSource.setRegisterMbeans(true);
+        return dataSource;
+    }
+
+    private Map<WorkloadType, HikariDataSource> pools(HikariDataSource interactive, HikariDataSource background,
+                                                      HikariDataSource batch) {
+        Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        pools.put(WorkloadType.INTERACTIVE, interactive);
+        pools.put(WorkloadType.BACKGROUND, background);
+        pools.put(WorkloadType.BATCH, batch);
+        return pools;
+    }
+}
@@ -0,0 +1,6 @@
+package com.bookapp.backend.infrastructure.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
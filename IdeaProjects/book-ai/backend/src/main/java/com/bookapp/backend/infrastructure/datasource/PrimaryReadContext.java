@@ -0,0 +1,44 @@
+package com.bookapp.backend.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 읽기를 primary로 고정할지 여부. @ReadFromPrimary 실행 동안이나 call() 안에서만 설정된다.
+ */
+public final class PrimaryReadContext {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReadContext() {
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    /**
+     * 트랜잭션 밖(필터 등)에서 primary 읽기가 필요할 때 사용한다.
+     */
+    public static <T> T call(Supplier<T> task) {
+        Boolean previous = pin();
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static Boolean pin() {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void restore(Boolean previous) {
+        if (previous != null) {
+            PINNED.set(previous);
+        } else {
+            PINNED.remove();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.bookapp.backend.infrastructure.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * @ReadFromPrimary가 붙은 유스케이스 실행 동안 PrimaryReadContext를 설정한다.
+ * 커넥션을 얻기 전에 설정되어야 하므로 @Transactional보다 바깥에서 실행한다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadFromPrimaryAspect {
+
+    @Around("@within(com.bookapp.backend.application.common.ReadFromPrimary)"
+            + " || @annotation(com.bookapp.backend.application.common.ReadFromPrimary)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Boolean previous = PrimaryReadContext.pin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PrimaryReadContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.bookapp.backend.infrastructure.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 마지막 쓰기 커밋 시각을 기억한다.
+ * 쓰기 직후 window 동안은 해당 사용자의 읽기도 primary로 보내 방금 만든 데이터가 목록에서 빠지지 않게 한다.
+ * 기록은 이 노드의 메모리에만 있으므로 보장은 한 노드 안에서만 성립한다. 여러 노드를 두면 같은 사용자의 다음 요청이
+ * 같은 노드로 가도록(sticky session) 하거나, 그 사이 다른 노드에서는 복제 지연만큼 이전 데이터가 보일 수 있다.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<Long, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(Long userId) {
+        lastWriteNanos.put(userId, System.nanoTime());
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        Long writtenAt = lastWriteNanos.get(userId);
+        return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+}
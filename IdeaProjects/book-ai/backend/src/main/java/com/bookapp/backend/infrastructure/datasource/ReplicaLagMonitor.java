@@ -0,0 +1,73 @@
+package com.bookapp.backend.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * replication_heartbeat 테이블로 replica 지연을 측정한다 (pt-heartbeat 방식).
+ * primary에 현재 시각을 기록하고, replica에 복제된 마지막 기록과의 차이를 지연으로 본다.
+ * 지연이 maxLag를 넘거나 replica에 접속할 수 없으면 읽기 트랜잭션도 primary로 보낸다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final boolean enabled;
+
+    private volatile boolean replicaHealthy;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag, boolean enabled) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+        this.enabled = enabled;
+        // 첫 측정 전까지는 primary 사용
+        this.replicaHealthy = !enabled;
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+
+        boolean healthy;
+        try {
+            // 복제된 이전 heartbeat를 먼저 읽고 새 heartbeat를 기록 (측정값에는 체크 주기만큼이 더해짐)
+            Timestamp replicated = replicaJdbcTemplate.queryForObject(
+                    "SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+            LocalDateTime now = LocalDateTime.now();
+            primaryJdbcTemplate.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", Timestamp.valueOf(now));
+
+            Duration lag = replicated != null
+                    ? Duration.between(replicated.toLocalDateTime(), now)
+                    : Duration.ofDays(1);
+            healthy = lag.compareTo(maxLag) <= 0;
+            if (!healthy && replicaHealthy) {
+                log.warn("replica 지연 {}ms가 허용치 {}ms를 초과 - 읽기를 primary로 전환", lag.toMillis(), maxLag.toMillis());
+            }
+        } catch (RuntimeException e) {
+            healthy = false;
+            if (replicaHealthy) {
+                log.warn("replica 지연 측정 실패 - 읽기를 primary로 전환: {}", e.getMessage());
+            }
+        }
+
+        if (healthy && !replicaHealthy) {
+            log.info("replica 지연이 허용치 이내로 회복 - 읽기를 replica로 전환");
+        }
+        replicaHealthy = healthy;
+    }
+}
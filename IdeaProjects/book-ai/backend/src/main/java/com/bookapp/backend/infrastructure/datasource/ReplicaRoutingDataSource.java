@@ -0,0 +1,62 @@
+package com.bookapp.backend.infrastructure.datasource;
+
+import com.bookapp.backend.web.security.UserPrincipal;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션을 replica로, 나머지는 primary로 보낸다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ * read-your-writes는 인증된 사용자에게만 적용된다. 인증 주체가 없는 로그인/인증 조회는 @ReadFromPrimary나
+ * PrimaryReadContext로 primary에 고정한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(ReadYourWritesTracker readYourWritesTracker, ReplicaLagMonitor replicaLagMonitor) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit(userId);
+            return DataSourceRoute.PRIMARY;
+        }
+        if (PrimaryReadContext.isPinned() || !replicaLagMonitor.isReplicaHealthy()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        if (userId != null && readYourWritesTracker.isWithinWindow(userId)) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return DataSourceRoute.REPLICA;
+    }
+
+    private void recordWriteOnCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite(userId);
+            }
+        });
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * 사용자 ID를 샤드 이름에 대응시키는 consistent hash ring.
+ * 샤드를 하나 더하면 전체 사용자 중 약 1/N만 새 샤드로 옮겨지고 나머지는 그대로 남는다.
+ */
+public class ConsistentHashRing {
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> shardNames, int virtualNodes) {
+        if (shardNames.isEmpty()) {
+            throw new IllegalArgumentException("샤드가 하나 이상 필요합니다");
+        }
+        for (String shardName : shardNames) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                ring.put(hash((shardName + "#" + replica).getBytes(StandardCharsets.UTF_8)), shardName);
+            }
+        }
+    }
+
+    public String shardFor(long userId) {
+        long hash = hash(ByteBuffer.allocate(Long.BYTES).putLong(userId).array());
+        SortedMap<Long, String> tail = ring.tailMap(hash);
+        return tail.isEmpty() ? ring.firstEntry().getValue() : tail.get(tail.firstKey());
+    }
+
+    // 분포가 고른 해시가 필요할 뿐이라 MD5 앞 8바이트를 사용 (보안 용도 아님)
+    private static long hash(byte[] key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key);
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5를 사용할 수 없습니다", e);
+        }
+    }
+}
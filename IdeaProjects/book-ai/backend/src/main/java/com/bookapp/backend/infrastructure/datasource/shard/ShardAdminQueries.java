@@ -0,0 +1,94 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 사용자에 묶이지 않는 운영 조회. 샤드마다 같은 쿼리를 실행해 결과를 합친다 (scatter-gather).
+ *
+ * <ul>
+ *   <li>샤드에는 배치된 사용자의 데이터만 있으므로 책/독서 기록/분석 수는 샤드별 결과를 더하면 된다.</li>
+ *   <li>users 행은 배치 샤드에도 복제되어 있어 더하면 중복되므로 사용자 수는 카탈로그의 계정 원본에서만 센다.</li>
+ *   <li>최근 목록은 샤드마다 상위 limit개만 읽어 합친 뒤 다시 자른다.</li>
+ * </ul>
+ * 샤딩을 켜지 않았으면 기본 DataSource 하나에서 같은 결과를 낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShardAdminQueries {
+
+    /**
+     * 삭제 요청되지 않은 책과 그 책의 독서 기록/분석(아카이브 포함) 수
+     */
+    public record ShardUsage(long books, long readingRecords, long analyses) {
+
+        ShardUsage plus(ShardUsage other) {
+            return new ShardUsage(books + other.books, readingRecords + other.readingRecords, analyses + other.analyses);
+        }
+    }
+
+    public record PlatformTotals(long users, ShardUsage usage) {
+    }
+
+    public record RecentBook(Long bookId, Long userId, String title, LocalDateTime createdAt) {
+    }
+
+    private static final Comparator<RecentBook> NEWEST_FIRST = Comparator
+            .comparing(RecentBook::createdAt)
+            .thenComparing(RecentBook::bookId)
+            .reversed();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardExecutor shardExecutor;
+
+    public Map<String, ShardUsage> usageByShard() {
+        return shardExecutor.gatherByShard(this::usage);
+    }
+
+    public PlatformTotals totals() {
+        Long users = shardExecutor.onCatalog(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE deletion_requested_at IS NULL", Long.class));
+        ShardUsage usage = usageByShard().values().stream()
+                .reduce(new ShardUsage(0, 0, 0), ShardUsage::plus);
+        return new PlatformTotals(users != null ? users : 0, usage);
+    }
+
+    /**
+     * 모든 사용자의 책 중 최근 등록한 limit권 (등록 시각 역순, 같으면 ID 역순)
+     */
+    public List<RecentBook> findRecentBooks(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다");
+        }
+        return shardExecutor.gather(() -> jdbcTemplate.query(
+                        "SELECT id, user_id, title, created_at FROM books WHERE deletion_requested_at IS NULL"
+                                + " ORDER BY created_at DESC, id DESC LIMIT " + limit,
+                        (rs, rowNum) -> new RecentBook(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                                rs.getTimestamp(4).toLocalDateTime())))
+                .stream()
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .toList();
+    }
+
+    private ShardUsage usage() {
+        Long books = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM books WHERE deletion_requested_at IS NULL", Long.class);
+        Long readingRecords = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reading_records r JOIN books b ON b.id = r.book_id WHERE b.deletion_requested_at IS NULL",
+                Long.class);
+        long analyses = 0;
+        for (String table : new String[] {"ai_analyses", "ai_analyses_archive"}) {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table
+                    + " a JOIN books b ON b.id = a.book_id WHERE b.deletion_requested_at IS NULL", Long.class);
+            analyses += count != null ? count : 0;
+        }
+        return new ShardUsage(books != null ? books : 0, readingRecords != null ? readingRecords : 0, analyses);
+    }
+}
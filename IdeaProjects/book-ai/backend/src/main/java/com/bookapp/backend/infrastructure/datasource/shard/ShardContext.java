@@ -0,0 +1,45 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 인증된 사용자가 없는 작업(스케줄 작업, 관리 도구)이 대상 샤드를 명시할 때 사용한다.
+ * 트랜잭션은 처음 얻은 커넥션에 묶이므로 트랜잭션 밖에서만 샤드를 바꿀 수 있다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callOn(String shardName, Supplier<T> task) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("트랜잭션 안에서는 샤드를 바꿀 수 없습니다");
+        }
+        String previous = CURRENT.get();
+        CURRENT.set(shardName);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runOn(String shardName, Runnable task) {
+        callOn(shardName, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 데이터가 실제로 있는 샤드(user_shard_placements, 카탈로그에 저장).
+ *
+ * <p>consistent hashing은 새 사용자의 배치와 재배치 목표를 정할 뿐이고, 라우팅은 항상 이 디렉터리를 따른다.
+ * 그래서 샤드를 추가해 링이 바뀌어도 ShardRebalancer가 옮기기 전까지 기존 사용자는 원래 샤드에서 읽힌다.
+ * 배치 기록이 없는 사용자는 샤딩 도입 전부터 있던 사용자이므로 카탈로그에 있다.
+ *
+ * <p>배치는 재배치 도구를 실행할 때만 바뀌므로(앱 인스턴스를 내린 상태) 프로세스 안에서 만료 없이 캐시한다.
+ * 재배치 도구는 사용자별 이동 상태(MoveState)도 여기에 남겨 멈춘 이동을 다시 실행할 때 이어서 정리한다.
+ */
+public class ShardDirectory {
+
+    public enum MoveState {
+        // 목표 샤드에 복사 중. 배치는 아직 원래 샤드이고 peer는 목표 샤드
+        COPYING,
+        // 배치를 목표 샤드로 바꿨고 원래 샤드(peer)의 행은 아직 지우지 않음
+        PLACED,
+        CLEANED
+    }
+
+    /**
+     * 정리가 끝나지 않은 이동. shardName은 현재 배치 샤드
+     */
+    public record PendingMove(Long userId, String shardName, MoveState state, String peerShard) {
+    }
+
+    private final JdbcTemplate catalogJdbcTemplate;
+    private final String catalog;
+    private final Map<Long, String> cache = new ConcurrentHashMap<>();
+
+    public ShardDirectory(JdbcTemplate catalogJdbcTemplate, String catalog) {
+        this.catalogJdbcTemplate = catalogJdbcTemplate;
+        this.catalog = catalog;
+    }
+
+    public String shardOf(Long userId) {
+        return cache.computeIfAbsent(userId, id -> catalogJdbcTemplate.query(
+                "SELECT shard_name FROM user_shard_placements WHERE user_id = ?",
+                rs -> rs.next() ? rs.getString(1) : catalog,
+                id));
+    }
+
+    public void place(Long userId, String shardName) {
+        int updated = catalogJdbcTemplate.update(
+                "UPDATE user_shard_placements SET shard_name = ?, placed_at = ? WHERE user_id = ?",
+                shardName, Timestamp.valueOf(LocalDateTime.now()), userId);
+        if (updated == 0) {
+            catalogJdbcTemplate.update(
+                    "INSERT INTO user_shard_placements (user_id, shard_name, placed_at) VALUES (?, ?, ?)",
+                    userId, shardName, Timestamp.valueOf(LocalDateTime.now()));
+        }
+        cache.put(userId, shardName);
+    }
+
+    /**
+     * 복사를 시작하기 전에 남긴다. 배치는 source 그대로다.
+     */
+    public void beginMove(Long userId, String source, String target) {
+        place(userId, source);
+        catalogJdbcTemplate.update("UPDATE user_shard_placements SET move_state = ?, move_peer_shard = ? WHERE user_id = ?",
+                MoveState.COPYING.name(), target, userId);
+    }
+
+    /**
+     * 복사가 커밋된 뒤 배치를 target으로 바꾸면서 아직 지우지 않은 source를 한 문장으로 함께 남긴다.
+     */
+    public void placeMoved(Long userId, String target, String source) {
+        catalogJdbcTemplate.update(
+                "UPDATE user_shard_placements SET shard_name = ?, placed_at = ?, move_state = ?, move_peer_shard = ? WHERE user_id = ?",
+                target, Timestamp.valueOf(LocalDateTime.now()), MoveState.PLACED.name(), source, userId);
+        cache.put(userId, target);
+    }
+
+    public void finishMove(Long userId) {
+        catalogJdbcTemplate.update("UPDATE user_shard_placements SET move_state = ?, move_peer_shard = NULL WHERE user_id = ?",
+                MoveState.CLEANED.name(), userId);
+    }
+
+    public List<PendingMove> pendingMoves() {
+        return catalogJdbcTemplate.query(
+                "SELECT user_id, shard_name, move_state, move_peer_shard FROM user_shard_placements"
+                        + " WHERE move_state IN ('COPYING', 'PLACED') ORDER BY user_id",
+                (rs, rowNum) -> new PendingMove(rs.getLong(1), rs.getString(2), MoveState.valueOf(rs.getString(3)),
+                        rs.getString(4)));
+    }
+}
@@ -0,0 +1,109 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 인증된 사용자 없이 여러 사용자의 데이터를 다루는 작업(스케줄 작업, 색인 적재)을 샤드마다 실행한다 (scatter-gather).
+ * 샤딩을 켜지 않았으면 기본 DataSource에서 한 번만 실행하므로 호출하는 쪽은 구성과 관계없이 같은 코드를 쓴다.
+ */
+@Component
+public class ShardExecutor {
+
+    public static final String UNSHARDED = "default";
+
+    private final ShardTopology topology;
+    private final ShardDirectory directory;
+
+    public ShardExecutor(ObjectProvider<ShardTopology> topology, ObjectProvider<ShardDirectory> directory) {
+        this.topology = topology.getIfAvailable();
+        this.directory = directory.getIfAvailable();
+    }
+
+    public boolean isSharded() {
+        return topology != null;
+    }
+
+    /**
+     * 샤드마다 순서대로 실행한다. 각 실행은 자기 트랜잭션을 직접 열어야 한다.
+     */
+    public void forEachShard(Runnable task) {
+        if (topology == null) {
+            task.run();
+            return;
+        }
+        for (String shardName : topology.shardNames()) {
+            ShardContext.runOn(shardName, task);
+        }
+    }
+
+    /**
+     * 샤드마다 조회한 결과를 샤드 순서대로 이어 붙인다.
+     */
+    public <T> List<T> gather(Supplier<? extends Collection<T>> query) {
+        if (topology == null) {
+            return new ArrayList<>(query.get());
+        }
+        List<T> results = new ArrayList<>();
+        for (String shardName : topology.shardNames()) {
+            results.addAll(ShardContext.callOn(shardName, query::get));
+        }
+        return results;
+    }
+
+    /**
+     * 샤드마다 조회한 결과를 샤드 이름별로 돌려준다. 샤딩을 켜지 않았으면 기본 DataSource의 결과 하나를 UNSHARDED 이름으로 돌려준다.
+     */
+    public <T> Map<String, T> gatherByShard(Supplier<T> query) {
+        Map<String, T> results = new LinkedHashMap<>();
+        if (topology == null) {
+            results.put(UNSHARDED, query.get());
+            return results;
+        }
+        for (String shardName : topology.shardNames()) {
+            results.put(shardName, ShardContext.callOn(shardName, query));
+        }
+        return results;
+    }
+
+    /**
+     * 계정 원본처럼 카탈로그에만 있는 데이터를 조회한다. 샤딩을 켜지 않았으면 기본 DataSource에서 실행한다.
+     */
+    public <T> T onCatalog(Supplier<T> task) {
+        if (topology == null) {
+            return task.get();
+        }
+        return ShardContext.callOn(topology.catalog(), task);
+    }
+
+    public <T> T onShardOf(Long userId, Supplier<T> task) {
+        if (topology == null) {
+            return task.get();
+        }
+        return ShardContext.callOn(directory.shardOf(userId), task);
+    }
+
+    /**
+     * 여러 사용자의 항목을 소유자의 샤드별로 나눠 샤드마다 한 번씩 처리한다.
+     */
+    public <T> void forEachShardOf(Collection<T> items, Function<T, Long> userIdOf, Consumer<List<T>> action) {
+        if (topology == null) {
+            action.accept(new ArrayList<>(items));
+            return;
+        }
+        Map<String, List<T>> byShard = new LinkedHashMap<>();
+        for (T item : items) {
+            byShard.computeIfAbsent(directory.shardOf(userIdOf.apply(item)), shardName -> new ArrayList<>()).add(item);
+        }
+        byShard.forEach((shardName, shardItems) -> ShardContext.runOn(shardName, () -> action.accept(shardItems)));
+    }
+}
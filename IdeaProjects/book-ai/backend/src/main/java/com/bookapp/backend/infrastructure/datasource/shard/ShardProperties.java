@@ -0,0 +1,44 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * app.datasource.shards.* 설정.
+ *
+ * <p>기존 spring.datasource.* DB가 카탈로그 샤드(노드 id 0)가 되어 계정 원본과 사용자 배치 디렉터리를 맡고,
+ * nodes에는 추가 샤드만 적는다. 노드 id는 ID 시퀀스 구간을 정하므로 한 번 정하면 바꾸지 않는다.
+ *
+ * <pre>
+ * app.datasource.shards.nodes[0].id=1
+ * app.datasource.shards.nodes[0].name=shard-1
+ * app.datasource.shards.nodes[0].url=jdbc:mysql://...
+ * </pre>
+ */
+@Getter
+@Setter
+public class ShardProperties {
+
+    private String catalogName = "shard-0";
+
+    private List<Node> nodes = new ArrayList<>();
+
+    // 샤드당 링 위의 가상 노드 수 - 많을수록 사용자 분포가 고르지만 링 조회 비용은 log(노드 수)로만 늘어남
+    private int virtualNodes = 160;
+
+    // 추가 샤드에 Flyway 마이그레이션 실행 (카탈로그는 spring.flyway 설정을 따름)
+    private boolean migrate = true;
+
+    @Getter
+    @Setter
+    public static class Node {
+        private int id;
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+}
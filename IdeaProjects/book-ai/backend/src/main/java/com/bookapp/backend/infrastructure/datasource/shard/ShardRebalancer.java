@@ -0,0 +1,214 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 배치 샤드가 링의 목표 샤드와 다른 사용자를 목표 샤드로 옮기는 관리 도구. 샤드를 추가/제거한 뒤 실행한다.
+ *
+ * <pre>
+ * java -jar book-ai-backend.jar --spring.main.web-application-type=none \
+ *      --app.datasource.shards.rebalance.run=true [--app.datasource.shards.rebalance.dry-run=true]
+ * </pre>
+ *
+ * <ul>
+ *   <li>사용자마다 이동 시작 기록(COPYING) → 목표 샤드에 한 트랜잭션으로 복사 → 배치 변경(PLACED) → 원래 샤드에서 삭제 →
+ *       정리 완료(CLEANED) 순서로 진행하고, 단계마다 카탈로그의 user_shard_placements에 남긴다.</li>
+ *   <li>다시 실행하면 먼저 끝나지 않은 이동을 마무리한다. PLACED에서 멈췄으면 원래 샤드에 남은 행을 지우고
+ *       (지우지 않으면 scatter-gather 조회가 두 번 센다), COPYING에서 멈췄으면 목표 샤드에 커밋됐을 수 있는 복사본을 지운다.</li>
+ *   <li>실행 중인 앱 인스턴스는 배치 기록을 캐시하고 옮기는 동안의 쓰기를 막지 않으므로 앱을 내린 상태에서 실행한다.</li>
+ *   <li>카탈로그의 users 행은 계정 원본이므로 카탈로그에서 옮겨 가도 지우지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+public class ShardRebalancer implements ApplicationRunner {
+
+    private record UserTable(String table, boolean copyGeneratedId) {
+    }
+
+    // 외래 키 순서대로 복사하고 역순으로 삭제. 자동 증가 ID는 목표 샤드에서 새로 발급 (외부에서 참조하지 않음)
+    private static final List<UserTable> USER_TABLES = List.of(
+            new UserTable("books", true),
+            new UserTable("reading_records", true),
+            new UserTable("reading_record_revisions", false),
+            new UserTable("ai_analyses", true),
+            new UserTable("ai_analyses_archive", true),
+            new UserTable("user_stats", true),
+            new UserTable("library_view", true),
+            new UserTable("reading_events", false),
+            new UserTable("reading_activity_daily", true));
+
+    private static final int COPY_BATCH_SIZE = 500;
+
+    private final ShardTopology topology;
+    private final ShardDirectory directory;
+    private final ShardAdminQueries adminQueries;
+    private final ConfigurableApplicationContext context;
+    private final boolean dryRun;
+
+    public ShardRebalancer(ShardTopology topology, ShardDirectory directory, ShardAdminQueries adminQueries,
+                           ConfigurableApplicationContext context, boolean dryRun) {
+        this.topology = topology;
+        this.directory = directory;
+        this.adminQueries = adminQueries;
+        this.context = context;
+        this.dryRun = dryRun;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("샤드별 데이터 (재배치 전) - {}", adminQueries.usageByShard());
+        int moved = rebalance();
+        log.info("샤드 재배치 {} - 이동 대상 사용자: {}명", dryRun ? "계획" : "완료", moved);
+        if (!dryRun) {
+            log.info("샤드별 데이터 (재배치 후) - {}", adminQueries.usageByShard());
+        }
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    /**
+     * 배치 샤드와 링의 목표 샤드가 다른 사용자를 모두 옮긴다 (dry-run이면 로그만 남김).
+     *
+     * @return 이동했거나 이동할 사용자 수
+     */
+    public int rebalance() {
+        resumePendingMoves();
+        JdbcTemplate catalog = jdbcTemplate(topology.catalog());
+        long cursor = 0;
+        int moved = 0;
+        List<Long> userIds;
+        do {
+            userIds = catalog.queryForList(
+                    "SELECT id FROM users WHERE id > ? AND deletion_requested_at IS NULL ORDER BY id LIMIT 500",
+                    Long.class, cursor);
+            for (Long userId : userIds) {
+                cursor = userId;
+                String source = directory.shardOf(userId);
+                String target = topology.ring().shardFor(userId);
+                if (source.equals(target)) {
+                    continue;
+                }
+                if (dryRun) {
+                    log.info("[dry-run] 사용자 이동 예정 - userId: {}, {} -> {}", userId, source, target);
+                } else {
+                    move(userId, source, target);
+                }
+                moved++;
+            }
+        } while (!userIds.isEmpty());
+        return moved;
+    }
+
+    /**
+     * 이전 실행에서 정리까지 끝내지 못한 이동을 마무리한다.
+     */
+    void resumePendingMoves() {
+        for (ShardDirectory.PendingMove pending : directory.pendingMoves()) {
+            if (dryRun) {
+                log.info("[dry-run] 멈춘 이동 정리 예정 - userId: {}, state: {}, {}에 남은 행 삭제",
+                        pending.userId(), pending.state(), pending.peerShard());
+                continue;
+            }
+            // PLACED: 원래 샤드에 남은 행, COPYING: 배치 변경 전에 목표 샤드에 커밋됐을 수 있는 복사본
+            if (!pending.peerShard().equals(pending.shardName())) {
+                cleanUp(pending.userId(), pending.peerShard());
+            }
+            directory.finishMove(pending.userId());
+            log.info("멈춘 이동 정리 - userId: {}, state: {}, 삭제한 샤드: {}", pending.userId(), pending.state(), pending.peerShard());
+        }
+    }
+
+    private void move(Long userId, String source, String target) {
+        JdbcTemplate from = jdbcTemplate(source);
+        JdbcTemplate to = jdbcTemplate(target);
+
+        directory.beginMove(userId, source, target);
+        new TransactionTemplate(new DataSourceTransactionManager(topology.dataSource(target))).executeWithoutResult(status -> {
+            // 이전 실행이 복사 후 삭제 전에 멈췄다면 목표 샤드에 남은 행부터 정리
+            deleteUserRows(to, userId, target);
+            if (!target.equals(topology.catalog())) {
+                copyRows(from, to, "users", "id", userId, true);
+            }
+            for (UserTable userTable : USER_TABLES) {
+                copyRows(from, to, userTable.table(), "user_id", userId, userTable.copyGeneratedId());
+            }
+        });
+        directory.placeMoved(userId, target, source);
+
+        cleanUp(userId, source);
+        directory.finishMove(userId);
+        log.info("사용자 이동 - userId: {}, {} -> {}", userId, source, target);
+    }
+
+    /**
+     * 더 이상 배치 샤드가 아닌 shardName에서 사용자의 행을 지운다. 테이블마다 자동 커밋되므로 중간에 멈추면
+     * 이동 상태가 남아 다음 실행에서 다시 지운다.
+     */
+    void cleanUp(Long userId, String shardName) {
+        deleteUserRows(jdbcTemplate(shardName), userId, shardName);
+    }
+
+    private void deleteUserRows(JdbcTemplate jdbcTemplate, Long userId, String shardName) {
+        List<UserTable> reversed = new ArrayList<>(USER_TABLES);
+        Collections.reverse(reversed);
+        for (UserTable userTable : reversed) {
+            jdbcTemplate.update("DELETE FROM " + userTable.table() + " WHERE user_id = ?", userId);
+        }
+        if (!shardName.equals(topology.catalog())) {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+    }
+
+    private void copyRows(JdbcTemplate from, JdbcTemplate to, String table, String ownerColumn, Long userId,
+                          boolean copyGeneratedId) {
+        Set<String> skipped = copyGeneratedId ? Set.of() : Set.of("id");
+        from.query("SELECT * FROM " + table + " WHERE " + ownerColumn + " = ?", (ResultSetExtractor<Void>) rs -> {
+            ResultSetMetaData metaData = rs.getMetaData();
+            List<String> columns = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String column = metaData.getColumnLabel(i).toLowerCase();
+                if (!skipped.contains(column)) {
+                    columns.add(column);
+                    indexes.add(i);
+                }
+            }
+            String insert = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+            List<Object[]> batch = new ArrayList<>(COPY_BATCH_SIZE);
+            while (rs.next()) {
+                Object[] values = new Object[indexes.size()];
+                for (int i = 0; i < indexes.size(); i++) {
+                    values[i] = rs.getObject(indexes.get(i));
+                }
+                batch.add(values);
+                if (batch.size() == COPY_BATCH_SIZE) {
+                    to.batchUpdate(insert, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                to.batchUpdate(insert, batch);
+            }
+            return null;
+        }, userId);
+    }
+
+    private JdbcTemplate jdbcTemplate(String shardName) {
+        return new JdbcTemplate(topology.dataSource(shardName));
+    }
+}
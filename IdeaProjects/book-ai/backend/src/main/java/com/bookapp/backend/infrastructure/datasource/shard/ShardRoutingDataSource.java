@@ -0,0 +1,36 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import com.bookapp.backend.web.security.UserPrincipal;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 커넥션을 얻을 때 대상 샤드를 고른다.
+ * ShardContext로 명시한 샤드 → 인증된 사용자의 배치 샤드 → 카탈로그 순서.
+ * 로그인/회원가입처럼 인증 전 요청은 계정 원본이 있는 카탈로그로 간다.
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardDirectory shardDirectory;
+    private final String catalog;
+
+    public ShardRoutingDataSource(ShardDirectory shardDirectory, String catalog) {
+        this.shardDirectory = shardDirectory;
+        this.catalog = catalog;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String explicit = ShardContext.current();
+        if (explicit != null) {
+            return explicit;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return shardDirectory.shardOf(principal.getUserId());
+        }
+        return catalog;
+    }
+}
@@ -0,0 +1,35 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구성된 샤드 목록과 각 샤드의 DataSource (라우팅을 거치지 않는 원본).
+ *
+ * @param shardNames 노드 id 순서
+ * @param catalog    계정 원본과 사용자 배치 디렉터리가 있는 샤드 (id 0)
+ */
+public record ShardTopology(List<String> shardNames, String catalog, ConsistentHashRing ring,
+                            Map<String, DataSource> dataSources) implements AutoCloseable {
+
+    public DataSource dataSource(String shardName) {
+        DataSource dataSource = dataSources.get(shardName);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("구성되지 않은 샤드입니다: " + shardName);
+        }
+        return dataSource;
+    }
+
+    /**
+     * 추가 샤드의 커넥션 풀을 닫는다 (카탈로그 DataSource는 별도 빈이라 스프링이 닫음).
+     */
+    @Override
+    public void close() throws Exception {
+        for (Map.Entry<String, DataSource> entry : dataSources.entrySet()) {
+            if (!entry.getKey().equals(catalog) && entry.getValue() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
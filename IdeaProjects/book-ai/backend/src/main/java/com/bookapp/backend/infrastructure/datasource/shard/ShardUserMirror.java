@@ -0,0 +1,63 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import com.bookapp.backend.domain.user.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 계정 원본은 카탈로그에만 두고, 사용자의 배치 샤드에는 같은 ID의 users 행을 복제해 둔다.
+ * 샤드 안의 외래 키(books.user_id 등)와 독서 기록의 사용자 조인이 그 샤드 안에서 끝나게 하기 위함이다.
+ */
+@Slf4j
+public class ShardUserMirror {
+
+    private final ShardTopology topology;
+    private final ShardDirectory directory;
+
+    public ShardUserMirror(ShardTopology topology, ShardDirectory directory) {
+        this.topology = topology;
+        this.directory = directory;
+    }
+
+    /**
+     * 새 사용자를 링이 정한 샤드에 배치한다. 카탈로그 트랜잭션이 롤백되면 복제 행과 배치 기록이 남지만
+     * ID는 다시 쓰이지 않으므로 다른 사용자에게 영향이 없다.
+     */
+    public void placeNewUser(User user) {
+        String shardName = topology.ring().shardFor(user.getId());
+        if (!shardName.equals(topology.catalog())) {
+            insertCopy(new JdbcTemplate(topology.dataSource(shardName)), user);
+        }
+        directory.place(user.getId(), shardName);
+        log.debug("새 사용자 샤드 배치 - userId: {}, shard: {}", user.getId(), shardName);
+    }
+
+    /**
+     * 탈퇴 요청을 카탈로그와 배치 샤드에 함께 표시한다. 각 샤드의 퍼지 작업이 자기 샤드의 데이터를 지운다.
+     *
+     * @return 카탈로그에서 이번에 표시했으면 true
+     */
+    public boolean markForDeletion(Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "UPDATE users SET deletion_requested_at = ?, updated_at = updated_at WHERE id = ? AND deletion_requested_at IS NULL";
+        boolean marked = new JdbcTemplate(topology.dataSource(topology.catalog())).update(sql, now, userId) > 0;
+        String shardName = directory.shardOf(userId);
+        if (marked && !shardName.equals(topology.catalog())) {
+            new JdbcTemplate(topology.dataSource(shardName)).update(sql, now, userId);
+        }
+        return marked;
+    }
+
+    static void insertCopy(JdbcTemplate target, User user) {
+        Integer exists = target.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, user.getId());
+        if (exists != null && exists > 0) {
+            return;
+        }
+        target.update("INSERT INTO users (id, email, password, nickname, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                user.getId(), user.getEmail(), user.getPassword(), user.getNickname(),
+                Timestamp.valueOf(user.getCreatedAt()), Timestamp.valueOf(user.getUpdatedAt()));
+    }
+}
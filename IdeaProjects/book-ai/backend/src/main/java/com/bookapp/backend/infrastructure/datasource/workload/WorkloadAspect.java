@@ -0,0 +1,41 @@
+package com.bookapp.backend.infrastructure.datasource.workload;
+
+import com.bookapp.backend.application.common.Workload;
+import com.bookapp.backend.application.common.WorkloadType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+/**
+ * @Workload가 붙은 유스케이스 실행 동안 WorkloadContext를 설정한다.
+ * 트랜잭션이 시작되기 전에 설정되어야 하므로 @Transactional보다 바깥에서 실행한다.
+ * 이미 트랜잭션 안에서 호출되면 바깥 트랜잭션의 커넥션을 그대로 쓴다 (REQUIRES_NEW만 새 풀에서 얻음).
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadAspect {
+
+    @Around("@within(com.bookapp.backend.application.common.Workload)"
+            + " || @annotation(com.bookapp.backend.application.common.Workload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), Workload.class);
+        if (workload == null) {
+            workload = AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), Workload.class);
+        }
+        if (workload == null) {
+            return joinPoint.proceed();
+        }
+
+        WorkloadType previous = WorkloadContext.set(workload.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bookapp.backend.infrastructure.datasource.workload;
+
+import com.bookapp.backend.application.common.WorkloadType;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 현재 스레드가 실행 중인 작업 종류. @Workload가 붙은 메서드 실행 동안만 설정된다.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * 명시한 작업 종류, 없으면 HTTP 요청 스레드는 INTERACTIVE, 그 밖은 BACKGROUND.
+     */
+    public static WorkloadType current() {
+        WorkloadType explicit = CURRENT.get();
+        if (explicit != null) {
+            return explicit;
+        }
+        return RequestContextHolder.getRequestAttributes() != null ? WorkloadType.INTERACTIVE : WorkloadType.BACKGROUND;
+    }
+
+    static WorkloadType set(WorkloadType workloadType) {
+        WorkloadType previous = CURRENT.get();
+        CURRENT.set(workloadType);
+        return previous;
+    }
+
+    static void restore(WorkloadType previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookapp.backend.infrastructure.datasource.workload;
+
+import com.bookapp.backend.application.common.WorkloadType;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 작업 종류별 커넥션 풀의 포화 정도를 주기적으로 기록한다.
+ * 커넥션을 기다리는 스레드가 있으면 WARN, 아니면 DEBUG로 남긴다. 같은 값은 JMX(HikariPoolMXBean)로도 볼 수 있다.
+ */
+@Slf4j
+public class WorkloadPoolMonitor {
+
+    public record PoolUsage(int active, int idle, int total, int maximum, int awaiting) {
+
+        public double saturation() {
+            return maximum > 0 ? (double) active / maximum : 0;
+        }
+    }
+
+    private final Map<WorkloadType, HikariDataSource> pools;
+
+    public WorkloadPoolMonitor(Map<WorkloadType, HikariDataSource> pools) {
+        this.pools = pools;
+    }
+
+    public Map<WorkloadType, PoolUsage> usage() {
+        Map<WorkloadType, PoolUsage> usage = new EnumMap<>(WorkloadType.class);
+        pools.forEach((workloadType, pool) -> {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            // 첫 커넥션을 얻기 전에는 풀이 만들어지지 않음
+            if (bean != null) {
+                usage.put(workloadType, new PoolUsage(bean.getActiveConnections(), bean.getIdleConnections(),
+                        bean.getTotalConnections(), pool.getMaximumPoolSize(), bean.getThreadsAwaitingConnection()));
+            }
+        });
+        return usage;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.workloads.monitor-interval-ms:10000}")
+    public void report() {
+        usage().forEach((workloadType, usage) -> {
+            if (usage.awaiting() > 0) {
+                log.warn("커넥션 풀 포화 - pool: {}, active: {}/{}, 대기 스레드: {}",
+                        workloadType, usage.active(), usage.maximum(), usage.awaiting());
+            } else {
+                log.debug("커넥션 풀 사용량 - pool: {}, active: {}/{}, idle: {}, saturation: {}%",
+                        workloadType, usage.active(), usage.maximum(), usage.idle(), Math.round(usage.saturation() * 100));
+            }
+        });
+    }
+}
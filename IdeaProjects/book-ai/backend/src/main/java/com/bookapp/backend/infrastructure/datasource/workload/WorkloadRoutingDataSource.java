@@ -0,0 +1,15 @@
+package com.bookapp.backend.infrastructure.datasource.workload;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 현재 작업 종류(WorkloadContext)에 맞는 커넥션 풀에서 커넥션을 얻는다.
+ * 트랜잭션이 시작된 뒤 첫 문장에서 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
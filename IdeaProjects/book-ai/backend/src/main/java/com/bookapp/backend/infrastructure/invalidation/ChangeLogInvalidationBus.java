@@ -0,0 +1,248 @@
+package com.bookapp.backend.infrastructure.invalidation;
+
+import com.bookapp.backend.infrastructure.datasource.shard.ShardContext;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import com.bookapp.backend.infrastructure.scheduling.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 별도 브로커 없이 DB의 cache_change_log 테이블로 캐시 무효화를 전달한다.
+ *
+ * <ul>
+ *   <li>발행한 키는 트랜잭션 안에서 모아 두었다가 커밋 직전에 한 번의 batch INSERT로 기록한다.
+ *       롤백된 변경은 기록되지 않고, 커밋된 변경은 반드시 기록된다.</li>
+ *   <li>각 노드는 기본 키 순서로 마지막으로 읽은 id 이후를 주기적으로 읽는다 (PK 범위 조회).</li>
+ *   <li>AUTO_INCREMENT id는 커밋 순서와 다를 수 있어, 읽는 중 건너뛴 id는 gapTimeout 동안 따로 다시 확인한다.
+ *       롤백된 INSERT의 id는 끝내 나타나지 않으므로 시간이 지나면 포기한다.
+ *       건너뛴 id가 추적 한도를 넘으면 어떤 변경을 놓쳤는지 알 수 없으므로 키 단위 반영 대신 로컬 캐시를 모두 비운다.</li>
+ *   <li>샤딩 시 변경은 사용자의 샤드에 기록되므로 샤드마다 따로 읽는다.</li>
+ *   <li>기동 시에는 마지막 id부터 읽는다. 캐시가 비어 있는 상태로 시작하므로 이전 변경은 필요 없다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.invalidation", name = "transport", havingValue = "changelog")
+public class ChangeLogInvalidationBus implements InvalidationBus {
+
+    private static final int MAX_TRACKED_GAPS = 1000;
+    private static final int PRUNE_BATCH_SIZE = 1000;
+
+    private record Change(InvalidationRegion region, String key) {
+    }
+
+    private record Row(long id, String nodeId, String region, String key) {
+    }
+
+    // 샤드별 읽기 위치
+    private static class Cursor {
+        long lastId = -1;
+        final Map<Long, Long> gaps = new LinkedHashMap<>();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<InvalidationListener> listeners;
+    private final ShardExecutor shardExecutor;
+    private final JobLeaseManager jobLeaseManager;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Cursor> cursors = new ConcurrentHashMap<>();
+    private final AtomicLong overflowFlushes = new AtomicLong();
+
+    public ChangeLogInvalidationBus(JdbcTemplate jdbcTemplate,
+                                    ObjectProvider<InvalidationListener> listeners,
+                                    ShardExecutor shardExecutor,
+                                    JobLeaseManager jobLeaseManager,
+                                    @Value("${app.invalidation.batch-size:500}") int batchSize,
+                                    @Value("${app.invalidation.gap-timeout:60s}") Duration gapTimeout,
+                                    @Value("${app.invalidation.retention:10m}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.shardExecutor = shardExecutor;
+        this.jobLeaseManager = jobLeaseManager;
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(InvalidationRegion region, Object key) {
+        Change change = new Change(region, String.valueOf(key));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(change));
+            return;
+        }
+        // REQUIRES_NEW로 중단된 바깥 트랜잭션의 동기화는 목록에 없으므로 현재 트랜잭션의 것만 찾음
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending) {
+                pending.changes.add(change);
+                return;
+            }
+        }
+        PendingChanges pending = new PendingChanges();
+        pending.changes.add(change);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+        private final Set<Change> changes = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            write(new ArrayList<>(changes));
+        }
+    }
+
+    private void write(List<Change> changes) {
+        jdbcTemplate.batchUpdate("INSERT INTO cache_change_log (node_id, region, entity_key) VALUES (?, ?, ?)",
+                changes, changes.size(), (ps, change) -> {
+                    ps.setString(1, nodeId);
+                    ps.setString(2, change.region().name());
+                    ps.setString(3, change.key());
+                });
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        shardExecutor.forEachShard(this::pollShard);
+    }
+
+    private void pollShard() {
+        String shardName = ShardContext.current();
+        Cursor cursor = cursors.computeIfAbsent(shardName != null ? shardName : "", name -> new Cursor());
+        if (cursor.lastId < 0) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_change_log", Long.class);
+            cursor.lastId = maxId != null ? maxId : 0;
+            return;
+        }
+
+        List<Row> rows = new ArrayList<>();
+        if (!cursor.gaps.isEmpty()) {
+            List<Long> gapIds = new ArrayList<>(cursor.gaps.keySet());
+            String placeholders = String.join(", ", Collections.nCopies(gapIds.size(), "?"));
+            rows.addAll(jdbcTemplate.query(
+                    "SELECT id, node_id, region, entity_key FROM cache_change_log WHERE id IN (" + placeholders + ")",
+                    (rs, rowNum) -> new Row(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                    gapIds.toArray()));
+            rows.forEach(row -> cursor.gaps.remove(row.id()));
+        }
+
+        long now = System.currentTimeMillis();
+        List<Row> newRows = jdbcTemplate.query(
+                "SELECT id, node_id, region, entity_key FROM cache_change_log WHERE id > ? ORDER BY id LIMIT " + batchSize,
+                (rs, rowNum) -> new Row(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4)),
+                cursor.lastId);
+        boolean overflowed = false;
+        for (Row row : newRows) {
+            long missingCount = row.id() - cursor.lastId - 1;
+            if (cursor.gaps.size() + missingCount > MAX_TRACKED_GAPS) {
+                overflowed = true;
+            } else {
+                for (long missing = cursor.lastId + 1; missing < row.id(); missing++) {
+                    cursor.gaps.put(missing, now);
+                }
+            }
+            cursor.lastId = row.id();
+        }
+        if (overflowed) {
+            // 추적하지 못한 id가 나중에 커밋되면 놓치게 되므로 지금까지의 변경을 모두 반영한 것으로 보고 다시 시작
+            log.warn("캐시 변경 로그의 건너뛴 id가 추적 한도({})를 넘어 로컬 캐시를 모두 비웁니다 - shard: {}, lastId: {}",
+                    MAX_TRACKED_GAPS, shardName, cursor.lastId);
+            cursor.gaps.clear();
+            overflowFlushes.incrementAndGet();
+            flush();
+            return;
+        }
+        rows.addAll(newRows);
+        cursor.gaps.values().removeIf(firstSeenAt -> now - firstSeenAt > gapTimeout.toMillis());
+
+        deliver(rows);
+    }
+
+    /**
+     * 건너뛴 id가 추적 한도를 넘어 로컬 캐시를 모두 비운 횟수.
+     */
+    public long overflowFlushCount() {
+        return overflowFlushes.get();
+    }
+
+    private void flush() {
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onFlush();
+            } catch (RuntimeException e) {
+                log.error("캐시 전체 무효화 실패 - listener: {}", listener.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    private void deliver(List<Row> rows) {
+        Map<InvalidationRegion, Set<String>> keysByRegion = new EnumMap<>(InvalidationRegion.class);
+        for (Row row : rows) {
+            if (nodeId.equals(row.nodeId())) {
+                continue;
+            }
+            try {
+                keysByRegion.computeIfAbsent(InvalidationRegion.valueOf(row.region()), region -> new LinkedHashSet<>())
+                        .add(row.key());
+            } catch (IllegalArgumentException e) {
+                // 더 새로운 버전의 노드가 기록한 영역
+                log.debug("알 수 없는 캐시 무효화 영역 - region: {}", row.region());
+            }
+        }
+        if (keysByRegion.isEmpty()) {
+            return;
+        }
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onInvalidation(keysByRegion);
+            } catch (RuntimeException e) {
+                log.error("캐시 무효화 처리 실패 - listener: {}", listener.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.prune-interval-ms:60000}", initialDelay = 60000)
+    public void prune() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        shardExecutor.forEachShard(() -> jobLeaseManager.runIfHolder("cache-change-log-prune", lease -> {
+            List<Long> ids;
+            do {
+                ids = jdbcTemplate.queryForList(
+                        "SELECT id FROM cache_change_log WHERE logged_at < ? ORDER BY id LIMIT " + PRUNE_BATCH_SIZE,
+                        Long.class, cutoff);
+                if (!ids.isEmpty()) {
+                    String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+                    Object[] args = ids.toArray();
+                    jobLeaseManager.fenced(lease, () -> jdbcTemplate.update(
+                            "DELETE FROM cache_change_log WHERE id IN (" + placeholders + ")", args));
+                }
+            } while (ids.size() == PRUNE_BATCH_SIZE);
+        }));
+    }
+}
@@ -0,0 +1,13 @@
+package com.bookapp.backend.infrastructure.invalidation;
+
+/**
+ * 캐시된 데이터가 바뀌었음을 다른 노드에 알린다. 전달 방식(app.invalidation.transport)에 따라 구현이 바뀐다.
+ * 받는 쪽은 InvalidationListener 빈으로 등록하며, 자기 노드에서 발행한 변경은 받지 않는다.
+ */
+public interface InvalidationBus {
+
+    /**
+     * 트랜잭션 안이면 그 트랜잭션과 함께 커밋될 때만 전달되고, 밖이면 바로 전달된다.
+     */
+    void publish(InvalidationRegion region, Object key);
+}
@@ -0,0 +1,17 @@
+package com.bookapp.backend.infrastructure.invalidation;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다른 노드에서 바뀐 키를 받아 이 노드의 캐시에서 지운다. 같은 키는 한 번 전달에 한 번만 온다.
+ */
+public interface InvalidationListener {
+
+    void onInvalidation(Map<InvalidationRegion, Set<String>> keysByRegion);
+
+    /**
+     * 놓친 변경이 있을 수 있어 어떤 키가 바뀌었는지 모를 때 호출된다. 이 노드의 캐시를 모두 비운다.
+     */
+    void onFlush();
+}
@@ -0,0 +1,15 @@
+package com.bookapp.backend.infrastructure.invalidation;
+
+/**
+ * 노드마다 메모리에 들고 있는 캐시 중 다른 노드의 변경을 알아야 하는 것.
+ */
+public enum InvalidationRegion {
+    // 키: 책 ID - 2차 캐시의 BookEntity와 책 목록 쿼리 캐시, 본문 캐시
+    BOOK,
+    // 키: 사용자 ID - 2차 캐시의 UserEntity
+    USER,
+    // 키: 독서 기록 ID - 본문 캐시
+    READING_RECORD,
+    // 키: 사용자 ID/문서 키 (예: 7/READING_RECORD:42) - 메모리 검색 인덱스의 문서 하나, 사용자 ID만 있으면 그 사용자 전체
+    SEARCH_INDEX
+}
@@ -0,0 +1,100 @@
+package com.bookapp.backend.infrastructure.invalidation;
+
+import com.bookapp.backend.infrastructure.persistence.book.BookEntity;
+import com.bookapp.backend.infrastructure.persistence.book.BookJpaRepository;
+import com.bookapp.backend.infrastructure.persistence.cache.ContentCacheRegion;
+import com.bookapp.backend.infrastructure.persistence.cache.OffHeapContentCache;
+import com.bookapp.backend.infrastructure.persistence.user.UserEntity;
+import com.bookapp.backend.infrastructure.search.InvertedSearchIndex;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 다른 노드의 변경을 이 노드의 2차 캐시, 본문 캐시, 검색 인덱스에 반영한다.
+ * 검색 인덱스는 바뀐 문서만 기본 키로 다시 읽어 폴링 스레드에서 바로 반영하고,
+ * 전체를 다시 만들어야 하는 경우(flush)는 폴링을 막지 않도록 전용 스레드에서 한 번에 하나만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalCacheInvalidator implements InvalidationListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final OffHeapContentCache contentCache;
+    private final InvertedSearchIndex searchIndex;
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 대기 중인 전체 갱신이 있으면 새 요청은 그 갱신에 합침
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+    @Override
+    public void onInvalidation(Map<InvalidationRegion, Set<String>> keysByRegion) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        Set<String> bookIds = keysByRegion.getOrDefault(InvalidationRegion.BOOK, Set.of());
+        for (String bookId : bookIds) {
+            cache.evictEntityData(BookEntity.class, Long.valueOf(bookId));
+            contentCache.remove(ContentCacheRegion.BOOK.key(Long.parseLong(bookId)));
+        }
+        if (!bookIds.isEmpty()) {
+            // 쿼리 캐시는 키로 찾을 수 없어 영역 전체를 비움
+            cache.evictQueryRegion(BookJpaRepository.BOOKS_BY_USER_REGION);
+            cache.evictDefaultQueryRegion();
+        }
+
+        for (String userId : keysByRegion.getOrDefault(InvalidationRegion.USER, Set.of())) {
+            cache.evictEntityData(UserEntity.class, Long.valueOf(userId));
+        }
+
+        for (String readingRecordId : keysByRegion.getOrDefault(InvalidationRegion.READING_RECORD, Set.of())) {
+            contentCache.remove(ContentCacheRegion.READING_RECORD.key(Long.parseLong(readingRecordId)));
+        }
+
+        // 같은 주기에 여러 번 바뀐 문서도 한 번만 다시 읽음
+        for (String changeKey : keysByRegion.getOrDefault(InvalidationRegion.SEARCH_INDEX, Set.of())) {
+            try {
+                searchIndex.applyRemoteChange(changeKey);
+            } catch (IllegalArgumentException e) {
+                // 더 새로운 버전의 노드가 기록한 키 형식
+                log.debug("알 수 없는 검색 인덱스 변경 키 - key: {}", changeKey);
+            }
+        }
+    }
+
+    @Override
+    public void onFlush() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        contentCache.clear();
+        if (refreshQueued.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                refreshQueued.set(false);
+                try {
+                    int documents = searchIndex.refreshAll();
+                    log.info("캐시 전체 무효화로 검색 인덱스 재구축 - documents: {}", documents);
+                } catch (RuntimeException e) {
+                    log.error("캐시 전체 무효화 후 검색 인덱스 재구축 실패", e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
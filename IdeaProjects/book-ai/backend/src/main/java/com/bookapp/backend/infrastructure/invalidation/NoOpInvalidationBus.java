@@ -0,0 +1,16 @@
+package com.bookapp.backend.infrastructure.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드가 하나일 때의 기본값. 로컬 캐시는 각 저장소가 직접 갱신하므로 알릴 곳이 없다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.invalidation", name = "transport", havingValue = "none", matchIfMissing = true)
+public class NoOpInvalidationBus implements InvalidationBus {
+
+    @Override
+    public void publish(InvalidationRegion region, Object key) {
+    }
+}
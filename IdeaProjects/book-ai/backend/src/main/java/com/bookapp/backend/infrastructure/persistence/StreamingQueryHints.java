@@ -0,0 +1,37 @@
+package com.bookapp.backend.infrastructure.persistence;
+
+import jakarta.persistence.TypedQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내보내기처럼 결과 전체를 한 번씩 훑는 조회에 거는 힌트.
+ * <p>
+ * MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 행 단위로 흘려 읽고, 그 외 값은 결과 전체를 메모리에 올린다.
+ * URL의 useCursorFetch=true는 모든 조회를 서버측 커서로 바꾸므로 쓰지 않고, 스트리밍이 필요한 조회에만 이 힌트를 건다.
+ * 스트리밍 중에는 같은 커넥션으로 다른 문장을 실행할 수 없으므로 지연 로딩이 없도록 연관은 모두 fetch join 해야 한다.
+ */
+@Component
+public class StreamingQueryHints {
+
+    static final int DEFAULT_FETCH_SIZE = 500;
+
+    private final int fetchSize;
+
+    public StreamingQueryHints(@Value("${spring.datasource.url}") String url) {
+        this.fetchSize = fetchSizeFor(url);
+    }
+
+    static int fetchSizeFor(String url) {
+        return DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.MYSQL ? Integer.MIN_VALUE : DEFAULT_FETCH_SIZE;
+    }
+
+    public <T> TypedQuery<T> apply(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE);
+    }
+}
@@ -0,0 +1,32 @@
+package com.bookapp.backend.infrastructure.persistence.activity;
+
+import com.bookapp.backend.domain.activity.DailyReadingActivity;
+import com.bookapp.backend.domain.activity.ReadingActivityRepository;
+import com.bookapp.backend.domain.book.Genre;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReadingActivityRepositoryImpl implements ReadingActivityRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<DailyReadingActivity> findDaily(Long userId, LocalDate from, LocalDate to) {
+        // 삭제 요청된 책은 퍼지 전에도 제외
+        return jdbcTemplate.query(
+                "SELECT activity_date, book_id, genre, reading_seconds FROM reading_activity_daily"
+                        + " WHERE user_id = ? AND activity_date BETWEEN ? AND ?"
+                        + " AND book_id NOT IN (SELECT id FROM books WHERE deletion_requested_at IS NOT NULL)"
+                        + " ORDER BY activity_date",
+                (rs, rowNum) -> new DailyReadingActivity(rs.getDate(1).toLocalDate(), rs.getLong(2),
+                        Genre.valueOf(rs.getString(3)), rs.getLong(4)),
+                userId, Date.valueOf(from), Date.valueOf(to));
+    }
+}
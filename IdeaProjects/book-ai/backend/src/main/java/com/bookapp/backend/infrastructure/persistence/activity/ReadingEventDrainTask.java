@@ -0,0 +1,230 @@
+package com.bookapp.backend.infrastructure.persistence.activity;
+
+import com.bookapp.backend.domain.activity.ReadingEvent;
+import com.bookapp.backend.domain.activity.ReadingEventType;
+import com.bookapp.backend.infrastructure.activity.ReadingEventRingBuffer;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 링 버퍼의 독서 이벤트를 배치 단위로 reading_events에 기록하고 reading_activity_daily에 누적한다.
+ *
+ * <ul>
+ *   <li>배치마다 INSERT 한 번(batchUpdate)과 (사용자, 날짜, 책)별 UPDATE 한 번씩을 한 트랜잭션으로 실행한다.</li>
+ *   <li>독서 시간은 같은 (사용자, 책)의 연속된 이벤트 간격을 더한 값이다. 간격이 sessionGap보다 길면 앱이 꺼져 있던
+ *       것으로 보고 세지 않으며, STOP 이후에는 다음 START/HEARTBEAT까지 세지 않는다.</li>
+ *   <li>세션별 마지막 이벤트 시각은 메모리에만 있으므로 재기동하면 진행 중이던 세션의 간격 하나가 빠질 수 있다.</li>
+ *   <li>본인 책이 아니거나 삭제 요청된 책의 이벤트는 버린다.</li>
+ *   <li>샤딩 시 배치를 사용자의 샤드별로 나눠 샤드마다 기록한다.</li>
+ *   <li>200ms 주기라 @Scheduled 공용 스레드에서 돌리면 긴 주기 작업(보정, 아카이브 등) 동안 밀리므로 전용 스레드에서 실행한다.</li>
+ * </ul>
+ * 텔레메트리는 최선 노력 수집이라 기록에 실패한 배치는 로그만 남기고 버린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.activity.drain", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReadingEventDrainTask {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadingEventRingBuffer ringBuffer;
+    private final ShardExecutor shardExecutor;
+    private final int batchSize;
+    private final Duration sessionGap;
+    private final long intervalMillis;
+    private final ScheduledExecutorService drainExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("reading-event-drain").daemon().factory());
+
+    private record SessionKey(long userId, long bookId) {
+    }
+
+    private record DailyKey(long userId, LocalDate date, long bookId) {
+    }
+
+    private record BookInfo(long userId, String genre) {
+    }
+
+    // 세션별 마지막 이벤트 시각 (드레인 스레드에서만 접근)
+    private final Map<SessionKey, LocalDateTime> lastSeen = new HashMap<>();
+
+    public ReadingEventDrainTask(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 ReadingEventRingBuffer ringBuffer,
+                                 ShardExecutor shardExecutor,
+                                 @Value("${app.activity.drain.batch-size:1000}") int batchSize,
+                                 @Value("${app.activity.session-gap:2m}") Duration sessionGap,
+                                 @Value("${app.activity.drain.interval-ms:200}") long intervalMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ringBuffer = ringBuffer;
+        this.shardExecutor = shardExecutor;
+        this.batchSize = batchSize;
+        this.sessionGap = sessionGap;
+        this.intervalMillis = intervalMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        drainExecutor.scheduleWithFixedDelay(this::drainQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void drain() {
+        long startedAt = System.nanoTime();
+        int written = 0;
+        List<ReadingEvent> batch;
+        do {
+            batch = ringBuffer.drain(batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            try {
+                shardExecutor.forEachShardOf(batch, ReadingEvent::userId, this::write);
+                written += batch.size();
+            } catch (RuntimeException e) {
+                log.error("독서 이벤트 배치 기록 실패 - 버린 이벤트: {}", batch.size(), e);
+            }
+        } while (batch.size() == batchSize);
+
+        if (written > 0) {
+            long elapsedMicros = Math.max(1, (System.nanoTime() - startedAt) / 1000);
+            log.debug("독서 이벤트 기록 - events: {}, {} events/s, 버퍼 잔량: {}, 누적 거절: {}",
+                    written, written * 1_000_000L / elapsedMicros, ringBuffer.size(), ringBuffer.droppedCount());
+        }
+        evictIdleSessions();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        drainExecutor.shutdown();
+        if (!drainExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("독서 이벤트 드레인 스레드가 제때 끝나지 않았습니다");
+        }
+        drain();
+    }
+
+    // 예외가 나가면 ScheduledExecutorService가 이후 실행을 멈추므로 여기서 삼킨다
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("독서 이벤트 드레인 실패", e);
+        }
+    }
+
+    private void write(List<ReadingEvent> batch) {
+        Map<Long, BookInfo> books = findLiveBooks(batch.stream().map(ReadingEvent::bookId).collect(Collectors.toSet()));
+        List<ReadingEvent> accepted = batch.stream()
+                .filter(event -> {
+                    BookInfo book = books.get(event.bookId());
+                    return book != null && book.userId() == event.userId();
+                })
+                .sorted(Comparator.comparing(ReadingEvent::occurredAt))
+                .collect(Collectors.toList());
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        Map<DailyKey, Long> secondsByDay = rollUp(accepted);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO reading_events (user_id, book_id, event_type, occurred_at, received_at) VALUES (?, ?, ?, ?, ?)",
+                    accepted, accepted.size(), (ps, event) -> {
+                        ps.setLong(1, event.userId());
+                        ps.setLong(2, event.bookId());
+                        ps.setString(3, event.type().name());
+                        ps.setTimestamp(4, Timestamp.valueOf(event.occurredAt()));
+                        ps.setTimestamp(5, Timestamp.valueOf(event.receivedAt()));
+                    });
+            secondsByDay.forEach((key, seconds) -> addReadingSeconds(key, books.get(key.bookId()).genre(), seconds));
+        });
+    }
+
+    private Map<DailyKey, Long> rollUp(List<ReadingEvent> events) {
+        Map<DailyKey, Long> secondsByDay = new HashMap<>();
+        for (ReadingEvent event : events) {
+            SessionKey session = new SessionKey(event.userId(), event.bookId());
+            LocalDateTime previous = lastSeen.get(session);
+            if (previous != null && event.occurredAt().isBefore(previous)) {
+                // 늦게 도착한 이벤트는 원본만 남기고 집계하지 않음
+                continue;
+            }
+            if (previous != null && event.type() != ReadingEventType.START) {
+                Duration gap = Duration.between(previous, event.occurredAt());
+                if (gap.compareTo(sessionGap) <= 0 && !gap.isZero()) {
+                    secondsByDay.merge(new DailyKey(event.userId(), event.occurredAt().toLocalDate(), event.bookId()),
+                            gap.getSeconds(), Long::sum);
+                }
+            }
+            if (event.type() == ReadingEventType.STOP) {
+                lastSeen.remove(session);
+            } else {
+                lastSeen.put(session, event.occurredAt());
+            }
+        }
+        return secondsByDay;
+    }
+
+    private void addReadingSeconds(DailyKey key, String genre, long seconds) {
+        if (updateReadingSeconds(key, seconds) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO reading_activity_daily (user_id, activity_date, book_id, genre, reading_seconds)"
+                    + " VALUES (?, ?, ?, ?, ?)", key.userId(), Date.valueOf(key.date()), key.bookId(), genre, seconds);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 만든 경우
+            updateReadingSeconds(key, seconds);
+        }
+    }
+
+    private int updateReadingSeconds(DailyKey key, long seconds) {
+        return jdbcTemplate.update("UPDATE reading_activity_daily SET reading_seconds = reading_seconds + ?"
+                        + " WHERE user_id = ? AND activity_date = ? AND book_id = ?",
+                seconds, key.userId(), Date.valueOf(key.date()), key.bookId());
+    }
+
+    private Map<Long, BookInfo> findLiveBooks(Set<Long> bookIds) {
+        Map<Long, BookInfo> books = new HashMap<>();
+        List<Long> ids = new ArrayList<>(bookIds);
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query("SELECT id, user_id, genre FROM books WHERE deletion_requested_at IS NULL AND id IN (" + placeholders + ")",
+                rs -> { books.put(rs.getLong(1), new BookInfo(rs.getLong(2), rs.getString(3))); },
+                ids.toArray());
+        return books;
+    }
+
+    /**
+     * 오래 이벤트가 없는 세션은 다음 이벤트가 와도 간격이 sessionGap을 넘으므로 정리한다.
+     * 기기 시각 오차를 감안해 여유를 둔다.
+     */
+    private void evictIdleSessions() {
+        LocalDateTime threshold = LocalDateTime.now().minus(sessionGap).minusMinutes(10);
+        lastSeen.values().removeIf(lastEventAt -> lastEventAt.isBefore(threshold));
+    }
+}
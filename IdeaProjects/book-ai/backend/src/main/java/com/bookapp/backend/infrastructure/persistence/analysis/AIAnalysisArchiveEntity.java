@@ -0,0 +1,63 @@
+package com.bookapp.backend.infrastructure.persistence.analysis;
+
+import com.bookapp.backend.domain.analysis.AIAnalysis;
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.infrastructure.persistence.compression.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 아카이브로 옮겨진 분석. 조회와 삭제에만 쓰이고 행은 AnalysisArchiveTask가 JDBC로 옮겨 넣는다.
+ * 본문은 작은 값까지 압축되어 있지만 형식은 hot 테이블과 같아 같은 변환기로 읽는다.
+ */
+@Entity
+@Table(name = "ai_analyses_archive")
+@SQLRestriction("book_id NOT IN (SELECT pb.id FROM books pb WHERE pb.deletion_requested_at IS NOT NULL)")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AIAnalysisArchiveEntity {
+
+    @Id
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "analysis_id", length = 16, columnDefinition = "BINARY(16)")
+    private UUID analysisId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "analysis_type", nullable = false)
+    private AnalysisType analysisType;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content", columnDefinition = "LONGBLOB", nullable = false)
+    private String content;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public AIAnalysis toDomain() {
+        AIAnalysis analysis = new AIAnalysis();
+        analysis.setAnalysisId(this.analysisId.toString());
+        analysis.setUserId(this.userId);
+        analysis.setBookId(this.bookId);
+        analysis.setAnalysisType(this.analysisType);
+        analysis.setContent(this.content);
+        analysis.setCreatedAt(this.createdAt);
+        return analysis;
+    }
+}
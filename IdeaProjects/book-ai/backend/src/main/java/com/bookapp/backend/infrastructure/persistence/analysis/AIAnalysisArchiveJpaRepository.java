@@ -0,0 +1,18 @@
+package com.bookapp.backend.infrastructure.persistence.analysis;
+
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AIAnalysisArchiveJpaRepository extends JpaRepository<AIAnalysisArchiveEntity, UUID> {
+    List<AIAnalysisArchiveEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
+    List<AIAnalysisArchiveEntity> findByBookIdOrderByCreatedAtDesc(Long bookId);
+    List<AIAnalysisArchiveEntity> findByUserIdAndAnalysisTypeOrderByCreatedAtDesc(Long userId, AnalysisType analysisType);
+    
+    @Query("SELECT a.analysisType, COUNT(a) FROM AIAnalysisArchiveEntity a WHERE a.bookId = :bookId GROUP BY a.analysisType")
+    List<Object[]> countByBookIdGroupByAnalysisType(@Param("bookId") Long bookId);
+}
@@ -2,16 +2,25 @@ package com.bookapp.backend.infrastructure.persistence.analysis;
 
 import com.bookapp.backend.domain.analysis.AIAnalysis;
 import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.infrastructure.persistence.compression.CompressedTextConverter;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Table(name = "ai_analyses")
+@SQLRestriction("book_id NOT IN (SELECT pb.id FROM books pb WHERE pb.deletion_requested_at IS NOT NULL)")
 public class AIAnalysisEntity {
+    // UUIDv7을 BINARY(16)으로 저장 (빅엔디언 바이트 순서 = 생성 시각 순서)
+    // 외부에는 기존과 동일한 36자 문자열 형식으로 노출
     @Id
-    @Column(name = "analysis_id", length = 36)
-    private String analysisId;
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "analysis_id", length = 16, columnDefinition = "BINARY(16)")
+    private UUID analysisId;
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -23,7 +32,8 @@ public class AIAnalysisEntity {
     @Column(name = "analysis_type", nullable = false)
     private AnalysisType analysisType;
 
-    @Column(name = "content", columnDefinition = "TEXT", nullable = false)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content", columnDefinition = "LONGBLOB", nullable = false)
     private String content;
 
     @Column(name = "created_at", nullable = false)
@@ -32,7 +42,7 @@ public class AIAnalysisEntity {
     public AIAnalysisEntity() {
     }
 
-    public AIAnalysisEntity(String analysisId, Long userId, Long bookId, AnalysisType analysisType, String content, LocalDateTime createdAt) {
+    public AIAnalysisEntity(UUID analysisId, Long userId, Long bookId, AnalysisType analysisType, String content, LocalDateTime createdAt) {
         this.analysisId = analysisId;
         this.userId = userId;
         this.bookId = bookId;
@@ -43,7 +53,7 @@ public class AIAnalysisEntity {
 
     public static AIAnalysisEntity fromDomain(AIAnalysis analysis) {
         return new AIAnalysisEntity(
-                analysis.getAnalysisId(),
+                UUID.fromString(analysis.getAnalysisId()),
                 analysis.getUserId(),
                 analysis.getBookId(),
                 analysis.getAnalysisType(),
@@ -54,7 +64,7 @@ public class AIAnalysisEntity {
 
     public AIAnalysis toDomain() {
         AIAnalysis analysis = new AIAnalysis();
-        analysis.setAnalysisId(this.analysisId);
+        analysis.setAnalysisId(this.analysisId.toString());
         analysis.setUserId(this.userId);
         analysis.setBookId(this.bookId);
         analysis.setAnalysisType(this.analysisType);
@@ -64,11 +74,11 @@ public class AIAnalysisEntity {
     }
 
     // Getters and Setters
-    public String getAnalysisId() {
+    public UUID getAnalysisId() {
         return analysisId;
     }
 
-    public void setAnalysisId(String analysisId) {
+    public void setAnalysisId(UUID analysisId) {
         this.analysisId = analysisId;
     }
 
@@ -6,11 +6,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.UUID;
 
-public interface AIAnalysisJpaRepository extends JpaRepository<AIAnalysisEntity, String> {
+public interface AIAnalysisJpaRepository extends JpaRepository<AIAnalysisEntity, UUID> {
     List<AIAnalysisEntity> findByUserIdOrderByCreatedAtDesc(Long userId);
     List<AIAnalysisEntity> findByBookIdOrderByCreatedAtDesc(Long bookId);
     
     @Query("SELECT a FROM AIAnalysisEntity a WHERE a.userId = :userId AND a.analysisType = :analysisType ORDER BY a.createdAt DESC")
     List<AIAnalysisEntity> findByUserIdAndAnalysisTypeOrderByCreatedAtDesc(@Param("userId") Long userId, @Param("analysisType") AnalysisType analysisType);
+    
+    @Query("SELECT a.analysisType, COUNT(a) FROM AIAnalysisEntity a WHERE a.bookId = :bookId GROUP BY a.analysisType")
+    List<Object[]> countByBookIdGroupByAnalysisType(@Param("bookId") Long bookId);
 }
\ No newline at end of file
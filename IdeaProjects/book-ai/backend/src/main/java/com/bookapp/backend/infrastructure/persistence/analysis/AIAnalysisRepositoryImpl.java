@@ -3,67 +3,167 @@ package com.bookapp.backend.infrastructure.persistence.analysis;
 import com.bookapp.backend.domain.analysis.AIAnalysis;
 import com.bookapp.backend.domain.analysis.AIAnalysisRepository;
 import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.infrastructure.persistence.StreamingQueryHints;
+import com.bookapp.backend.infrastructure.search.InvertedSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * 최근 분석은 ai_analyses(hot), 오래된 분석은 ai_analyses_archive에 있다.
+ * 단건 조회는 hot에서 못 찾을 때만 아카이브를 보고, 목록은 hot(최신) 뒤에 아카이브(과거)를 이어 붙인다.
+ * 아카이브로는 기준 시각보다 오래된 분석만 옮기므로 이어 붙여도 created_at 내림차순이 유지된다.
+ */
 @Repository
 public class AIAnalysisRepositoryImpl implements AIAnalysisRepository {
 
     private final AIAnalysisJpaRepository jpaRepository;
+    private final AIAnalysisArchiveJpaRepository archiveRepository;
+    private final InvertedSearchIndex searchIndex;
+    private final StreamingQueryHints streamingQueryHints;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
-    public AIAnalysisRepositoryImpl(AIAnalysisJpaRepository jpaRepository) {
+    public AIAnalysisRepositoryImpl(AIAnalysisJpaRepository jpaRepository,
+                                    AIAnalysisArchiveJpaRepository archiveRepository,
+                                    InvertedSearchIndex searchIndex,
+                                    StreamingQueryHints streamingQueryHints) {
         this.jpaRepository = jpaRepository;
+        this.archiveRepository = archiveRepository;
+        this.searchIndex = searchIndex;
+        this.streamingQueryHints = streamingQueryHints;
     }
 
     @Override
     public AIAnalysis save(AIAnalysis analysis) {
         AIAnalysisEntity entity = AIAnalysisEntity.fromDomain(analysis);
-        AIAnalysisEntity savedEntity = jpaRepository.save(entity);
-        return savedEntity.toDomain();
+        AIAnalysis savedAnalysis = jpaRepository.save(entity).toDomain();
+        searchIndex.indexAnalysis(savedAnalysis);
+        return savedAnalysis;
     }
 
     @Override
     public Optional<AIAnalysis> findById(String analysisId) {
-        return jpaRepository.findById(analysisId)
+        Optional<UUID> id = parseAnalysisId(analysisId);
+        Optional<AIAnalysis> hot = id.flatMap(jpaRepository::findById)
                 .map(AIAnalysisEntity::toDomain);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        return id.flatMap(archiveRepository::findById)
+                .map(AIAnalysisArchiveEntity::toDomain);
     }
 
     @Override
     public List<AIAnalysis> findByUser_Id(Long userId) {
-        return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(AIAnalysisEntity::toDomain)
-                .collect(Collectors.toList());
+        return concat(jpaRepository.findByUserIdOrderByCreatedAtDesc(userId),
+                archiveRepository.findByUserIdOrderByCreatedAtDesc(userId));
     }
 
     @Override
     public List<AIAnalysis> findByBook_Id(Long bookId) {
-        return jpaRepository.findByBookIdOrderByCreatedAtDesc(bookId)
-                .stream()
-                .map(AIAnalysisEntity::toDomain)
-                .collect(Collectors.toList());
+        return concat(jpaRepository.findByBookIdOrderByCreatedAtDesc(bookId),
+                archiveRepository.findByBookIdOrderByCreatedAtDesc(bookId));
     }
 
     @Override
     public List<AIAnalysis> findByUserIdAndAnalysisType(Long userId, AnalysisType analysisType) {
-        return jpaRepository.findByUserIdAndAnalysisTypeOrderByCreatedAtDesc(userId, analysisType)
-                .stream()
-                .map(AIAnalysisEntity::toDomain)
-                .collect(Collectors.toList());
+        return concat(jpaRepository.findByUserIdAndAnalysisTypeOrderByCreatedAtDesc(userId, analysisType),
+                archiveRepository.findByUserIdAndAnalysisTypeOrderByCreatedAtDesc(userId, analysisType));
+    }
+
+    @Override
+    public Stream<AIAnalysis> streamByUser_Id(Long userId) {
+        Stream<AIAnalysis> hot = streamingQueryHints.apply(entityManager.createQuery(
+                        "SELECT a FROM AIAnalysisEntity a WHERE a.userId = :userId ORDER BY a.analysisId", AIAnalysisEntity.class))
+                .setParameter("userId", userId)
+                .getResultStream()
+                .map(entity -> {
+                    AIAnalysis analysis = entity.toDomain();
+                    entityManager.detach(entity);
+                    return analysis;
+                });
+        // 아카이브 스트림은 hot을 다 읽은 뒤에 열림 (닫을 때는 둘 다 닫힘)
+        Stream<AIAnalysis> archived = Stream.of(userId)
+                .flatMap(id -> streamingQueryHints.apply(entityManager.createQuery(
+                                "SELECT a FROM AIAnalysisArchiveEntity a WHERE a.userId = :userId ORDER BY a.analysisId",
+                                AIAnalysisArchiveEntity.class))
+                        .setParameter("userId", id)
+                        .getResultStream())
+                .map(entity -> {
+                    AIAnalysis analysis = entity.toDomain();
+                    entityManager.detach(entity);
+                    return analysis;
+                });
+        return Stream.concat(hot, archived);
+    }
+
+    @Override
+    public Map<AnalysisType, Long> countByBook_IdGroupByType(Long bookId) {
+        Map<AnalysisType, Long> counts = new EnumMap<>(AnalysisType.class);
+        mergeCounts(counts, jpaRepository.countByBookIdGroupByAnalysisType(bookId));
+        mergeCounts(counts, archiveRepository.countByBookIdGroupByAnalysisType(bookId));
+        return counts;
     }
 
     @Override
     public void deleteById(String analysisId) {
-        jpaRepository.deleteById(analysisId);
+        Optional<UUID> id = parseAnalysisId(analysisId);
+        Optional<AIAnalysisEntity> hot = id.flatMap(jpaRepository::findById);
+        if (hot.isPresent()) {
+            jpaRepository.delete(hot.get());
+            searchIndex.removeAnalysis(hot.get().getUserId(), analysisId);
+            return;
+        }
+        id.flatMap(archiveRepository::findById)
+                .ifPresent(entity -> {
+                    archiveRepository.delete(entity);
+                    searchIndex.removeAnalysis(entity.getUserId(), analysisId);
+                });
     }
 
     @Override
     public boolean existsById(String analysisId) {
-        return jpaRepository.existsById(analysisId);
+        return parseAnalysisId(analysisId)
+                .map(id -> jpaRepository.existsById(id) || archiveRepository.existsById(id))
+                .orElse(false);
+    }
+
+    private List<AIAnalysis> concat(List<AIAnalysisEntity> hot, List<AIAnalysisArchiveEntity> archived) {
+        List<AIAnalysis> analyses = new ArrayList<>(hot.size() + archived.size());
+        hot.forEach(entity -> analyses.add(entity.toDomain()));
+        archived.forEach(entity -> analyses.add(entity.toDomain()));
+        return analyses;
+    }
+
+    private void mergeCounts(Map<AnalysisType, Long> counts, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            counts.merge((AnalysisType) row[0], (Long) row[1], Long::sum);
+        }
+    }
+
+    /**
+     * UUID 형식이 아닌 ID는 존재하지 않는 분석으로 취급
+     */
+    private Optional<UUID> parseAnalysisId(String analysisId) {
+        if (analysisId == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(analysisId));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.bookapp.backend.infrastructure.persistence.analysis;
+
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import com.bookapp.backend.infrastructure.scheduling.JobLease;
+import com.bookapp.backend.infrastructure.scheduling.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 기준 기간(after)보다 오래된 분석을 ai_analyses에서 ai_analyses_archive로 옮긴다.
+ * 배치마다 INSERT와 DELETE를 한 트랜잭션으로 묶어 중간에 멈춰도 중복/유실이 없고,
+ * 아카이브 본문은 작은 값까지 압축해 저장한다. 작업 임대를 가진 노드에서만 실행하고,
+ * 배치 트랜잭션은 임대 토큰을 확인한 뒤 시작하므로 임대가 넘어간 뒤의 배치는 옮기지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.analysis.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AnalysisArchiveTask {
+
+    // 아카이브는 거의 읽히지 않으므로 Deflate 헤더 비용을 감수할 수 있는 크기부터 압축
+    private static final int ARCHIVE_COMPRESSION_THRESHOLD_BYTES = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardExecutor shardExecutor;
+    private final JobLeaseManager jobLeaseManager;
+    private final Duration archiveAfter;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public AnalysisArchiveTask(JdbcTemplate jdbcTemplate,
+                               ShardExecutor shardExecutor,
+                               JobLeaseManager jobLeaseManager,
+                               @Value("${app.analysis.archive.after:180d}") Duration archiveAfter,
+                               @Value("${app.analysis.archive.batch-size:200}") int batchSize,
+                               @Value("${app.analysis.archive.max-batches-per-run:10}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardExecutor = shardExecutor;
+        this.jobLeaseManager = jobLeaseManager;
+        this.archiveAfter = archiveAfter;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    private record Row(byte[] analysisId, long userId, long bookId, String analysisType, byte[] content, Timestamp createdAt) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.analysis.archive.interval-ms:60000}", initialDelay = 120000)
+    public void archiveOldAnalyses() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(archiveAfter));
+        shardExecutor.forEachShard(() -> jobLeaseManager.runIfHolder("analysis-archive", lease -> archiveShard(cutoff, lease)));
+    }
+
+    private void archiveShard(Timestamp cutoff, JobLease lease) {
+        int moved = 0;
+        for (int batch = 0; batch < maxBatchesPerRun && lease.isHeld(); batch++) {
+            Integer count = jobLeaseManager.fenced(lease, () -> moveBatch(cutoff));
+            moved += count != null ? count : 0;
+            if (count == null || count < batchSize) {
+                break;
+            }
+        }
+        if (moved > 0) {
+            log.info("분석 아카이브 이동 - rows: {}, cutoff: {}", moved, cutoff);
+        }
+    }
+
+    private int moveBatch(Timestamp cutoff) {
+        // 옮기는 사이 사용자가 삭제한 분석이 아카이브에 살아나지 않도록 배치 행만 잠금
+        List<Row> rows = jdbcTemplate.query(
+                "SELECT analysis_id, user_id, book_id, analysis_type, content, created_at FROM ai_analyses"
+                        + " WHERE created_at < ? ORDER BY created_at LIMIT " + batchSize + " FOR UPDATE",
+                (rs, rowNum) -> new Row(rs.getBytes(1), rs.getLong(2), rs.getLong(3), rs.getString(4),
+                        rs.getBytes(5), rs.getTimestamp(6)),
+                cutoff);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO ai_analyses_archive (analysis_id, user_id, book_id, analysis_type, content, created_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setBytes(1, row.analysisId());
+                    ps.setLong(2, row.userId());
+                    ps.setLong(3, row.bookId());
+                    ps.setString(4, row.analysisType());
+                    ps.setBytes(5, TextCompression.encode(TextCompression.decode(row.content()), ARCHIVE_COMPRESSION_THRESHOLD_BYTES));
+                    ps.setTimestamp(6, row.createdAt());
+                });
+
+        String placeholders = String.join(", ", Collections.nCopies(rows.size(), "?"));
+        jdbcTemplate.update("DELETE FROM ai_analyses WHERE analysis_id IN (" + placeholders + ")",
+                rows.stream().map(Row::analysisId).toArray());
+        return rows.size();
+    }
+}
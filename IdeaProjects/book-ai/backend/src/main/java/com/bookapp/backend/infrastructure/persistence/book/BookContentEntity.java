@@ -0,0 +1,38 @@
+package com.bookapp.backend.infrastructure.persistence.book;
+
+import com.bookapp.backend.infrastructure.persistence.compression.CompressedTextConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * books 테이블의 본문 열만 읽는 조회 전용 매핑.
+ * 본문은 2차 캐시에 올리지 않도록 BookEntity에서 분리했고, 캐시가 필요하면 힙 밖 본문 캐시(OffHeapContentCache)를 쓴다.
+ * 쓰기는 BookRepositoryImpl이 JDBC로 직접 한다 (HQL 일괄 UPDATE는 같은 테이블의 BookEntity 캐시 영역 전체를 비움).
+ */
+@Entity
+@Table(name = "books")
+@SQLRestriction("deletion_requested_at IS NULL")
+@Immutable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookContentEntity {
+
+    @Id
+    private Long id;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGBLOB")
+    private String content;
+
+    // 본문 캐시 항목의 버전 비교용 (BookEntity.version과 같은 열)
+    @Column(name = "version", insertable = false, updatable = false)
+    private Long version;
+}
@@ -7,17 +7,27 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "books")
+// 본문(LONGBLOB)은 2차 캐시 항목에 복사되지 않도록 매핑하지 않는다 (BookContentEntity, BookRepositoryImpl 참고)
+// 삭제 요청된 책은 모든 조회에서 제외 (deletion_requested_at은 매핑하지 않고 조건부 UPDATE로만 기록)
+@SQLRestriction("deletion_requested_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BookEntity {
     
+    // IDENTITY 전략은 Hibernate JDBC 배치를 비활성화하므로 pooled 시퀀스(MySQL에서는 테이블 에뮬레이션)를 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -36,9 +46,6 @@ public class BookEntity {
     @Column(columnDefinition = "TEXT")
     private String description;
     
-    @Column(columnDefinition = "TEXT")
-    private String content;
-    
     @Column(name = "user_id", nullable = false)
     private Long userId;
     
@@ -48,19 +55,24 @@ public class BookEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    // 수정 시 WHERE version = ? 조건으로 충돌 감지 (행 잠금 없음)
+    @Version
+    private Long version;
+    
     @Builder
     public BookEntity(Long id, String title, String author, String isbn, Genre genre,
-                     String description, String content, Long userId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                     String description, Long userId, LocalDateTime createdAt, LocalDateTime updatedAt,
+                     Long version) {
         this.id = id;
         this.title = title;
         this.author = author;
         this.isbn = isbn;
         this.genre = genre;
         this.description = description;
-        this.content = content;
         this.userId = userId;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.updatedAt = updatedAt != null ? updatedAt : LocalDateTime.now();
+        this.version = version;
     }
     
     @PreUpdate
@@ -68,7 +80,14 @@ public class BookEntity {
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * 본문 없이 변환한다. 본문이 필요하면 toDomain(String)에 따로 읽은 본문을 넘긴다.
+     */
     public Book toDomain() {
+        return toDomain(null);
+    }
+    
+    public Book toDomain(String content) {
         return Book.builder()
                 .id(this.id)
                 .title(this.title)
@@ -76,10 +95,11 @@ public class BookEntity {
                 .isbn(this.isbn)
                 .genre(this.genre)
                 .description(this.description)
-                .content(this.content)
+                .content(content)
                 .userId(this.userId)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
+                .version(this.version)
                 .build();
     }
     
@@ -91,10 +111,10 @@ public class BookEntity {
                 .isbn(book.getIsbn())
                 .genre(book.getGenre())
                 .description(book.getDescription())
-                .content(book.getContent())
                 .userId(book.getUserId())
                 .createdAt(book.getCreatedAt())
                 .updatedAt(book.getUpdatedAt())
+                .version(book.getVersion())
                 .build();
     }
     
@@ -102,9 +122,4 @@ public class BookEntity {
         this.description = description;
         this.updatedAt = LocalDateTime.now();
     }
-    
-    public void updateContent(String content) {
-        this.content = content;
-        this.updatedAt = LocalDateTime.now();
-    }
 }
\ No newline at end of file
@@ -1,21 +1,56 @@
 package com.bookapp.backend.infrastructure.persistence.book;
 
 import com.bookapp.backend.domain.book.Genre;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BookJpaRepository extends JpaRepository<BookEntity, Long> {
+    String BOOKS_BY_USER_REGION = "books-by-user";
+    
     Optional<BookEntity> findByIsbn(String isbn);
     List<BookEntity> findByGenre(Genre genre);
     List<BookEntity> findByTitleContainingIgnoreCase(String title);
     
     // 사용자별 쿼리 메서드
     Optional<BookEntity> findByIdAndUserId(Long id, Long userId);
+    
+    // 결과 ID 목록을 쿼리 캐시에 보관 (books 테이블이 변경되면 Hibernate가 자동 무효화)
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = BOOKS_BY_USER_REGION)
+    })
     List<BookEntity> findByUserId(Long userId);
     List<BookEntity> findByUserIdAndGenre(Long userId, Genre genre);
-    List<BookEntity> findByUserIdAndTitleContainingIgnoreCase(Long userId, String title);
+    List<BookEntity> findByUserIdAndIsbnIn(Long userId, Collection<String> isbns);
+    
+    // 유니크 제약은 삭제 대기 중인 책에도 걸리므로 네이티브 쿼리로 함께 조회
+    @Query(value = "SELECT isbn FROM books WHERE isbn IN (:isbns)", nativeQuery = true)
+    List<String> findIsbnsByIsbnIn(@Param("isbns") Collection<String> isbns);
+    
+    // idx_books_search(ngram FULLTEXT)를 사용하는 검색 - 관련도 순 정렬 (MySQL 전용)
+    // 후보 행마다 본문(content LONGBLOB)을 읽지 않도록 BookEntity가 매핑한 컬럼만 조회 (본문은 결과 건만 withContents로 읽음)
+    @Query(value = "SELECT id, title, author, isbn, genre, description, user_id, created_at, updated_at, version " +
+            "FROM books WHERE user_id = :userId AND deletion_requested_at IS NULL " +
+            "AND MATCH(title, author, description) AGAINST (:query IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(title, author, description) AGAINST (:query IN BOOLEAN MODE) DESC, id DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<BookEntity> searchByUserIdFullText(@Param("userId") Long userId, @Param("query") String query, @Param("limit") int limit);
+    
+    // FULLTEXT를 쓸 수 없는 환경(H2)과 짧은 검색어를 위한 LIKE 검색
+    @Query("SELECT b FROM BookEntity b WHERE b.userId = :userId AND (" +
+            "LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(b.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY b.id DESC")
+    List<BookEntity> searchByUserIdLike(@Param("userId") Long userId, @Param("keyword") String keyword, Pageable pageable);
 }
\ No newline at end of file
@@ -3,95 +3,334 @@ package com.bookapp.backend.infrastructure.persistence.book;
 import com.bookapp.backend.domain.book.Book;
 import com.bookapp.backend.domain.book.BookRepository;
 import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationBus;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationRegion;
+import com.bookapp.backend.infrastructure.persistence.cache.ContentCacheRegion;
+import com.bookapp.backend.infrastructure.persistence.cache.EntityCacheEvictor;
+import com.bookapp.backend.infrastructure.persistence.cache.OffHeapContentCache;
+import com.bookapp.backend.infrastructure.persistence.StreamingQueryHints;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import com.bookapp.backend.infrastructure.search.InvertedSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class BookRepositoryImpl implements BookRepository {
     
+    // ngram_token_size 기본값 - 이보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없음
+    private static final int MIN_FULL_TEXT_TERM_LENGTH = 2;
+    // 본문은 BookEntity에 매핑되지 않으므로 JDBC로 직접 기록 (2차 캐시 영역을 건드리지 않음)
+    private static final String UPDATE_CONTENT_SQL = "UPDATE books SET content = ? WHERE id = ?";
+    private static final String MARK_FOR_DELETION_SQL = "UPDATE books SET deletion_requested_at = ?, updated_at = updated_at " +
+            "WHERE id = ? AND user_id = ? AND deletion_requested_at IS NULL";
+    
     private final BookJpaRepository bookJpaRepository;
+    private final InvertedSearchIndex searchIndex;
+    private final OffHeapContentCache contentCache;
+    private final InvalidationBus invalidationBus;
+    private final JdbcTemplate jdbcTemplate;
+    private final StreamingQueryHints streamingQueryHints;
+    private final EntityCacheEvictor entityCacheEvictor;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${book.search.full-text-enabled:false}")
+    private boolean fullTextEnabled;
     
+    // 행 INSERT/UPDATE와 본문 UPDATE를 한 트랜잭션으로 묶음
     @Override
+    @Transactional
     public Book save(Book book) {
         BookEntity entity = BookEntity.fromDomain(book);
-        BookEntity savedEntity = bookJpaRepository.save(entity);
-        return savedEntity.toDomain();
+        // 즉시 flush해 증가된 버전(ETag)을 반환하고 버전 충돌도 이 자리에서 드러나게 함
+        // 수정 시 updated_at이 항상 바뀌므로 본문만 바뀐 수정도 버전이 올라감
+        BookEntity savedEntity = bookJpaRepository.saveAndFlush(entity);
+        writeContent(savedEntity.getId(), book.getContent());
+        Book savedBook = savedEntity.toDomain(book.getContent());
+        searchIndex.indexBook(savedBook);
+        // 버전으로 걸러지지만 이전 본문이 예산을 차지하지 않도록 바로 비움
+        contentCache.remove(ContentCacheRegion.BOOK.key(savedBook.getId()));
+        invalidationBus.publish(InvalidationRegion.BOOK, savedBook.getId());
+        return savedBook;
+    }
+    
+    @Override
+    @Transactional
+    public List<Book> saveAll(List<Book> books) {
+        List<BookEntity> entities = books.stream()
+                .map(BookEntity::fromDomain)
+                .collect(Collectors.toList());
+        
+        List<BookEntity> savedEntities = bookJpaRepository.saveAll(entities);
+        // 본문 UPDATE보다 INSERT가 먼저 실행되도록 flush
+        entityManager.flush();
+        List<Object[]> contents = new ArrayList<>();
+        for (int i = 0; i < savedEntities.size(); i++) {
+            if (books.get(i).getContent() != null) {
+                contents.add(new Object[]{TextCompression.encode(books.get(i).getContent()), savedEntities.get(i).getId()});
+            }
+        }
+        if (!contents.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_CONTENT_SQL, contents);
+        }
+        
+        List<Book> savedBooks = new ArrayList<>(savedEntities.size());
+        for (int i = 0; i < savedEntities.size(); i++) {
+            savedBooks.add(savedEntities.get(i).toDomain(books.get(i).getContent()));
+        }
+        savedBooks.forEach(searchIndex::indexBook);
+        savedBooks.forEach(savedBook -> invalidationBus.publish(InvalidationRegion.BOOK, savedBook.getId()));
+        return savedBooks;
     }
     
     @Override
     public Optional<Book> findById(Long id) {
         return bookJpaRepository.findById(id)
-                .map(BookEntity::toDomain);
+                .map(this::withContent);
     }
     
     @Override
     public Optional<Book> findByIsbn(String isbn) {
         return bookJpaRepository.findByIsbn(isbn)
-                .map(BookEntity::toDomain);
+                .map(this::withContent);
     }
     
     @Override
     public List<Book> findByGenre(Genre genre) {
-        return bookJpaRepository.findByGenre(genre)
-                .stream()
-                .map(BookEntity::toDomain)
-                .collect(Collectors.toList());
+        return withContents(bookJpaRepository.findByGenre(genre));
     }
     
     @Override
     public List<Book> findByTitleContaining(String title) {
-        return bookJpaRepository.findByTitleContainingIgnoreCase(title)
-                .stream()
-                .map(BookEntity::toDomain)
-                .collect(Collectors.toList());
+        return withContents(bookJpaRepository.findByTitleContainingIgnoreCase(title));
     }
 
     
     @Override
     public List<Book> findAll() {
-        return bookJpaRepository.findAll()
-                .stream()
-                .map(BookEntity::toDomain)
-                .collect(Collectors.toList());
+        return withContents(bookJpaRepository.findAll());
     }
     
     @Override
     public void deleteById(Long id) {
-        bookJpaRepository.deleteById(id);
+        bookJpaRepository.findById(id).ifPresent(entity -> {
+            bookJpaRepository.delete(entity);
+            searchIndex.removeBook(entity.getUserId(), entity.getId());
+            contentCache.remove(ContentCacheRegion.BOOK.key(entity.getId()));
+            invalidationBus.publish(InvalidationRegion.BOOK, entity.getId());
+        });
+    }
+    
+    @Override
+    public boolean markForDeletion(Long id, Long userId) {
+        // 조건부 UPDATE 한 번으로 소유자 확인과 표시를 함께 처리 (이미 표시된 책은 0건)
+        // 2차 캐시에서는 이 책과 사용자별 목록 쿼리 캐시만 지움 (다른 책의 캐시 항목은 유지)
+        int updated = jdbcTemplate.update(MARK_FOR_DELETION_SQL, Timestamp.valueOf(LocalDateTime.now()), id, userId);
+        if (updated == 0) {
+            return false;
+        }
+        entityCacheEvictor.evict(BookEntity.class, id, BookJpaRepository.BOOKS_BY_USER_REGION);
+        searchIndex.removeBook(userId, id);
+        contentCache.remove(ContentCacheRegion.BOOK.key(id));
+        invalidationBus.publish(InvalidationRegion.BOOK, id);
+        return true;
     }
     
     @Override
     public Optional<Book> findByIdAndUserId(Long id, Long userId) {
-        return bookJpaRepository.findByIdAndUserId(id, userId)
-                .map(BookEntity::toDomain);
+        // 2차 캐시를 타도록 ID로 조회한 뒤 소유자를 확인
+        return bookJpaRepository.findById(id)
+                .filter(entity -> entity.getUserId().equals(userId))
+                .map(this::withContent);
+    }
+    
+    @Override
+    public Optional<Book> findDetailByIdAndUserId(Long id, Long userId) {
+        // 본문을 뺀 열만 읽고, 본문은 같은 버전이 캐시에 있을 때만 캐시에서 가져옴 (2차 캐시는 거치지 않음)
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT b.title, b.author, b.isbn, b.genre, b.description, b.createdAt, b.updatedAt, b.version"
+                                + " FROM BookEntity b WHERE b.id = :id AND b.userId = :userId", Object[].class)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        Long version = (Long) row[7];
+        
+        return Optional.of(Book.builder()
+                .id(id)
+                .title((String) row[0])
+                .author((String) row[1])
+                .isbn((String) row[2])
+                .genre((Genre) row[3])
+                .description((String) row[4])
+                .content(findContent(id, version))
+                .userId(userId)
+                .createdAt((LocalDateTime) row[5])
+                .updatedAt((LocalDateTime) row[6])
+                .version(version)
+                .build());
+    }
+    
+    private String findContent(Long id, Long version) {
+        long key = ContentCacheRegion.BOOK.key(id);
+        String cached = contentCache.get(key, version);
+        if (cached != null) {
+            return cached;
+        }
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT c.content, c.version FROM BookContentEntity c WHERE c.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        String content = (String) rows.get(0)[0];
+        // 두 조회 사이에 수정되었으면 다른 버전의 본문이므로 캐시에 넣지 않음
+        if (content != null && version.equals(rows.get(0)[1])) {
+            contentCache.put(key, version, content);
+        }
+        return content;
     }
     
     @Override
     public List<Book> findByUserId(Long userId) {
-        return bookJpaRepository.findByUserId(userId)
-                .stream()
-                .map(BookEntity::toDomain)
-                .collect(Collectors.toList());
+        return withContents(bookJpaRepository.findByUserId(userId));
     }
     
     @Override
     public List<Book> findByUserIdAndGenre(Long userId, Genre genre) {
-        return bookJpaRepository.findByUserIdAndGenre(userId, genre)
-                .stream()
-                .map(BookEntity::toDomain)
-                .collect(Collectors.toList());
+        return withContents(bookJpaRepository.findByUserIdAndGenre(userId, genre));
+    }
+    
+    @Override
+    public List<Book> searchByUserId(Long userId, String keyword, int limit) {
+        String booleanQuery = fullTextEnabled ? toBooleanModeQuery(keyword) : null;
+        List<BookEntity> entities = booleanQuery != null
+                ? bookJpaRepository.searchByUserIdFullText(userId, booleanQuery, limit)
+                : bookJpaRepository.searchByUserIdLike(userId, keyword.trim(), PageRequest.of(0, limit));
+        
+        return withContents(entities);
+    }
+    
+    @Override
+    public Set<String> findExistingIsbns(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(bookJpaRepository.findIsbnsByIsbnIn(isbns));
+    }
+    
+    @Override
+    public List<Book> findByUserIdAndIsbnIn(Long userId, Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return List.of();
+        }
+        return withContents(bookJpaRepository.findByUserIdAndIsbnIn(userId, isbns));
     }
     
     @Override
-    public List<Book> findByUserIdAndTitleContaining(Long userId, String title) {
-        return bookJpaRepository.findByUserIdAndTitleContainingIgnoreCase(userId, title)
-                .stream()
-                .map(BookEntity::toDomain)
+    public Stream<Book> streamByUserId(Long userId) {
+        // 본문은 BookEntity에 매핑되지 않으므로 같은 행의 BookContentEntity에서 함께 읽음 ([BookEntity, String])
+        // 변환 즉시 분리해 영속성 컨텍스트가 책 수만큼 커지지 않게 함
+        return streamingQueryHints.apply(entityManager.createQuery(
+                        "SELECT b, c.content FROM BookEntity b, BookContentEntity c " +
+                                "WHERE c.id = b.id AND b.userId = :userId ORDER BY b.id", Object[].class))
+                .setParameter("userId", userId)
+                .getResultStream()
+                .map(row -> {
+                    BookEntity entity = (BookEntity) row[0];
+                    Book book = entity.toDomain((String) row[1]);
+                    entityManager.detach(entity);
+                    return book;
+                });
+    }
+    
+    private void writeContent(Long id, String content) {
+        jdbcTemplate.update(UPDATE_CONTENT_SQL, TextCompression.encode(content), id);
+    }
+    
+    private Book withContent(BookEntity entity) {
+        return entity.toDomain(findContent(entity.getId(), entity.getVersion()));
+    }
+    
+    /**
+     * 목록의 본문을 채운다. 본문 캐시에 같은 버전이 없는 책만 한 번의 IN 조회로 읽는다.
+     */
+    private List<Book> withContents(List<BookEntity> entities) {
+        Map<Long, String> contents = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (BookEntity entity : entities) {
+            String cached = contentCache.get(ContentCacheRegion.BOOK.key(entity.getId()), entity.getVersion());
+            if (cached != null) {
+                contents.put(entity.getId(), cached);
+            } else {
+                missing.add(entity.getId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Long> versions = entities.stream()
+                    .collect(Collectors.toMap(BookEntity::getId, BookEntity::getVersion, (a, b) -> a));
+            entityManager.createQuery(
+                            "SELECT c.id, c.content, c.version FROM BookContentEntity c WHERE c.id IN :ids", Object[].class)
+                    .setParameter("ids", missing)
+                    .getResultList()
+                    .forEach(row -> {
+                        Long id = (Long) row[0];
+                        String content = (String) row[1];
+                        contents.put(id, content);
+                        if (content != null && row[2].equals(versions.get(id))) {
+                            contentCache.put(ContentCacheRegion.BOOK.key(id), (Long) row[2], content);
+                        }
+                    });
+        }
+        return entities.stream()
+                .map(entity -> entity.toDomain(contents.get(entity.getId())))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 검색어를 BOOLEAN MODE 쿼리로 변환한다.
+     * 단어마다 연산자 문자를 제거하고 +"단어" 형태의 필수 구문으로 묶는다.
+     * FULLTEXT로 찾을 수 없는 짧은 단어(1글자)가 하나라도 있으면 그 단어를 빼고 검색하면 조건이 넓어지므로
+     * null을 반환해 검색어 전체를 LIKE로 찾게 한다. 연산자만 있던 단어는 무시한다.
+     */
+    static String toBooleanModeQuery(String keyword) {
+        List<String> terms = Arrays.stream(keyword.trim().split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(term -> !term.isEmpty())
                 .collect(Collectors.toList());
+        
+        if (terms.isEmpty() || terms.stream().anyMatch(term -> term.length() < MIN_FULL_TEXT_TERM_LENGTH)) {
+            return null;
+        }
+        
+        return terms.stream()
+                .map(term -> "+\"" + term + "\"")
+                .collect(Collectors.joining(" "));
     }
 }
\ No newline at end of file
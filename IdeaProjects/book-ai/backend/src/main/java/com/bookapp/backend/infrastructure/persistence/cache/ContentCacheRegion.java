@@ -0,0 +1,13 @@
+package com.bookapp.backend.infrastructure.persistence.cache;
+
+/**
+ * 본문 캐시 하나를 책과 독서 기록이 함께 쓰므로 ID 하위 비트에 종류를 넣어 키를 구분한다.
+ */
+public enum ContentCacheRegion {
+    BOOK,
+    READING_RECORD;
+
+    public long key(long id) {
+        return (id << 1) | ordinal();
+    }
+}
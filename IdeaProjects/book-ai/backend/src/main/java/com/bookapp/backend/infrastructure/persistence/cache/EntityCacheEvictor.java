@@ -0,0 +1,46 @@
+package com.bookapp.backend.infrastructure.persistence.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JDBC로 직접 바꾼 행을 2차 캐시에서 ID 단위로 지운다.
+ * <p>
+ * 네이티브 UPDATE를 Hibernate로 실행하면 (addSynchronizedEntityClass, HQL 벌크 UPDATE 모두) 엔티티 영역 전체가 비워진다.
+ * 요청마다 사용자를 조회하는 인증 필터까지 DB로 가게 되므로, 행 하나만 바꾸는 UPDATE는 JDBC로 실행하고 여기서 그 행만 지운다.
+ * 커밋 전에 다른 트랜잭션이 옛 값을 다시 캐시에 넣을 수 있으므로 트랜잭션이 끝난 뒤 한 번 더 지운다.
+ */
+@Component
+public class EntityCacheEvictor {
+
+    private final Cache cache;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * @param queryRegions 바뀐 행이 결과에 들어 있을 수 있는 쿼리 캐시 영역 (키로 찾을 수 없어 영역 전체를 비움)
+     */
+    public void evict(Class<?> entityClass, Object id, String... queryRegions) {
+        Runnable eviction = () -> {
+            cache.evictEntityData(entityClass, id);
+            for (String queryRegion : queryRegions) {
+                cache.evictQueryRegion(queryRegion);
+            }
+        };
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.bookapp.backend.infrastructure.persistence.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 책/독서 기록 본문을 힙 밖(direct ByteBuffer)에 UTF-8 바이트로 보관하는 캐시.
+ *
+ * <ul>
+ *   <li>본문은 고정 크기 블록을 이어 붙여 저장한다. 블록의 다음 블록 번호와 빈 블록 목록은 int 배열 하나로 관리한다.</li>
+ *   <li>색인은 long 키 배열을 쓰는 선형 탐사 오픈 어드레싱 표이고, 삭제 시 뒤 항목을 당겨 와 묘비 없이 유지한다.</li>
+ *   <li>항목마다 버전을 함께 저장해 조회한 행의 @Version과 다르면 버리고 없는 것으로 본다.
+ *       다른 인스턴스에서 수정된 본문도 버전으로 걸러지므로 별도 무효화 통지가 필요 없다.</li>
+ *   <li>예산(maxBytes)이나 항목 수를 넘으면 CLOCK(second chance)으로 최근에 읽히지 않은 항목부터 내보낸다.</li>
+ * </ul>
+ * 힙에는 항목당 약 30바이트의 색인과 블록당 4바이트만 남으므로 본문 크기만큼 GC 대상이 늘지 않는다.
+ * 모든 연산은 하나의 잠금 안에서 실행되며, 바이트 복사만 잠금 안에서 하고 문자열 변환은 밖에서 한다.
+ */
+public class OffHeapContentCache {
+
+    public record Stats(long hits, long misses, long evictions, int entries, long usedBytes, long capacityBytes) {
+    }
+
+    // 한 direct buffer의 최대 크기 (ByteBuffer는 int 인덱스)
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int NO_BLOCK = -1;
+
+    private final int blockSize;
+    private final int blocksPerSegment;
+    private final ByteBuffer[] segments;
+    private final int[] nextBlock;
+    private final int maxEntries;
+    private final int maxEntryBytes;
+
+    private final long[] keys;
+    private final long[] versions;
+    private final int[] firstBlocks;
+    private final int[] lengths;
+    private final boolean[] referenced;
+    private final int mask;
+
+    private int freeHead = NO_BLOCK;
+    private int freeBlocks;
+    private int size;
+    private int clockHand;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param maxBytes 본문 저장에 쓸 힙 밖 메모리. 0이면 아무것도 저장하지 않는다.
+     * @param blockSize 블록 크기. 작을수록 마지막 블록의 낭비가 줄고 블록 목록이 길어진다.
+     * @param maxEntries 최대 항목 수 (색인 크기는 그 두 배 이상의 2의 거듭제곱)
+     */
+    public OffHeapContentCache(long maxBytes, int blockSize, int maxEntries) {
+        if (blockSize <= 0 || maxEntries <= 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("캐시 크기 설정이 올바르지 않습니다");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSegment = Math.max(1, MAX_SEGMENT_BYTES / blockSize);
+        int blockCount = (int) Math.min(Integer.MAX_VALUE - 1, maxBytes / blockSize);
+        this.nextBlock = new int[blockCount];
+        this.segments = new ByteBuffer[(blockCount + blocksPerSegment - 1) / blocksPerSegment];
+        for (int segment = 0; segment < segments.length; segment++) {
+            int blocks = Math.min(blocksPerSegment, blockCount - segment * blocksPerSegment);
+            segments[segment] = ByteBuffer.allocateDirect(blocks * blockSize);
+        }
+        // 모든 블록을 빈 블록 목록으로 연결
+        for (int block = blockCount - 1; block >= 0; block--) {
+            nextBlock[block] = freeHead;
+            freeHead = block;
+        }
+        this.freeBlocks = blockCount;
+        this.maxEntries = maxEntries;
+        // 한 항목이 캐시 대부분을 차지해 다른 항목을 모두 내보내지 않도록 제한
+        this.maxEntryBytes = (int) Math.min(Integer.MAX_VALUE, maxBytes / 8);
+
+        int capacity = Integer.highestOneBit(Math.max(2, maxEntries * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        this.versions = new long[capacity];
+        this.firstBlocks = new int[capacity];
+        this.lengths = new int[capacity];
+        this.referenced = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public boolean isEnabled() {
+        return nextBlock.length > 0;
+    }
+
+    /**
+     * @return 저장된 버전이 같으면 본문, 없거나 버전이 다르면 null
+     */
+    public String get(long key, long version) {
+        byte[] bytes;
+        synchronized (this) {
+            int slot = find(key);
+            if (slot < 0 || versions[slot] != version) {
+                if (slot >= 0) {
+                    delete(slot);
+                }
+                misses++;
+                return null;
+            }
+            referenced[slot] = true;
+            bytes = read(firstBlocks[slot], lengths[slot]);
+            hits++;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public void put(long key, long version, String content) {
+        if (key < 0) {
+            throw new IllegalArgumentException("캐시 키는 0 이상이어야 합니다");
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        int blocksNeeded = (bytes.length + blockSize - 1) / blockSize;
+        synchronized (this) {
+            int existing = find(key);
+            if (existing >= 0) {
+                delete(existing);
+            }
+            if (!isEnabled() || bytes.length > maxEntryBytes) {
+                return;
+            }
+            while (freeBlocks < blocksNeeded || size >= maxEntries) {
+                if (!evictOne()) {
+                    return;
+                }
+            }
+            int slot = mix(key) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            versions[slot] = version;
+            firstBlocks[slot] = write(bytes, blocksNeeded);
+            lengths[slot] = bytes.length;
+            referenced[slot] = false;
+            size++;
+        }
+    }
+
+    public synchronized void remove(long key) {
+        int slot = find(key);
+        if (slot >= 0) {
+            delete(slot);
+        }
+    }
+
+    /**
+     * 모든 항목을 내보낸다. 적중/실패 수는 유지한다.
+     */
+    public synchronized void clear() {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                releaseChain(firstBlocks[slot]);
+                keys[slot] = EMPTY;
+            }
+        }
+        size = 0;
+        clockHand = 0;
+    }
+
+    public synchronized Stats stats() {
+        long capacityBytes = (long) nextBlock.length * blockSize;
+        return new Stats(hits, misses, evictions, size, capacityBytes - (long) freeBlocks * blockSize, capacityBytes);
+    }
+
+    private int find(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 항목을 지우고, 같은 탐사 구간의 뒤 항목 중 빈자리로 옮겨도 찾을 수 있는 항목을 당겨 온다.
+     */
+    private void delete(int slot) {
+        releaseChain(firstBlocks[slot]);
+        size--;
+
+        int hole = slot;
+        int index = slot;
+        while (true) {
+            index = (index + 1) & mask;
+            if (keys[index] == EMPTY) {
+                break;
+            }
+            int home = mix(keys[index]) & mask;
+            // hole이 home부터 index 사이(순환)에 있으면 옮겨도 탐사 경로 안에 남음
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                versions[hole] = versions[index];
+                firstBlocks[hole] = firstBlocks[index];
+                lengths[hole] = lengths[index];
+                referenced[hole] = referenced[index];
+                hole = index;
+            }
+        }
+        keys[hole] = EMPTY;
+    }
+
+    /**
+     * 시계 바늘이 가리키는 항목이 최근에 읽혔으면 표시만 지우고 넘어가고, 아니면 내보낸다.
+     */
+    private boolean evictOne() {
+        if (size == 0) {
+            return false;
+        }
+        while (true) {
+            int slot = clockHand;
+            clockHand = (clockHand + 1) & mask;
+            if (keys[slot] == EMPTY) {
+                continue;
+            }
+            if (referenced[slot]) {
+                referenced[slot] = false;
+                continue;
+            }
+            delete(slot);
+            evictions++;
+            // 삭제하면서 뒤 항목이 이 자리로 당겨졌을 수 있으므로 다음에 다시 확인
+            clockHand = slot;
+            return true;
+        }
+    }
+
+    private int write(byte[] bytes, int blocksNeeded) {
+        int first = NO_BLOCK;
+        int previous = NO_BLOCK;
+        for (int i = 0; i < blocksNeeded; i++) {
+            int block = freeHead;
+            freeHead = nextBlock[block];
+            freeBlocks--;
+
+            int offset = i * blockSize;
+            int length = Math.min(blockSize, bytes.length - offset);
+            segment(block).put(position(block), bytes, offset, length);
+
+            nextBlock[block] = NO_BLOCK;
+            if (previous == NO_BLOCK) {
+                first = block;
+            } else {
+                nextBlock[previous] = block;
+            }
+            previous = block;
+        }
+        return first;
+    }
+
+    private byte[] read(int firstBlock, int length) {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (int block = firstBlock; block != NO_BLOCK; block = nextBlock[block]) {
+            int chunk = Math.min(blockSize, length - offset);
+            segment(block).get(position(block), bytes, offset, chunk);
+            offset += chunk;
+        }
+        return bytes;
+    }
+
+    private void releaseChain(int firstBlock) {
+        int block = firstBlock;
+        while (block != NO_BLOCK) {
+            int next = nextBlock[block];
+            nextBlock[block] = freeHead;
+            freeHead = block;
+            freeBlocks++;
+            block = next;
+        }
+    }
+
+    private ByteBuffer segment(int block) {
+        return segments[block / blocksPerSegment];
+    }
+
+    private int position(int block) {
+        return (block % blocksPerSegment) * blockSize;
+    }
+
+    // 연속된 ID가 같은 구간에 몰리지 않도록 섞음 (SplitMix64 finalizer)
+    private static int mix(long key) {
+        long z = key;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (int) (z ^ (z >>> 31));
+    }
+}
@@ -0,0 +1,21 @@
+package com.bookapp.backend.infrastructure.persistence.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 큰 본문은 압축해서 바이너리 컬럼에 저장하고, 작은 본문은 UTF-8 그대로 저장한다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return TextCompression.encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return TextCompression.decode(dbData);
+    }
+}
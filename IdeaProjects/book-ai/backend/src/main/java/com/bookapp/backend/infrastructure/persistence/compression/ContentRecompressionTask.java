@@ -0,0 +1,114 @@
+package com.bookapp.backend.infrastructure.persistence.compression;
+
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardContext;
+import com.bookapp.backend.infrastructure.scheduling.JobLease;
+import com.bookapp.backend.infrastructure.scheduling.JobLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * V7 이전에 저장된 큰 본문(비압축 UTF-8)을 배치 단위로 압축 형식으로 다시 쓴다.
+ * 기본 키 순서로 진행하며, 읽은 뒤 값이 바뀐 행은 조건부 UPDATE로 건너뛴다.
+ * 샤딩 시 진행 위치는 샤드별로 따로 둔다. 진행 위치는 메모리에만 두므로 재기동 시 처음부터 다시 훑지만 이미 압축된 행은 쓰지 않는다.
+ * 작업 임대를 가진 노드에서만 실행하며, 임대가 다른 노드로 넘어가면 그 노드가 처음부터 다시 훑는다.
+ * 배치의 UPDATE는 임대 토큰을 확인한 한 트랜잭션에서 실행하므로 임대가 넘어간 뒤에는 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.compression.recompress", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ContentRecompressionTask {
+
+    private static final int BATCH_SIZE = 200;
+
+    // MySQL의 updated_at은 ON UPDATE CURRENT_TIMESTAMP이므로 재압축이 수정 시각을 바꾸지 않도록 유지
+    private static final List<Target> TARGETS = List.of(
+            new Target("reading_records", "id", ", updated_at = updated_at"),
+            new Target("books", "id", ", updated_at = updated_at"),
+            new Target("ai_analyses", "analysis_id", ""));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardExecutor shardExecutor;
+    private final JobLeaseManager jobLeaseManager;
+
+    private final Map<String, Object> cursors = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> finished = new ConcurrentHashMap<>();
+
+    private record Target(String table, String idColumn, String preserveColumns) {
+    }
+
+    private record Row(Object id, byte[] content) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.compression.recompress.interval-ms:10000}", initialDelay = 60000)
+    public void recompressNextBatch() {
+        shardExecutor.forEachShard(() -> jobLeaseManager.runIfHolder("content-recompression", lease -> {
+            for (Target target : TARGETS) {
+                if (!finished.getOrDefault(progressKey(target), false)) {
+                    processBatch(target, lease);
+                }
+            }
+        }));
+    }
+
+    // 샤딩하지 않으면 ShardContext가 비어 있어 테이블 이름만 키로 씀
+    private String progressKey(Target target) {
+        String shardName = ShardContext.current();
+        return shardName != null ? shardName + ":" + target.table() : target.table();
+    }
+
+    private void processBatch(Target target, JobLease lease) {
+        String progressKey = progressKey(target);
+        Object cursor = cursors.get(progressKey);
+        String sql = "SELECT " + target.idColumn() + ", content FROM " + target.table()
+                + " WHERE OCTET_LENGTH(content) >= ?"
+                + (cursor != null ? " AND " + target.idColumn() + " > ?" : "")
+                + " ORDER BY " + target.idColumn() + " LIMIT " + BATCH_SIZE;
+        Object[] args = cursor != null
+                ? new Object[]{TextCompression.THRESHOLD_BYTES, cursor}
+                : new Object[]{TextCompression.THRESHOLD_BYTES};
+
+        List<Row> rows = jdbcTemplate.query(sql, (rs, rowNum) -> new Row(rs.getObject(1), rs.getBytes(2)), args);
+
+        long[] rewritten = new long[2];
+        jobLeaseManager.fenced(lease, () -> {
+            for (Row row : rows) {
+                if (TextCompression.isCompressed(row.content())) {
+                    continue;
+                }
+                byte[] encoded = TextCompression.encode(TextCompression.decode(row.content()));
+                if (!TextCompression.isCompressed(encoded)) {
+                    continue;
+                }
+                int updated = jdbcTemplate.update(
+                        "UPDATE " + target.table() + " SET content = ?" + target.preserveColumns()
+                                + " WHERE " + target.idColumn() + " = ? AND content = ?",
+                        encoded, row.id(), row.content());
+                if (updated == 1) {
+                    rewritten[0]++;
+                    rewritten[1] += row.content().length - encoded.length;
+                }
+            }
+        });
+
+        if (!rows.isEmpty()) {
+            cursors.put(progressKey, rows.get(rows.size() - 1).id());
+        }
+        if (rows.size() < BATCH_SIZE) {
+            finished.put(progressKey, true);
+            log.info("본문 재압축 완료 - table: {}", progressKey);
+        }
+        if (rewritten[0] > 0) {
+            log.debug("본문 재압축 - table: {}, rows: {}, saved: {} bytes", target.table(), rewritten[0], rewritten[1]);
+        }
+    }
+}
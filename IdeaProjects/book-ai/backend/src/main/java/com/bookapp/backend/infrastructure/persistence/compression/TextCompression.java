@@ -0,0 +1,104 @@
+package com.bookapp.backend.infrastructure.persistence.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 본문 컬럼 저장 형식.
+ * <ul>
+ *   <li>THRESHOLD_BYTES 미만: UTF-8 바이트 그대로 (기존 LONGTEXT 데이터도 이 형식)</li>
+ *   <li>그 이상: [0xFF][버전][Deflate 데이터] - 0xFF는 UTF-8에 나올 수 없는 바이트라 기존 데이터와 구분된다</li>
+ * </ul>
+ */
+public final class TextCompression {
+
+    public static final int THRESHOLD_BYTES = 1024;
+
+    private static final byte MARKER = (byte) 0xFF;
+    private static final byte VERSION_DEFLATE = 1;
+    private static final int HEADER_LENGTH = 2;
+
+    private TextCompression() {
+    }
+
+    public static byte[] encode(String text) {
+        return encode(text, THRESHOLD_BYTES);
+    }
+
+    /**
+     * 압축 기준 크기를 지정해 인코딩한다. 거의 읽히지 않는 아카이브처럼 작은 본문도 압축할 때 사용.
+     */
+    public static byte[] encode(String text, int thresholdBytes) {
+        if (text == null) {
+            return null;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return raw;
+        }
+
+        byte[] compressed = deflate(raw);
+        // 압축 효과가 없는 데이터(이미 압축된 텍스트 등)는 원문으로 저장
+        return compressed.length < raw.length ? compressed : raw;
+    }
+
+    public static String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        if (stored[1] != VERSION_DEFLATE) {
+            throw new IllegalStateException("지원하지 않는 압축 형식입니다: " + stored[1]);
+        }
+        return new String(inflate(stored), StandardCharsets.UTF_8);
+    }
+
+    public static boolean isCompressed(byte[] stored) {
+        return stored != null && stored.length >= HEADER_LENGTH && stored[0] == MARKER;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + HEADER_LENGTH);
+            out.write(MARKER);
+            out.write(VERSION_DEFLATE);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, HEADER_LENGTH, stored.length - HEADER_LENGTH);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축된 본문 데이터가 손상되었습니다");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문 데이터가 손상되었습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.bookapp.backend.infrastructure.persistence.library;
+
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.library.LibraryEntry;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기본 테이블(books, reading_records, ai_analyses, ai_analyses_archive)에서 library_view 행을 계산한다.
+ * 쓰기 시 책 한 권 갱신과 사용자 단위 보정이 같은 계산을 쓰도록 책 조건만 바꿔 실행한다.
+ * 본문 컬럼은 읽지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+class LibraryViewProjection {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static class Accumulator {
+        private final Long bookId;
+        private final Long userId;
+        private final String title;
+        private final String author;
+        private final Genre genre;
+        private final LocalDateTime bookCreatedAt;
+        private int readingRecordCount;
+        private int completedReadingCount;
+        private ReadingStatus latestReadingStatus;
+        private LocalDateTime latestReadingStartedAt;
+        private int analysisCount;
+        private LocalDateTime latestAnalysisAt;
+
+        Accumulator(Long bookId, Long userId, String title, String author, Genre genre, LocalDateTime bookCreatedAt) {
+            this.bookId = bookId;
+            this.userId = userId;
+            this.title = title;
+            this.author = author;
+            this.genre = genre;
+            this.bookCreatedAt = bookCreatedAt;
+        }
+
+        LibraryEntry toEntry() {
+            return new LibraryEntry(bookId, userId, title, author, genre, bookCreatedAt,
+                    readingRecordCount, completedReadingCount, latestReadingStatus, latestReadingStartedAt,
+                    analysisCount, latestAnalysisAt);
+        }
+    }
+
+    /**
+     * @param bookCondition books 별칭 b에 대한 조건 (예: "b.id IN (?, ?)", "b.user_id = ?")
+     * @return book_id 순서의 계산 결과 (삭제 요청된 책 제외)
+     */
+    Map<Long, LibraryEntry> project(String bookCondition, Object... arguments) {
+        Map<Long, Accumulator> books = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT b.id, b.user_id, b.title, b.author, b.genre, b.created_at FROM books b"
+                        + " WHERE b.deletion_requested_at IS NULL AND " + bookCondition + " ORDER BY b.id",
+                rs -> {
+                    books.put(rs.getLong(1), new Accumulator(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                            rs.getString(4), Genre.valueOf(rs.getString(5)), toLocalDateTime(rs.getTimestamp(6))));
+                },
+                arguments);
+        if (books.isEmpty()) {
+            return Map.of();
+        }
+
+        // 책마다 최신 기록이 먼저 오므로 첫 행이 최근 상태
+        jdbcTemplate.query(
+                "SELECT r.book_id, r.status, r.created_at FROM reading_records r JOIN books b ON b.id = r.book_id"
+                        + " WHERE b.deletion_requested_at IS NULL AND " + bookCondition
+                        + " ORDER BY r.book_id, r.created_at DESC, r.id DESC",
+                rs -> {
+                    Accumulator book = books.get(rs.getLong(1));
+                    if (book == null) {
+                        return;
+                    }
+                    ReadingStatus status = ReadingStatus.valueOf(rs.getString(2));
+                    if (book.readingRecordCount == 0) {
+                        book.latestReadingStatus = status;
+                        book.latestReadingStartedAt = toLocalDateTime(rs.getTimestamp(3));
+                    }
+                    book.readingRecordCount++;
+                    if (status == ReadingStatus.COMPLETED) {
+                        book.completedReadingCount++;
+                    }
+                },
+                arguments);
+
+        for (String table : new String[] {"ai_analyses", "ai_analyses_archive"}) {
+            jdbcTemplate.query(
+                    "SELECT a.book_id, COUNT(*), MAX(a.created_at) FROM " + table + " a JOIN books b ON b.id = a.book_id"
+                            + " WHERE b.deletion_requested_at IS NULL AND " + bookCondition + " GROUP BY a.book_id",
+                    rs -> {
+                        Accumulator book = books.get(rs.getLong(1));
+                        if (book == null) {
+                            return;
+                        }
+                        book.analysisCount += rs.getInt(2);
+                        LocalDateTime createdAt = toLocalDateTime(rs.getTimestamp(3));
+                        if (book.latestAnalysisAt == null || (createdAt != null && createdAt.isAfter(book.latestAnalysisAt))) {
+                            book.latestAnalysisAt = createdAt;
+                        }
+                    },
+                    arguments);
+        }
+
+        Map<Long, LibraryEntry> entries = new LinkedHashMap<>();
+        books.forEach((bookId, book) -> entries.put(bookId, book.toEntry()));
+        return entries;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
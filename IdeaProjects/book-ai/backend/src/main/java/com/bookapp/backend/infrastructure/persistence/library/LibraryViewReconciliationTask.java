@@ -0,0 +1,138 @@
+package com.bookapp.backend.infrastructure.persistence.library;
+
+import com.bookapp.backend.domain.library.LibraryEntry;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import com.bookapp.backend.infrastructure.scheduling.JobLease;
+import com.bookapp.backend.infrastructure.scheduling.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * library_view를 사용자 단위로 기본 테이블에서 다시 계산해 비교하고, 어긋난 행을 고친다.
+ *
+ * <ul>
+ *   <li>같은 책에 동시에 쓰면 쓰기 시 갱신이 서로 다른 스냅샷으로 계산해 마지막 커밋이 이전 값을 덮을 수 있어 주기적으로 맞춘다.</li>
+ *   <li>사용자의 library_view 행을 잠근 뒤 계산하므로 그 사이의 쓰기 시 갱신과 섞이지 않는다.</li>
+ *   <li>샤딩 시 샤드마다 따로 보정한다.</li>
+ *   <li>작업 임대를 가진 노드에서만 실행하고, 임대를 잃으면 다음 사용자 묶음 전에 멈춘다.
+ *       사용자별 보정 트랜잭션은 임대 토큰을 확인한 뒤 시작하므로 임대가 넘어간 뒤에는 행을 고치지 않는다.</li>
+ *   <li>rebuild-on-startup을 켜면 기동 직후 전체를 한 번 다시 만든다 (보정과 같은 작업).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.library-view.reconcile", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LibraryViewReconciliationTask {
+
+    private static final int USER_BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LibraryViewProjection projection;
+    private final ShardExecutor shardExecutor;
+    private final JobLeaseManager jobLeaseManager;
+    private final boolean rebuildOnStartup;
+
+    public LibraryViewReconciliationTask(JdbcTemplate jdbcTemplate,
+                                         LibraryViewProjection projection,
+                                         ShardExecutor shardExecutor,
+                                         JobLeaseManager jobLeaseManager,
+                                         @Value("${app.library-view.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.projection = projection;
+        this.shardExecutor = shardExecutor;
+        this.jobLeaseManager = jobLeaseManager;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            reconcileAll();
+        }
+    }
+
+    /**
+     * @return 고친 행 수 (이 노드가 임대를 가진 샤드의 합계)
+     */
+    @Scheduled(cron = "${app.library-view.reconcile.cron:0 45 4 * * *}")
+    public long reconcileAll() {
+        AtomicLong driftedRows = new AtomicLong();
+        shardExecutor.forEachShard(() -> jobLeaseManager.runIfHolder("library-view-reconcile",
+                lease -> driftedRows.addAndGet(reconcileShard(lease))));
+        return driftedRows.get();
+    }
+
+    private long reconcileShard(JobLease lease) {
+        long cursor = 0;
+        int users = 0;
+        int driftedUsers = 0;
+        long driftedRows = 0;
+
+        List<Long> userIds;
+        do {
+            if (!lease.isHeld()) {
+                log.warn("작업 임대를 잃어 보정을 중단 - job: {}, 처리한 사용자: {}명", lease.jobName(), users);
+                return driftedRows;
+            }
+            userIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM users WHERE id > ? AND deletion_requested_at IS NULL ORDER BY id LIMIT " + USER_BATCH_SIZE,
+                    Long.class, cursor);
+            for (Long userId : userIds) {
+                Integer drift = jobLeaseManager.fenced(lease, () -> reconcile(userId));
+                users++;
+                if (drift != null && drift > 0) {
+                    driftedUsers++;
+                    driftedRows += drift;
+                }
+                cursor = userId;
+            }
+        } while (userIds.size() == USER_BATCH_SIZE);
+
+        if (driftedUsers > 0) {
+            log.warn("서재 읽기 모델 보정 - 대상: {}명, 어긋난 사용자: {}명, 고친 행: {}", users, driftedUsers, driftedRows);
+        } else {
+            log.info("서재 읽기 모델 보정 - 대상: {}명, 어긋남 없음", users);
+        }
+        return driftedRows;
+    }
+
+    /**
+     * @return 추가/수정/삭제한 행 수
+     */
+    private int reconcile(Long userId) {
+        Map<Long, LibraryEntry> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT " + LibraryViewRepositoryImpl.COLUMNS + " FROM library_view WHERE user_id = ? FOR UPDATE",
+                LibraryViewRepositoryImpl.ROW_MAPPER, userId)
+                .forEach(entry -> stored.put(entry.bookId(), entry));
+
+        Map<Long, LibraryEntry> actual = projection.project("b.user_id = ?", userId);
+
+        int drift = 0;
+        for (LibraryEntry entry : actual.values()) {
+            LibraryEntry storedEntry = stored.remove(entry.bookId());
+            if (!entry.equals(storedEntry)) {
+                log.debug("서재 읽기 모델 어긋남 - userId: {}, stored: {}, actual: {}", userId, storedEntry, entry);
+                LibraryViewRepositoryImpl.upsert(jdbcTemplate, entry);
+                drift++;
+            }
+        }
+        // 남은 행은 삭제되었거나 삭제 요청된 책
+        for (Long bookId : stored.keySet()) {
+            log.debug("서재 읽기 모델 어긋남 - userId: {}, 남은 행 삭제 bookId: {}", userId, bookId);
+            jdbcTemplate.update("DELETE FROM library_view WHERE book_id = ?", bookId);
+            drift++;
+        }
+        return drift;
+    }
+}
@@ -0,0 +1,120 @@
+package com.bookapp.backend.infrastructure.persistence.library;
+
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.library.LibraryEntry;
+import com.bookapp.backend.domain.library.LibraryViewRepository;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class LibraryViewRepositoryImpl implements LibraryViewRepository {
+
+    // IN 목록 길이 제한 - 가져오기처럼 많은 책을 한 번에 갱신할 때 나눠서 계산
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    static final String COLUMNS = "book_id, user_id, title, author, genre, book_created_at,"
+            + " reading_record_count, completed_reading_count, latest_reading_status, latest_reading_started_at,"
+            + " analysis_count, latest_analysis_at";
+
+    static final RowMapper<LibraryEntry> ROW_MAPPER = (rs, rowNum) -> new LibraryEntry(
+            rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4), Genre.valueOf(rs.getString(5)),
+            toLocalDateTime(rs.getTimestamp(6)), rs.getInt(7), rs.getInt(8),
+            rs.getString(9) != null ? ReadingStatus.valueOf(rs.getString(9)) : null,
+            toLocalDateTime(rs.getTimestamp(10)), rs.getInt(11), toLocalDateTime(rs.getTimestamp(12)));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LibraryViewProjection projection;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void refresh(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        // JdbcTemplate 조회는 Hibernate 자동 flush 대상이 아니므로 같은 트랜잭션의 JPA 변경을 먼저 반영
+        entityManager.flush();
+
+        List<Long> ids = new ArrayList<>(bookIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            Map<Long, LibraryEntry> entries = projection.project("b.id IN (" + placeholders + ")", chunk.toArray());
+            for (Long bookId : chunk) {
+                LibraryEntry entry = entries.get(bookId);
+                if (entry != null) {
+                    upsert(jdbcTemplate, entry);
+                } else {
+                    remove(bookId);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void remove(Long bookId) {
+        jdbcTemplate.update("DELETE FROM library_view WHERE book_id = ?", bookId);
+    }
+
+    @Override
+    public List<LibraryEntry> findByUserId(Long userId, Long beforeBookId, int limit) {
+        if (beforeBookId == null) {
+            return jdbcTemplate.query(
+                    "SELECT " + COLUMNS + " FROM library_view WHERE user_id = ? ORDER BY book_id DESC LIMIT " + limit,
+                    ROW_MAPPER, userId);
+        }
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM library_view WHERE user_id = ? AND book_id < ? ORDER BY book_id DESC LIMIT " + limit,
+                ROW_MAPPER, userId, beforeBookId);
+    }
+
+    /**
+     * UPDATE 후 행이 없으면 INSERT. 동시에 같은 책을 INSERT하면 한쪽은 중복 키로 실패하므로 UPDATE로 다시 시도한다.
+     */
+    static void upsert(JdbcTemplate jdbcTemplate, LibraryEntry entry) {
+        Object[] values = {
+                entry.userId(), entry.title(), entry.author(), entry.genre().name(), toTimestamp(entry.bookCreatedAt()),
+                entry.readingRecordCount(), entry.completedReadingCount(),
+                entry.latestReadingStatus() != null ? entry.latestReadingStatus().name() : null,
+                toTimestamp(entry.latestReadingStartedAt()), entry.analysisCount(), toTimestamp(entry.latestAnalysisAt()),
+                entry.bookId()
+        };
+        String update = "UPDATE library_view SET user_id = ?, title = ?, author = ?, genre = ?, book_created_at = ?,"
+                + " reading_record_count = ?, completed_reading_count = ?, latest_reading_status = ?,"
+                + " latest_reading_started_at = ?, analysis_count = ?, latest_analysis_at = ? WHERE book_id = ?";
+        if (jdbcTemplate.update(update, values) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO library_view (user_id, title, author, genre, book_created_at,"
+                    + " reading_record_count, completed_reading_count, latest_reading_status, latest_reading_started_at,"
+                    + " analysis_count, latest_analysis_at, book_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", values);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(update, values);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,184 @@
+package com.bookapp.backend.infrastructure.persistence.purge;
+
+import com.bookapp.backend.infrastructure.datasource.ReplicaLagMonitor;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import com.bookapp.backend.infrastructure.scheduling.JobLease;
+import com.bookapp.backend.infrastructure.scheduling.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 삭제 요청된 책/계정(deletion_requested_at)을 작은 단위로 나눠 실제로 삭제한다.
+ *
+ * <ul>
+ *   <li>하위 행(독서 기록 수정 이력, 독서 기록, 분석, 아카이브된 분석, 독서 이벤트)을 chunkSize건씩 지운 뒤 책을, 책을 모두 지운 뒤 계정을 지운다.</li>
+ *   <li>청크마다 따로 커밋되므로 잠금은 한 청크 동안만 유지된다.</li>
+ *   <li>한 번 실행에 maxChunksPerRun개 문장까지만 처리하고 다음 주기로 넘긴다. 진행 상태는 DB에 있으므로 재기동해도 이어서 진행된다.</li>
+ *   <li>책의 통계는 삭제 요청 시 이미 빠졌으므로 계정을 지울 때만 user_stats 행을 함께 지운다.</li>
+ *   <li>replica 지연이 허용치를 넘으면 그 주기는 건너뛴다.</li>
+ *   <li>샤딩 시 샤드마다 따로 처리량을 두고 자기 샤드의 행만 지운다.</li>
+ *   <li>작업 임대를 가진 노드에서만 실행하고, 임대를 잃으면 다음 청크 전에 멈춘다.
+ *       삭제 문장은 임대 토큰을 확인한 트랜잭션에서 실행하므로 임대가 넘어간 뒤에는 지우지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeletionPurgeTask {
+
+    private static final int PENDING_FETCH_SIZE = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final ShardExecutor shardExecutor;
+    private final JobLeaseManager jobLeaseManager;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public DeletionPurgeTask(JdbcTemplate jdbcTemplate,
+                             ObjectProvider<ReplicaLagMonitor> replicaLagMonitor,
+                             ShardExecutor shardExecutor,
+                             JobLeaseManager jobLeaseManager,
+                             @Value("${app.purge.chunk-size:500}") int chunkSize,
+                             @Value("${app.purge.max-chunks-per-run:20}") int maxChunksPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.shardExecutor = shardExecutor;
+        this.jobLeaseManager = jobLeaseManager;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.purge.interval-ms:5000}", initialDelay = 30000)
+    public void purgeNextChunks() {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor != null && !monitor.isReplicaHealthy()) {
+            log.debug("replica 지연으로 퍼지를 건너뜀");
+            return;
+        }
+
+        shardExecutor.forEachShard(() -> jobLeaseManager.runIfHolder("deletion-purge", this::purgeShard));
+    }
+
+    private void purgeShard(JobLease lease) {
+        Budget budget = new Budget(maxChunksPerRun, lease);
+
+        List<Long> pendingBooks = jdbcTemplate.queryForList(
+                "SELECT id FROM books WHERE deletion_requested_at IS NOT NULL ORDER BY id LIMIT " + PENDING_FETCH_SIZE,
+                Long.class);
+        for (Long bookId : pendingBooks) {
+            if (!purgeBook(bookId, budget)) {
+                return;
+            }
+            log.info("삭제 요청된 책 퍼지 완료 - bookId: {}", bookId);
+        }
+
+        List<Long> pendingUsers = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE deletion_requested_at IS NOT NULL ORDER BY id LIMIT " + PENDING_FETCH_SIZE,
+                Long.class);
+        for (Long userId : pendingUsers) {
+            if (!purgeUser(userId, budget)) {
+                return;
+            }
+            log.info("탈퇴 요청된 계정 퍼지 완료 - userId: {}", userId);
+        }
+    }
+
+    /**
+     * @return 책까지 모두 지웠으면 true, 이번 주기의 처리량을 다 써서 중단했으면 false
+     */
+    private boolean purgeBook(Long bookId, Budget budget) {
+        if (!deleteInChunks("reading_record_revisions", "id", "book_id", bookId, budget)
+                || !deleteInChunks("reading_records", "id", "book_id", bookId, budget)
+                || !deleteInChunks("ai_analyses", "analysis_id", "book_id", bookId, budget)
+                || !deleteInChunks("ai_analyses_archive", "analysis_id", "book_id", bookId, budget)
+                || !deleteInChunks("reading_events", "id", "book_id", bookId, budget)
+                || !budget.take()) {
+            return false;
+        }
+        jobLeaseManager.fenced(budget.lease, () -> {
+            // 일간 집계는 책당 하루 한 행이라 한 번에 삭제
+            jdbcTemplate.update("DELETE FROM reading_activity_daily WHERE book_id = ?", bookId);
+            // 삭제 요청 시 지웠지만 보정 작업과 엇갈려 남은 행이 있을 수 있음
+            jdbcTemplate.update("DELETE FROM library_view WHERE book_id = ?", bookId);
+            jdbcTemplate.update("DELETE FROM books WHERE id = ?", bookId);
+        });
+        return true;
+    }
+
+    private boolean purgeUser(Long userId, Budget budget) {
+        List<Long> bookIds;
+        do {
+            bookIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM books WHERE user_id = ? ORDER BY id LIMIT " + PENDING_FETCH_SIZE, Long.class, userId);
+            for (Long bookId : bookIds) {
+                if (!purgeBook(bookId, budget)) {
+                    return false;
+                }
+            }
+        } while (!bookIds.isEmpty());
+
+        // 다른 사용자의 책에 달린 기록은 없지만 혹시 남은 행이 있으면 CASCADE 대신 나눠 삭제
+        if (!deleteInChunks("reading_record_revisions", "id", "user_id", userId, budget)
+                || !deleteInChunks("reading_records", "id", "user_id", userId, budget)
+                || !deleteInChunks("ai_analyses", "analysis_id", "user_id", userId, budget)
+                || !deleteInChunks("ai_analyses_archive", "analysis_id", "user_id", userId, budget)
+                || !deleteInChunks("reading_events", "id", "user_id", userId, budget)
+                || !budget.take()) {
+            return false;
+        }
+        jobLeaseManager.fenced(budget.lease, () -> {
+            jdbcTemplate.update("DELETE FROM user_stats WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM reading_activity_daily WHERE user_id = ?", userId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ? AND deletion_requested_at IS NOT NULL", userId);
+        });
+        return true;
+    }
+
+    private boolean deleteInChunks(String table, String idColumn, String ownerColumn, Long ownerId, Budget budget) {
+        while (true) {
+            List<Object> ids = jdbcTemplate.queryForList(
+                    "SELECT " + idColumn + " FROM " + table + " WHERE " + ownerColumn + " = ? LIMIT " + chunkSize,
+                    Object.class, ownerId);
+            if (ids.isEmpty()) {
+                return true;
+            }
+            if (!budget.take()) {
+                return false;
+            }
+
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            jobLeaseManager.fenced(budget.lease, () -> jdbcTemplate.update(
+                    "DELETE FROM " + table + " WHERE " + idColumn + " IN (" + placeholders + ")", ids.toArray()));
+            if (ids.size() < chunkSize) {
+                return true;
+            }
+        }
+    }
+
+    private static class Budget {
+        private int remaining;
+        private final JobLease lease;
+
+        Budget(int remaining, JobLease lease) {
+            this.remaining = remaining;
+            this.lease = lease;
+        }
+
+        boolean take() {
+            if (remaining <= 0 || !lease.isHeld()) {
+                return false;
+            }
+            remaining--;
+            return true;
+        }
+    }
+}
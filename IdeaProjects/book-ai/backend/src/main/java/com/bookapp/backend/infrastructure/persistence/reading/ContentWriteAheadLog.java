@@ -0,0 +1,262 @@
+package com.bookapp.backend.infrastructure.persistence.reading;
+
+import com.bookapp.backend.domain.reading.BufferedContent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * write-behind 버퍼의 로컬 선기록 로그(append-only).
+ *
+ * <p>레코드 형식: [본문 길이 int][CRC32 int][readingRecordId long][baseVersion long][revision long][bufferedAt epoch ms long][UTF-8 본문]
+ * <ul>
+ *   <li>append는 fsync가 끝난 뒤 돌아오므로 프로세스가 죽어도 응답한 편집은 남는다.</li>
+ *   <li>fsync는 묶어서 한다 (group commit). 먼저 기다리기 시작한 스레드가 그때까지 쓰인 레코드를 한 번의 fsync로 내리고,
+ *       그동안 쓰인 레코드는 다음 fsync 한 번에 함께 내려가므로 동시 자동 저장이 fsync를 하나씩 기다리지 않는다.</li>
+ *   <li>읽을 때 길이가 모자라거나 CRC가 맞지 않는 꼬리(쓰다 중단된 레코드)는 버린다.</li>
+ *   <li>flush 후 rewrite로 아직 남은 버퍼만 담은 파일로 원자적으로 교체해 로그가 계속 커지지 않게 한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ContentWriteAheadLog {
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int FIXED_BODY_BYTES = Long.BYTES * 4;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final Path path;
+    private FileChannel channel;
+    // 지금까지 파일에 쓴 레코드 수 (this로 보호)
+    private long writtenSequence;
+
+    // syncLock으로 보호
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncFinished = syncLock.newCondition();
+    private long syncedSequence;
+    private boolean syncing;
+    private long syncCount;
+
+    public ContentWriteAheadLog(@Value("${app.reading.write-behind.wal-path:./data/reading-content.wal}") String path) {
+        this.path = Paths.get(path);
+    }
+
+    public void append(BufferedContent bufferedContent) {
+        awaitDurable(write(bufferedContent));
+    }
+
+    /**
+     * 레코드를 파일에 쓰기만 하고(fsync 전) 순번을 돌려준다. 응답 전에 awaitDurable(순번)으로 디스크 반영을 기다려야 한다.
+     */
+    public synchronized long write(BufferedContent bufferedContent) {
+        try {
+            ByteBuffer record = encode(bufferedContent);
+            FileChannel target = openChannel();
+            while (record.hasRemaining()) {
+                target.write(record);
+            }
+            return ++writtenSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("자동 저장 로그 기록에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * sequence까지 쓰인 레코드가 디스크에 내려갈 때까지 기다린다.
+     * 진행 중인 fsync가 없으면 직접 fsync하고, 있으면 끝나기를 기다렸다가 아직 부족하면 다음 fsync를 맡는다.
+     */
+    public void awaitDurable(long sequence) {
+        syncLock.lock();
+        try {
+            while (syncedSequence < sequence) {
+                if (syncing) {
+                    syncFinished.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                long forced = 0;
+                syncLock.unlock();
+                try {
+                    forced = force();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    syncedSequence = Math.max(syncedSequence, forced);
+                    syncFinished.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 실행한 fsync 횟수 (group commit 확인용)
+     */
+    public long syncCount() {
+        syncLock.lock();
+        try {
+            return syncCount;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // fsync 동안 새 쓰기는 기다렸다가 다음 fsync에 함께 내려간다
+    private synchronized long force() {
+        try {
+            if (channel != null) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("자동 저장 로그 기록에 실패했습니다", e);
+        }
+        syncLock.lock();
+        try {
+            syncCount++;
+        } finally {
+            syncLock.unlock();
+        }
+        return writtenSequence;
+    }
+
+    /**
+     * 로그의 모든 레코드를 기록된 순서대로 읽는다. 같은 독서 기록의 레코드는 뒤의 것이 최신이다.
+     */
+    public synchronized List<BufferedContent> readAll() {
+        List<BufferedContent> records = new ArrayList<>();
+        if (!Files.exists(path)) {
+            return records;
+        }
+        try {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path));
+            while (data.remaining() >= HEADER_BYTES) {
+                int bodyLength = data.getInt();
+                int checksum = data.getInt();
+                if (bodyLength < FIXED_BODY_BYTES || bodyLength > data.remaining()) {
+                    log.warn("자동 저장 로그 끝의 불완전한 레코드를 무시합니다 - position: {}", data.position() - HEADER_BYTES);
+                    break;
+                }
+                byte[] body = new byte[bodyLength];
+                data.get(body);
+                if (checksum != crc(body)) {
+                    log.warn("자동 저장 로그의 손상된 레코드 이후를 무시합니다 - position: {}", data.position() - bodyLength - HEADER_BYTES);
+                    break;
+                }
+                records.add(decode(body));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("자동 저장 로그를 읽지 못했습니다", e);
+        }
+        return records;
+    }
+
+    /**
+     * 로그를 주어진 레코드만 담은 새 파일로 교체한다.
+     * 목록은 쓰기를 막은 상태에서 가져오므로 그 전에 쓰인 레코드는 목록에 있거나(또는 DB에 반영되어) 새 파일과 함께 fsync된다.
+     */
+    public synchronized void rewrite(Supplier<Collection<BufferedContent>> remaining) {
+        try {
+            // 교체에 실패해도 이미 쓴 레코드는 내려가 있도록 기존 파일을 먼저 fsync
+            if (channel != null) {
+                channel.force(false);
+            }
+            closeChannel();
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (BufferedContent bufferedContent : remaining.get()) {
+                    ByteBuffer record = encode(bufferedContent);
+                    while (record.hasRemaining()) {
+                        out.write(record);
+                    }
+                }
+                out.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("자동 저장 로그 정리에 실패했습니다", e);
+        }
+    }
+
+    public synchronized void close() {
+        try {
+            closeChannel();
+        } catch (IOException e) {
+            log.warn("자동 저장 로그를 닫지 못했습니다", e);
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private ByteBuffer encode(BufferedContent bufferedContent) {
+        byte[] content = bufferedContent.content().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocate(FIXED_BODY_BYTES + content.length);
+        body.putLong(bufferedContent.readingRecordId());
+        body.putLong(bufferedContent.baseVersion() != null ? bufferedContent.baseVersion() : -1L);
+        body.putLong(bufferedContent.revision());
+        body.putLong(bufferedContent.bufferedAt().atZone(ZONE).toInstant().toEpochMilli());
+        body.put(content);
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + body.capacity());
+        record.putInt(body.capacity());
+        record.putInt(crc(body.array()));
+        record.put(body.array());
+        return record.flip();
+    }
+
+    private BufferedContent decode(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        long readingRecordId = buffer.getLong();
+        long baseVersion = buffer.getLong();
+        long revision = buffer.getLong();
+        LocalDateTime bufferedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong()), ZONE);
+        String content = new String(body, FIXED_BODY_BYTES, body.length - FIXED_BODY_BYTES, StandardCharsets.UTF_8);
+        return new BufferedContent(readingRecordId, baseVersion >= 0 ? baseVersion : null, revision, content, bufferedAt);
+    }
+
+    private int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
@@ -3,23 +3,28 @@ package com.bookapp.backend.infrastructure.persistence.reading;
 import com.bookapp.backend.domain.reading.ReadingRecord;
 import com.bookapp.backend.domain.reading.ReadingStatus;
 import com.bookapp.backend.infrastructure.persistence.book.BookEntity;
+import com.bookapp.backend.infrastructure.persistence.compression.CompressedTextConverter;
 import com.bookapp.backend.infrastructure.persistence.user.UserEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "reading_records")
+// 삭제 대기 중인 책의 독서 기록은 퍼지가 끝나기 전에도 보이지 않게 함
+@SQLRestriction("book_id NOT IN (SELECT pb.id FROM books pb WHERE pb.deletion_requested_at IS NOT NULL)")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReadingRecordEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reading_records_seq")
+    @SequenceGenerator(name = "reading_records_seq", sequenceName = "reading_records_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,7 +35,8 @@ public class ReadingRecordEntity {
     @JoinColumn(name = "book_id", nullable = false)
     private BookEntity book;
     
-    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGBLOB", nullable = false)
     private String content;
     
     @Enumerated(EnumType.STRING)
@@ -43,9 +49,16 @@ public class ReadingRecordEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+    
+    @Version
+    private Long version;
+    
     @Builder
     public ReadingRecordEntity(Long id, UserEntity user, BookEntity book, String content,
-                              ReadingStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                              ReadingStatus status, LocalDateTime createdAt, LocalDateTime updatedAt,
+                              LocalDateTime completedAt, Long version) {
         this.id = id;
         this.user = user;
         this.book = book;
@@ -53,6 +66,8 @@ public class ReadingRecordEntity {
         this.status = status != null ? status : ReadingStatus.IN_PROGRESS;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
         this.updatedAt = updatedAt != null ? updatedAt : LocalDateTime.now();
+        this.completedAt = completedAt;
+        this.version = version;
     }
     
     @PreUpdate
@@ -69,6 +84,8 @@ public class ReadingRecordEntity {
                 .status(this.status)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
+                .completedAt(this.completedAt)
+                .version(this.version)
                 .build();
     }
     
@@ -81,6 +98,8 @@ public class ReadingRecordEntity {
                 .status(readingRecord.getStatus())
                 .createdAt(readingRecord.getCreatedAt())
                 .updatedAt(readingRecord.getUpdatedAt())
+                .completedAt(readingRecord.getCompletedAt())
+                .version(readingRecord.getVersion())
                 .build();
     }
     
@@ -92,5 +111,6 @@ public class ReadingRecordEntity {
     public void complete() {
         this.status = ReadingStatus.COMPLETED;
         this.updatedAt = LocalDateTime.now();
+        this.completedAt = this.updatedAt;
     }
 }
\ No newline at end of file
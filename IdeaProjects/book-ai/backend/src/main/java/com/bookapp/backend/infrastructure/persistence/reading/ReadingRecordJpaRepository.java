@@ -2,6 +2,7 @@ package com.bookapp.backend.infrastructure.persistence.reading;
 
 import com.bookapp.backend.domain.reading.ReadingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,4 +24,11 @@ public interface ReadingRecordJpaRepository extends JpaRepository<ReadingRecordE
 
     @Query("SELECT rr FROM ReadingRecordEntity rr WHERE rr.book.id = :bookId ORDER BY rr.createdAt DESC")
     List<ReadingRecordEntity> findByBook_IdOrderByCreatedAtDesc(@Param("bookId") Long bookId);
+    
+    @Query("SELECT rr.status, COUNT(rr) FROM ReadingRecordEntity rr WHERE rr.book.id = :bookId GROUP BY rr.status")
+    List<Object[]> countByBook_IdGroupByStatus(@Param("bookId") Long bookId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReadingRecordEntity rr SET rr.version = :newVersion WHERE rr.id = :id AND rr.version = :expectedVersion")
+    int updateVersion(@Param("id") Long id, @Param("expectedVersion") Long expectedVersion, @Param("newVersion") Long newVersion);
 }
\ No newline at end of file
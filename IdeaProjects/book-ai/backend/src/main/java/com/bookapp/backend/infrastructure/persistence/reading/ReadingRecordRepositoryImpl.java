@@ -3,14 +3,28 @@ package com.bookapp.backend.infrastructure.persistence.reading;
 import com.bookapp.backend.domain.reading.ReadingRecord;
 import com.bookapp.backend.domain.reading.ReadingRecordRepository;
 import com.bookapp.backend.domain.reading.ReadingStatus;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationBus;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationRegion;
+import com.bookapp.backend.infrastructure.persistence.user.UserEntity;
 import com.bookapp.backend.infrastructure.persistence.user.UserJpaRepository;
+import com.bookapp.backend.infrastructure.persistence.book.BookEntity;
 import com.bookapp.backend.infrastructure.persistence.book.BookJpaRepository;
+import com.bookapp.backend.infrastructure.persistence.StreamingQueryHints;
+import com.bookapp.backend.infrastructure.persistence.cache.ContentCacheRegion;
+import com.bookapp.backend.infrastructure.persistence.cache.OffHeapContentCache;
+import com.bookapp.backend.infrastructure.search.InvertedSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -19,6 +33,13 @@ public class ReadingRecordRepositoryImpl implements ReadingRecordRepository {
     private final ReadingRecordJpaRepository readingRecordJpaRepository;
     private final UserJpaRepository userJpaRepository;
     private final BookJpaRepository bookJpaRepository;
+    private final InvertedSearchIndex searchIndex;
+    private final OffHeapContentCache contentCache;
+    private final InvalidationBus invalidationBus;
+    private final StreamingQueryHints streamingQueryHints;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
     @Override
     public ReadingRecord save(ReadingRecord readingRecord) {
@@ -37,10 +58,41 @@ public class ReadingRecordRepositoryImpl implements ReadingRecordRepository {
                 .status(readingRecord.getStatus())
                 .createdAt(readingRecord.getCreatedAt())
                 .updatedAt(readingRecord.getUpdatedAt())
+                .completedAt(readingRecord.getCompletedAt())
+                .version(readingRecord.getVersion())
                 .build();
         
-        ReadingRecordEntity savedEntity = readingRecordJpaRepository.save(entity);
-        return savedEntity.toDomain();
+        ReadingRecord savedRecord = readingRecordJpaRepository.saveAndFlush(entity).toDomain();
+        searchIndex.indexReadingRecord(savedRecord);
+        // 버전으로 걸러지지만 이전 본문이 예산을 차지하지 않도록 바로 비움
+        contentCache.remove(ContentCacheRegion.READING_RECORD.key(savedRecord.getId()));
+        invalidationBus.publish(InvalidationRegion.READING_RECORD, savedRecord.getId());
+        return savedRecord;
+    }
+    
+    @Override
+    public List<ReadingRecord> saveAll(List<ReadingRecord> readingRecords) {
+        // 대량 저장 시 행마다 사용자/책을 조회하지 않도록 프록시 참조만 사용
+        List<ReadingRecordEntity> entities = readingRecords.stream()
+                .map(readingRecord -> ReadingRecordEntity.builder()
+                        .id(readingRecord.getId())
+                        .user(userJpaRepository.getReferenceById(readingRecord.getUserId()))
+                        .book(bookJpaRepository.getReferenceById(readingRecord.getBookId()))
+                        .content(readingRecord.getContent())
+                        .status(readingRecord.getStatus())
+                        .createdAt(readingRecord.getCreatedAt())
+                        .updatedAt(readingRecord.getUpdatedAt())
+                        .completedAt(readingRecord.getCompletedAt())
+                        .build())
+                .collect(Collectors.toList());
+        
+        List<ReadingRecord> savedRecords = readingRecordJpaRepository.saveAll(entities)
+                .stream()
+                .map(ReadingRecordEntity::toDomain)
+                .collect(Collectors.toList());
+        savedRecords.forEach(searchIndex::indexReadingRecord);
+        savedRecords.forEach(savedRecord -> invalidationBus.publish(InvalidationRegion.READING_RECORD, savedRecord.getId()));
+        return savedRecords;
     }
     
     @Override
@@ -49,6 +101,60 @@ public class ReadingRecordRepositoryImpl implements ReadingRecordRepository {
                 .map(ReadingRecordEntity::toDomain);
     }
     
+    @Override
+    public Optional<ReadingRecord> findDetailById(Long id) {
+        // 본문을 뺀 열만 읽고, 본문은 같은 버전이 캐시에 있을 때만 캐시에서 가져옴
+        // 사용자와 책은 2차 캐시를 타도록 ID로 조회
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT r.user.id, r.book.id, r.status, r.createdAt, r.updatedAt, r.completedAt, r.version"
+                                + " FROM ReadingRecordEntity r WHERE r.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        Optional<UserEntity> user = userJpaRepository.findById((Long) row[0]);
+        Optional<BookEntity> book = bookJpaRepository.findById((Long) row[1]);
+        if (user.isEmpty() || book.isEmpty()) {
+            return Optional.empty();
+        }
+        Long version = (Long) row[6];
+        
+        return Optional.of(ReadingRecord.builder()
+                .id(id)
+                .user(user.get().toDomain())
+                .book(book.get().toDomain())
+                .content(findContent(id, version))
+                .status((ReadingStatus) row[2])
+                .createdAt((LocalDateTime) row[3])
+                .updatedAt((LocalDateTime) row[4])
+                .completedAt((LocalDateTime) row[5])
+                .version(version)
+                .build());
+    }
+    
+    private String findContent(Long id, Long version) {
+        long key = ContentCacheRegion.READING_RECORD.key(id);
+        String cached = contentCache.get(key, version);
+        if (cached != null) {
+            return cached;
+        }
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT r.content, r.version FROM ReadingRecordEntity r WHERE r.id = :id", Object[].class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return "";
+        }
+        String content = (String) rows.get(0)[0];
+        // 두 조회 사이에 수정되었으면 다른 버전의 본문이므로 캐시에 넣지 않음
+        if (content != null && version.equals(rows.get(0)[1])) {
+            contentCache.put(key, version, content);
+        }
+        return content;
+    }
+    
     @Override
     public List<ReadingRecord> findByUser_Id(Long userId) {
         return readingRecordJpaRepository.findByUser_Id(userId)
@@ -79,13 +185,49 @@ public class ReadingRecordRepositoryImpl implements ReadingRecordRepository {
                 .map(ReadingRecordEntity::toDomain);
     }
 
+    @Override
+    public Stream<ReadingRecord> streamByUser_Id(Long userId) {
+        // 스트리밍 중 지연 로딩 쿼리가 나가지 않도록 사용자와 책을 함께 읽음
+        // 함께 로딩된 책도 분리 (사용자 엔티티 하나만 컨텍스트에 남음)
+        return streamingQueryHints.apply(entityManager.createQuery(
+                        "SELECT rr FROM ReadingRecordEntity rr JOIN FETCH rr.user JOIN FETCH rr.book " +
+                                "WHERE rr.user.id = :userId ORDER BY rr.id", ReadingRecordEntity.class))
+                .setParameter("userId", userId)
+                .getResultStream()
+                .map(entity -> {
+                    ReadingRecord readingRecord = entity.toDomain();
+                    entityManager.detach(entity.getBook());
+                    entityManager.detach(entity);
+                    return readingRecord;
+                });
+    }
+
+    @Override
+    public Map<ReadingStatus, Long> countByBook_IdGroupByStatus(Long bookId) {
+        Map<ReadingStatus, Long> counts = new EnumMap<>(ReadingStatus.class);
+        for (Object[] row : readingRecordJpaRepository.countByBook_IdGroupByStatus(bookId)) {
+            counts.put((ReadingStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     @Override
     public boolean existsById(Long id) {
         return readingRecordJpaRepository.existsById(id);
     }
     
+    @Override
+    public boolean updateVersion(Long id, Long expectedVersion, Long newVersion) {
+        return readingRecordJpaRepository.updateVersion(id, expectedVersion, newVersion) == 1;
+    }
+    
     @Override
     public void deleteById(Long id) {
-        readingRecordJpaRepository.deleteById(id);
+        readingRecordJpaRepository.findById(id).ifPresent(entity -> {
+            readingRecordJpaRepository.delete(entity);
+            searchIndex.removeReadingRecord(entity.getUser().getId(), entity.getId());
+            contentCache.remove(ContentCacheRegion.READING_RECORD.key(entity.getId()));
+            invalidationBus.publish(InvalidationRegion.READING_RECORD, entity.getId());
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.bookapp.backend.infrastructure.persistence.reading;
+
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevision;
+import com.bookapp.backend.domain.reading.revision.RevisionKind;
+import com.bookapp.backend.infrastructure.persistence.compression.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reading_record_revisions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadingRecordRevisionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reading_record_id", nullable = false)
+    private Long readingRecordId;
+
+    @Column(name = "revision_number", nullable = false)
+    private int revisionNumber;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RevisionKind kind;
+
+    @Column(name = "chain_length", nullable = false)
+    private int chainLength;
+
+    // 스냅샷은 기준 크기 이상이면 압축되고, 작은 차이는 그대로 저장됨
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "LONGBLOB", nullable = false)
+    private String payload;
+
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @Column(name = "content_hash")
+    private Long contentHash;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public ReadingRecordRevision toDomain() {
+        return ReadingRecordRevision.builder()
+                .readingRecordId(this.readingRecordId)
+                .revisionNumber(this.revisionNumber)
+                .userId(this.userId)
+                .bookId(this.bookId)
+                .kind(this.kind)
+                .chainLength(this.chainLength)
+                .payload(this.payload)
+                .contentLength(this.contentLength)
+                .contentHash(this.contentHash)
+                .createdAt(this.createdAt)
+                .build();
+    }
+
+    public static ReadingRecordRevisionEntity fromDomain(ReadingRecordRevision revision) {
+        ReadingRecordRevisionEntity entity = new ReadingRecordRevisionEntity();
+        entity.readingRecordId = revision.getReadingRecordId();
+        entity.revisionNumber = revision.getRevisionNumber();
+        entity.userId = revision.getUserId();
+        entity.bookId = revision.getBookId();
+        entity.kind = revision.getKind();
+        entity.chainLength = revision.getChainLength();
+        entity.payload = revision.getPayload();
+        entity.contentLength = revision.getContentLength();
+        entity.contentHash = revision.getContentHash();
+        entity.createdAt = revision.getCreatedAt() != null ? revision.getCreatedAt() : LocalDateTime.now();
+        return entity;
+    }
+}
@@ -0,0 +1,43 @@
+package com.bookapp.backend.infrastructure.persistence.reading;
+
+import com.bookapp.backend.domain.reading.revision.RevisionKind;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReadingRecordRevisionJpaRepository extends JpaRepository<ReadingRecordRevisionEntity, Long> {
+
+    interface RevisionSummary {
+        Long getReadingRecordId();
+        int getRevisionNumber();
+        Long getUserId();
+        Long getBookId();
+        RevisionKind getKind();
+        int getChainLength();
+        int getContentLength();
+        LocalDateTime getCreatedAt();
+    }
+
+    List<ReadingRecordRevisionEntity> findByReadingRecordIdOrderByRevisionNumberDesc(Long readingRecordId, Limit limit);
+
+    Optional<ReadingRecordRevisionEntity> findByReadingRecordIdAndRevisionNumber(Long readingRecordId, int revisionNumber);
+
+    // 목록에는 본문/차이가 필요 없으므로 payload 컬럼은 읽지 않는 프로젝션으로 조회
+    List<RevisionSummary> findSummariesByReadingRecordIdOrderByRevisionNumberDesc(Long readingRecordId);
+
+    @Query("SELECT r FROM ReadingRecordRevisionEntity r WHERE r.readingRecordId = :readingRecordId "
+            + "AND r.revisionNumber BETWEEN :fromRevision AND :toRevision ORDER BY r.revisionNumber")
+    List<ReadingRecordRevisionEntity> findRange(@Param("readingRecordId") Long readingRecordId,
+                                                @Param("fromRevision") int fromRevision,
+                                                @Param("toRevision") int toRevision);
+
+    @Modifying
+    @Query("DELETE FROM ReadingRecordRevisionEntity r WHERE r.readingRecordId = :readingRecordId")
+    void deleteByReadingRecordId(@Param("readingRecordId") Long readingRecordId);
+}
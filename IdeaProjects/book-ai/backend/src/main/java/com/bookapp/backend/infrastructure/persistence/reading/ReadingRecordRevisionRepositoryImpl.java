@@ -0,0 +1,67 @@
+package com.bookapp.backend.infrastructure.persistence.reading;
+
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevision;
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ReadingRecordRevisionRepositoryImpl implements ReadingRecordRevisionRepository {
+
+    private final ReadingRecordRevisionJpaRepository jpaRepository;
+
+    @Override
+    public ReadingRecordRevision save(ReadingRecordRevision revision) {
+        return jpaRepository.save(ReadingRecordRevisionEntity.fromDomain(revision)).toDomain();
+    }
+
+    @Override
+    public Optional<ReadingRecordRevision> findLatest(Long readingRecordId) {
+        return jpaRepository.findByReadingRecordIdOrderByRevisionNumberDesc(readingRecordId, Limit.of(1))
+                .stream()
+                .findFirst()
+                .map(ReadingRecordRevisionEntity::toDomain);
+    }
+
+    @Override
+    public Optional<ReadingRecordRevision> findByRevisionNumber(Long readingRecordId, int revisionNumber) {
+        return jpaRepository.findByReadingRecordIdAndRevisionNumber(readingRecordId, revisionNumber)
+                .map(ReadingRecordRevisionEntity::toDomain);
+    }
+
+    @Override
+    public List<ReadingRecordRevision> findSummaries(Long readingRecordId) {
+        return jpaRepository.findSummariesByReadingRecordIdOrderByRevisionNumberDesc(readingRecordId)
+                .stream()
+                .map(summary -> ReadingRecordRevision.builder()
+                        .readingRecordId(summary.getReadingRecordId())
+                        .revisionNumber(summary.getRevisionNumber())
+                        .userId(summary.getUserId())
+                        .bookId(summary.getBookId())
+                        .kind(summary.getKind())
+                        .chainLength(summary.getChainLength())
+                        .contentLength(summary.getContentLength())
+                        .createdAt(summary.getCreatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ReadingRecordRevision> findRange(Long readingRecordId, int fromRevision, int toRevision) {
+        return jpaRepository.findRange(readingRecordId, fromRevision, toRevision)
+                .stream()
+                .map(ReadingRecordRevisionEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteByReadingRecordId(Long readingRecordId) {
+        jpaRepository.deleteByReadingRecordId(readingRecordId);
+    }
+}
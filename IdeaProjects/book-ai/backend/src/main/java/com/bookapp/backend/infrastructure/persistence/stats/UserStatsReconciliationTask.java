@@ -0,0 +1,137 @@
+package com.bookapp.backend.infrastructure.persistence.stats;
+
+import com.bookapp.backend.domain.stats.StatKey;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import com.bookapp.backend.infrastructure.scheduling.JobLease;
+import com.bookapp.backend.infrastructure.scheduling.JobLeaseManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * user_stats 카운터를 기본 테이블에서 다시 집계해 맞추고 어긋난 정도(drift)를 기록한다.
+ * 사용자마다 카운터 행을 잠근 뒤 집계하므로 그 사이의 증감이 덮어써지지 않는다. 샤딩 시 샤드마다 따로 보정한다.
+ * 작업 임대를 가진 노드에서만 실행하고, 임대를 잃으면 다음 사용자 묶음 전에 멈춘다.
+ * 사용자별 보정 트랜잭션은 임대 토큰을 확인한 뒤 시작하므로 임대가 넘어간 뒤에는 카운터를 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.stats.reconcile", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserStatsReconciliationTask {
+
+    private static final int USER_BATCH_SIZE = 100;
+    private static final String LIVE_BOOK_CONDITION =
+            "book_id NOT IN (SELECT id FROM books WHERE deletion_requested_at IS NOT NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardExecutor shardExecutor;
+    private final JobLeaseManager jobLeaseManager;
+
+    public UserStatsReconciliationTask(JdbcTemplate jdbcTemplate, ShardExecutor shardExecutor, JobLeaseManager jobLeaseManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardExecutor = shardExecutor;
+        this.jobLeaseManager = jobLeaseManager;
+    }
+
+    /**
+     * @return 보정량 합계 (이 노드가 임대를 가진 샤드의 카운터와 실제 값 차이의 절댓값 합)
+     */
+    @Scheduled(cron = "${app.stats.reconcile.cron:0 30 4 * * *}")
+    public long reconcileAll() {
+        AtomicLong totalDrift = new AtomicLong();
+        shardExecutor.forEachShard(() -> jobLeaseManager.runIfHolder("user-stats-reconcile",
+                lease -> totalDrift.addAndGet(reconcileShard(lease))));
+        return totalDrift.get();
+    }
+
+    private long reconcileShard(JobLease lease) {
+        long cursor = 0;
+        int users = 0;
+        int driftedUsers = 0;
+        long totalDrift = 0;
+
+        List<Long> userIds;
+        do {
+            if (!lease.isHeld()) {
+                log.warn("작업 임대를 잃어 보정을 중단 - job: {}, 처리한 사용자: {}명", lease.jobName(), users);
+                return totalDrift;
+            }
+            userIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM users WHERE id > ? AND deletion_requested_at IS NULL ORDER BY id LIMIT " + USER_BATCH_SIZE,
+                    Long.class, cursor);
+            for (Long userId : userIds) {
+                Long drift = jobLeaseManager.fenced(lease, () -> reconcile(userId));
+                users++;
+                if (drift != null && drift > 0) {
+                    driftedUsers++;
+                    totalDrift += drift;
+                }
+                cursor = userId;
+            }
+        } while (userIds.size() == USER_BATCH_SIZE);
+
+        if (driftedUsers > 0) {
+            log.warn("사용자 통계 보정 - 대상: {}명, 어긋난 사용자: {}명, 보정량 합계: {}", users, driftedUsers, totalDrift);
+        } else {
+            log.info("사용자 통계 보정 - 대상: {}명, 어긋남 없음", users);
+        }
+        return totalDrift;
+    }
+
+    /**
+     * @return 카운터와 실제 값 차이의 절댓값 합
+     */
+    private long reconcile(Long userId) {
+        Map<String, Long> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT stat_key, stat_count FROM user_stats WHERE user_id = ? FOR UPDATE",
+                rs -> { stored.put(rs.getString(1), rs.getLong(2)); }, userId);
+
+        Map<String, Long> actual = new HashMap<>();
+        collect(actual, StatKey.BOOK_GENRE_PREFIX,
+                "SELECT genre, COUNT(*) FROM books WHERE user_id = ? AND deletion_requested_at IS NULL GROUP BY genre", userId);
+        collect(actual, StatKey.READING_STATUS_PREFIX,
+                "SELECT status, COUNT(*) FROM reading_records WHERE user_id = ? AND status IS NOT NULL AND "
+                        + LIVE_BOOK_CONDITION + " GROUP BY status", userId);
+        collect(actual, StatKey.ANALYSIS_TYPE_PREFIX,
+                "SELECT analysis_type, COUNT(*) FROM ai_analyses WHERE user_id = ? AND "
+                        + LIVE_BOOK_CONDITION + " GROUP BY analysis_type", userId);
+        collect(actual, StatKey.ANALYSIS_TYPE_PREFIX,
+                "SELECT analysis_type, COUNT(*) FROM ai_analyses_archive WHERE user_id = ? AND "
+                        + LIVE_BOOK_CONDITION + " GROUP BY analysis_type", userId);
+
+        Set<String> keys = new HashSet<>(stored.keySet());
+        keys.addAll(actual.keySet());
+
+        long drift = 0;
+        for (String key : keys) {
+            long storedCount = stored.getOrDefault(key, 0L);
+            long actualCount = actual.getOrDefault(key, 0L);
+            if (storedCount == actualCount) {
+                continue;
+            }
+            drift += Math.abs(storedCount - actualCount);
+            log.debug("사용자 통계 어긋남 - userId: {}, key: {}, stored: {}, actual: {}", userId, key, storedCount, actualCount);
+            if (stored.containsKey(key)) {
+                jdbcTemplate.update("UPDATE user_stats SET stat_count = ? WHERE user_id = ? AND stat_key = ?",
+                        actualCount, userId, key);
+            } else {
+                jdbcTemplate.update("INSERT INTO user_stats (user_id, stat_key, stat_count) VALUES (?, ?, ?)",
+                        userId, key, actualCount);
+            }
+        }
+        return drift;
+    }
+
+    private void collect(Map<String, Long> counters, String prefix, String sql, Long userId) {
+        jdbcTemplate.query(sql, rs -> { counters.merge(prefix + rs.getString(1), rs.getLong(2), Long::sum); }, userId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.bookapp.backend.infrastructure.persistence.stats;
+
+import com.bookapp.backend.domain.stats.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * user_stats는 (user_id, stat_key) 단위의 카운터라 엔티티 없이 JDBC로 증감한다.
+ * JPA 트랜잭션에 묶인 같은 커넥션을 사용하므로 기본 테이블 변경과 함께 커밋/롤백된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserStatsRepositoryImpl implements UserStatsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void increment(Long userId, String statKey, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (addTo(userId, statKey, delta) > 0) {
+            return;
+        }
+        // 첫 증감이면 행 생성 - 동시에 다른 트랜잭션이 만들었으면 다시 증감
+        try {
+            jdbcTemplate.update("INSERT INTO user_stats (user_id, stat_key, stat_count) VALUES (?, ?, ?)",
+                    userId, statKey, delta);
+        } catch (DuplicateKeyException e) {
+            addTo(userId, statKey, delta);
+        }
+    }
+
+    @Override
+    public Map<String, Long> findByUserId(Long userId) {
+        Map<String, Long> counters = new HashMap<>();
+        jdbcTemplate.query("SELECT stat_key, stat_count FROM user_stats WHERE user_id = ?",
+                rs -> { counters.put(rs.getString(1), rs.getLong(2)); }, userId);
+        return counters;
+    }
+
+    private int addTo(Long userId, String statKey, long delta) {
+        return jdbcTemplate.update("UPDATE user_stats SET stat_count = stat_count + ? WHERE user_id = ? AND stat_key = ?",
+                delta, userId, statKey);
+    }
+}
@@ -0,0 +1,127 @@
+package com.bookapp.backend.infrastructure.persistence.timeline;
+
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.timeline.TimelineCursor;
+import com.bookapp.backend.domain.timeline.TimelineEntry;
+import com.bookapp.backend.domain.timeline.TimelineEntryType;
+import com.bookapp.backend.domain.timeline.TimelineRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 종류마다 (user_id, 시각) 인덱스를 역순으로 읽는 keyset 쿼리 하나로 조회한다 (OFFSET 없음).
+ * 책 제목은 PK 조인으로만 가져오고 본문 컬럼은 읽지 않는다.
+ * 분석은 hot/아카이브 테이블에 나뉘어 있어 각각 limit개를 읽고 합친다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimelineRepositoryImpl implements TimelineRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private record Source(String select, String from, String ownerColumn, String timeColumn, String idColumn,
+                          String extraCondition, RowMapper<TimelineEntry> rowMapper) {
+    }
+
+    private static final Source BOOKS = new Source(
+            "b.id, b.id, b.title, b.created_at", "books b", "b.user_id", "b.created_at", "b.id", "",
+            (rs, rowNum) -> new TimelineEntry(TimelineEntryType.BOOK_ADDED, rs.getTimestamp(4).toLocalDateTime(),
+                    String.valueOf(rs.getLong(1)), rs.getLong(2), rs.getString(3), null));
+
+    private static final Source READING_STARTED = new Source(
+            "r.id, r.book_id, b.title, r.created_at", "reading_records r JOIN books b ON b.id = r.book_id",
+            "r.user_id", "r.created_at", "r.id", "",
+            (rs, rowNum) -> new TimelineEntry(TimelineEntryType.READING_STARTED, rs.getTimestamp(4).toLocalDateTime(),
+                    String.valueOf(rs.getLong(1)), rs.getLong(2), rs.getString(3), null));
+
+    private static final Source READING_COMPLETED = new Source(
+            "r.id, r.book_id, b.title, r.completed_at", "reading_records r JOIN books b ON b.id = r.book_id",
+            "r.user_id", "r.completed_at", "r.id", " AND r.completed_at IS NOT NULL",
+            (rs, rowNum) -> new TimelineEntry(TimelineEntryType.READING_COMPLETED, rs.getTimestamp(4).toLocalDateTime(),
+                    String.valueOf(rs.getLong(1)), rs.getLong(2), rs.getString(3), null));
+
+    private static final Source ANALYSES = analysisSource("ai_analyses");
+
+    private static final Source ARCHIVED_ANALYSES = analysisSource("ai_analyses_archive");
+
+    private static Source analysisSource(String table) {
+        return new Source(
+                "a.analysis_id, a.book_id, b.title, a.created_at, a.analysis_type", table + " a JOIN books b ON b.id = a.book_id",
+                "a.user_id", "a.created_at", "a.analysis_id", "",
+                (rs, rowNum) -> new TimelineEntry(TimelineEntryType.ANALYSIS_CREATED, rs.getTimestamp(4).toLocalDateTime(),
+                        toUuid(rs.getBytes(1)).toString(), rs.getLong(2), rs.getString(3),
+                        AnalysisType.valueOf(rs.getString(5))));
+    }
+
+    @Override
+    public List<TimelineEntry> findEntries(Long userId, TimelineEntryType type, TimelineCursor after, int limit) {
+        return switch (type) {
+            case BOOK_ADDED -> query(BOOKS, type, userId, after, limit);
+            case READING_STARTED -> query(READING_STARTED, type, userId, after, limit);
+            case READING_COMPLETED -> query(READING_COMPLETED, type, userId, after, limit);
+            case ANALYSIS_CREATED -> {
+                List<TimelineEntry> entries = new ArrayList<>(query(ANALYSES, type, userId, after, limit));
+                entries.addAll(query(ARCHIVED_ANALYSES, type, userId, after, limit));
+                entries.sort(TimelineEntry.NEWEST_FIRST);
+                yield entries.size() > limit ? entries.subList(0, limit) : entries;
+            }
+        };
+    }
+
+    private List<TimelineEntry> query(Source source, TimelineEntryType type, Long userId, TimelineCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(source.select())
+                .append(" FROM ").append(source.from())
+                .append(" WHERE ").append(source.ownerColumn()).append(" = ?")
+                .append(" AND b.deletion_requested_at IS NULL")
+                .append(source.extraCondition());
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+
+        if (after != null) {
+            Timestamp afterTime = Timestamp.valueOf(after.occurredAt());
+            int order = type.compareTo(after.type());
+            if (order < 0) {
+                // 같은 시각이면 이 종류가 커서 항목보다 뒤에 정렬됨
+                sql.append(" AND ").append(source.timeColumn()).append(" <= ?");
+                args.add(afterTime);
+            } else if (order > 0) {
+                sql.append(" AND ").append(source.timeColumn()).append(" < ?");
+                args.add(afterTime);
+            } else {
+                sql.append(" AND (").append(source.timeColumn()).append(" < ? OR (")
+                        .append(source.timeColumn()).append(" = ? AND ").append(source.idColumn()).append(" < ?))");
+                args.add(afterTime);
+                args.add(afterTime);
+                args.add(toIdParameter(type, after.id()));
+            }
+        }
+
+        sql.append(" ORDER BY ").append(source.timeColumn()).append(" DESC, ").append(source.idColumn()).append(" DESC")
+                .append(" LIMIT ").append(limit);
+        return jdbcTemplate.query(sql.toString(), source.rowMapper(), args.toArray());
+    }
+
+    private static Object toIdParameter(TimelineEntryType type, String id) {
+        if (type == TimelineEntryType.ANALYSIS_CREATED) {
+            UUID uuid = UUID.fromString(id);
+            return ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        }
+        return Long.parseLong(id);
+    }
+
+    private static UUID toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -2,22 +2,48 @@ package com.bookapp.backend.infrastructure.persistence.user;
 
 import com.bookapp.backend.domain.user.User;
 import com.bookapp.backend.domain.user.UserRepository;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardUserMirror;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationBus;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationRegion;
+import com.bookapp.backend.infrastructure.persistence.cache.EntityCacheEvictor;
+import com.bookapp.backend.infrastructure.search.InvertedSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
     
+    private static final String MARK_FOR_DELETION_SQL = "UPDATE users SET deletion_requested_at = ?, updated_at = updated_at " +
+            "WHERE id = ? AND deletion_requested_at IS NULL";
+    
     private final UserJpaRepository userJpaRepository;
+    private final InvertedSearchIndex searchIndex;
+    private final ObjectProvider<ShardUserMirror> shardUserMirror;
+    private final InvalidationBus invalidationBus;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheEvictor entityCacheEvictor;
     
     @Override
     public User save(User user) {
         UserEntity entity = UserEntity.fromDomain(user);
         UserEntity savedEntity = userJpaRepository.save(entity);
-        return savedEntity.toDomain();
+        User savedUser = savedEntity.toDomain();
+        // 샤딩 시 가입은 카탈로그에 저장되고, 배치 샤드에는 복제 행을 만들어 둠
+        ShardUserMirror mirror = shardUserMirror.getIfAvailable();
+        if (mirror != null && user.getId() == null) {
+            mirror.placeNewUser(savedUser);
+        }
+        if (user.getId() != null) {
+            invalidationBus.publish(InvalidationRegion.USER, savedUser.getId());
+        }
+        return savedUser;
     }
     
     @Override
@@ -40,5 +66,22 @@ public class UserRepositoryImpl implements UserRepository {
     @Override
     public void deleteById(Long id) {
         userJpaRepository.deleteById(id);
+        invalidationBus.publish(InvalidationRegion.USER, id);
+    }
+    
+    @Override
+    public boolean markForDeletion(Long id) {
+        ShardUserMirror mirror = shardUserMirror.getIfAvailable();
+        boolean marked = mirror != null
+                ? mirror.markForDeletion(id)
+                : jdbcTemplate.update(MARK_FOR_DELETION_SQL, Timestamp.valueOf(LocalDateTime.now()), id) > 0;
+        if (!marked) {
+            return false;
+        }
+        // 인증 필터가 요청마다 사용자를 조회하므로 영역 전체가 아니라 이 사용자만 2차 캐시에서 지움
+        entityCacheEvictor.evict(UserEntity.class, id);
+        searchIndex.removeUser(id);
+        invalidationBus.publish(InvalidationRegion.USER, id);
+        return true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.bookapp.backend.infrastructure.scheduling;
+
+/**
+ * 한 노드가 가진 스케줄 작업 임대. 하트비트가 갱신하는 동안만 유효하다.
+ * 오래 걸리는 작업은 배치 사이마다 isHeld()를 확인해 임대를 잃으면 멈춘다 (다른 노드가 이어받음).
+ * 샤딩 시 임대는 샤드마다 따로 있고, 그 샤드의 job_leases 행으로 같은 샤드의 쓰기를 막는다.
+ */
+public final class JobLease {
+
+    private final String jobName;
+    private final String shardName;
+    private final long fencingToken;
+    private final boolean unbounded;
+    private volatile long deadlineNanos;
+    private volatile boolean lost;
+
+    JobLease(String jobName, String shardName, long fencingToken, long deadlineNanos) {
+        this(jobName, shardName, fencingToken, deadlineNanos, false);
+    }
+
+    private JobLease(String jobName, String shardName, long fencingToken, long deadlineNanos, boolean unbounded) {
+        this.jobName = jobName;
+        this.shardName = shardName;
+        this.fencingToken = fencingToken;
+        this.deadlineNanos = deadlineNanos;
+        this.unbounded = unbounded;
+    }
+
+    // 임대를 쓰지 않을 때 (단일 노드) 항상 유효한 임대
+    static JobLease unbounded(String jobName, String shardName) {
+        return new JobLease(jobName, shardName, 0, 0, true);
+    }
+
+    static String key(String jobName, String shardName) {
+        return shardName != null ? jobName + "@" + shardName : jobName;
+    }
+
+    public String jobName() {
+        return jobName;
+    }
+
+    /**
+     * 임대 행이 있는 샤드. 샤딩하지 않으면 null.
+     */
+    public String shardName() {
+        return shardName;
+    }
+
+    String key() {
+        return key(jobName, shardName);
+    }
+
+    boolean isUnbounded() {
+        return unbounded;
+    }
+
+    /**
+     * 소유자가 바뀔 때마다 증가하는 값. 같은 작업의 이전 소유자보다 항상 크다.
+     */
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    public boolean isHeld() {
+        return unbounded || (!lost && System.nanoTime() - deadlineNanos < 0);
+    }
+
+    void extend(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    void markLost() {
+        this.lost = true;
+    }
+}
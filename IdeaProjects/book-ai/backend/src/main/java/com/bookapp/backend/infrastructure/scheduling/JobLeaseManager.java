@@ -0,0 +1,259 @@
+package com.bookapp.backend.infrastructure.scheduling;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * job_leases 테이블로 스케줄 작업마다 한 노드만 실행하게 한다.
+ *
+ * <ul>
+ *   <li>만료된(또는 주인 없는) 임대를 조건부 UPDATE 한 번으로 가져가며, 가져갈 때마다 fencing_token이 증가한다.</li>
+ *   <li>만료 시각은 DB 시각으로 계산/비교하므로 노드 간 시계 차이의 영향을 받지 않는다.</li>
+ *   <li>얻은 임대는 실행 뒤에도 하트비트로 유지해 같은 노드가 계속 맡는다. 노드가 죽으면 ttl 안에 다른 노드가 이어받는다.</li>
+ *   <li>하트비트는 스케줄러와 별도 스레드에서 돌므로 오래 걸리는 작업 중에도 임대가 갱신된다.</li>
+ *   <li>노드 안에서는 DB 만료보다 먼저 끝나는 기한으로 판단하고, 임대마다 토큰 조건으로 갱신해 0건이면 임대를 잃은 것으로 본다.</li>
+ *   <li>작업의 쓰기는 fenced()로 감싼다. 트랜잭션 첫 문장에서 자기 토큰의 임대 행을 잠그고 확인하므로,
+ *       멈춰 있던 이전 소유자가 깨어나도 새 소유자가 임대를 가져간 뒤의 쓰기는 반영되지 않고,
+ *       새 소유자는 진행 중인 이전 소유자의 트랜잭션이 끝난 뒤에야 임대를 가져간다.</li>
+ *   <li>샤딩 시 호출한 스레드의 샤드(ShardContext)마다 따로 임대를 잡는다. 쓰기와 같은 DB의 행이어야 같은 트랜잭션에서 확인할 수 있다.</li>
+ *   <li>정상 종료 시 임대를 반납해 다른 노드가 바로 이어받는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    private static final String ACQUIRE_SQL = "UPDATE job_leases SET owner_id = ?, fencing_token = fencing_token + 1,"
+            + " expires_at = TIMESTAMPADD(MICROSECOND, ?, CURRENT_TIMESTAMP(3)), heartbeat_at = CURRENT_TIMESTAMP(3)"
+            + " WHERE job_name = ? AND (owner_id IS NULL OR owner_id = ? OR expires_at <= CURRENT_TIMESTAMP(3))";
+    private static final String RENEW_SQL = "UPDATE job_leases SET"
+            + " expires_at = TIMESTAMPADD(MICROSECOND, ?, CURRENT_TIMESTAMP(3)), heartbeat_at = CURRENT_TIMESTAMP(3)"
+            + " WHERE job_name = ? AND owner_id = ? AND fencing_token = ?";
+    private static final String FENCE_SQL = "SELECT fencing_token FROM job_leases"
+            + " WHERE job_name = ? AND owner_id = ? AND fencing_token = ? FOR UPDATE";
+    private static final String RELEASE_SQL = "UPDATE job_leases SET owner_id = NULL, expires_at = CURRENT_TIMESTAMP(3)"
+            + " WHERE job_name = ? AND owner_id = ? AND fencing_token = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration heartbeatInterval;
+    // 노드 안에서는 임대 시간의 80%까지만 유효한 것으로 봄 (DB 왕복과 시계 속도 차이 여유)
+    private final long localValidityNanos;
+
+    private final String ownerId = UUID.randomUUID().toString();
+    private final Map<String, JobLease> held = new ConcurrentHashMap<>();
+    private final Set<String> registeredJobs = ConcurrentHashMap.newKeySet();
+    private final AtomicLong lostLeases = new AtomicLong();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("job-lease-heartbeat").daemon().factory());
+
+    public JobLeaseManager(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.job-lease.enabled:true}") boolean enabled,
+                           @Value("${app.job-lease.ttl:10s}") Duration ttl,
+                           @Value("${app.job-lease.heartbeat-interval:3s}") Duration heartbeatInterval) {
+        if (heartbeatInterval.compareTo(ttl.dividedBy(2)) > 0) {
+            throw new IllegalArgumentException("app.job-lease.heartbeat-interval은 ttl의 절반 이하여야 합니다");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.heartbeatInterval = heartbeatInterval;
+        this.localValidityNanos = ttl.toNanos() / 5 * 4;
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        if (enabled) {
+            long intervalMillis = heartbeatInterval.toMillis();
+            heartbeat.scheduleWithFixedDelay(this::renewAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean runIfHolder(String jobName, Runnable job) {
+        return runIfHolder(jobName, lease -> job.run());
+    }
+
+    /**
+     * 이 노드가 작업의 임대를 가지고 있거나 새로 얻었을 때만 실행한다. 샤딩 시 현재 샤드의 임대를 쓴다.
+     * 실행 중 fenced() 쓰기가 임대를 잃었음을 확인하면 남은 작업을 멈춘다.
+     *
+     * @return 실행했으면 true, 다른 노드가 임대를 가지고 있어 건너뛰었으면 false
+     */
+    public boolean runIfHolder(String jobName, Consumer<JobLease> job) {
+        JobLease lease = acquire(jobName, ShardContext.current());
+        if (lease == null) {
+            log.debug("다른 노드가 작업 임대를 가지고 있어 건너뜀 - job: {}", JobLease.key(jobName, ShardContext.current()));
+            return false;
+        }
+        try {
+            job.accept(lease);
+        } catch (LeaseLostException e) {
+            lose(lease);
+            log.warn("작업 임대를 잃어 실행을 중단 - job: {}, token: {}", lease.key(), lease.fencingToken());
+        }
+        return true;
+    }
+
+    public void fenced(JobLease lease, Runnable write) {
+        fenced(lease, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    /**
+     * 임대 행을 잠가 토큰을 확인한 트랜잭션 안에서 쓴다. 임대가 다른 노드로 넘어갔으면 쓰지 않고 LeaseLostException을 던진다.
+     * 잠금은 커밋까지 유지되므로 그 사이 다른 노드의 획득 UPDATE는 이 트랜잭션이 끝날 때까지 기다린다.
+     */
+    public <T> T fenced(JobLease lease, Supplier<T> write) {
+        if (!Objects.equals(lease.shardName(), ShardContext.current())) {
+            throw new IllegalStateException("임대를 얻은 샤드에서만 쓸 수 있습니다 - job: " + lease.key());
+        }
+        return transactionTemplate.execute(status -> {
+            if (!lease.isUnbounded()) {
+                List<Long> tokens = jdbcTemplate.queryForList(FENCE_SQL, Long.class,
+                        lease.jobName(), ownerId, lease.fencingToken());
+                if (tokens.isEmpty()) {
+                    throw new LeaseLostException(lease);
+                }
+            }
+            return write.get();
+        });
+    }
+
+    /**
+     * 이 노드가 가진 임대의 작업 이름과 fencing token.
+     */
+    public Map<String, Long> holdings() {
+        Map<String, Long> holdings = new TreeMap<>();
+        held.forEach((key, lease) -> {
+            if (lease.isHeld()) {
+                holdings.put(key, lease.fencingToken());
+            }
+        });
+        return holdings;
+    }
+
+    /**
+     * 이 노드가 가지고 있다가 다른 노드에 넘어간 것을 확인한 임대 수 (fenced() 실패, 갱신 실패, 재획득 실패).
+     */
+    public long lostLeaseCount() {
+        return lostLeases.get();
+    }
+
+    private JobLease acquire(String jobName, String shardName) {
+        if (!enabled) {
+            return JobLease.unbounded(jobName, shardName);
+        }
+        String key = JobLease.key(jobName, shardName);
+        JobLease current = held.get(key);
+        if (current != null && current.isHeld()) {
+            return current;
+        }
+
+        register(jobName, key);
+        long startedAt = System.nanoTime();
+        int updated = jdbcTemplate.update(ACQUIRE_SQL, ownerId, ttl.toNanos() / 1000, jobName, ownerId);
+        if (updated == 0) {
+            if (current != null) {
+                lose(current);
+            }
+            return null;
+        }
+        Long token = jdbcTemplate.queryForObject(
+                "SELECT fencing_token FROM job_leases WHERE job_name = ? AND owner_id = ?", Long.class, jobName, ownerId);
+        JobLease lease = new JobLease(jobName, shardName, token, startedAt + localValidityNanos);
+        if (current != null) {
+            current.markLost();
+        }
+        held.put(key, lease);
+        log.info("작업 임대 획득 - job: {}, token: {}", key, token);
+        return lease;
+    }
+
+    private void register(String jobName, String key) {
+        if (!registeredJobs.add(key)) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO job_leases (job_name) VALUES (?)", jobName);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 만듦
+        } catch (RuntimeException e) {
+            registeredJobs.remove(key);
+            throw e;
+        }
+    }
+
+    private void lose(JobLease lease) {
+        lease.markLost();
+        if (held.remove(lease.key(), lease)) {
+            lostLeases.incrementAndGet();
+        }
+    }
+
+    void renewAll() {
+        // 갱신 도중 새로 얻은 임대는 다음 주기에 갱신
+        for (JobLease lease : List.copyOf(held.values())) {
+            long startedAt = System.nanoTime();
+            try {
+                int updated = onShard(lease, () -> jdbcTemplate.update(RENEW_SQL, ttl.toNanos() / 1000,
+                        lease.jobName(), ownerId, lease.fencingToken()));
+                if (updated == 1) {
+                    lease.extend(startedAt + localValidityNanos);
+                } else {
+                    lose(lease);
+                    log.warn("작업 임대를 다른 노드에 빼앗김 - job: {}, token: {}", lease.key(), lease.fencingToken());
+                }
+            } catch (RuntimeException e) {
+                // 갱신하지 못한 임대는 노드 안의 기한이 지나면 스스로 무효가 됨
+                log.warn("작업 임대 갱신 실패 - job: {}", lease.key(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void releaseAll() {
+        heartbeat.shutdownNow();
+        held.values().forEach(lease -> {
+            try {
+                onShard(lease, () -> jdbcTemplate.update(RELEASE_SQL, lease.jobName(), ownerId, lease.fencingToken()));
+            } catch (RuntimeException e) {
+                log.warn("작업 임대 반납 실패 - job: {}", lease.key(), e);
+            }
+        });
+        held.clear();
+    }
+
+    // 하트비트/종료 스레드에는 ShardContext가 없으므로 임대를 얻은 샤드를 지정
+    private <T> T onShard(JobLease lease, Supplier<T> task) {
+        return lease.shardName() != null ? ShardContext.callOn(lease.shardName(), task) : task.get();
+    }
+}
@@ -0,0 +1,12 @@
+package com.bookapp.backend.infrastructure.scheduling;
+
+/**
+ * 쓰기 트랜잭션을 시작할 때 job_leases의 fencing token이 이미 다른 노드로 넘어가 있으면 발생한다.
+ * 이 트랜잭션의 쓰기는 하나도 반영되지 않는다.
+ */
+public class LeaseLostException extends IllegalStateException {
+
+    public LeaseLostException(JobLease lease) {
+        super("작업 임대를 잃었습니다 - job: " + lease.key() + ", token: " + lease.fencingToken());
+    }
+}
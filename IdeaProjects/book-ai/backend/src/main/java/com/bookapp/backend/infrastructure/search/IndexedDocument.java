@@ -0,0 +1,83 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.search.SearchDocumentType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인덱스에 들어간 문서 하나의 전방 색인 (용어별 출현 빈도). 생성 후 변경하지 않는다.
+ */
+final class IndexedDocument {
+
+    private final SearchDocumentType type;
+    private final String id;
+    private final Long bookId;
+    private final int length;
+    private final Map<String, Integer> termFrequencies;
+
+    IndexedDocument(SearchDocumentType type, String id, Long bookId, int length, Map<String, Integer> termFrequencies) {
+        this.type = type;
+        this.id = id;
+        this.bookId = bookId;
+        this.length = length;
+        this.termFrequencies = Collections.unmodifiableMap(termFrequencies);
+    }
+
+    static IndexedDocument forBook(Long id, String title, String author, String description) {
+        StringBuilder text = new StringBuilder();
+        for (String part : new String[]{title, author, description}) {
+            if (part != null) {
+                text.append(part).append('\n');
+            }
+        }
+        return of(SearchDocumentType.BOOK, String.valueOf(id), id, text.toString());
+    }
+
+    static IndexedDocument forReadingRecord(Long id, Long bookId, String content) {
+        return of(SearchDocumentType.READING_RECORD, String.valueOf(id), bookId, content);
+    }
+
+    static IndexedDocument forAnalysis(String analysisId, Long bookId, String content) {
+        return of(SearchDocumentType.ANALYSIS, analysisId, bookId, content);
+    }
+
+    private static IndexedDocument of(SearchDocumentType type, String id, Long bookId, String text) {
+        List<String> tokens = KoreanBigramTokenizer.tokenize(text);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return new IndexedDocument(type, id, bookId, tokens.size(), frequencies);
+    }
+
+    static String key(SearchDocumentType type, String id) {
+        return type.name() + ":" + id;
+    }
+
+    String key() {
+        return key(type, id);
+    }
+
+    SearchDocumentType getType() {
+        return type;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Long getBookId() {
+        return bookId;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    Map<String, Integer> getTermFrequencies() {
+        return termFrequencies;
+    }
+}
@@ -0,0 +1,304 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.analysis.AIAnalysis;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.search.ContentSearchIndex;
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import com.bookapp.backend.domain.search.SearchHit;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationBus;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationRegion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별로 샤딩된 메모리 역색인 (한글 bigram + BM25).
+ * 저장소 구현체의 저장/삭제 경로에서 호출되며, 트랜잭션이 커밋된 뒤에만 인덱스에 반영한다.
+ * 다른 노드는 바뀐 문서의 키(사용자 ID/문서 키)를 전달받아 그 문서만 DB에서 다시 읽어 반영한다.
+ * 다시 읽는 동안 이 노드의 커밋이 같은 사용자의 인덱스를 바꿨으면 읽은 값이 더 오래됐을 수 있으므로 버리고 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvertedSearchIndex implements ContentSearchIndex {
+
+    private static final char USER_SEPARATOR = '/';
+    private static final int MAX_REFRESH_ATTEMPTS = 3;
+
+    private final SearchIndexSource searchIndexSource;
+    private final InvalidationBus invalidationBus;
+
+    private final Map<Long, UserIndexShard> shards = new ConcurrentHashMap<>();
+    private final AtomicLong modificationCount = new AtomicLong();
+    // 사용자별로 이 노드의 커밋을 마지막으로 반영한 시점의 modificationCount
+    private final Map<Long, Long> localWrites = new ConcurrentHashMap<>();
+
+    public void indexBook(Book book) {
+        IndexedDocument document = IndexedDocument.forBook(
+                book.getId(), book.getTitle(), book.getAuthor(), book.getDescription());
+        afterLocalCommit(book.getUserId(), () -> put(book.getUserId(), document));
+        invalidationBus.publish(InvalidationRegion.SEARCH_INDEX, changeKey(book.getUserId(), document.key()));
+    }
+
+    public void indexReadingRecord(ReadingRecord readingRecord) {
+        IndexedDocument document = IndexedDocument.forReadingRecord(
+                readingRecord.getId(), readingRecord.getBookId(), readingRecord.getContent());
+        afterLocalCommit(readingRecord.getUserId(), () -> put(readingRecord.getUserId(), document));
+        invalidationBus.publish(InvalidationRegion.SEARCH_INDEX, changeKey(readingRecord.getUserId(), document.key()));
+    }
+
+    public void indexAnalysis(AIAnalysis analysis) {
+        IndexedDocument document = IndexedDocument.forAnalysis(
+                analysis.getAnalysisId(), analysis.getBookId(), analysis.getContent());
+        afterLocalCommit(analysis.getUserId(), () -> put(analysis.getUserId(), document));
+        invalidationBus.publish(InvalidationRegion.SEARCH_INDEX, changeKey(analysis.getUserId(), document.key()));
+    }
+
+    /**
+     * 책이 삭제되면 DB에서 함께 지워지는(ON DELETE CASCADE) 독서 기록/분석도 인덱스에서 제거한다.
+     */
+    public void removeBook(Long userId, Long bookId) {
+        afterLocalCommit(userId, () -> removeByBookId(userId, bookId));
+        invalidationBus.publish(InvalidationRegion.SEARCH_INDEX,
+                changeKey(userId, IndexedDocument.key(SearchDocumentType.BOOK, String.valueOf(bookId))));
+    }
+
+    public void removeUser(Long userId) {
+        afterLocalCommit(userId, () -> {
+            if (shards.remove(userId) != null) {
+                modificationCount.incrementAndGet();
+            }
+        });
+        invalidationBus.publish(InvalidationRegion.SEARCH_INDEX, userId);
+    }
+
+    public void removeReadingRecord(Long userId, Long readingRecordId) {
+        String key = IndexedDocument.key(SearchDocumentType.READING_RECORD, String.valueOf(readingRecordId));
+        afterLocalCommit(userId, () -> remove(userId, key));
+        invalidationBus.publish(InvalidationRegion.SEARCH_INDEX, changeKey(userId, key));
+    }
+
+    public void removeAnalysis(Long userId, String analysisId) {
+        String key = IndexedDocument.key(SearchDocumentType.ANALYSIS, analysisId);
+        afterLocalCommit(userId, () -> remove(userId, key));
+        invalidationBus.publish(InvalidationRegion.SEARCH_INDEX, changeKey(userId, key));
+    }
+
+    /**
+     * 다른 노드가 발행한 변경 키를 반영한다. 문서 키가 있으면 그 문서만 DB에서 다시 읽어 넣거나
+     * (DB에 없거나 삭제 대기 중이면) 빼고, 사용자 ID만 있으면 그 사용자의 인덱스를 다시 만든다.
+     */
+    public void applyRemoteChange(String changeKey) {
+        int userSeparator = changeKey.indexOf(USER_SEPARATOR);
+        Long userId = Long.valueOf(userSeparator < 0 ? changeKey : changeKey.substring(0, userSeparator));
+        if (userSeparator < 0) {
+            rebuild(userId);
+            return;
+        }
+        String documentKey = changeKey.substring(userSeparator + 1);
+        int typeSeparator = documentKey.indexOf(':');
+        if (typeSeparator < 0) {
+            throw new IllegalArgumentException("검색 인덱스 변경 키 형식이 올바르지 않습니다: " + changeKey);
+        }
+        SearchDocumentType type = SearchDocumentType.valueOf(documentKey.substring(0, typeSeparator));
+        String id = documentKey.substring(typeSeparator + 1);
+
+        for (int attempt = 0; attempt < MAX_REFRESH_ATTEMPTS; attempt++) {
+            long readFrom = modificationCount.get();
+            Optional<IndexedDocument> document = searchIndexSource.loadDocument(userId, type, id);
+            boolean applied = applyUnlessOvertaken(userId, readFrom, () -> document.ifPresentOrElse(
+                    loaded -> put(userId, loaded),
+                    () -> {
+                        if (type == SearchDocumentType.BOOK) {
+                            removeByBookId(userId, Long.valueOf(id));
+                        } else {
+                            remove(userId, documentKey);
+                        }
+                    }));
+            if (applied) {
+                return;
+            }
+        }
+        log.debug("검색 인덱스 문서 갱신 포기 - 이 노드의 변경이 계속 겹침, key: {}", changeKey);
+    }
+
+    /**
+     * 모든 사용자의 인덱스를 DB 기준으로 다시 만든다. 읽는 동안 이 노드가 바꾼 사용자는 따로 다시 읽는다.
+     * 비운 뒤 채우면 그 사이 검색이 빈 결과를 보므로 사용자별로 교체하고, DB에 없는 사용자만 뺀다.
+     */
+    public int refreshAll() {
+        long readFrom = modificationCount.get();
+        Map<Long, UserIndexShard> rebuilt = new HashMap<>();
+        int count = searchIndexSource.loadAll((userId, document) ->
+                rebuilt.computeIfAbsent(userId, id -> new UserIndexShard()).put(document));
+        Set<Long> userIds = new HashSet<>(rebuilt.keySet());
+        userIds.addAll(shards.keySet());
+        for (Long userId : userIds) {
+            UserIndexShard shard = rebuilt.get(userId);
+            if (!applyUnlessOvertaken(userId, readFrom, () -> replace(userId, shard))) {
+                rebuild(userId);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public List<SearchHit> search(Long userId, String query, int limit) {
+        UserIndexShard shard = shards.get(userId);
+        if (shard == null) {
+            return List.of();
+        }
+        return shard.search(KoreanBigramTokenizer.tokenize(query), limit);
+    }
+
+    @Override
+    public int rebuild(Long userId) {
+        for (int attempt = 0; attempt < MAX_REFRESH_ATTEMPTS; attempt++) {
+            long readFrom = modificationCount.get();
+            UserIndexShard rebuilt = new UserIndexShard();
+            searchIndexSource.loadUser(userId, (ownerId, document) -> rebuilt.put(document));
+            // 문서가 없으면(탈퇴 요청 포함) 빈 샤드를 남기지 않음
+            if (applyUnlessOvertaken(userId, readFrom, () -> replace(userId, rebuilt.size() > 0 ? rebuilt : null))) {
+                return rebuilt.size();
+            }
+        }
+        log.debug("검색 인덱스 재구축 포기 - 이 노드의 변경이 계속 겹침, userId: {}", userId);
+        UserIndexShard current = shards.get(userId);
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * 스냅샷 문서를 채운다. 기존 샤드를 비우지 않고, 이미 색인된 문서가 있으면 그 문서를 스냅샷보다 우선한다.
+     */
+    void restore(Map<Long, List<IndexedDocument>> documentsByUser) {
+        documentsByUser.forEach((userId, documents) -> {
+            UserIndexShard restored = new UserIndexShard();
+            documents.forEach(restored::put);
+            UserIndexShard existing = shards.putIfAbsent(userId, restored);
+            if (existing != null) {
+                documents.forEach(existing::putIfAbsent);
+            }
+        });
+    }
+
+    Set<Long> userIds() {
+        return Set.copyOf(shards.keySet());
+    }
+
+    /**
+     * 사용자의 문서 중 DB에 더 이상 없는 문서를 제거하고 제거한 수를 반환한다.
+     */
+    int retainOnly(Long userId, Set<String> existingKeys) {
+        UserIndexShard shard = shards.get(userId);
+        if (shard == null) {
+            return 0;
+        }
+        int removed = 0;
+        for (IndexedDocument document : shard.documents()) {
+            if (!existingKeys.contains(document.key())) {
+                shard.remove(document.key());
+                removed++;
+            }
+        }
+        if (existingKeys.isEmpty()) {
+            shards.remove(userId, shard);
+        }
+        if (removed > 0) {
+            modificationCount.incrementAndGet();
+        }
+        return removed;
+    }
+
+    Map<Long, List<IndexedDocument>> documentsByUser() {
+        Map<Long, List<IndexedDocument>> copy = new HashMap<>();
+        shards.forEach((userId, shard) -> copy.put(userId, shard.documents()));
+        return copy;
+    }
+
+    long modificationCount() {
+        return modificationCount.get();
+    }
+
+    void put(Long userId, IndexedDocument document) {
+        shards.computeIfAbsent(userId, id -> new UserIndexShard()).put(document);
+        modificationCount.incrementAndGet();
+    }
+
+    static String changeKey(Long userId, String documentKey) {
+        return String.valueOf(userId) + USER_SEPARATOR + documentKey;
+    }
+
+    private void remove(Long userId, String key) {
+        UserIndexShard shard = shards.get(userId);
+        if (shard != null) {
+            shard.remove(key);
+            modificationCount.incrementAndGet();
+        }
+    }
+
+    private void removeByBookId(Long userId, Long bookId) {
+        UserIndexShard shard = shards.get(userId);
+        if (shard != null) {
+            shard.removeByBookId(bookId);
+            modificationCount.incrementAndGet();
+        }
+    }
+
+    private void replace(Long userId, UserIndexShard shard) {
+        if (shard != null) {
+            shards.put(userId, shard);
+        } else {
+            shards.remove(userId);
+        }
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * DB를 readFrom 시점 이후에 읽었으므로, 그 뒤 이 노드의 커밋이 같은 사용자에 반영되지 않았을 때만 적용한다.
+     * 확인과 적용은 localWrites의 같은 항목 잠금 안에서 하므로 로컬 반영과 섞이지 않는다.
+     */
+    private boolean applyUnlessOvertaken(Long userId, long readFrom, Runnable apply) {
+        boolean[] applied = {false};
+        localWrites.compute(userId, (id, lastWrite) -> {
+            if (lastWrite == null || lastWrite <= readFrom) {
+                apply.run();
+                applied[0] = true;
+            }
+            return lastWrite;
+        });
+        return applied[0];
+    }
+
+    private void afterLocalCommit(Long userId, Runnable action) {
+        afterCommit(() -> localWrites.compute(userId, (id, lastWrite) -> {
+            action.run();
+            return modificationCount.incrementAndGet();
+        }));
+    }
+
+    // 롤백된 변경이 검색 결과에 남지 않도록 커밋 이후에 반영
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
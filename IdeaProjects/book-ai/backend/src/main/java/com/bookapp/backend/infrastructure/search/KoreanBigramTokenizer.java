@@ -0,0 +1,74 @@
+package com.bookapp.backend.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글(및 한자/가나)은 글자 bigram으로, 그 외 영문/숫자는 단어 단위로 자르는 토크나이저.
+ * 형태소 분석 없이도 "독서를", "독서는" 같은 조사 결합형이 "독서"로 검색된다.
+ */
+final class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int runStart = -1;
+        boolean runIsCjk = false;
+        for (int i = 0; i < codePoints.length; i++) {
+            int cp = codePoints[i];
+            if (!Character.isLetterOrDigit(cp)) {
+                flush(codePoints, runStart, i, runIsCjk, tokens);
+                runStart = -1;
+                continue;
+            }
+
+            boolean cjk = isCjk(cp);
+            if (runStart >= 0 && cjk != runIsCjk) {
+                flush(codePoints, runStart, i, runIsCjk, tokens);
+                runStart = -1;
+            }
+            if (runStart < 0) {
+                runStart = i;
+                runIsCjk = cjk;
+            }
+        }
+        flush(codePoints, runStart, codePoints.length, runIsCjk, tokens);
+        return tokens;
+    }
+
+    private static void flush(int[] codePoints, int start, int end, boolean cjk, List<String> tokens) {
+        if (start < 0 || end <= start) {
+            return;
+        }
+        if (!cjk) {
+            tokens.add(new String(codePoints, start, end - start));
+            return;
+        }
+        if (end - start == 1) {
+            tokens.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
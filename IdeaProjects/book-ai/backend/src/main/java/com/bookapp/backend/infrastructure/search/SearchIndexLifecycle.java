@@ -0,0 +1,122 @@
+package com.bookapp.backend.infrastructure.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 기동 시 스냅샷을 복원하고 그 이후 변경분만 DB에서 따라잡는다.
+ * 스냅샷이 없거나 읽을 수 없으면 전체를 다시 색인한다. 변경이 있을 때만 주기적으로, 그리고 종료 시 스냅샷을 남긴다.
+ * 복원은 웹 서버가 요청을 받기 전에 끝내서, 복원 도중 색인된 문서가 복원 결과에 덮이지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexLifecycle implements SmartLifecycle {
+
+    // 웹 서버 시작(WebServerStartStopLifecycle, DEFAULT_PHASE - 1024)보다 먼저 실행
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    // 스냅샷 시각과 updated_at 사이의 시계 오차/진행 중이던 트랜잭션을 감안한 여유
+    private static final long CATCH_UP_MARGIN_MINUTES = 1;
+
+    private final InvertedSearchIndex searchIndex;
+    private final SearchIndexSource searchIndexSource;
+    private final SearchIndexSnapshotStore snapshotStore;
+
+    private volatile boolean restored;
+    private volatile boolean running;
+    private long snapshotModificationCount = -1;
+
+    @Override
+    public void start() {
+        restore();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    void restore() {
+        try {
+            Optional<SearchIndexSnapshotStore.Snapshot> snapshot = snapshotStore.read();
+            if (snapshot.isPresent()) {
+                searchIndex.restore(snapshot.get().documentsByUser());
+                LocalDateTime since = snapshot.get().takenAt().minusMinutes(CATCH_UP_MARGIN_MINUTES);
+                int updated = searchIndexSource.loadModifiedSince(since, searchIndex::put);
+                Set<Long> userIds = searchIndex.userIds();
+                Map<Long, Set<String>> existingKeys = searchIndexSource.existingKeys(userIds);
+                int removed = 0;
+                for (Long userId : userIds) {
+                    removed += searchIndex.retainOnly(userId, existingKeys.get(userId));
+                }
+                log.info("검색 인덱스 스냅샷 복원 완료 - takenAt: {}, 재색인: {}, 제거: {}",
+                        snapshot.get().takenAt(), updated, removed);
+            } else {
+                int indexed = searchIndex.refreshAll();
+                log.info("검색 인덱스 스냅샷 없음 - 전체 색인 완료: {}건", indexed);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 인덱스 스냅샷 복원 실패 - 전체 재색인합니다", e);
+            try {
+                searchIndex.refreshAll();
+            } catch (RuntimeException rebuildFailure) {
+                // 검색 외 기능은 계속 동작하도록 기동은 막지 않는다
+                log.error("검색 인덱스 전체 재색인 실패", rebuildFailure);
+                return;
+            }
+        }
+        restored = true;
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.snapshot-interval-ms:300000}",
+            initialDelayString = "${search.index.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        writeSnapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeSnapshot();
+    }
+
+    private synchronized void writeSnapshot() {
+        // 복원 전에 저장하면 불완전한 인덱스가 기존 스냅샷을 덮어쓴다
+        if (!restored) {
+            return;
+        }
+        long modifications = searchIndex.modificationCount();
+        if (modifications == snapshotModificationCount) {
+            return;
+        }
+        LocalDateTime takenAt = LocalDateTime.now();
+        try {
+            snapshotStore.write(takenAt, searchIndex.documentsByUser());
+            snapshotModificationCount = modifications;
+            log.debug("검색 인덱스 스냅샷 저장 - takenAt: {}", takenAt);
+        } catch (IOException e) {
+            log.warn("검색 인덱스 스냅샷 저장 실패", e);
+        }
+    }
+}
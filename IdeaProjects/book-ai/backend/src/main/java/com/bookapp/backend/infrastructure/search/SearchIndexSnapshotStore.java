@@ -0,0 +1,116 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 인덱스의 전방 색인을 로컬 디스크에 저장/복원한다. 역색인(posting)은 복원 시 다시 계산한다.
+ */
+@Component
+class SearchIndexSnapshotStore {
+
+    private static final int MAGIC = 0x42534958;
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_NAME = "search-index.snapshot";
+
+    @Value("${search.index.snapshot-dir:./data/search-index}")
+    private String snapshotDir;
+
+    record Snapshot(LocalDateTime takenAt, Map<Long, List<IndexedDocument>> documentsByUser) {
+    }
+
+    void write(LocalDateTime takenAt, Map<Long, List<IndexedDocument>> documentsByUser) throws IOException {
+        Path directory = Paths.get(snapshotDir);
+        Files.createDirectories(directory);
+        Path target = directory.resolve(FILE_NAME);
+        Path temp = directory.resolve(FILE_NAME + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(takenAt.toString());
+            out.writeInt(documentsByUser.size());
+            for (Map.Entry<Long, List<IndexedDocument>> entry : documentsByUser.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (IndexedDocument document : entry.getValue()) {
+                    writeDocument(out, document);
+                }
+            }
+        }
+        // 쓰다 중단된 파일이 기존 스냅샷을 덮어쓰지 않도록 임시 파일을 원자적으로 교체
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    Optional<Snapshot> read() throws IOException {
+        Path target = Paths.get(snapshotDir).resolve(FILE_NAME);
+        if (!Files.exists(target)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(target))))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            LocalDateTime takenAt = LocalDateTime.parse(in.readUTF());
+            int userCount = in.readInt();
+            Map<Long, List<IndexedDocument>> documentsByUser = new HashMap<>(userCount * 2);
+            for (int i = 0; i < userCount; i++) {
+                long userId = in.readLong();
+                int documentCount = in.readInt();
+                List<IndexedDocument> documents = new ArrayList<>(documentCount);
+                for (int j = 0; j < documentCount; j++) {
+                    documents.add(readDocument(in));
+                }
+                documentsByUser.put(userId, documents);
+            }
+            return Optional.of(new Snapshot(takenAt, documentsByUser));
+        }
+    }
+
+    private void writeDocument(DataOutputStream out, IndexedDocument document) throws IOException {
+        out.writeByte(document.getType().ordinal());
+        out.writeUTF(document.getId());
+        out.writeLong(document.getBookId() != null ? document.getBookId() : -1L);
+        out.writeInt(document.getLength());
+        out.writeInt(document.getTermFrequencies().size());
+        for (Map.Entry<String, Integer> term : document.getTermFrequencies().entrySet()) {
+            out.writeUTF(term.getKey());
+            out.writeInt(term.getValue());
+        }
+    }
+
+    private IndexedDocument readDocument(DataInputStream in) throws IOException {
+        SearchDocumentType type = SearchDocumentType.values()[in.readByte()];
+        String id = in.readUTF();
+        long bookId = in.readLong();
+        int length = in.readInt();
+        int termCount = in.readInt();
+        Map<String, Integer> frequencies = new HashMap<>(termCount * 2);
+        for (int i = 0; i < termCount; i++) {
+            frequencies.put(in.readUTF(), in.readInt());
+        }
+        return new IndexedDocument(type, id, bookId >= 0 ? bookId : null, length, frequencies);
+    }
+}
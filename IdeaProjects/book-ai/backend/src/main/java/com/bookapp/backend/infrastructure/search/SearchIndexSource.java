@@ -0,0 +1,170 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 인덱스 재구축/보정용으로 DB에서 색인 대상 문서를 읽는다.
+ * 엔티티를 거치지 않고 필요한 컬럼만 JDBC로 흘려 읽어 영속성 컨텍스트에 쌓이지 않게 한다.
+ * 샤딩 시 전체 적재는 샤드마다, 사용자 단위 적재는 그 사용자의 샤드에서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+class SearchIndexSource {
+
+    // 삭제 대기 중인 책과 그 하위 문서는 색인하지 않음
+    private static final String LIVE_BOOK_CONDITION =
+            "book_id NOT IN (SELECT id FROM books WHERE deletion_requested_at IS NOT NULL)";
+    private static final String BOOK_COLUMNS = "SELECT id, user_id, title, author, description FROM books"
+            + " WHERE deletion_requested_at IS NULL";
+    private static final String READING_RECORD_COLUMNS = "SELECT id, user_id, book_id, content FROM reading_records"
+            + " WHERE " + LIVE_BOOK_CONDITION;
+    private static final String ANALYSIS_COLUMNS = "SELECT analysis_id, user_id, book_id, content FROM ai_analyses"
+            + " WHERE " + LIVE_BOOK_CONDITION;
+    // 아카이브로 옮겨진 분석도 계속 검색되도록 함께 색인
+    private static final String ARCHIVED_ANALYSIS_COLUMNS = "SELECT analysis_id, user_id, book_id, content FROM ai_analyses_archive"
+            + " WHERE " + LIVE_BOOK_CONDITION;
+    // 탈퇴 요청 후 다른 노드가 재구축할 때 인덱스가 되살아나지 않도록 함
+    private static final String LIVE_USER_CONDITION =
+            " AND user_id = ? AND user_id IN (SELECT id FROM users WHERE deletion_requested_at IS NULL)";
+    private static final int KEYS_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardExecutor shardExecutor;
+
+    int loadAll(BiConsumer<Long, IndexedDocument> sink) {
+        AtomicInteger count = new AtomicInteger();
+        shardExecutor.forEachShard(() -> count.addAndGet(load("", sink)));
+        return count.get();
+    }
+
+    int loadUser(Long userId, BiConsumer<Long, IndexedDocument> sink) {
+        return shardExecutor.onShardOf(userId, () -> load(LIVE_USER_CONDITION, sink, userId));
+    }
+
+    /**
+     * 한 사용자의 문서 하나를 기본 키로 읽는다. 삭제됐거나 책/사용자가 삭제 대기 중이면 비어 있다.
+     */
+    Optional<IndexedDocument> loadDocument(Long userId, SearchDocumentType type, String id) {
+        return shardExecutor.onShardOf(userId, () -> switch (type) {
+            case BOOK -> first(BOOK_COLUMNS + LIVE_USER_CONDITION + " AND id = ?",
+                    (rs, rowNum) -> toBook(rs), userId, Long.valueOf(id));
+            case READING_RECORD -> first(READING_RECORD_COLUMNS + LIVE_USER_CONDITION + " AND id = ?",
+                    (rs, rowNum) -> toReadingRecord(rs), userId, Long.valueOf(id));
+            case ANALYSIS -> {
+                byte[] analysisId = toBytes(UUID.fromString(id));
+                yield first(ANALYSIS_COLUMNS + LIVE_USER_CONDITION + " AND analysis_id = ?",
+                        (rs, rowNum) -> toAnalysis(rs), userId, analysisId)
+                        .or(() -> first(ARCHIVED_ANALYSIS_COLUMNS + LIVE_USER_CONDITION + " AND analysis_id = ?",
+                                (rs, rowNum) -> toAnalysis(rs), userId, analysisId));
+            }
+        });
+    }
+
+    /**
+     * 주어진 시각 이후 생성/수정된 문서만 읽는다 (스냅샷 복원 후 따라잡기용).
+     */
+    int loadModifiedSince(LocalDateTime since, BiConsumer<Long, IndexedDocument> sink) {
+        Timestamp timestamp = Timestamp.valueOf(since);
+        AtomicInteger count = new AtomicInteger();
+        shardExecutor.forEachShard(() -> loadModifiedSince(timestamp, sink, count));
+        return count.get();
+    }
+
+    private void loadModifiedSince(Timestamp timestamp, BiConsumer<Long, IndexedDocument> sink, AtomicInteger count) {
+        jdbcTemplate.query(BOOK_COLUMNS + " AND updated_at >= ?",
+                rs -> { sink.accept(rs.getLong("user_id"), toBook(rs)); count.incrementAndGet(); }, timestamp);
+        jdbcTemplate.query(READING_RECORD_COLUMNS + " AND updated_at >= ?",
+                rs -> { sink.accept(rs.getLong("user_id"), toReadingRecord(rs)); count.incrementAndGet(); }, timestamp);
+        jdbcTemplate.query(ANALYSIS_COLUMNS + " AND created_at >= ?",
+                rs -> { sink.accept(rs.getLong("user_id"), toAnalysis(rs)); count.incrementAndGet(); }, timestamp);
+    }
+
+    /**
+     * 사용자별로 현재 DB에 존재하는 문서 키. 스냅샷 이후 삭제된 문서를 걸러내는 데 사용한다.
+     * 사용자마다 조회하지 않도록 샤드별로 KEYS_CHUNK_SIZE명씩 IN 조건으로 묶어 키 컬럼만 읽는다.
+     * 문서가 하나도 없는 사용자는 빈 집합으로 들어 있다.
+     */
+    Map<Long, Set<String>> existingKeys(Collection<Long> userIds) {
+        Map<Long, Set<String>> keysByUser = new HashMap<>();
+        userIds.forEach(userId -> keysByUser.put(userId, new HashSet<>()));
+        shardExecutor.forEachShardOf(userIds, Function.identity(), shardUserIds -> {
+            for (int from = 0; from < shardUserIds.size(); from += KEYS_CHUNK_SIZE) {
+                List<Long> chunk = shardUserIds.subList(from, Math.min(from + KEYS_CHUNK_SIZE, shardUserIds.size()));
+                String owners = "user_id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+                Object[] args = chunk.toArray();
+                jdbcTemplate.query("SELECT user_id, id FROM books WHERE " + owners + " AND deletion_requested_at IS NULL",
+                        rs -> { keysByUser.get(rs.getLong(1)).add(IndexedDocument.key(SearchDocumentType.BOOK, String.valueOf(rs.getLong(2)))); }, args);
+                jdbcTemplate.query("SELECT user_id, id FROM reading_records WHERE " + owners + " AND " + LIVE_BOOK_CONDITION,
+                        rs -> { keysByUser.get(rs.getLong(1)).add(IndexedDocument.key(SearchDocumentType.READING_RECORD, String.valueOf(rs.getLong(2)))); }, args);
+                jdbcTemplate.query("SELECT user_id, analysis_id FROM ai_analyses WHERE " + owners + " AND " + LIVE_BOOK_CONDITION,
+                        rs -> { keysByUser.get(rs.getLong(1)).add(IndexedDocument.key(SearchDocumentType.ANALYSIS, toUuid(rs.getBytes(2)))); }, args);
+                jdbcTemplate.query("SELECT user_id, analysis_id FROM ai_analyses_archive WHERE " + owners + " AND " + LIVE_BOOK_CONDITION,
+                        rs -> { keysByUser.get(rs.getLong(1)).add(IndexedDocument.key(SearchDocumentType.ANALYSIS, toUuid(rs.getBytes(2)))); }, args);
+            }
+        });
+        return keysByUser;
+    }
+
+    private int load(String where, BiConsumer<Long, IndexedDocument> sink, Object... args) {
+        AtomicInteger count = new AtomicInteger();
+        jdbcTemplate.query(BOOK_COLUMNS + where,
+                rs -> { sink.accept(rs.getLong("user_id"), toBook(rs)); count.incrementAndGet(); }, args);
+        jdbcTemplate.query(READING_RECORD_COLUMNS + where,
+                rs -> { sink.accept(rs.getLong("user_id"), toReadingRecord(rs)); count.incrementAndGet(); }, args);
+        jdbcTemplate.query(ANALYSIS_COLUMNS + where,
+                rs -> { sink.accept(rs.getLong("user_id"), toAnalysis(rs)); count.incrementAndGet(); }, args);
+        jdbcTemplate.query(ARCHIVED_ANALYSIS_COLUMNS + where,
+                rs -> { sink.accept(rs.getLong("user_id"), toAnalysis(rs)); count.incrementAndGet(); }, args);
+        return count.get();
+    }
+
+    private Optional<IndexedDocument> first(String sql, RowMapper<IndexedDocument> rowMapper, Object... args) {
+        return jdbcTemplate.query(sql, rowMapper, args).stream().findFirst();
+    }
+
+    private IndexedDocument toBook(ResultSet rs) throws SQLException {
+        return IndexedDocument.forBook(rs.getLong("id"), rs.getString("title"),
+                rs.getString("author"), rs.getString("description"));
+    }
+
+    private IndexedDocument toReadingRecord(ResultSet rs) throws SQLException {
+        return IndexedDocument.forReadingRecord(rs.getLong("id"), rs.getLong("book_id"), TextCompression.decode(rs.getBytes("content")));
+    }
+
+    private IndexedDocument toAnalysis(ResultSet rs) throws SQLException {
+        return IndexedDocument.forAnalysis(toUuid(rs.getBytes("analysis_id")), rs.getLong("book_id"), TextCompression.decode(rs.getBytes("content")));
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+    }
+
+    private static String toUuid(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -0,0 +1,125 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.search.SearchHit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 한 사용자의 역색인. 사용자 간 점수(문서 수, 평균 길이)가 섞이지 않도록 사용자마다 따로 둔다.
+ */
+final class UserIndexShard {
+
+    // BM25 기본 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, IndexedDocument> documents = new HashMap<>();
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private long totalLength;
+
+    synchronized void put(IndexedDocument document) {
+        remove(document.key());
+        documents.put(document.key(), document);
+        totalLength += document.getLength();
+        document.getTermFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.key(), frequency));
+    }
+
+    /**
+     * 같은 키의 문서가 이미 있으면 그대로 둔다 (스냅샷보다 이후에 색인된 문서를 우선).
+     */
+    synchronized void putIfAbsent(IndexedDocument document) {
+        if (!documents.containsKey(document.key())) {
+            put(document);
+        }
+    }
+
+    synchronized void remove(String key) {
+        IndexedDocument removed = documents.remove(key);
+        if (removed == null) {
+            return;
+        }
+        totalLength -= removed.getLength();
+        for (String term : removed.getTermFrequencies().keySet()) {
+            Map<String, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 책 문서와 그 책에 속한 독서 기록/분석 문서를 함께 제거한다.
+     */
+    synchronized void removeByBookId(Long bookId) {
+        List<String> keys = new ArrayList<>();
+        for (IndexedDocument document : documents.values()) {
+            if (bookId.equals(document.getBookId())) {
+                keys.add(document.key());
+            }
+        }
+        keys.forEach(this::remove);
+    }
+
+    synchronized List<SearchHit> search(List<String> queryTerms, int limit) {
+        int documentCount = documents.size();
+        if (documentCount == 0 || queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        double averageLength = (double) totalLength / documentCount;
+        Map<String, Double> scores = new HashMap<>();
+        for (String term : new LinkedHashSet<>(queryTerms)) {
+            Map<String, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            int documentFrequency = posting.size();
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            posting.forEach((key, frequency) -> {
+                int length = documents.get(key).getLength();
+                double norm = frequency + K1 * (1 - B + B * length / averageLength);
+                scores.merge(key, idf * frequency * (K1 + 1) / norm, Double::sum);
+            });
+        }
+
+        // 상위 limit개만 유지하는 최소 힙
+        PriorityQueue<Map.Entry<String, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top.size());
+        for (Map.Entry<String, Double> entry : top) {
+            IndexedDocument document = documents.get(entry.getKey());
+            hits.add(SearchHit.builder()
+                    .type(document.getType())
+                    .id(document.getId())
+                    .bookId(document.getBookId())
+                    .score(entry.getValue())
+                    .build());
+        }
+        hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed());
+        return hits;
+    }
+
+    synchronized List<IndexedDocument> documents() {
+        return new ArrayList<>(documents.values());
+    }
+
+    synchronized int size() {
+        return documents.size();
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookapp.backend.web.activity;
+
+import com.bookapp.backend.application.activity.ActivityApplicationService;
+import com.bookapp.backend.application.activity.dto.ReadingActivityDayResponse;
+import com.bookapp.backend.application.activity.dto.ReadingEventBatchRequest;
+import com.bookapp.backend.web.common.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ReadingActivityController {
+
+    private final ActivityApplicationService activityApplicationService;
+
+    /**
+     * 독서 세션 이벤트 배치 수집. 버퍼에 담기만 하고 바로 202로 응답하며,
+     * 버퍼가 가득 차면 503과 Retry-After로 같은 배치를 다시 보내게 한다.
+     */
+    @PostMapping("/reading-events")
+    public ResponseEntity<ApiResponse<Void>> ingestReadingEvents(@Valid @RequestBody ReadingEventBatchRequest request) {
+        if (!activityApplicationService.ingestReadingEvents(request)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.error("이벤트 수집이 지연되고 있습니다. 잠시 후 다시 시도해주세요"));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(null));
+    }
+
+    @GetMapping("/users/me/reading-activity")
+    public ApiResponse<List<ReadingActivityDayResponse>> getMyReadingActivity(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(364);
+        return ApiResponse.success(activityApplicationService.getMyReadingActivity(start, end));
+    }
+}
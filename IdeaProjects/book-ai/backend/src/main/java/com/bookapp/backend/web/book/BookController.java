@@ -2,15 +2,22 @@ package com.bookapp.backend.web.book;
 
 import com.bookapp.backend.application.book.BookApplicationService;
 import com.bookapp.backend.application.book.dto.BookCreateRequest;
+import com.bookapp.backend.application.book.dto.BookImportResult;
 import com.bookapp.backend.application.book.dto.BookResponse;
 import com.bookapp.backend.application.book.dto.BookUpdateRequest;
+import com.bookapp.backend.application.book.importer.ImportFormat;
 import com.bookapp.backend.domain.book.Genre;
 import com.bookapp.backend.web.common.ApiResponse;
+import com.bookapp.backend.web.common.EntityTags;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -37,15 +44,21 @@ public class BookController {
     }
 
     @GetMapping("/{id}")
-    public ApiResponse<BookResponse> getBook(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<BookResponse>> getBook(@PathVariable Long id) {
         BookResponse book = bookApplicationService.findBookById(id);
-        return ApiResponse.success(book);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(book.getVersion()))
+                .body(ApiResponse.success(book));
     }
 
     @PutMapping("/{id}")
-    public ApiResponse<BookResponse> updateBook(@PathVariable Long id, @Valid @RequestBody BookUpdateRequest request) {
-        BookResponse updatedBook = bookApplicationService.updateBook(id, request);
-        return ApiResponse.success(updatedBook, "책이 수정되었습니다");
+    public ResponseEntity<ApiResponse<BookResponse>> updateBook(@PathVariable Long id,
+                                                                @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                @Valid @RequestBody BookUpdateRequest request) {
+        BookResponse updatedBook = bookApplicationService.updateBook(id, request, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(updatedBook.getVersion()))
+                .body(ApiResponse.success(updatedBook, "책이 수정되었습니다"));
     }
 
     @DeleteMapping("/{id}")
@@ -62,9 +75,22 @@ public class BookController {
     }
 
     @GetMapping("/search")
-    public ApiResponse<List<BookResponse>> searchBooks(@RequestParam String title) {
-        List<BookResponse> books = bookApplicationService.findBooksByTitle(title);
+    public ApiResponse<List<BookResponse>> searchBooks(@RequestParam(required = false) String q,
+                                                       @RequestParam(required = false) String title,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        // title 파라미터는 기존 클라이언트 호환용
+        String keyword = q != null ? q : title;
+        List<BookResponse> books = bookApplicationService.searchBooks(keyword, limit);
         return ApiResponse.success(books);
     }
 
-}
\ No newline at end of file
+    @PostMapping("/import")
+    public ApiResponse<BookImportResult> importBooks(@RequestParam(required = false) ImportFormat format,
+                                                     HttpServletRequest request) throws IOException {
+        // 본문을 그대로 스트리밍으로 읽음 (format 파라미터가 없으면 Content-Type으로 판단)
+        ImportFormat importFormat = format != null ? format : ImportFormat.fromContentType(request.getContentType());
+        BookImportResult result = bookApplicationService.importBooks(request.getInputStream(), importFormat);
+        return ApiResponse.success(result, "대량 등록이 완료되었습니다");
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.bookapp.backend.web.common;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 엔티티 버전(@Version)과 HTTP ETag / If-Match 헤더 사이의 변환.
+ * ETag는 버전 숫자를 따옴표로 감싼 강한 태그("3")로 내보낸다.
+ */
+public final class EntityTags {
+
+    // Long 범위를 넘지 않는 자릿수
+    private static final int MAX_VERSION_DIGITS = 18;
+
+    private EntityTags() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + (version != null ? version : 0L) + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 허용할 버전 목록을 읽는다 (RFC 9110 13.1.1).
+     * <ul>
+     *   <li>헤더가 없거나 "*"이면 빈 집합 (조건 없음)</li>
+     *   <li>쉼표로 나열한 태그 중 하나라도 현재 버전과 같으면 통과</li>
+     *   <li>If-Match는 강한 비교만 쓰므로 약한 태그(W/"3")와 이 서버가 내보내지 않는 태그는 어떤 버전과도 맞지 않는다</li>
+     * </ul>
+     * 맞을 수 있는 태그가 하나도 없으면 OptimisticLockingFailureException(412), 헤더 형식이 틀리면 IllegalArgumentException(400).
+     */
+    public static Set<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return Set.of();
+        }
+
+        Set<Long> versions = new LinkedHashSet<>();
+        int length = ifMatch.length();
+        int position = 0;
+        while (position < length) {
+            position = skipWhitespace(ifMatch, position);
+            // 목록의 빈 항목은 무시 (RFC 9110 5.6.1)
+            if (position < length && ifMatch.charAt(position) == ',') {
+                position++;
+                continue;
+            }
+            if (position == length) {
+                break;
+            }
+
+            boolean weak = ifMatch.startsWith("W/", position);
+            if (weak) {
+                position += 2;
+            }
+            if (position >= length || ifMatch.charAt(position) != '"') {
+                throw invalidHeader();
+            }
+            int closingQuote = ifMatch.indexOf('"', position + 1);
+            if (closingQuote < 0) {
+                throw invalidHeader();
+            }
+            Long version = parseVersion(ifMatch.substring(position + 1, closingQuote));
+            if (!weak && version != null) {
+                versions.add(version);
+            }
+
+            position = skipWhitespace(ifMatch, closingQuote + 1);
+            if (position < length && ifMatch.charAt(position) != ',') {
+                throw invalidHeader();
+            }
+            position++;
+        }
+
+        if (versions.isEmpty()) {
+            throw new OptimisticLockingFailureException("If-Match의 태그가 현재 버전과 일치하지 않습니다 (약한 태그는 비교하지 않음)");
+        }
+        return versions;
+    }
+
+    private static Long parseVersion(String opaqueTag) {
+        if (opaqueTag.isEmpty() || opaqueTag.length() > MAX_VERSION_DIGITS) {
+            return null;
+        }
+        for (int i = 0; i < opaqueTag.length(); i++) {
+            char c = opaqueTag.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        return Long.parseLong(opaqueTag);
+    }
+
+    private static int skipWhitespace(String value, int position) {
+        while (position < value.length() && (value.charAt(position) == ' ' || value.charAt(position) == '\t')) {
+            position++;
+        }
+        return position;
+    }
+
+    private static IllegalArgumentException invalidHeader() {
+        return new IllegalArgumentException("올바르지 않은 If-Match 헤더입니다");
+    }
+}
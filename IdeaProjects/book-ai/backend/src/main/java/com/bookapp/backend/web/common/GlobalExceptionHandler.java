@@ -2,8 +2,11 @@ package com.bookapp.backend.web.common;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -70,6 +73,30 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(errorResponse.getMessage(), errorResponse.getErrorCode()));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException e, HttpServletRequest request) {
+        
+        log.warn("OptimisticLockingFailureException: {}", e.getMessage());
+        
+        // If-Match 조건이 깨졌으면 412, 조건 없이 동시 수정과 부딪혔으면 409
+        boolean conditional = request.getHeader(HttpHeaders.IF_MATCH) != null;
+        // 저장 시점에 Hibernate가 감지한 충돌은 내부 메시지 대신 공통 문구로 응답
+        String message = e instanceof ObjectOptimisticLockingFailureException
+                ? "다른 곳에서 먼저 수정되었습니다. 최신 내용을 다시 불러와 주세요"
+                : e.getMessage();
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .message(message)
+                .errorCode(conditional ? "PRECONDITION_FAILED" : "CONFLICT")
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(conditional ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT)
+                .body(ApiResponse.error(errorResponse.getMessage(), errorResponse.getErrorCode()));
+    }
+
     @ExceptionHandler({MethodArgumentNotValidException.class, BindException.class})
     public ResponseEntity<ApiResponse<ErrorResponse>> handleValidationException(
             BindException e, HttpServletRequest request) {
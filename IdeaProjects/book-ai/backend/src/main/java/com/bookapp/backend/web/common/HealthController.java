@@ -1,5 +1,8 @@
 package com.bookapp.backend.web.common;
 
+import com.bookapp.backend.infrastructure.persistence.cache.OffHeapContentCache;
+import com.bookapp.backend.infrastructure.persistence.cache.SecondLevelCacheStatistics;
+import com.bookapp.backend.infrastructure.scheduling.JobLeaseManager;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -11,6 +14,18 @@ import java.util.Map;
 @RequestMapping("")
 public class HealthController {
 
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+    private final OffHeapContentCache offHeapContentCache;
+    private final JobLeaseManager jobLeaseManager;
+
+    public HealthController(SecondLevelCacheStatistics secondLevelCacheStatistics,
+                            OffHeapContentCache offHeapContentCache,
+                            JobLeaseManager jobLeaseManager) {
+        this.secondLevelCacheStatistics = secondLevelCacheStatistics;
+        this.offHeapContentCache = offHeapContentCache;
+        this.jobLeaseManager = jobLeaseManager;
+    }
+
     @GetMapping("/health")
     public ApiResponse<Map<String, Object>> health() {
         Map<String, Object> healthInfo = Map.of(
@@ -30,4 +45,20 @@ public class HealthController {
         );
         return ApiResponse.success(healthInfo);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/api/health/cache")
+    public ApiResponse<Map<String, Object>> cacheStatistics() {
+        return ApiResponse.success(secondLevelCacheStatistics.snapshot());
+    }
+
+    @GetMapping("/api/health/cache/content")
+    public ApiResponse<OffHeapContentCache.Stats> contentCacheStatistics() {
+        return ApiResponse.success(offHeapContentCache.stats());
+    }
+
+    // 이 노드가 맡고 있는 스케줄 작업과 fencing token
+    @GetMapping("/api/health/jobs")
+    public ApiResponse<Map<String, Long>> jobLeases() {
+        return ApiResponse.success(jobLeaseManager.holdings());
+    }
+}
@@ -0,0 +1,33 @@
+package com.bookapp.backend.web.export;
+
+import com.bookapp.backend.application.export.ExportApplicationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportApplicationService exportApplicationService;
+
+    public ExportController(ExportApplicationService exportApplicationService) {
+        this.exportApplicationService = exportApplicationService;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportLibrary() {
+        Long userId = exportApplicationService.getExportOwnerId();
+        StreamingResponseBody body = outputStream -> exportApplicationService.exportLibrary(userId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"library-export.ndjson\"")
+                .body(body);
+    }
+}
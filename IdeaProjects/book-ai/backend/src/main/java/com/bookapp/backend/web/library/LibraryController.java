@@ -0,0 +1,29 @@
+package com.bookapp.backend.web.library;
+
+import com.bookapp.backend.application.library.LibraryApplicationService;
+import com.bookapp.backend.application.library.dto.LibraryPageResponse;
+import com.bookapp.backend.application.library.usecase.GetLibraryUseCase;
+import com.bookapp.backend.web.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/library")
+@RequiredArgsConstructor
+public class LibraryController {
+
+    private final LibraryApplicationService libraryApplicationService;
+
+    /**
+     * 서재 화면용 목록 - 책마다 독서 기록 수, 최근 독서 상태, 최근 분석 시각을 함께 반환
+     */
+    @GetMapping
+    public ApiResponse<LibraryPageResponse> getMyLibrary(
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "" + GetLibraryUseCase.DEFAULT_PAGE_SIZE) int size) {
+        return ApiResponse.success(libraryApplicationService.getMyLibrary(before, size));
+    }
+}
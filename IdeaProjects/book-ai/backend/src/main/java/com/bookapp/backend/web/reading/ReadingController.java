@@ -1,14 +1,20 @@
 package com.bookapp.backend.web.reading;
 
 import com.bookapp.backend.application.reading.ReadingApplicationService;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchRequest;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchResponse;
 import com.bookapp.backend.application.reading.dto.ReadingRecordCreateRequest;
 import com.bookapp.backend.application.reading.dto.ReadingRecordResponse;
+import com.bookapp.backend.application.reading.dto.ReadingRecordRevisionResponse;
 import com.bookapp.backend.application.reading.dto.ReadingRecordUpdateRequest;
 import com.bookapp.backend.domain.reading.ReadingStatus;
 import com.bookapp.backend.web.common.ApiResponse;
+import com.bookapp.backend.web.common.EntityTags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,11 +34,28 @@ public class ReadingController {
     }
 
     @PutMapping("/{id}")
-    public ApiResponse<ReadingRecordResponse> updateReadingRecord(
+    public ResponseEntity<ApiResponse<ReadingRecordResponse>> updateReadingRecord(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ReadingRecordUpdateRequest request) {
-        ReadingRecordResponse response = readingApplicationService.updateReadingRecord(id, request);
-        return ApiResponse.success(response, "독서 기록이 수정되었습니다");
+        ReadingRecordResponse response = readingApplicationService.updateReadingRecord(id, request, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.getVersion()))
+                .body(ApiResponse.success(response, "독서 기록이 수정되었습니다"));
+    }
+
+    /**
+     * 자동 저장용 부분 수정. 본문 전체 대신 baseVersion 기준의 삽입/삭제 목록만 받고,
+     * 응답에도 본문 없이 다음 편집의 baseVersion으로 쓸 새 버전만 돌려준다.
+     */
+    @PatchMapping("/{id}/content")
+    public ResponseEntity<ApiResponse<ReadingRecordContentPatchResponse>> patchReadingRecordContent(
+            @PathVariable Long id,
+            @Valid @RequestBody ReadingRecordContentPatchRequest request) {
+        ReadingRecordContentPatchResponse response = readingApplicationService.patchReadingRecordContent(id, request);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.getVersion()))
+                .body(ApiResponse.success(response));
     }
 
     @PostMapping("/{id}/complete")
@@ -42,9 +65,11 @@ public class ReadingController {
     }
 
     @GetMapping("/{id}")
-    public ApiResponse<ReadingRecordResponse> getReadingRecord(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ReadingRecordResponse>> getReadingRecord(@PathVariable Long id) {
         ReadingRecordResponse response = readingApplicationService.findReadingRecordById(id);
-        return ApiResponse.success(response);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.getVersion()))
+                .body(ApiResponse.success(response));
     }
 
     @GetMapping("/user/{userId}")
@@ -67,6 +92,29 @@ public class ReadingController {
         return ApiResponse.success(responses);
     }
 
+    @GetMapping("/{id}/revisions")
+    public ApiResponse<List<ReadingRecordRevisionResponse>> getRevisions(@PathVariable Long id) {
+        List<ReadingRecordRevisionResponse> responses = readingApplicationService.findRevisions(id);
+        return ApiResponse.success(responses);
+    }
+
+    @GetMapping("/{id}/revisions/{revisionNumber}")
+    public ApiResponse<ReadingRecordRevisionResponse> getRevision(@PathVariable Long id, @PathVariable int revisionNumber) {
+        ReadingRecordRevisionResponse response = readingApplicationService.findRevision(id, revisionNumber);
+        return ApiResponse.success(response);
+    }
+
+    @PostMapping("/{id}/revisions/{revisionNumber}/restore")
+    public ResponseEntity<ApiResponse<ReadingRecordResponse>> restoreRevision(
+            @PathVariable Long id,
+            @PathVariable int revisionNumber,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ReadingRecordResponse response = readingApplicationService.restoreRevision(id, revisionNumber, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(response.getVersion()))
+                .body(ApiResponse.success(response, "독서 기록이 이전 버전으로 복원되었습니다"));
+    }
+
     @DeleteMapping("/{id}")
     public ApiResponse<Void> deleteReadingRecord(@PathVariable Long id) {
         readingApplicationService.deleteReadingRecord(id);
@@ -0,0 +1,33 @@
+package com.bookapp.backend.web.search;
+
+import com.bookapp.backend.application.search.SearchApplicationService;
+import com.bookapp.backend.application.search.dto.SearchResultResponse;
+import com.bookapp.backend.web.common.ApiResponse;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchApplicationService searchApplicationService;
+
+    public SearchController(SearchApplicationService searchApplicationService) {
+        this.searchApplicationService = searchApplicationService;
+    }
+
+    @GetMapping
+    public ApiResponse<List<SearchResultResponse>> search(@RequestParam String q,
+                                                          @RequestParam(defaultValue = "20") int limit) {
+        List<SearchResultResponse> results = searchApplicationService.search(q, limit);
+        return ApiResponse.success(results);
+    }
+
+    @PostMapping("/rebuild")
+    public ApiResponse<Map<String, Integer>> rebuild() {
+        int indexed = searchApplicationService.rebuildIndex();
+        return ApiResponse.success(Map.of("indexedDocuments", indexed), "검색 인덱스를 다시 생성했습니다");
+    }
+}
@@ -1,5 +1,7 @@
 package com.bookapp.backend.web.security;
 
+import com.bookapp.backend.domain.user.UserRepository;
+import com.bookapp.backend.infrastructure.datasource.PrimaryReadContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +23,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -32,13 +37,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String email = jwtUtils.getEmailFromJwtToken(jwt);
                 Long userId = jwtUtils.getUserIdFromJwtToken(jwt);
                 
-                // 사용자 인증 정보 생성
-                UserPrincipal userPrincipal = new UserPrincipal(userId, email);
-                UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userPrincipal, null, new ArrayList<>());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                // 탈퇴 처리 중인 계정의 토큰은 만료 전이라도 인증하지 않음 (사용자는 2차 캐시에서 조회)
+                // 아직 인증 주체가 없어 read-your-writes가 적용되지 않으므로 캐시에 없으면 primary에서 읽음
+                if (PrimaryReadContext.call(() -> userRepository.findById(userId)).isPresent()) {
+                    // 사용자 인증 정보 생성
+                    UserPrincipal userPrincipal = new UserPrincipal(userId, email);
+                    UsernamePasswordAuthenticationToken authentication = 
+                            new UsernamePasswordAuthenticationToken(userPrincipal, null, new ArrayList<>());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             logger.error("Cannot set user authentication: " + e.getMessage());
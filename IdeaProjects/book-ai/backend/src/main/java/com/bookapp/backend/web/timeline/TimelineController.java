@@ -0,0 +1,29 @@
+package com.bookapp.backend.web.timeline;
+
+import com.bookapp.backend.application.timeline.TimelineApplicationService;
+import com.bookapp.backend.application.timeline.dto.TimelinePageResponse;
+import com.bookapp.backend.application.timeline.usecase.GetTimelineUseCase;
+import com.bookapp.backend.web.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/timeline")
+@RequiredArgsConstructor
+public class TimelineController {
+
+    private final TimelineApplicationService timelineApplicationService;
+
+    /**
+     * 내 활동 타임라인 (최신순). 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회한다.
+     */
+    @GetMapping
+    public ApiResponse<TimelinePageResponse> getMyTimeline(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + GetTimelineUseCase.DEFAULT_PAGE_SIZE) int size) {
+        return ApiResponse.success(timelineApplicationService.getMyTimeline(cursor, size));
+    }
+}
@@ -0,0 +1,34 @@
+package com.bookapp.backend.web.user;
+
+import com.bookapp.backend.application.user.UserApplicationService;
+import com.bookapp.backend.application.user.dto.UserStatsResponse;
+import com.bookapp.backend.web.common.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/users/me")
+public class AccountController {
+
+    private final UserApplicationService userApplicationService;
+
+    public AccountController(UserApplicationService userApplicationService) {
+        this.userApplicationService = userApplicationService;
+    }
+
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<Void> deleteAccount() {
+        userApplicationService.deleteAccount();
+        return ApiResponse.success(null, "계정 삭제 요청이 접수되었습니다");
+    }
+
+    @GetMapping("/stats")
+    public ApiResponse<UserStatsResponse> getMyStats() {
+        return ApiResponse.success(userApplicationService.getMyStats());
+    }
+}
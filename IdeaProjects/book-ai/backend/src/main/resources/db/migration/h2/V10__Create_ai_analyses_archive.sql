@@ -0,0 +1,17 @@
+-- mysql/V10과 동일한 아카이브 테이블
+
+CREATE TABLE ai_analyses_archive (
+    analysis_id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    analysis_type VARCHAR(30) NOT NULL,
+    content BLOB NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_ai_analyses_archive_user_created ON ai_analyses_archive(user_id, created_at);
+CREATE INDEX idx_ai_analyses_archive_book_created ON ai_analyses_archive(book_id, created_at);
+CREATE INDEX idx_ai_analyses_archive_user_type_created ON ai_analyses_archive(user_id, analysis_type, created_at);
+
+CREATE INDEX idx_ai_analyses_created_at ON ai_analyses(created_at);
@@ -0,0 +1,32 @@
+-- mysql/V11과 동일한 사용자별 통계 카운터
+
+CREATE TABLE user_stats (
+    user_id BIGINT NOT NULL,
+    stat_key VARCHAR(64) NOT NULL,
+    stat_count BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (user_id, stat_key)
+);
+
+-- 기존 데이터로 초기값 채우기 (삭제 대기 중인 책과 그 하위 데이터 제외)
+INSERT INTO user_stats (user_id, stat_key, stat_count)
+SELECT user_id, CONCAT('BOOK_GENRE:', genre), COUNT(*)
+FROM books
+WHERE deletion_requested_at IS NULL
+GROUP BY user_id, genre;
+
+INSERT INTO user_stats (user_id, stat_key, stat_count)
+SELECT user_id, CONCAT('READING_STATUS:', status), COUNT(*)
+FROM reading_records
+WHERE status IS NOT NULL
+  AND book_id NOT IN (SELECT id FROM books WHERE deletion_requested_at IS NOT NULL)
+GROUP BY user_id, status;
+
+INSERT INTO user_stats (user_id, stat_key, stat_count)
+SELECT user_id, CONCAT('ANALYSIS_TYPE:', analysis_type), COUNT(*)
+FROM (
+    SELECT user_id, analysis_type, book_id FROM ai_analyses
+    UNION ALL
+    SELECT user_id, analysis_type, book_id FROM ai_analyses_archive
+) analyses
+WHERE book_id NOT IN (SELECT id FROM books WHERE deletion_requested_at IS NOT NULL)
+GROUP BY user_id, analysis_type;
@@ -0,0 +1,18 @@
+-- mysql/V12와 동일한 독서 기록 수정 이력 테이블
+
+CREATE TABLE reading_record_revisions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    reading_record_id BIGINT NOT NULL,
+    revision_number INT NOT NULL,
+    user_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    kind VARCHAR(10) NOT NULL,
+    chain_length INT NOT NULL,
+    payload BLOB NOT NULL,
+    content_length INT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_reading_record_revisions_record_number UNIQUE (reading_record_id, revision_number)
+);
+
+CREATE INDEX idx_reading_record_revisions_user ON reading_record_revisions(user_id);
+CREATE INDEX idx_reading_record_revisions_book ON reading_record_revisions(book_id);
@@ -0,0 +1,24 @@
+-- mysql/V13과 동일한 독서 세션 이벤트/일간 집계 테이블
+
+CREATE TABLE reading_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    occurred_at TIMESTAMP(3) NOT NULL,
+    received_at TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX idx_reading_events_user_occurred ON reading_events(user_id, occurred_at);
+CREATE INDEX idx_reading_events_book ON reading_events(book_id);
+
+CREATE TABLE reading_activity_daily (
+    user_id BIGINT NOT NULL,
+    activity_date DATE NOT NULL,
+    book_id BIGINT NOT NULL,
+    genre VARCHAR(30) NOT NULL,
+    reading_seconds BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (user_id, activity_date, book_id)
+);
+
+CREATE INDEX idx_reading_activity_daily_book ON reading_activity_daily(book_id);
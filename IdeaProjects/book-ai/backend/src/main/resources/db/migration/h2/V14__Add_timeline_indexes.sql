@@ -0,0 +1,8 @@
+-- mysql/V14와 동일한 완료 시각 컬럼과 타임라인 인덱스
+
+ALTER TABLE reading_records ADD COLUMN completed_at TIMESTAMP NULL DEFAULT NULL;
+UPDATE reading_records SET completed_at = updated_at WHERE status = 'COMPLETED';
+
+CREATE INDEX idx_books_user_created ON books(user_id, created_at);
+CREATE INDEX idx_reading_records_user_created ON reading_records(user_id, created_at);
+CREATE INDEX idx_reading_records_user_completed ON reading_records(user_id, completed_at);
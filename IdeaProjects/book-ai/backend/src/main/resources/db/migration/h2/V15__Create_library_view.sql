@@ -0,0 +1,34 @@
+-- mysql/V15와 동일한 서재 읽기 모델
+
+CREATE TABLE library_view (
+    book_id BIGINT NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    author VARCHAR(200) NOT NULL,
+    genre VARCHAR(20) NOT NULL,
+    book_created_at TIMESTAMP NULL,
+    reading_record_count INT DEFAULT 0 NOT NULL,
+    completed_reading_count INT DEFAULT 0 NOT NULL,
+    latest_reading_status VARCHAR(20) NULL,
+    latest_reading_started_at TIMESTAMP NULL,
+    analysis_count INT DEFAULT 0 NOT NULL,
+    latest_analysis_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_library_view_user ON library_view(user_id, book_id);
+
+-- 기존 데이터로 채우기 (삭제 대기 중인 책 제외)
+INSERT INTO library_view (book_id, user_id, title, author, genre, book_created_at,
+                          reading_record_count, completed_reading_count, latest_reading_status, latest_reading_started_at,
+                          analysis_count, latest_analysis_at)
+SELECT b.id, b.user_id, b.title, b.author, b.genre, b.created_at,
+       (SELECT COUNT(*) FROM reading_records r WHERE r.book_id = b.id),
+       (SELECT COUNT(*) FROM reading_records r WHERE r.book_id = b.id AND r.status = 'COMPLETED'),
+       (SELECT r.status FROM reading_records r WHERE r.book_id = b.id ORDER BY r.created_at DESC, r.id DESC LIMIT 1),
+       (SELECT MAX(r.created_at) FROM reading_records r WHERE r.book_id = b.id),
+       (SELECT COUNT(*) FROM ai_analyses a WHERE a.book_id = b.id)
+           + (SELECT COUNT(*) FROM ai_analyses_archive a WHERE a.book_id = b.id),
+       COALESCE((SELECT MAX(a.created_at) FROM ai_analyses a WHERE a.book_id = b.id),
+                (SELECT MAX(a.created_at) FROM ai_analyses_archive a WHERE a.book_id = b.id))
+FROM books b
+WHERE b.deletion_requested_at IS NULL;
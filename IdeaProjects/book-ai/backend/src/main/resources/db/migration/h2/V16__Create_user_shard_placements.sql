@@ -0,0 +1,9 @@
+-- mysql/V16과 동일한 사용자 샤드 배치 디렉터리
+
+CREATE TABLE user_shard_placements (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    shard_name VARCHAR(64) NOT NULL,
+    placed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_user_shard_placements_shard ON user_shard_placements(shard_name);
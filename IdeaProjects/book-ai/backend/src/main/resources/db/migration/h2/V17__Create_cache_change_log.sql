@@ -0,0 +1,11 @@
+-- mysql/V17과 동일한 캐시 무효화 변경 로그 테이블
+
+CREATE TABLE cache_change_log (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    node_id VARCHAR(36) NOT NULL,
+    region VARCHAR(32) NOT NULL,
+    entity_key VARCHAR(64) NOT NULL,
+    logged_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX idx_cache_change_log_logged_at ON cache_change_log(logged_at);
@@ -0,0 +1,9 @@
+-- mysql/V18과 동일한 스케줄 작업 임대 테이블
+
+CREATE TABLE job_leases (
+    job_name VARCHAR(100) PRIMARY KEY,
+    owner_id VARCHAR(36) NULL,
+    fencing_token BIGINT DEFAULT 0 NOT NULL,
+    expires_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3) NOT NULL,
+    heartbeat_at TIMESTAMP(3) NULL
+);
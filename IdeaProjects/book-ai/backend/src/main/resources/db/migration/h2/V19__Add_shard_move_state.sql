@@ -0,0 +1,6 @@
+-- mysql/V19와 동일한 재배치 이동 상태 컬럼
+
+ALTER TABLE user_shard_placements ADD COLUMN move_state VARCHAR(16) NULL;
+ALTER TABLE user_shard_placements ADD COLUMN move_peer_shard VARCHAR(64) NULL;
+
+CREATE INDEX idx_user_shard_placements_move_state ON user_shard_placements(move_state);
@@ -0,0 +1,66 @@
+-- Book AI Platform Database Schema (H2)
+-- 로컬 데모/테스트용. MySQL 스키마(mysql/V1)와 동일한 구조를 H2 문법으로 작성
+-- FULLTEXT 인덱스처럼 H2가 지원하지 않는 요소는 제외
+
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    nickname VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE books (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title VARCHAR(500) NOT NULL,
+    author VARCHAR(200) NOT NULL,
+    isbn VARCHAR(13) UNIQUE,
+    genre VARCHAR(20) NOT NULL,
+    description CLOB,
+    content CLOB,
+    user_id BIGINT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_books_user_id
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE TABLE reading_records (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    content CLOB NOT NULL,
+    status VARCHAR(20) DEFAULT 'IN_PROGRESS',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_reading_records_user_id
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_reading_records_book_id
+        FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE
+);
+
+CREATE TABLE ai_analyses (
+    analysis_id VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    analysis_type VARCHAR(30) NOT NULL,
+    content CLOB NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_ai_analyses_user_id
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_ai_analyses_book_id
+        FOREIGN KEY (book_id) REFERENCES books(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_books_user_id ON books(user_id);
+CREATE INDEX idx_books_user_genre ON books(user_id, genre);
+CREATE INDEX idx_books_user_title ON books(user_id, title);
+CREATE INDEX idx_reading_records_user_id ON reading_records(user_id);
+CREATE INDEX idx_reading_records_book_id ON reading_records(book_id);
+CREATE INDEX idx_reading_records_status ON reading_records(status);
+CREATE INDEX idx_reading_records_user_status ON reading_records(user_id, status);
+CREATE INDEX idx_books_genre_title ON books(genre, title);
+CREATE INDEX idx_users_email_created ON users(email, created_at);
+CREATE INDEX idx_reading_records_created_at ON reading_records(created_at);
+CREATE INDEX idx_ai_analyses_type_created ON ai_analyses(analysis_type, created_at);
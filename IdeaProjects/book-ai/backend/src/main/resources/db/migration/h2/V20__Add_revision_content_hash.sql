@@ -0,0 +1,3 @@
+-- mysql/V20과 동일한 수정 이력 본문 해시 컬럼
+
+ALTER TABLE reading_record_revisions ADD COLUMN content_hash BIGINT NULL;
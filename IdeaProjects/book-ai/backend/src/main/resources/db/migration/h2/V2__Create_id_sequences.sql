@@ -0,0 +1,6 @@
+-- H2는 네이티브 시퀀스를 지원하므로 Hibernate pooled 생성기가 시퀀스를 직접 사용
+-- INCREMENT BY는 엔티티의 allocationSize(50)와 일치해야 함
+
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE books_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE reading_records_seq START WITH 1 INCREMENT BY 50;
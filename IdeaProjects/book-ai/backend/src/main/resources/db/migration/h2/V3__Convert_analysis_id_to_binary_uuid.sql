@@ -0,0 +1,7 @@
+-- ai_analyses.analysis_id를 BINARY(16)으로 변경 (mysql/V3와 동일한 최종 구조)
+-- H2 데이터베이스는 매번 새로 생성되므로 데이터 변환 없이 컬럼 타입만 바꾼다
+
+ALTER TABLE ai_analyses DROP PRIMARY KEY;
+ALTER TABLE ai_analyses ALTER COLUMN analysis_id SET DATA TYPE BINARY(16);
+ALTER TABLE ai_analyses ALTER COLUMN analysis_id SET NOT NULL;
+ALTER TABLE ai_analyses ADD PRIMARY KEY (analysis_id);
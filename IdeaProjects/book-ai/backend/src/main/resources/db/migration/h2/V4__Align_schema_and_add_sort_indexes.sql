@@ -0,0 +1,11 @@
+-- mysql/V4와 동일한 인덱스 구성 (H2는 V1부터 genre를 VARCHAR로 생성)
+
+ALTER TABLE books ALTER COLUMN isbn SET DATA TYPE VARCHAR(20);
+
+CREATE INDEX idx_ai_analyses_user_created ON ai_analyses(user_id, created_at);
+CREATE INDEX idx_ai_analyses_book_created ON ai_analyses(book_id, created_at);
+CREATE INDEX idx_ai_analyses_user_type_created ON ai_analyses(user_id, analysis_type, created_at);
+
+CREATE INDEX idx_reading_records_book_created ON reading_records(book_id, created_at);
+CREATE INDEX idx_reading_records_user_book ON reading_records(user_id, book_id);
+DROP INDEX idx_reading_records_book_id;
@@ -0,0 +1,2 @@
+-- H2는 FULLTEXT 인덱스를 지원하지 않음 (mysql/V5와 버전 번호를 맞추기 위한 빈 마이그레이션)
+-- H2 환경에서는 book.search.full-text-enabled=false 로 LIKE 검색을 사용한다
@@ -0,0 +1,8 @@
+-- 본문 컬럼을 BLOB으로 변경 (mysql/V7과 동일한 최종 구조)
+-- H2 데이터베이스는 매번 새로 생성되므로 기존 데이터 변환은 고려하지 않는다
+
+ALTER TABLE reading_records ALTER COLUMN content SET DATA TYPE BLOB;
+
+ALTER TABLE books ALTER COLUMN content SET DATA TYPE BLOB;
+
+ALTER TABLE ai_analyses ALTER COLUMN content SET DATA TYPE BLOB;
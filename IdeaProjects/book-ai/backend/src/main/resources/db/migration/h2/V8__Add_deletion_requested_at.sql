@@ -0,0 +1,7 @@
+-- mysql/V8과 동일한 삭제 대기 컬럼
+
+ALTER TABLE books ADD COLUMN deletion_requested_at TIMESTAMP NULL;
+ALTER TABLE users ADD COLUMN deletion_requested_at TIMESTAMP NULL;
+
+CREATE INDEX idx_books_deletion_requested ON books(deletion_requested_at);
+CREATE INDEX idx_users_deletion_requested ON users(deletion_requested_at);
@@ -0,0 +1,4 @@
+-- mysql/V9과 동일한 낙관적 잠금 컬럼
+
+ALTER TABLE books ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE reading_records ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,20 @@
+-- 오래된 분석을 옮겨 두는 아카이브 테이블 (AnalysisArchiveTask가 작은 배치로 이동)
+-- 조회는 대부분 최근 분석이므로 ai_analyses(hot)를 작게 유지하고, 아카이브는 작은 본문까지 압축해 저장한다
+-- 이동 비용을 줄이기 위해 FK는 두지 않으며 책/계정 삭제 시 DeletionPurgeTask가 함께 지운다
+
+CREATE TABLE ai_analyses_archive (
+    analysis_id BINARY(16) NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    analysis_type VARCHAR(30) NOT NULL,
+    content LONGBLOB NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_ai_analyses_archive_user_created ON ai_analyses_archive(user_id, created_at);
+CREATE INDEX idx_ai_analyses_archive_book_created ON ai_analyses_archive(book_id, created_at);
+CREATE INDEX idx_ai_analyses_archive_user_type_created ON ai_analyses_archive(user_id, analysis_type, created_at);
+
+-- 이동 대상(created_at < 기준 시각) 탐색용
+CREATE INDEX idx_ai_analyses_created_at ON ai_analyses(created_at);
@@ -0,0 +1,21 @@
+-- 독서 기록 수정 이력. 매 저장마다 이전 버전과의 차이(DELTA)만 저장하고,
+-- 일정 간격마다 전체 본문(SNAPSHOT)을 저장해 어느 버전이든 제한된 횟수의 적용으로 복원한다
+-- chain_length: 가장 가까운 이전 스냅샷으로부터의 거리 (스냅샷은 0)
+-- 책/계정 삭제 시 DeletionPurgeTask가 나눠 지울 수 있도록 FK 대신 user_id/book_id를 함께 둔다
+
+CREATE TABLE reading_record_revisions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    reading_record_id BIGINT NOT NULL,
+    revision_number INT NOT NULL,
+    user_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    kind VARCHAR(10) NOT NULL,
+    chain_length INT NOT NULL,
+    payload LONGBLOB NOT NULL,
+    content_length INT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_reading_record_revisions_record_number UNIQUE (reading_record_id, revision_number)
+);
+
+CREATE INDEX idx_reading_record_revisions_user ON reading_record_revisions(user_id);
+CREATE INDEX idx_reading_record_revisions_book ON reading_record_revisions(book_id);
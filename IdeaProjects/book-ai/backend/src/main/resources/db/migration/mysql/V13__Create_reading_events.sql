@@ -0,0 +1,26 @@
+-- 독서 세션 이벤트(START/HEARTBEAT/STOP) 원본. 메모리 링 버퍼에서 배치로 옮겨 적는 append-only 테이블
+-- 책/계정 삭제 시 DeletionPurgeTask가 나눠 지울 수 있도록 FK는 두지 않는다
+
+CREATE TABLE reading_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    occurred_at TIMESTAMP(3) NOT NULL,
+    received_at TIMESTAMP(3) NOT NULL
+);
+
+CREATE INDEX idx_reading_events_user_occurred ON reading_events(user_id, occurred_at);
+CREATE INDEX idx_reading_events_book ON reading_events(book_id);
+
+-- 사용자별 일간 독서 시간 집계 (활동 히트맵용). 이벤트를 옮겨 적을 때 함께 누적한다
+CREATE TABLE reading_activity_daily (
+    user_id BIGINT NOT NULL,
+    activity_date DATE NOT NULL,
+    book_id BIGINT NOT NULL,
+    genre VARCHAR(30) NOT NULL,
+    reading_seconds BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, activity_date, book_id)
+);
+
+CREATE INDEX idx_reading_activity_daily_book ON reading_activity_daily(book_id);
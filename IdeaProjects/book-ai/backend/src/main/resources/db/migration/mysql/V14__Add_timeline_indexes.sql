@@ -0,0 +1,12 @@
+-- 통합 타임라인(GET /api/timeline)은 책 등록, 독서 시작/완료, 분석을 사용자별 시각 역순으로
+-- 각각 keyset 조회한 뒤 병합한다. 소스마다 (user_id, 시각) 인덱스를 역순으로 읽고 LIMIT에서 멈추도록 인덱스를 맞춘다.
+-- InnoDB 보조 인덱스는 끝에 PK를 포함하므로 같은 시각의 id 비교도 인덱스 안에서 처리됨
+
+-- 1. 독서 완료 시각 - 지금까지는 updated_at으로만 추정 가능했음
+ALTER TABLE reading_records ADD COLUMN completed_at TIMESTAMP NULL DEFAULT NULL;
+UPDATE reading_records SET completed_at = updated_at WHERE status = 'COMPLETED';
+
+-- 2. 소스별 타임라인 인덱스 (ai_analyses, ai_analyses_archive의 (user_id, created_at)은 V4, V10에서 생성됨)
+CREATE INDEX idx_books_user_created ON books(user_id, created_at);
+CREATE INDEX idx_reading_records_user_created ON reading_records(user_id, created_at);
+CREATE INDEX idx_reading_records_user_completed ON reading_records(user_id, completed_at);
@@ -0,0 +1,37 @@
+-- 서재 화면용 비정규화 읽기 모델 - 책마다 한 행에 독서 기록 수, 최근 독서 상태, 최근 분석 시각을 함께 둔다
+-- 쓰기 유스케이스가 같은 트랜잭션에서 해당 책의 행을 다시 계산하고 LibraryViewReconciliationTask가 주기적으로 기본 테이블과 맞춘다
+-- 분석은 최신 분석이 hot 테이블에 있으므로 hot의 MAX를 먼저 보고, 없을 때만 아카이브를 본다
+
+CREATE TABLE library_view (
+    book_id BIGINT NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    author VARCHAR(200) NOT NULL,
+    genre VARCHAR(20) NOT NULL,
+    book_created_at TIMESTAMP NULL,
+    reading_record_count INT NOT NULL DEFAULT 0,
+    completed_reading_count INT NOT NULL DEFAULT 0,
+    latest_reading_status VARCHAR(20) NULL,
+    latest_reading_started_at TIMESTAMP NULL,
+    analysis_count INT NOT NULL DEFAULT 0,
+    latest_analysis_at TIMESTAMP NULL
+);
+
+-- 서재 목록 (WHERE user_id = ? AND book_id < ? ORDER BY book_id DESC) - 보조 인덱스 끝의 PK(book_id)로 정렬까지 처리
+CREATE INDEX idx_library_view_user ON library_view(user_id, book_id);
+
+-- 기존 데이터로 채우기 (삭제 대기 중인 책 제외)
+INSERT INTO library_view (book_id, user_id, title, author, genre, book_created_at,
+                          reading_record_count, completed_reading_count, latest_reading_status, latest_reading_started_at,
+                          analysis_count, latest_analysis_at)
+SELECT b.id, b.user_id, b.title, b.author, b.genre, b.created_at,
+       (SELECT COUNT(*) FROM reading_records r WHERE r.book_id = b.id),
+       (SELECT COUNT(*) FROM reading_records r WHERE r.book_id = b.id AND r.status = 'COMPLETED'),
+       (SELECT r.status FROM reading_records r WHERE r.book_id = b.id ORDER BY r.created_at DESC, r.id DESC LIMIT 1),
+       (SELECT MAX(r.created_at) FROM reading_records r WHERE r.book_id = b.id),
+       (SELECT COUNT(*) FROM ai_analyses a WHERE a.book_id = b.id)
+           + (SELECT COUNT(*) FROM ai_analyses_archive a WHERE a.book_id = b.id),
+       COALESCE((SELECT MAX(a.created_at) FROM ai_analyses a WHERE a.book_id = b.id),
+                (SELECT MAX(a.created_at) FROM ai_analyses_archive a WHERE a.book_id = b.id))
+FROM books b
+WHERE b.deletion_requested_at IS NULL;
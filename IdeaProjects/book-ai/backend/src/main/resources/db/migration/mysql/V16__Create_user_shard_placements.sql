@@ -0,0 +1,10 @@
+-- 사용자 샤드 배치 디렉터리 (app.datasource.shards.enabled=true일 때 카탈로그 샤드에서만 사용)
+-- 행이 없는 사용자는 샤딩 도입 전부터 카탈로그에 있던 사용자
+
+CREATE TABLE user_shard_placements (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    shard_name VARCHAR(64) NOT NULL,
+    placed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_user_shard_placements_shard ON user_shard_placements(shard_name);
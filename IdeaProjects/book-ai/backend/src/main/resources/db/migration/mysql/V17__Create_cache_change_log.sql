@@ -0,0 +1,12 @@
+-- 노드 간 캐시 무효화용 변경 로그. 저장소가 데이터 변경과 같은 트랜잭션에서 기록하고 각 노드가 id 순으로 읽어 간다
+-- 읽은 뒤에는 필요 없으므로 보존 기간이 지난 행은 ChangeLogInvalidationBus가 지운다
+
+CREATE TABLE cache_change_log (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    node_id VARCHAR(36) NOT NULL,
+    region VARCHAR(32) NOT NULL,
+    entity_key VARCHAR(64) NOT NULL,
+    logged_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
+
+CREATE INDEX idx_cache_change_log_logged_at ON cache_change_log(logged_at);
@@ -0,0 +1,10 @@
+-- 스케줄 작업을 한 노드에서만 실행하기 위한 작업별 임대(lease). 만료 시각은 DB 시각 기준으로 비교한다
+-- fencing_token은 소유자가 바뀔 때마다 증가하므로 이전 소유자의 갱신/반납은 반영되지 않는다
+
+CREATE TABLE job_leases (
+    job_name VARCHAR(100) PRIMARY KEY,
+    owner_id VARCHAR(36) NULL,
+    fencing_token BIGINT NOT NULL DEFAULT 0,
+    expires_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    heartbeat_at TIMESTAMP(3) NULL
+);
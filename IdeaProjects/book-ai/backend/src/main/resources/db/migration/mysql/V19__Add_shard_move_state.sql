@@ -0,0 +1,10 @@
+-- 재배치 도구의 사용자별 이동 상태. 멈춘 이동을 다시 실행할 때 이어서 정리하기 위해 카탈로그에 남긴다
+-- move_state: COPYING(목표 샤드에 복사 중, move_peer_shard = 목표 샤드)
+--             PLACED(배치를 목표 샤드로 바꿈, move_peer_shard = 아직 지우지 않은 원래 샤드)
+--             CLEANED(정리 완료) / NULL(이동한 적 없음)
+
+ALTER TABLE user_shard_placements
+    ADD COLUMN move_state VARCHAR(16) NULL,
+    ADD COLUMN move_peer_shard VARCHAR(64) NULL;
+
+CREATE INDEX idx_user_shard_placements_move_state ON user_shard_placements(move_state);
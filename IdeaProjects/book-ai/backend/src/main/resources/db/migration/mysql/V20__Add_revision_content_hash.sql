@@ -0,0 +1,4 @@
+-- 수정 이력 버전별 전체 본문의 CRC32. 다음 수정의 기준 본문이 마지막 이력과 같은지 길이만으로는 알 수 없어
+-- (같은 길이로 바뀐 본문) 해시까지 비교한다. 기존 이력은 NULL로 두고, 그 다음 수정은 스냅샷으로 저장한다
+
+ALTER TABLE reading_record_revisions ADD COLUMN content_hash BIGINT NULL;
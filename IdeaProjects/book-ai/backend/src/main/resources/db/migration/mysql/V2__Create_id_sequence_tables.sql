@@ -0,0 +1,18 @@
+-- JDBC 배치 INSERT를 위한 pooled ID 시퀀스
+-- MySQL은 시퀀스를 지원하지 않으므로 Hibernate가 테이블 기반으로 에뮬레이션한다 (컬럼: next_val)
+-- allocationSize(50)만큼 ID를 미리 할당받아 AUTO_INCREMENT 없이도 배치 INSERT가 가능하다
+
+CREATE TABLE users_seq (
+    next_val BIGINT
+);
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM users;
+
+CREATE TABLE books_seq (
+    next_val BIGINT
+);
+INSERT INTO books_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM books;
+
+CREATE TABLE reading_records_seq (
+    next_val BIGINT
+);
+INSERT INTO reading_records_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM reading_records;
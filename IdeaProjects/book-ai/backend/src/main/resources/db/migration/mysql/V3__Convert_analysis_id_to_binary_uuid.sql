@@ -0,0 +1,34 @@
+-- ai_analyses.analysis_id: VARCHAR(36) 랜덤 UUID -> BINARY(16) 시간 순 UUID(v7)
+-- 문자열 PK는 키 크기가 커서 모든 보조 인덱스까지 비대해지고, 랜덤 값이라 INSERT마다 클러스터드 인덱스 중간에 페이지 분할이 발생한다
+-- 기존 행은 UUID_TO_BIN(스왑 없음)으로 변환하여 외부 문자열 표현을 그대로 유지한다
+
+-- 36자 소문자 UUID가 아닌 ID(과거 'analysis_001' 같은 값, 대문자/하이픈 없는 UUID)는 변환하면 외부에 보이는 ID가 바뀐다.
+-- 그런 행이 있으면 컬럼을 건드리기 전에 CHECK 제약 위반으로 중단한다 (MySQL DDL은 롤백되지 않으므로 검사를 먼저 한다).
+-- 해당 행 확인: SELECT analysis_id FROM ai_analyses
+--   WHERE NOT (IS_UUID(analysis_id) AND CHAR_LENGTH(analysis_id) = 36 AND analysis_id = LOWER(analysis_id));
+-- 삭제하거나 UUID로 바꾼 뒤 다시 마이그레이션한다.
+CREATE TABLE IF NOT EXISTS v3_analysis_id_check (
+    non_uuid_ids BIGINT NOT NULL,
+    CONSTRAINT ai_analyses_has_non_uuid_analysis_ids CHECK (non_uuid_ids = 0)
+);
+
+INSERT INTO v3_analysis_id_check (non_uuid_ids)
+SELECT COUNT(*) FROM ai_analyses
+WHERE NOT (IS_UUID(analysis_id) AND CHAR_LENGTH(analysis_id) = 36 AND analysis_id = LOWER(analysis_id));
+
+DROP TABLE v3_analysis_id_check;
+
+ALTER TABLE ai_analyses ADD COLUMN analysis_id_bin BINARY(16) NULL AFTER analysis_id;
+
+UPDATE ai_analyses SET analysis_id_bin = UUID_TO_BIN(analysis_id);
+
+ALTER TABLE ai_analyses
+    DROP PRIMARY KEY,
+    DROP COLUMN analysis_id;
+
+ALTER TABLE ai_analyses
+    RENAME COLUMN analysis_id_bin TO analysis_id;
+
+ALTER TABLE ai_analyses
+    MODIFY COLUMN analysis_id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (analysis_id);
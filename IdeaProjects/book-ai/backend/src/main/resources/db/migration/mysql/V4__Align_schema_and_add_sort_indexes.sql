@@ -0,0 +1,22 @@
+-- Flyway를 유일한 스키마 소스로 전환하면서 엔티티와 어긋난 컬럼을 정리하고
+-- ORDER BY created_at 조회가 filesort 없이 인덱스 순서대로 읽히도록 복합 인덱스를 추가한다
+
+-- 1. books.genre: V1의 ENUM('TECHNICAL', 'LITERATURE')는 Genre enum과 맞지 않음
+ALTER TABLE books MODIFY COLUMN genre VARCHAR(20) NOT NULL;
+UPDATE books SET genre = 'TECHNOLOGY' WHERE genre = 'TECHNICAL';
+UPDATE books SET genre = 'FICTION' WHERE genre = 'LITERATURE';
+
+-- 2. books.isbn: 도메인은 하이픈 포함 ISBN-13(최대 17자)을 허용
+ALTER TABLE books MODIFY COLUMN isbn VARCHAR(20) NULL;
+
+-- 3. ai_analyses 목록 조회 (findByUserIdOrderByCreatedAtDesc, findByBookIdOrderByCreatedAtDesc,
+--    findByUserIdAndAnalysisTypeOrderByCreatedAtDesc)
+CREATE INDEX idx_ai_analyses_user_created ON ai_analyses(user_id, created_at);
+CREATE INDEX idx_ai_analyses_book_created ON ai_analyses(book_id, created_at);
+CREATE INDEX idx_ai_analyses_user_type_created ON ai_analyses(user_id, analysis_type, created_at);
+
+-- 4. reading_records 조회 (findByBook_IdOrderByCreatedAtDesc, findByUser_IdAndBook_Id)
+--    book_id 단일 인덱스는 (book_id, created_at)이 FK 인덱스 역할까지 대신하므로 제거
+CREATE INDEX idx_reading_records_book_created ON reading_records(book_id, created_at);
+CREATE INDEX idx_reading_records_user_book ON reading_records(user_id, book_id);
+DROP INDEX idx_reading_records_book_id ON reading_records;
@@ -0,0 +1,7 @@
+-- idx_books_search를 ngram 파서로 재생성
+-- 기본 파서는 공백 단위로 토큰을 나누므로 조사가 붙은 한국어 단어를 찾지 못한다
+-- (ngram_token_size 기본값 2 기준)
+
+DROP INDEX idx_books_search ON books;
+
+CREATE FULLTEXT INDEX idx_books_search ON books(title, author, description) WITH PARSER ngram;
@@ -0,0 +1,8 @@
+-- replica 지연 측정용 heartbeat (ReplicaLagMonitor가 primary에 기록하고 replica에서 읽음)
+
+CREATE TABLE replication_heartbeat (
+    id INT NOT NULL PRIMARY KEY,
+    beat_at TIMESTAMP(3) NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP(3));
@@ -0,0 +1,9 @@
+-- 본문 컬럼을 LONGBLOB으로 변경 (CompressedTextConverter)
+-- 기존 값은 UTF-8 바이트 그대로 옮겨지며 변환기가 비압축 형식으로 읽는다
+-- 큰 값의 압축은 ContentRecompressionTask가 백그라운드로 수행
+
+ALTER TABLE reading_records MODIFY content LONGBLOB NOT NULL;
+
+ALTER TABLE books MODIFY content LONGBLOB;
+
+ALTER TABLE ai_analyses MODIFY content LONGBLOB NOT NULL;
@@ -0,0 +1,8 @@
+-- 삭제 요청된 책/계정을 즉시 숨기고 실제 삭제는 DeletionPurgeTask가 작은 단위로 나눠 수행한다
+-- ON DELETE CASCADE 한 번으로 하위 행을 모두 지우면 큰 서재에서 잠금이 길어지고 복제가 밀림
+
+ALTER TABLE books ADD COLUMN deletion_requested_at TIMESTAMP NULL DEFAULT NULL;
+ALTER TABLE users ADD COLUMN deletion_requested_at TIMESTAMP NULL DEFAULT NULL;
+
+CREATE INDEX idx_books_deletion_requested ON books(deletion_requested_at);
+CREATE INDEX idx_users_deletion_requested ON users(deletion_requested_at);
@@ -0,0 +1,5 @@
+-- 낙관적 잠금(@Version) 컬럼 - UPDATE ... WHERE id = ? AND version = ? 한 문장으로 충돌을 감지
+-- 응답의 ETag, 요청의 If-Match 값으로도 사용
+
+ALTER TABLE books ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE reading_records ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
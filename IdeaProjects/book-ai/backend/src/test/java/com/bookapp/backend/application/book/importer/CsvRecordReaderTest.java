@@ -0,0 +1,53 @@
+package com.bookapp.backend.application.book.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void 따옴표_안의_쉼표_줄바꿈_이중따옴표를_한_필드로_읽는다() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "title,description\n\"Hello, World\",\"첫 줄\n둘째 줄 \"\"인용\"\"\"\n"));
+
+        assertThat(reader.next()).containsExactly("title", "description");
+        assertThat(reader.next()).containsExactly("Hello, World", "첫 줄\n둘째 줄 \"인용\"");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void 레코드_줄번호는_여러_줄_필드를_건너뛴_실제_시작_줄이다() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "a,b\n\"1\n2\n3\",x\nlast,y"));
+
+        reader.next();
+        assertThat(reader.getRecordLineNumber()).isEqualTo(1);
+        reader.next();
+        assertThat(reader.getRecordLineNumber()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("last", "y");
+        assertThat(reader.getRecordLineNumber()).isEqualTo(5);
+    }
+
+    @Test
+    void BOM과_CRLF를_처리하고_마지막_줄바꿈이_없어도_읽는다() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\uFEFFtitle,author\r\n1984,Orwell"));
+
+        assertThat(reader.next()).containsExactly("title", "author");
+        assertThat(reader.next()).containsExactly("1984", "Orwell");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void 빈_필드와_빈_줄을_그대로_돌려준다() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,,c\n\n"));
+
+        assertThat(reader.next()).isEqualTo(List.of("a", "", "c"));
+        assertThat(reader.next()).isEqualTo(List.of(""));
+        assertThat(reader.next()).isNull();
+    }
+}
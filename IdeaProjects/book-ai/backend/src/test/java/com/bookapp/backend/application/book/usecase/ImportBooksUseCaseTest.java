@@ -0,0 +1,195 @@
+package com.bookapp.backend.application.book.usecase;
+
+import com.bookapp.backend.application.book.dto.BookImportResult;
+import com.bookapp.backend.application.book.dto.ImportRejection;
+import com.bookapp.backend.application.book.importer.ImportFormat;
+import com.bookapp.backend.common.TestConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+
+/**
+ * 대량 등록의 경계 조건: 줄 단위 거절 사유와 줄 번호, 배치 경계를 넘는 ISBN 중복, 배치별 커밋.
+ * 테스트마다 사용자와 ISBN 대역을 따로 써서 서로의 데이터에 영향을 주지 않는다 (ISBN 중복 확인은 전체 책 대상).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:book_import;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ImportBooksUseCaseTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+
+    @Autowired
+    private ImportBooksUseCase importBooksUseCase;
+
+    @MockitoSpyBean
+    private BookImportBatchWriter batchWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seedUsers() {
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, ?)",
+                    id, "import" + id + "@example.com", PASSWORD_HASH, "import" + id);
+        }
+    }
+
+    @Test
+    void CSV의_잘못된_줄은_시작_줄_번호와_사유로_거절하고_나머지는_등록한다() throws IOException {
+        String csv = """
+                title,author,isbn,genre,description
+                "Hello, World",Kim,9791000000001,TECHNOLOGY,"여러 줄
+                설명 ""인용""\"
+                ,Lee,9791000000002,FICTION,
+
+                Dune,Herbert,9791000000003,SPACE_OPERA,
+                소년이 온다,한강,not-an-isbn,소설,
+                채식주의자,한강,9791000000004,소설,
+                """;
+
+        BookImportResult result = importBooksUseCase.execute(1L, stream(csv), ImportFormat.CSV);
+
+        assertThat(result.getProcessedLines()).isEqualTo(5);
+        assertThat(result.getImportedBooks()).isEqualTo(2);
+        assertThat(reasonsByLine(result)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                4, "제목은 필수입니다",
+                6, "알 수 없는 장르입니다: SPACE_OPERA",
+                7, "올바른 ISBN 형식이 아닙니다"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT description FROM books WHERE isbn = '9791000000001'", String.class))
+                .isEqualTo("여러 줄\n설명 \"인용\"");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT genre FROM books WHERE isbn = '9791000000004'", String.class))
+                .isEqualTo("FICTION");
+    }
+
+    @Test
+    void 필수_컬럼이_없는_CSV_헤더는_요청_전체를_거절한다() {
+        String csv = "title,isbn\n1984,9791000000099\n";
+
+        assertThatThrownBy(() -> importBooksUseCase.execute(1L, stream(csv), ImportFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(countBooks(1L, "9791000000099")).isZero();
+    }
+
+    @Test
+    void 배치_경계를_넘는_파일_내_중복과_이미_있는_ISBN을_거절한다() throws IOException {
+        jdbcTemplate.update("INSERT INTO books (id, title, author, isbn, genre, user_id) "
+                + "VALUES (900000, 'Existing', 'Someone', '9792000000700', 'FICTION', 5)");
+        StringBuilder csv = new StringBuilder("title,author,isbn,genre\n");
+        for (int i = 1; i <= 1200; i++) {
+            csv.append("Book ").append(i).append(",Author,").append(isbn(2, i)).append(",FICTION\n");
+        }
+        // 2번째 줄(첫 배치)의 ISBN을 두 번째 배치에서 다시 사용
+        csv.append("Again,Author,").append(isbn(2, 1)).append(",FICTION\n");
+
+        BookImportResult result = importBooksUseCase.execute(2L, stream(csv.toString()), ImportFormat.CSV);
+
+        assertThat(result.getProcessedLines()).isEqualTo(1201);
+        assertThat(result.getImportedBooks()).isEqualTo(1199);
+        assertThat(reasonsByLine(result)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                701, "이미 존재하는 ISBN입니다",
+                1202, "파일 안에서 중복된 ISBN입니다"));
+        assertThat(countBooks(2L, null)).isEqualTo(1199);
+    }
+
+    @Test
+    void NDJSON_독서_기록은_같은_파일의_책에_붙고_잘못된_줄만_거절한다() throws IOException {
+        String ndjson = """
+                {"title":"1984","author":"Orwell","isbn":"9793000000001","genre":"FICTION"}
+                {"type":"reading_record","isbn":"9793000000001","content":"감시 사회","status":"completed"}
+                {"type":"reading_record","isbn":"9793000000999","content":"없는 책"}
+                {"type":"reading_record","content":"ISBN 없음"}
+                {"type":"reading_record","isbn":"9793000000001","content":"상태 오류","status":"DONE"}
+                {"title": "깨진 줄"
+                ["배열"]
+
+                {"title":"Brave New World","author":"Huxley","genre":"FICTION","description":null}
+                """;
+
+        BookImportResult result = importBooksUseCase.execute(3L, stream(ndjson), ImportFormat.NDJSON);
+
+        assertThat(result.getProcessedLines()).isEqualTo(8);
+        assertThat(result.getImportedBooks()).isEqualTo(2);
+        assertThat(result.getImportedReadingRecords()).isEqualTo(1);
+        assertThat(reasonsByLine(result)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                3, "해당 ISBN의 책이 서재에 없습니다",
+                4, "독서 기록에는 책의 ISBN이 필요합니다",
+                5, "올바르지 않은 독서 상태입니다",
+                6, "JSON 형식이 올바르지 않습니다",
+                7, "JSON 형식이 올바르지 않습니다"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM reading_records WHERE user_id = 3", String.class))
+                .isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void 실패한_배치의_줄만_거절되고_앞뒤_배치는_커밋된다() throws IOException {
+        doCallRealMethod()
+                .doThrow(new IllegalStateException("강제 실패"))
+                .doCallRealMethod()
+                .when(batchWriter).write(any(), anyList(), anyList());
+        StringBuilder csv = new StringBuilder("title,author,isbn,genre\n");
+        for (int i = 1; i <= 1500; i++) {
+            csv.append("Book ").append(i).append(",Author,").append(isbn(4, i)).append(",FICTION\n");
+        }
+
+        BookImportResult result = importBooksUseCase.execute(4L, stream(csv.toString()), ImportFormat.CSV);
+
+        assertThat(result.getImportedBooks()).isEqualTo(1000);
+        assertThat(result.getRejectedLines()).isEqualTo(500);
+        assertThat(result.getRejections())
+                .allSatisfy(rejection -> assertThat(rejection.getReason()).isEqualTo("배치 저장 실패: 강제 실패"))
+                .extracting(ImportRejection::getLineNumber)
+                .containsExactlyElementsOf(IntStream.rangeClosed(502, 1001).boxed().toList());
+        assertThat(countBooks(4L, isbn(4, 1))).isOne();
+        assertThat(countBooks(4L, isbn(4, 501))).isZero();
+        assertThat(countBooks(4L, isbn(4, 1001))).isOne();
+        assertThat(countBooks(4L, null)).isEqualTo(1000);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String isbn(int range, int sequence) {
+        return "979" + range + String.format("%09d", sequence);
+    }
+
+    private Map<Integer, String> reasonsByLine(BookImportResult result) {
+        return result.getRejections().stream()
+                .collect(Collectors.toMap(ImportRejection::getLineNumber, ImportRejection::getReason));
+    }
+
+    private long countBooks(Long userId, String isbn) {
+        if (isbn == null) {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ?", Long.class, userId);
+        }
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ? AND isbn = ?", Long.class,
+                userId, isbn);
+    }
+}
@@ -0,0 +1,107 @@
+package com.bookapp.backend.application.export.usecase;
+
+import com.bookapp.backend.common.TestConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10만 행짜리 서재를 작은 힙에서 내보낸다.
+ * 책 본문만 약 300MB라 힙(build.gradle의 smallHeapTest: 192MB)에 다 올릴 수 없으므로,
+ * 어느 단계에서든 결과를 목록으로 모으거나 영속성 컨텍스트에 쌓으면 OutOfMemoryError로 실패한다.
+ * 데이터가 힙에 올라가지 않도록 H2 파일 DB를 쓴다.
+ */
+@Tag("small-heap")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/tmp/export-small-heap/db;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.compression.recompress.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportLibraryUseCaseSmallHeapTest {
+
+    private static final int ROWS = 100_000;
+    private static final long USER_ID = 1L;
+
+    static {
+        // 이전 실행의 DB 파일이 남아 있으면 Flyway/시드가 충돌하므로 컨텍스트가 뜨기 전에 지운다
+        try {
+            FileSystemUtils.deleteRecursively(Path.of("build/tmp/export-small-heap"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Autowired
+    private ExportLibraryUseCase exportLibraryUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, 'export@example.com', ?, 'export')",
+                USER_ID, "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        jdbcTemplate.update("INSERT INTO books (id, title, author, isbn, genre, content, user_id) "
+                + "SELECT X, 'Book ' || X, 'Author', '978' || LPAD(X, 10, '0'), 'FICTION', STRINGTOUTF8(REPEAT('책', 1000)), ? "
+                + "FROM SYSTEM_RANGE(1, ?)", USER_ID, ROWS);
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status) "
+                + "SELECT X, ?, X, STRINGTOUTF8('기록 ' || X), 'COMPLETED' FROM SYSTEM_RANGE(1, ?)", USER_ID, ROWS);
+        jdbcTemplate.update("INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                + "SELECT HEXTORAW(LPAD(X, 32, '0')), ?, X, 'LITERATURE_ANALYSIS', STRINGTOUTF8('분석 ' || X), CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, ?)", USER_ID, ROWS);
+    }
+
+    @Test
+    void 십만_행_서재를_작은_힙에서_끝까지_내보낸다() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+
+        exportLibraryUseCase.execute(USER_ID, output);
+
+        // 항목마다 한 줄 (마지막 줄바꿈 포함)
+        assertThat(output.lines).isEqualTo(3L * ROWS);
+        assertThat(output.bytes).isGreaterThan(3_000L * ROWS);
+        assertThat(Runtime.getRuntime().maxMemory()).isLessThan(output.bytes);
+    }
+
+    /** 내용은 버리고 크기와 줄 수만 센다 */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
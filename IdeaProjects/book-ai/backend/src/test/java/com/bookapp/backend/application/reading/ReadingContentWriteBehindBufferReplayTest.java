@@ -0,0 +1,128 @@
+package com.bookapp.backend.application.reading;
+
+import com.bookapp.backend.application.reading.usecase.FlushBufferedContentUseCase;
+import com.bookapp.backend.domain.reading.BufferedContent;
+import com.bookapp.backend.infrastructure.persistence.reading.ContentWriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재기동 시 선기록 로그 재생: 기록별 마지막 본문만 반영하고, 반영하지 못한 것은 로그에 남기며,
+ * 끝의 불완전한 레코드는 지워 이후 기록이 다음 재생에서 빠지지 않게 한다.
+ */
+class ReadingContentWriteBehindBufferReplayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private ContentWriteAheadLog writeAheadLog;
+    private FlushBufferedContentUseCase flushUseCase;
+    private ReadingContentWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("reading-content.wal");
+        writeAheadLog = new ContentWriteAheadLog(path.toString());
+        flushUseCase = mock(FlushBufferedContentUseCase.class);
+        when(flushUseCase.execute(any())).thenReturn(true);
+        buffer = new ReadingContentWriteBehindBuffer(writeAheadLog, flushUseCase, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeAheadLog.close();
+    }
+
+    @Test
+    void 기록별로_마지막_본문만_반영하고_로그를_비운다() throws IOException {
+        BufferedContent older = new BufferedContent(1L, 3L, 4L, "이전 자동 저장", NOW);
+        BufferedContent newer = new BufferedContent(1L, 3L, 5L, "마지막 자동 저장", NOW.plusSeconds(5));
+        BufferedContent other = new BufferedContent(2L, 7L, 8L, "다른 기록", NOW);
+        writeAheadLog.append(older);
+        writeAheadLog.append(other);
+        writeAheadLog.append(newer);
+        appendTornTail();
+
+        buffer.replay();
+
+        verify(flushUseCase, never()).execute(older);
+        verify(flushUseCase).execute(newer);
+        verify(flushUseCase).execute(other);
+        assertThat(buffer.find(1L)).isEmpty();
+        assertThat(writeAheadLog.readAll()).isEmpty();
+        assertThat(Files.size(path)).isZero();
+    }
+
+    @Test
+    void 반영에_실패한_본문은_버퍼와_로그에_남아_다음_주기에_다시_반영한다() {
+        BufferedContent failing = new BufferedContent(2L, 7L, 8L, "반영 실패", NOW);
+        writeAheadLog.append(new BufferedContent(1L, 3L, 4L, "반영 성공", NOW));
+        writeAheadLog.append(failing);
+        when(flushUseCase.execute(failing)).thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(true);
+
+        buffer.replay();
+
+        assertThat(buffer.find(2L)).contains(failing);
+        assertThat(writeAheadLog.readAll()).containsExactly(failing);
+
+        buffer.flushAll();
+
+        verify(flushUseCase, times(2)).execute(failing);
+        assertThat(buffer.find(2L)).isEmpty();
+        assertThat(writeAheadLog.readAll()).isEmpty();
+    }
+
+    @Test
+    void 불완전한_레코드만_있어도_지워서_이후_기록이_다음_재생에_포함된다() throws IOException {
+        appendTornTail();
+
+        buffer.replay();
+        verify(flushUseCase, never()).execute(any());
+
+        // 재기동 후 새 편집이 기록되고 다시 죽은 경우
+        BufferedContent afterRestart = new BufferedContent(1L, 3L, 4L, "재기동 후 편집", NOW);
+        writeAheadLog.append(afterRestart);
+        writeAheadLog.close();
+
+        assertThat(new ContentWriteAheadLog(path.toString()).readAll()).containsExactly(afterRestart);
+    }
+
+    @Test
+    void 반영할_수_없는_기록의_본문은_버린다() {
+        BufferedContent deleted = new BufferedContent(9L, 1L, 2L, "삭제된 기록", NOW);
+        writeAheadLog.append(deleted);
+        when(flushUseCase.execute(deleted)).thenReturn(false);
+
+        buffer.replay();
+
+        assertThat(buffer.find(9L)).isEmpty();
+        assertThat(writeAheadLog.readAll()).isEmpty();
+    }
+
+    // 길이 필드만 쓰고 죽은 레코드
+    private void appendTornTail() throws IOException {
+        writeAheadLog.close();
+        Files.write(path, new byte[]{0, 0, 0, 64, 1, 2}, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,191 @@
+package com.bookapp.backend.application.reading;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.reading.ReadingRecord;
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevision;
+import com.bookapp.backend.domain.reading.revision.ReadingRecordRevisionRepository;
+import com.bookapp.backend.domain.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 약 45,000자 본문을 1,000번 수정한 뒤 모든 버전이 정확히 복원되는지,
+ * 복원 한 번에 읽는 이력이 스냅샷 간격(20)을 넘지 않는지, 저장량이 전체 복사본보다 훨씬 작은지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:revision_history;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.reading.revisions.snapshot-interval=20"
+})
+class ReadingRecordRevisionHistoryTest {
+
+    private static final int EDITS = 1000;
+    private static final int SNAPSHOT_INTERVAL = 20;
+
+    @Autowired
+    private ReadingRecordRevisionHistory revisionHistory;
+
+    @MockitoSpyBean
+    private ReadingRecordRevisionRepository revisionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 수정_1000번_후에도_모든_버전을_스냅샷_간격_안에서_복원한다() {
+        Random random = new Random(42);
+        List<String> lines = initialLines(random);
+        String content = String.join("\n", lines);
+        // 버전별 본문은 크기가 커서 해시와 길이만 보관
+        List<Integer> expectedHashes = new ArrayList<>(List.of(content.hashCode()));
+        List<Integer> expectedLengths = new ArrayList<>(List.of(content.length()));
+        long fullCopyChars = content.length();
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int edit = 0; edit < EDITS; edit++) {
+            editRandomLine(lines, random, edit);
+            String previousContent = content;
+            LocalDateTime previousUpdatedAt = updatedAt;
+            content = String.join("\n", lines);
+            updatedAt = updatedAt.plusMinutes(1);
+            ReadingRecord saved = readingRecord(1L, content, updatedAt);
+            transactionTemplate.executeWithoutResult(status ->
+                    revisionHistory.recordChange(saved, previousContent, previousUpdatedAt));
+            expectedHashes.add(content.hashCode());
+            expectedLengths.add(content.length());
+            fullCopyChars += content.length();
+        }
+
+        List<ReadingRecordRevision> summaries = revisionHistory.findSummaries(1L);
+        assertThat(summaries).hasSize(EDITS + 1);
+        assertThat(summaries).allSatisfy(summary -> assertThat(summary.getChainLength()).isLessThan(SNAPSHOT_INTERVAL));
+        assertThat(summaries.stream().filter(ReadingRecordRevision::isSnapshot).count())
+                .isBetween((long) (EDITS + 1) / SNAPSHOT_INTERVAL, (long) (EDITS + 1) / SNAPSHOT_INTERVAL + 2);
+
+        List<Integer> fetchedRows = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<?> rows = (List<?>) invocation.callRealMethod();
+            fetchedRows.add(rows.size());
+            return rows;
+        }).when(revisionRepository).findRange(any(), anyInt(), anyInt());
+
+        for (int revisionNumber = 1; revisionNumber <= EDITS + 1; revisionNumber++) {
+            String rebuilt = revisionHistory.rebuildContent(revisionHistory.findRevision(1L, revisionNumber));
+            assertThat(rebuilt.length()).as("revision %d", revisionNumber).isEqualTo(expectedLengths.get(revisionNumber - 1));
+            assertThat(rebuilt.hashCode()).as("revision %d", revisionNumber).isEqualTo(expectedHashes.get(revisionNumber - 1));
+        }
+        assertThat(fetchedRows).isNotEmpty().allSatisfy(rows -> assertThat(rows).isLessThanOrEqualTo(SNAPSHOT_INTERVAL));
+
+        // 압축 저장된 이력 전체가 버전마다 전체 본문을 저장했을 때의 5% 미만
+        long storedBytes = jdbcTemplate.queryForObject(
+                "SELECT SUM(OCTET_LENGTH(payload)) FROM reading_record_revisions WHERE reading_record_id = 1", Long.class);
+        assertThat(storedBytes).isLessThan(fullCopyChars / 20);
+    }
+
+    @Test
+    void 수정_전_본문이_마지막_이력과_길이는_같고_내용이_다르면_스냅샷으로_저장한다() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        String first = "첫째 줄\n둘째 줄\n셋째 줄\n넷째 줄";
+        String second = "첫째 줄\n둘째 줄\n셋째 줄\n넷째 줄!";
+        // 이력 밖에서 한 글자가 바뀐 본문 (길이는 second와 같음)
+        String diverged = "첫째 줄\n둘째 줌\n셋째 줄\n넷째 줄!";
+        String third = "첫째 줄\n둘째 줌\n셋째 줄\n넷째 줄!\n다섯째 줄";
+
+        record(2L, first, second, updatedAt);
+        assertThat(revisionHistory.findRevision(2L, 2).isSnapshot()).isFalse();
+
+        record(2L, diverged, third, updatedAt.plusMinutes(1));
+
+        ReadingRecordRevision latest = revisionHistory.findRevision(2L, 3);
+        assertThat(latest.isSnapshot()).isTrue();
+        assertThat(revisionHistory.rebuildContent(latest)).isEqualTo(third);
+    }
+
+    @Test
+    void 본문_해시가_없는_이전_이력_다음_수정은_스냅샷으로_저장한다() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        String first = "첫째 줄\n둘째 줄\n셋째 줄\n넷째 줄";
+        String second = "첫째 줄\n둘째 줄\n셋째 줄\n넷째 줄!";
+        String third = "첫째 줄\n둘째 줄\n셋째 줄\n넷째 줄!\n다섯째 줄";
+        record(3L, first, second, updatedAt);
+        jdbcTemplate.update("UPDATE reading_record_revisions SET content_hash = NULL WHERE reading_record_id = 3");
+
+        record(3L, second, third, updatedAt.plusMinutes(1));
+
+        ReadingRecordRevision latest = revisionHistory.findRevision(3L, 3);
+        assertThat(latest.isSnapshot()).isTrue();
+        assertThat(latest.getContentHash()).isEqualTo(ReadingRecordRevision.contentHash(third));
+        assertThat(revisionHistory.rebuildContent(latest)).isEqualTo(third);
+    }
+
+    private void record(Long readingRecordId, String previousContent, String content, LocalDateTime previousUpdatedAt) {
+        ReadingRecord saved = readingRecord(readingRecordId, content, previousUpdatedAt.plusMinutes(1));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                revisionHistory.recordChange(saved, previousContent, previousUpdatedAt));
+    }
+
+    private static List<String> initialLines(Random random) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 900; i++) {
+            lines.add(sentence(random, i));
+        }
+        return lines;
+    }
+
+    // 한 줄 고치기, 줄 추가, 줄 삭제를 섞어 본문 길이가 크게 변하지 않게 한다
+    private static void editRandomLine(List<String> lines, Random random, int edit) {
+        int index = random.nextInt(lines.size());
+        switch (random.nextInt(3)) {
+            case 0 -> lines.set(index, sentence(random, edit));
+            case 1 -> lines.add(index, sentence(random, edit));
+            default -> lines.remove(index);
+        }
+    }
+
+    private static String sentence(Random random, int seed) {
+        return seed + "번째 문단: 인물의 선택과 결과를 다시 읽으며 남긴 메모 " + Integer.toHexString(random.nextInt());
+    }
+
+    private static ReadingRecord readingRecord(Long id, String content, LocalDateTime updatedAt) {
+        User user = User.builder()
+                .id(1L)
+                .email("revision@example.com")
+                .password("$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi")
+                .nickname("revision")
+                .build();
+        Book book = Book.builder().id(1L).title("책").author("저자").genre(Genre.FICTION).userId(1L).build();
+        return ReadingRecord.builder()
+                .id(id)
+                .user(user)
+                .book(book)
+                .content(content)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.bookapp.backend.application.reading.usecase;
+
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchRequest;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchRequest.Operation;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchResponse;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.reading.ContentEdit;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 본문 부분 수정(PATCH): 편집 적용과 버전 증가, 기준 버전이 다르면 거절, 잘못된 편집은 본문을 바꾸지 않음.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:reading_patch;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PatchReadingRecordContentTest {
+
+    private static final long RECORD_ID = 100L;
+    // 편집 차이가 본문보다 충분히 작도록 뒤에 문단을 붙임
+    private static final String TAIL = "\n이어서 읽은 부분에 대한 메모".repeat(50);
+    private static final String ORIGINAL = "첫 문장.\n둘째 문장." + TAIL;
+
+    @Autowired
+    private UpdateReadingRecordUseCase updateReadingRecordUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (1, 'patch@example.com', ?, 'patch')",
+                "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (10, '책', '저자', 'FICTION', 1)");
+    }
+
+    @BeforeEach
+    void resetRecord() {
+        jdbcTemplate.update("DELETE FROM reading_record_revisions");
+        jdbcTemplate.update("DELETE FROM reading_records");
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status, version) "
+                + "VALUES (?, 1, 10, ?, 'IN_PROGRESS', 3)", RECORD_ID, TextCompression.encode(ORIGINAL));
+    }
+
+    @Test
+    void 기준_버전이_같으면_편집을_적용하고_버전을_올린다() {
+        ReadingRecordContentPatchResponse response = updateReadingRecordUseCase.patchContent(RECORD_ID, request(3L,
+                new Operation(ContentEdit.Type.DELETE, 0, null, 1),
+                new Operation(ContentEdit.Type.INSERT, 0, "처음", 0),
+                new Operation(ContentEdit.Type.INSERT, 13, "\n셋째 문장.", 0)));
+
+        assertThat(storedContent()).isEqualTo("처음 문장.\n둘째 문장.\n셋째 문장." + TAIL);
+        assertThat(response.getVersion()).isEqualTo(4L);
+        assertThat(response.getContentLength()).isEqualTo(storedContent().length());
+        // 수정 전 본문 스냅샷과 이번 편집의 차이만 이력에 남음
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT kind FROM reading_record_revisions WHERE reading_record_id = ? ORDER BY revision_number",
+                String.class, RECORD_ID)).containsExactly("SNAPSHOT", "DELTA");
+    }
+
+    @Test
+    void 연속_자동_저장은_직전_응답의_버전을_기준으로_한다() {
+        ReadingRecordContentPatchResponse first = updateReadingRecordUseCase.patchContent(RECORD_ID, request(3L,
+                new Operation(ContentEdit.Type.INSERT, 0, "A", 0)));
+        updateReadingRecordUseCase.patchContent(RECORD_ID, request(first.getVersion(),
+                new Operation(ContentEdit.Type.INSERT, 1, "B", 0)));
+
+        assertThat(storedContent()).startsWith("AB첫 문장.");
+        assertThat(storedVersion()).isEqualTo(5L);
+    }
+
+    @Test
+    void 기준_버전이_다르면_거절하고_본문을_바꾸지_않는다() {
+        assertThatThrownBy(() -> updateReadingRecordUseCase.patchContent(RECORD_ID, request(2L,
+                new Operation(ContentEdit.Type.INSERT, 0, "늦은 편집", 0))))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> updateReadingRecordUseCase.patchContent(RECORD_ID, request(4L,
+                new Operation(ContentEdit.Type.INSERT, 0, "앞선 편집", 0))))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(storedContent()).isEqualTo(ORIGINAL);
+        assertThat(storedVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void 일부_편집이_범위를_벗어나면_앞의_편집도_저장하지_않는다() {
+        assertThatThrownBy(() -> updateReadingRecordUseCase.patchContent(RECORD_ID, request(3L,
+                new Operation(ContentEdit.Type.INSERT, 0, "적용될 뻔한 편집", 0),
+                new Operation(ContentEdit.Type.DELETE, 5000, null, 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(storedContent()).isEqualTo(ORIGINAL);
+        assertThat(storedVersion()).isEqualTo(3L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reading_record_revisions", Integer.class)).isZero();
+    }
+
+    @Test
+    void 편집_결과가_50000자를_넘으면_거절한다() {
+        assertThatThrownBy(() -> updateReadingRecordUseCase.patchContent(RECORD_ID, request(3L,
+                new Operation(ContentEdit.Type.INSERT, 0, "가".repeat(50_000), 0))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("50,000자");
+    }
+
+    @Test
+    void 완료된_독서_기록은_편집할_수_없다() {
+        jdbcTemplate.update("UPDATE reading_records SET status = 'COMPLETED' WHERE id = ?", RECORD_ID);
+
+        assertThatThrownBy(() -> updateReadingRecordUseCase.patchContent(RECORD_ID, request(3L,
+                new Operation(ContentEdit.Type.INSERT, 0, "완료 후 편집", 0))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(storedContent()).isEqualTo(ORIGINAL);
+    }
+
+    private static ReadingRecordContentPatchRequest request(Long baseVersion, Operation... operations) {
+        return new ReadingRecordContentPatchRequest(baseVersion, List.of(operations));
+    }
+
+    private String storedContent() {
+        return TextCompression.decode(jdbcTemplate.queryForObject(
+                "SELECT content FROM reading_records WHERE id = ?", byte[].class, RECORD_ID));
+    }
+
+    private long storedVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM reading_records WHERE id = ?", Long.class, RECORD_ID);
+    }
+}
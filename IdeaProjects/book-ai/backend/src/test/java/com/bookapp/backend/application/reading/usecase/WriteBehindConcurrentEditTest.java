@@ -0,0 +1,184 @@
+package com.bookapp.backend.application.reading.usecase;
+
+import com.bookapp.backend.application.reading.ReadingContentWriteBehindBuffer;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchRequest;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchRequest.Operation;
+import com.bookapp.backend.application.reading.dto.ReadingRecordContentPatchResponse;
+import com.bookapp.backend.application.reading.dto.ReadingRecordResponse;
+import com.bookapp.backend.application.reading.dto.ReadingRecordUpdateRequest;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.reading.ContentEdit;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * write-behind 모드에서 같은 버전을 가진 두 클라이언트: 먼저 버퍼에 담긴 요청만 반영되고 나중 요청은 거절되며,
+ * flush는 버퍼를 거치지 않고 바뀐 DB 값을 덮어쓰지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:write_behind_concurrent;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.reading.write-behind.enabled=true",
+        "app.reading.write-behind.flush-interval-ms=3600000",
+        "app.reading.write-behind.wal-path=build/write-behind-test/concurrent-edit.wal"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WriteBehindConcurrentEditTest {
+
+    private static final long RECORD_ID = 100L;
+    private static final String ORIGINAL = "첫 문장.\n둘째 문장.";
+
+    @Autowired
+    private UpdateReadingRecordUseCase updateReadingRecordUseCase;
+
+    @Autowired
+    private ReadingContentWriteBehindBuffer writeBehindBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (1, 'buffer@example.com', ?, 'buffer')",
+                "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (10, '책', '저자', 'FICTION', 1)");
+    }
+
+    @BeforeEach
+    void resetRecord() {
+        writeBehindBuffer.discard(RECORD_ID);
+        jdbcTemplate.update("DELETE FROM reading_record_revisions");
+        jdbcTemplate.update("DELETE FROM reading_records");
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status, version) "
+                + "VALUES (?, 1, 10, ?, 'IN_PROGRESS', 3)", RECORD_ID, TextCompression.encode(ORIGINAL));
+    }
+
+    @Test
+    void 같은_ETag로_보낸_두_번째_전체_저장은_거절된다() {
+        ReadingRecordResponse first = updateReadingRecordUseCase.execute(RECORD_ID, put("첫 클라이언트"), Set.of(3L));
+
+        assertThatThrownBy(() -> updateReadingRecordUseCase.execute(RECORD_ID, put("둘째 클라이언트"), Set.of(3L)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(first.getVersion()).isEqualTo(4L);
+
+        writeBehindBuffer.flushAll();
+
+        assertThat(storedContent()).isEqualTo("첫 클라이언트");
+        assertThat(storedVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    void 같은_기준_버전으로_동시에_보낸_부분_수정은_하나만_적용된다() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<ReadingRecordContentPatchResponse>> clients = new ArrayList<>();
+        for (String text : List.of("A", "B")) {
+            clients.add(CompletableFuture.supplyAsync(awaiting(start, () -> updateReadingRecordUseCase.patchContent(RECORD_ID,
+                    new ReadingRecordContentPatchRequest(3L, List.of(new Operation(ContentEdit.Type.INSERT, 0, text, 0)))))));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (CompletableFuture<ReadingRecordContentPatchResponse> client : clients) {
+            try {
+                assertThat(client.get(10, TimeUnit.SECONDS).getVersion()).isEqualTo(4L);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(OptimisticLockingFailureException.class);
+                rejected++;
+            }
+        }
+        assertThat(succeeded).isOne();
+        assertThat(rejected).isOne();
+
+        writeBehindBuffer.flushAll();
+
+        // 두 편집이 겹쳐 "AB첫 문장."처럼 되지 않고 한 편집만 원문에 적용됨
+        assertThat(storedContent()).isIn("A" + ORIGINAL, "B" + ORIGINAL);
+        assertThat(storedVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    void 여러_편집을_합쳐_반영해도_클라이언트가_받은_버전이_이어진다() {
+        ReadingRecordContentPatchResponse first = updateReadingRecordUseCase.patchContent(RECORD_ID, patch(3L, 0, "A"));
+        ReadingRecordContentPatchResponse second = updateReadingRecordUseCase.patchContent(RECORD_ID, patch(first.getVersion(), 1, "B"));
+
+        writeBehindBuffer.flushAll();
+
+        assertThat(second.getVersion()).isEqualTo(5L);
+        assertThat(storedVersion()).isEqualTo(5L);
+        assertThat(storedContent()).isEqualTo("AB" + ORIGINAL);
+        // 반영 뒤에도 마지막 응답의 버전으로 이어서 편집할 수 있고, 그보다 앞선 버전은 거절됨
+        assertThatThrownBy(() -> updateReadingRecordUseCase.patchContent(RECORD_ID, patch(4L, 0, "늦은 편집")))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(updateReadingRecordUseCase.patchContent(RECORD_ID, patch(5L, 2, "C")).getVersion()).isEqualTo(6L);
+    }
+
+    @Test
+    void 버퍼에_담은_뒤_버퍼를_거치지_않고_바뀐_기록은_덮어쓰지_않는다() {
+        updateReadingRecordUseCase.patchContent(RECORD_ID, patch(3L, 0, "버퍼 편집 "));
+        // 다른 인스턴스가 같은 기록을 직접 수정한 상황 - 버전이 버퍼의 revision과 같아져도 본문이 다르면 충돌
+        jdbcTemplate.update("UPDATE reading_records SET content = ?, version = 4 WHERE id = ?",
+                TextCompression.encode("다른 인스턴스의 수정"), RECORD_ID);
+
+        writeBehindBuffer.flushAll();
+
+        assertThat(storedContent()).isEqualTo("다른 인스턴스의 수정");
+        assertThat(storedVersion()).isEqualTo(4L);
+        assertThat(writeBehindBuffer.find(RECORD_ID)).isEmpty();
+    }
+
+    private static ReadingRecordUpdateRequest put(String content) {
+        return ReadingRecordUpdateRequest.builder().content(content).build();
+    }
+
+    private static ReadingRecordContentPatchRequest patch(Long baseVersion, int position, String text) {
+        return new ReadingRecordContentPatchRequest(baseVersion, List.of(new Operation(ContentEdit.Type.INSERT, position, text, 0)));
+    }
+
+    private static <T> Supplier<T> awaiting(CountDownLatch start, Supplier<T> request) {
+        return () -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            return request.get();
+        };
+    }
+
+    private String storedContent() {
+        return TextCompression.decode(jdbcTemplate.queryForObject(
+                "SELECT content FROM reading_records WHERE id = ?", byte[].class, RECORD_ID));
+    }
+
+    private long storedVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM reading_records WHERE id = ?", Long.class, RECORD_ID);
+    }
+}
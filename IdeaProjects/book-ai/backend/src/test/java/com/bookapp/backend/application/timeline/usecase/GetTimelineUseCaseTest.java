@@ -0,0 +1,225 @@
+package com.bookapp.backend.application.timeline.usecase;
+
+import com.bookapp.backend.application.timeline.dto.TimelineEntryResponse;
+import com.bookapp.backend.application.timeline.dto.TimelinePageResponse;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.timeline.TimelineEntry;
+import com.bookapp.backend.domain.timeline.TimelineEntryType;
+import com.bookapp.backend.domain.timeline.TimelineRepository;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import com.bookapp.backend.web.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 타임라인 k-way 병합 keyset 페이지: 어떤 페이지 크기로 끝까지 넘겨도 전체 정렬 결과와 같고 (같은 초의 항목 포함),
+ * 한 페이지를 위해 각 소스에서 페이지에 필요한 만큼만 읽는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:timeline_paging;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GetTimelineUseCaseTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Autowired
+    private GetTimelineUseCase getTimelineUseCase;
+
+    @MockitoSpyBean
+    private TimelineRepository timelineRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 시드로 넣은 사용자 1의 항목을 NEWEST_FIRST로 정렬한 기대값
+    private final List<TimelineEntry> expected = new ArrayList<>();
+
+    private int analysisSequence;
+
+    @BeforeAll
+    void seed() {
+        String password = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (1, 'timeline@example.com', ?, 'me')", password);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (2, 'other@example.com', ?, 'other')", password);
+
+        // 책 세 권씩 같은 초에 등록 (같은 시각 안에서는 ID 역순이어야 함)
+        for (long id = 10; id < 28; id++) {
+            insertBook(id, 1L, "책 " + id, BASE.plusMinutes((id - 10) / 3));
+        }
+        // 독서 시작/완료와 분석이 책 등록과 같은 초에 겹치도록 배치 (같은 시각이면 종류 역순)
+        for (long id = 100; id < 112; id++) {
+            long bookId = 10 + (id - 100);
+            LocalDateTime startedAt = BASE.plusMinutes((id - 100) / 2);
+            LocalDateTime completedAt = id % 3 == 0 ? BASE.plusMinutes(3 + (id - 100) / 4) : null;
+            insertRecord(id, 1L, bookId, startedAt, completedAt);
+        }
+        for (int i = 0; i < 14; i++) {
+            long bookId = 10 + i % 6;
+            String table = i % 3 == 0 ? "ai_analyses_archive" : "ai_analyses";
+            insertAnalysis(table, 1L, bookId, i % 2 == 0 ? AnalysisType.LITERATURE_ANALYSIS : AnalysisType.TECHNICAL_SUMMARY,
+                    BASE.plusMinutes(i / 4));
+        }
+
+        // 다른 사용자의 항목과 삭제 요청된 책의 항목은 나오면 안 됨
+        insertBook(50L, 2L, "남의 책", BASE.plusMinutes(1));
+        insertRecord(500L, 2L, 50L, BASE.plusMinutes(1), BASE.plusMinutes(2));
+        insertAnalysis("ai_analyses", 2L, 50L, AnalysisType.LITERATURE_ANALYSIS, BASE.plusMinutes(1));
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id, created_at, deletion_requested_at) "
+                + "VALUES (99, '삭제 요청된 책', '저자', 'FICTION', 1, ?, CURRENT_TIMESTAMP)", Timestamp.valueOf(BASE.plusMinutes(9)));
+        insertRecord(990L, 1L, 99L, BASE.plusMinutes(9), BASE.plusMinutes(9));
+        jdbcTemplate.update("INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) VALUES (?, 1, 99, ?, ?, ?)",
+                uuidBytes(UUID.randomUUID()), AnalysisType.LITERATURE_ANALYSIS.name(), TextCompression.encode("분석"),
+                Timestamp.valueOf(BASE.plusMinutes(9)));
+
+        expected.sort(TimelineEntry.NEWEST_FIRST);
+    }
+
+    @BeforeEach
+    void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new UserPrincipal(1L, "timeline@example.com"), null, List.of()));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+        Mockito.reset(timelineRepository);
+    }
+
+    @Test
+    void 어떤_페이지_크기로_넘겨도_전체를_빠짐없이_겹치지_않고_정렬된_순서로_돌려준다() {
+        assertThat(expected).hasSize(18 + 12 + 4 + 14);
+
+        for (int size : new int[]{1, 2, 3, 5, 7, 20, 100}) {
+            List<TimelineEntryResponse> collected = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                TimelinePageResponse page = getTimelineUseCase.execute(cursor, size);
+                assertThat(page.getEntries()).as("size %d", size).hasSizeLessThanOrEqualTo(size).isNotEmpty();
+                collected.addAll(page.getEntries());
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            assertThat(collected).as("size %d", size)
+                    .extracting(TimelineEntryResponse::getType, TimelineEntryResponse::getId, TimelineEntryResponse::getOccurredAt,
+                            TimelineEntryResponse::getBookId, TimelineEntryResponse::getBookTitle, TimelineEntryResponse::getAnalysisType)
+                    .containsExactlyElementsOf(expected.stream()
+                            .map(entry -> org.assertj.core.groups.Tuple.tuple(entry.type(), entry.id(), entry.occurredAt(),
+                                    entry.bookId(), entry.bookTitle(), entry.analysisType()))
+                            .toList());
+            assertThat(pages).as("size %d", size).isEqualTo((expected.size() + size - 1) / size);
+        }
+    }
+
+    @Test
+    void 한_페이지에는_소스마다_청크_두_개_이상을_읽지_않는다() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger rows = new AtomicInteger();
+        doAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            List<TimelineEntry> result = (List<TimelineEntry>) invocation.callRealMethod();
+            calls.incrementAndGet();
+            rows.addAndGet(result.size());
+            assertThat(invocation.<Integer>getArgument(3)).isEqualTo(5 / 2 + 1);
+            return result;
+        }).when(timelineRepository).findEntries(anyLong(), any(TimelineEntryType.class), any(), anyInt());
+
+        TimelinePageResponse first = getTimelineUseCase.execute(null, 5);
+        getTimelineUseCase.execute(first.getNextCursor(), 5);
+
+        // 두 페이지 x 네 소스 x 청크 최대 두 번, 청크 크기 3
+        assertThat(calls.get()).isLessThanOrEqualTo(2 * 4 * 2);
+        assertThat(rows.get()).isLessThanOrEqualTo(calls.get() * 3).isLessThan(expected.size());
+    }
+
+    @Test
+    void 마지막_페이지면_다음_커서가_없다() {
+        TimelinePageResponse page = getTimelineUseCase.execute(null, expected.size());
+
+        assertThat(page.getEntries()).hasSize(expected.size());
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 잘못된_커서나_페이지_크기는_거절한다() {
+        String unknownType = Base64.getUrlEncoder().withoutPadding().encodeToString("2026-03-01T09:00|NOPE|1".getBytes());
+        String badId = Base64.getUrlEncoder().withoutPadding().encodeToString("2026-03-01T09:00|BOOK_ADDED|abc".getBytes());
+
+        assertThatThrownBy(() -> getTimelineUseCase.execute("%%%", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getTimelineUseCase.execute(unknownType, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getTimelineUseCase.execute(badId, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getTimelineUseCase.execute(null, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> getTimelineUseCase.execute(null, GetTimelineUseCase.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void insertBook(long id, long userId, String title, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id, created_at) VALUES (?, ?, '저자', 'FICTION', ?, ?)",
+                id, title, userId, Timestamp.valueOf(createdAt));
+        if (userId == 1L) {
+            expected.add(new TimelineEntry(TimelineEntryType.BOOK_ADDED, createdAt, String.valueOf(id), id, title, null));
+        }
+    }
+
+    private void insertRecord(long id, long userId, long bookId, LocalDateTime startedAt, LocalDateTime completedAt) {
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status, version, created_at, completed_at) "
+                        + "VALUES (?, ?, ?, ?, ?, 0, ?, ?)",
+                id, userId, bookId, TextCompression.encode("본문"), completedAt != null ? "COMPLETED" : "IN_PROGRESS",
+                Timestamp.valueOf(startedAt), completedAt != null ? Timestamp.valueOf(completedAt) : null);
+        if (userId == 1L && bookId != 99L) {
+            expected.add(new TimelineEntry(TimelineEntryType.READING_STARTED, startedAt, String.valueOf(id), bookId, "책 " + bookId, null));
+            if (completedAt != null) {
+                expected.add(new TimelineEntry(TimelineEntryType.READING_COMPLETED, completedAt, String.valueOf(id), bookId, "책 " + bookId, null));
+            }
+        }
+    }
+
+    private void insertAnalysis(String table, long userId, long bookId, AnalysisType type, LocalDateTime createdAt) {
+        // 앞 바이트가 부호 비트를 넘나들도록 해 BINARY 정렬과 UUID 문자열 정렬이 같은지도 확인
+        UUID id = new UUID(((long) (analysisSequence * 37 % 256) << 56) | 0x0192f1a0c3d4L, 0x8e2f000000000000L | ++analysisSequence);
+        jdbcTemplate.update("INSERT INTO " + table + " (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                uuidBytes(id), userId, bookId, type.name(), TextCompression.encode("분석"), Timestamp.valueOf(createdAt));
+        if (userId == 1L) {
+            expected.add(new TimelineEntry(TimelineEntryType.ANALYSIS_CREATED, createdAt, id.toString(), bookId, "책 " + bookId, type));
+        }
+    }
+
+    private static byte[] uuidBytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+}
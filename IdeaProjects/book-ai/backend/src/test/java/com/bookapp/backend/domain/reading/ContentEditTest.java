@@ -0,0 +1,67 @@
+package com.bookapp.backend.domain.reading;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentEditTest {
+
+    @Test
+    void 편집은_앞의_편집이_적용된_결과를_기준으로_순서대로_적용한다() {
+        String result = ContentEdit.applyAll("hello world", List.of(
+                delete(0, 5),
+                insert(0, "goodbye"),
+                insert(13, "!")));
+
+        assertThat(result).isEqualTo("goodbye world!");
+    }
+
+    @Test
+    void 본문_끝과_빈_본문에도_삽입할_수_있다() {
+        assertThat(ContentEdit.applyAll("abc", List.of(insert(3, "d")))).isEqualTo("abcd");
+        assertThat(ContentEdit.applyAll("", List.of(insert(0, "첫 줄")))).isEqualTo("첫 줄");
+    }
+
+    @Test
+    void 위치와_길이는_UTF16_단위다() {
+        // 이모지는 UTF-16에서 두 칸을 차지
+        assertThat(ContentEdit.applyAll("a😀b", List.of(delete(1, 2)))).isEqualTo("ab");
+        assertThat(ContentEdit.applyAll("a😀b", List.of(insert(3, "c")))).isEqualTo("a😀cb");
+    }
+
+    @Test
+    void 본문_범위를_벗어난_편집은_거절한다() {
+        assertThatThrownBy(() -> ContentEdit.applyAll("abc", List.of(insert(4, "x"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentEdit.applyAll("abc", List.of(insert(-1, "x"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentEdit.applyAll("abc", List.of(delete(2, 2))))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 앞의 편집으로 본문이 짧아진 뒤의 범위로 판단
+        assertThatThrownBy(() -> ContentEdit.applyAll("abcdef", List.of(delete(0, 3), delete(3, 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 내용_없는_삽입과_길이_0인_삭제와_종류_없는_편집은_거절한다() {
+        assertThatThrownBy(() -> ContentEdit.applyAll("abc", List.of(insert(0, ""))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentEdit.applyAll("abc", List.of(insert(0, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentEdit.applyAll("abc", List.of(delete(0, 0))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContentEdit.applyAll("abc", List.of(new ContentEdit(null, 0, "x", 0))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ContentEdit insert(int offset, String text) {
+        return new ContentEdit(ContentEdit.Type.INSERT, offset, text, 0);
+    }
+
+    private static ContentEdit delete(int offset, int length) {
+        return new ContentEdit(ContentEdit.Type.DELETE, offset, null, length);
+    }
+}
@@ -0,0 +1,98 @@
+package com.bookapp.backend.infrastructure.datasource;
+
+import com.bookapp.backend.application.user.dto.LoginRequest;
+import com.bookapp.backend.application.user.dto.UserResponse;
+import com.bookapp.backend.application.user.usecase.LoginUseCase;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.user.User;
+import com.bookapp.backend.domain.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제가 없는 내장 H2 두 개를 primary/replica로 두고 라우팅을 확인한다.
+ * primary에만 쓴 사용자가 replica 읽기에서는 보이지 않으므로, 어느 DB에서 읽었는지 결과로 구분할 수 있다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password=",
+        "app.datasource.replica.migrate=true",
+        "app.datasource.replica.lag-check-enabled=false"
+})
+class ReplicaRoutingTest {
+
+    // TestFixtures와 같은 해시 ("password")
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoginUseCase loginUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void 가입() {
+        user = userRepository.save(User.builder()
+                .email("routing-" + UUID.randomUUID() + "@example.com")
+                .password(PASSWORD_HASH)
+                .nickname("라우팅")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        // 2차 캐시에 올라간 사용자를 비워 실제 DB 조회가 일어나게 함
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void 인증_주체가_없는_readOnly_조회는_replica로_간다() {
+        assertThat(readOnly(() -> userRepository.findByEmail(user.getEmail()))).isEmpty();
+    }
+
+    @Test
+    void 가입_직후_로그인은_primary에서_읽어_성공한다() {
+        UserResponse response = loginUseCase.execute(new LoginRequest(user.getEmail(), "password"));
+
+        assertThat(response.getEmail()).isEqualTo(user.getEmail());
+    }
+
+    @Test
+    void 인증_필터의_사용자_확인은_primary에서_읽는다() {
+        assertThat(readOnly(() -> userRepository.findById(user.getId()))).isEmpty();
+        assertThat(PrimaryReadContext.call(() -> userRepository.findById(user.getId()))).isPresent();
+    }
+
+    private <T> Optional<T> readOnly(Supplier<Optional<T>> query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> query.get());
+    }
+}
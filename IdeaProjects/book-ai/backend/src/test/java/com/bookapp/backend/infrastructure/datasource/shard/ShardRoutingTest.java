@@ -0,0 +1,309 @@
+package com.bookapp.backend.infrastructure.datasource.shard;
+
+import com.bookapp.backend.application.book.dto.BookCreateRequest;
+import com.bookapp.backend.application.book.usecase.CreateBookUseCase;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.user.User;
+import com.bookapp.backend.domain.user.UserRepository;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import com.bookapp.backend.web.security.UserPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내장 H2 세 개를 카탈로그 + 샤드 두 개로 두고 사용자 단위 라우팅, scatter-gather 운영 조회, 재배치와 멈춘 재배치의 재실행을 확인한다.
+ * 샤드끼리 복제가 없으므로 어느 DB에 행이 있는지로 라우팅 결과를 구분할 수 있다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shard_routing_0;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.datasource.shards.enabled=true",
+        "app.datasource.shards.catalog-name=shard-0",
+        "app.datasource.shards.nodes[0].id=1",
+        "app.datasource.shards.nodes[0].name=shard-1",
+        "app.datasource.shards.nodes[0].url=jdbc:h2:mem:shard_routing_1;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.datasource.shards.nodes[0].username=sa",
+        "app.datasource.shards.nodes[0].password=",
+        "app.datasource.shards.nodes[1].id=2",
+        "app.datasource.shards.nodes[1].name=shard-2",
+        "app.datasource.shards.nodes[1].url=jdbc:h2:mem:shard_routing_2;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.datasource.shards.nodes[1].username=sa",
+        "app.datasource.shards.nodes[1].password="
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ShardRoutingTest {
+
+    // TestFixtures와 같은 해시 ("password")
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+    private static final long ID_RANGE_PER_SHARD = 1L << 40;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CreateBookUseCase createBookUseCase;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ShardTopology topology;
+
+    @Autowired
+    private ShardDirectory directory;
+
+    @Autowired
+    private ShardAdminQueries adminQueries;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeAll
+    void 가입하고_책을_등록() {
+        for (int i = 0; i < 12; i++) {
+            User user = userRepository.save(User.builder()
+                    .email("shard-" + i + "-" + UUID.randomUUID() + "@example.com")
+                    .password(PASSWORD_HASH)
+                    .nickname("샤드" + i)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            users.add(user);
+            authenticate(user.getId());
+            for (int j = 0; j < 2; j++) {
+                createBookUseCase.execute(BookCreateRequest.builder()
+                        .title("샤드 책 " + i + "-" + j)
+                        .author("저자 " + i)
+                        .genre(Genre.FICTION)
+                        .build());
+            }
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 새_사용자는_링이_정한_샤드에_배치되고_데이터는_그_샤드에만_저장된다() {
+        Set<String> usedShards = new HashSet<>();
+        for (User user : users) {
+            String shardName = directory.shardOf(user.getId());
+            assertThat(shardName).isEqualTo(topology.ring().shardFor(user.getId()));
+            usedShards.add(shardName);
+
+            for (String candidate : topology.shardNames()) {
+                int books = shard(candidate).queryForObject(
+                        "SELECT COUNT(*) FROM books WHERE user_id = ?", Integer.class, user.getId());
+                assertThat(books).as("user %d on %s", user.getId(), candidate).isEqualTo(candidate.equals(shardName) ? 2 : 0);
+            }
+            // 배치 샤드에는 외래 키를 위한 users 복제 행이 있음
+            assertThat(shard(shardName).queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, user.getId()))
+                    .isEqualTo(1);
+        }
+        assertThat(usedShards).hasSizeGreaterThan(1);
+
+        // ID 블록은 샤드마다 다른 구간의 시퀀스에서 받으므로 샤드 전체에서 겹치지 않음 (사용자를 옮겨도 충돌 없음)
+        List<Long> bookIds = new ArrayList<>();
+        topology.shardNames().forEach(shardName -> bookIds.addAll(shard(shardName).queryForList("SELECT id FROM books", Long.class)));
+        assertThat(bookIds).doesNotHaveDuplicates();
+        assertThat(bookIds).anySatisfy(id -> assertThat(id).isGreaterThanOrEqualTo(ID_RANGE_PER_SHARD));
+    }
+
+    @Test
+    void 운영_조회는_모든_샤드_결과를_합친다() {
+        Map<String, ShardAdminQueries.ShardUsage> usage = adminQueries.usageByShard();
+        assertThat(usage).containsOnlyKeys(topology.shardNames());
+        long books = 0;
+        for (String shardName : topology.shardNames()) {
+            long expected = shard(shardName).queryForObject(
+                    "SELECT COUNT(*) FROM books WHERE deletion_requested_at IS NULL", Long.class);
+            assertThat(usage.get(shardName).books()).as(shardName).isEqualTo(expected);
+            books += expected;
+        }
+
+        ShardAdminQueries.PlatformTotals totals = adminQueries.totals();
+        assertThat(totals.usage().books()).isEqualTo(books).isGreaterThanOrEqualTo(users.size() * 2L);
+        // users는 배치 샤드에 복제되어 있어도 카탈로그 계정 수만 셈
+        assertThat(totals.users()).isEqualTo(shard(topology.catalog()).queryForObject(
+                "SELECT COUNT(*) FROM users WHERE deletion_requested_at IS NULL", Long.class));
+
+        List<ShardAdminQueries.RecentBook> all = new ArrayList<>();
+        for (String shardName : topology.shardNames()) {
+            all.addAll(shard(shardName).query("SELECT id, user_id, title, created_at FROM books WHERE deletion_requested_at IS NULL",
+                    (rs, rowNum) -> new ShardAdminQueries.RecentBook(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                            rs.getTimestamp(4).toLocalDateTime())));
+        }
+        all.sort(Comparator.comparing(ShardAdminQueries.RecentBook::createdAt)
+                .thenComparing(ShardAdminQueries.RecentBook::bookId).reversed());
+        assertThat(adminQueries.findRecentBooks(5)).containsExactlyElementsOf(all.subList(0, 5));
+    }
+
+    @Test
+    void 재배치는_카탈로그에_남은_기존_사용자를_목표_샤드로_옮긴다() {
+        // 샤딩 도입 전부터 있던 사용자 - 배치 기록 없이 카탈로그에 데이터가 있음
+        long userId = 900_000L;
+        while (topology.ring().shardFor(userId).equals(topology.catalog())) {
+            userId++;
+        }
+        String target = topology.ring().shardFor(userId);
+        long bookId = 800_000L;
+        JdbcTemplate catalog = shard(topology.catalog());
+        catalog.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, '기존')",
+                userId, "legacy-" + userId + "@example.com", PASSWORD_HASH);
+        catalog.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, '기존 책', '저자', 'HISTORY', ?)",
+                bookId, userId);
+        catalog.update("INSERT INTO reading_records (id, user_id, book_id, content, status, version) VALUES (?, ?, ?, ?, 'IN_PROGRESS', 0)",
+                bookId, userId, bookId, TextCompression.encode("기존 기록"));
+        assertThat(directory.shardOf(userId)).isEqualTo(topology.catalog());
+
+        ShardRebalancer rebalancer = new ShardRebalancer(topology, directory, adminQueries, context, false);
+        assertThat(rebalancer.rebalance()).isEqualTo(1);
+
+        assertThat(directory.shardOf(userId)).isEqualTo(target);
+        JdbcTemplate targetShard = shard(target);
+        assertThat(targetShard.queryForObject("SELECT COUNT(*) FROM books WHERE id = ? AND user_id = ?", Integer.class, bookId, userId))
+                .isEqualTo(1);
+        assertThat(targetShard.queryForObject("SELECT COUNT(*) FROM reading_records WHERE user_id = ?", Integer.class, userId))
+                .isEqualTo(1);
+        assertThat(catalog.queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ?", Integer.class, userId)).isZero();
+        assertThat(catalog.queryForObject("SELECT COUNT(*) FROM reading_records WHERE user_id = ?", Integer.class, userId)).isZero();
+        // 계정 원본은 카탈로그에 남음
+        assertThat(catalog.queryForObject("SELECT COUNT(*) FROM users WHERE id = ?", Integer.class, userId)).isEqualTo(1);
+
+        // 이후 요청은 새 샤드에서 읽힘
+        entityManagerFactory.getCache().evictAll();
+        authenticate(userId);
+        Optional<Book> moved = bookRepository.findByIdAndUserId(bookId, userId);
+        assertThat(moved).map(Book::getTitle).contains("기존 책");
+
+        // 다시 실행하면 옮길 사용자가 없음
+        assertThat(rebalancer.rebalance()).isZero();
+    }
+
+    @Test
+    void 배치를_바꾼_뒤_삭제_전에_멈춘_이동은_다시_실행할_때_원래_샤드의_행을_지운다() {
+        long userId = 910_000L;
+        while (topology.ring().shardFor(userId).equals(topology.catalog())) {
+            userId++;
+        }
+        String target = topology.ring().shardFor(userId);
+        JdbcTemplate catalog = shard(topology.catalog());
+        catalog.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, '중단')",
+                userId, "halted-" + userId + "@example.com", PASSWORD_HASH);
+        catalog.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, '중단된 책', '저자', 'HISTORY', ?)",
+                810_000L, userId);
+        long booksBefore = adminQueries.totals().usage().books();
+
+        // 배치를 바꾼 직후 프로세스가 죽은 상황
+        long haltedUserId = userId;
+        ShardRebalancer halted = new ShardRebalancer(topology, directory, adminQueries, context, false) {
+            @Override
+            void cleanUp(Long movedUserId, String shardName) {
+                if (movedUserId == haltedUserId) {
+                    throw new IllegalStateException("삭제 전에 중단");
+                }
+                super.cleanUp(movedUserId, shardName);
+            }
+        };
+        assertThatThrownBy(halted::rebalance).isInstanceOf(IllegalStateException.class);
+
+        assertThat(directory.shardOf(userId)).isEqualTo(target);
+        assertThat(catalog.queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ?", Integer.class, userId)).isOne();
+        assertThat(directory.pendingMoves()).anySatisfy(pending -> {
+            assertThat(pending.userId()).isEqualTo(haltedUserId);
+            assertThat(pending.state()).isEqualTo(ShardDirectory.MoveState.PLACED);
+            assertThat(pending.peerShard()).isEqualTo(topology.catalog());
+        });
+        // 정리 전에는 원래 샤드에 남은 행까지 두 번 셈
+        assertThat(adminQueries.totals().usage().books()).isEqualTo(booksBefore + 1);
+
+        // 다시 실행하면 옮길 사용자는 없지만 남은 행을 지움
+        assertThat(new ShardRebalancer(topology, directory, adminQueries, context, false).rebalance()).isZero();
+
+        assertThat(catalog.queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ?", Integer.class, userId)).isZero();
+        assertThat(shard(target).queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ?", Integer.class, userId)).isOne();
+        assertThat(directory.pendingMoves()).noneMatch(pending -> pending.userId() == haltedUserId);
+        assertThat(adminQueries.totals().usage().books()).isEqualTo(booksBefore);
+    }
+
+    @Test
+    void 복사가_커밋된_뒤_배치_변경_전에_멈춘_이동은_목표_샤드의_복사본을_지운다() {
+        long userId = 920_000L;
+        while (topology.ring().shardFor(userId).equals(topology.catalog())) {
+            userId++;
+        }
+        String target = topology.ring().shardFor(userId);
+        JdbcTemplate catalog = shard(topology.catalog());
+        catalog.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, '복사 중')",
+                userId, "copying-" + userId + "@example.com", PASSWORD_HASH);
+        catalog.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, '복사 중인 책', '저자', 'HISTORY', ?)",
+                820_000L, userId);
+        // 복사 트랜잭션은 커밋됐지만 배치를 바꾸기 전에 멈춘 상태
+        directory.beginMove(userId, topology.catalog(), target);
+        shard(target).update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, '복사 중')",
+                userId, "copying-" + userId + "@example.com", PASSWORD_HASH);
+        shard(target).update("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, '복사 중인 책', '저자', 'HISTORY', ?)",
+                820_000L, userId);
+
+        ShardRebalancer rebalancer = new ShardRebalancer(topology, directory, adminQueries, context, false);
+        long haltedUserId = userId;
+        rebalancer.resumePendingMoves();
+
+        assertThat(directory.shardOf(userId)).isEqualTo(topology.catalog());
+        assertThat(shard(target).queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ?", Integer.class, userId)).isZero();
+        assertThat(directory.pendingMoves()).noneMatch(pending -> pending.userId() == haltedUserId);
+
+        // 이어서 처음부터 다시 옮김
+        assertThat(rebalancer.rebalance()).isEqualTo(1);
+        assertThat(directory.shardOf(userId)).isEqualTo(target);
+        assertThat(shard(target).queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ?", Integer.class, userId)).isOne();
+        assertThat(catalog.queryForObject("SELECT COUNT(*) FROM books WHERE user_id = ?", Integer.class, userId)).isZero();
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new UserPrincipal(userId, "user-" + userId + "@example.com"), null, List.of()));
+    }
+
+    private JdbcTemplate shard(String shardName) {
+        return new JdbcTemplate(topology.dataSource(shardName));
+    }
+}
@@ -0,0 +1,199 @@
+package com.bookapp.backend.infrastructure.datasource.workload;
+
+import com.bookapp.backend.application.common.WorkloadType;
+import com.bookapp.backend.application.export.usecase.ExportLibraryUseCase;
+import com.bookapp.backend.common.TestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작업별 커넥션 풀 분리: @Workload(BATCH) 유스케이스는 batch 풀을, 표시 없는 작업은 요청 여부에 따라
+ * interactive/background 풀을 쓰고, batch 풀이 가득 차도 요청은 interactive 풀에서 바로 커넥션을 얻는다.
+ * 실행 중인 트랜잭션이 어느 풀의 커넥션을 잡고 있는지는 풀별 active 수로 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:workload_routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.datasource.workloads.enabled=true",
+        "app.datasource.workloads.batch.hikari.maximum-pool-size=1",
+        "app.datasource.workloads.batch.hikari.connection-timeout=10000",
+        "app.datasource.workloads.monitor-interval-ms=3600000"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WorkloadRoutingTest {
+
+    @Autowired
+    private ExportLibraryUseCase exportLibraryUseCase;
+
+    @Autowired
+    private WorkloadPoolMonitor monitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (1, 'workload@example.com', ?, 'workload')",
+                "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (10, '책', '저자', 'FICTION', 1)");
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 내보내기는_batch_풀을_쓰고_batch_풀이_가득_차도_요청은_interactive_풀에서_처리된다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingOutputStream first = new BlockingOutputStream(release);
+        BlockingOutputStream second = new BlockingOutputStream(release);
+        try {
+            Future<?> running = executor.submit(() -> export(first));
+            assertThat(first.entered.await(10, TimeUnit.SECONDS)).isTrue();
+            // 내보내기 트랜잭션이 스트림을 쓰는 동안 batch 풀의 커넥션을 잡고 있음
+            assertThat(active(WorkloadType.BATCH)).isEqualTo(1);
+            assertThat(active(WorkloadType.INTERACTIVE)).isZero();
+
+            // 두 번째 내보내기는 batch 풀(최대 1개)에서 기다림
+            Future<?> waiting = executor.submit(() -> export(second));
+            assertThat(awaitWaiting(WorkloadType.BATCH, 5_000)).isEqualTo(1);
+            // 모니터가 WARN으로 남기는 포화 상태: 최대치까지 쓰고 있고 기다리는 스레드가 있음
+            assertThat(monitor.usage().get(WorkloadType.BATCH)).satisfies(usage -> {
+                assertThat(usage.saturation()).isEqualTo(1.0);
+                assertThat(usage.awaiting()).isEqualTo(1);
+            });
+            monitor.report();
+
+            // 그동안 HTTP 요청은 interactive 풀에서 바로 처리
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            long startedAt = System.nanoTime();
+            Integer books = new TransactionTemplate(transactionManager).execute(status -> {
+                Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books", Integer.class);
+                assertThat(active(WorkloadType.INTERACTIVE)).isEqualTo(1);
+                return count;
+            });
+            assertThat(books).isEqualTo(1);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2_000);
+
+            release.countDown();
+            running.get(10, TimeUnit.SECONDS);
+            waiting.get(10, TimeUnit.SECONDS);
+            assertThat(second.entered.getCount()).isZero();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void 표시가_없으면_요청_스레드는_interactive_그_밖은_background_풀을_쓴다() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // 테스트 스레드에는 스프링 테스트가 넣어 둔 mock 요청이 있으므로 지워서 요청 밖 스레드로 만듦
+        RequestContextHolder.resetRequestAttributes();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books", Integer.class);
+            assertThat(active(WorkloadType.BACKGROUND)).isGreaterThanOrEqualTo(1);
+            assertThat(active(WorkloadType.INTERACTIVE)).isZero();
+        });
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books", Integer.class);
+            assertThat(active(WorkloadType.INTERACTIVE)).isEqualTo(1);
+        });
+        assertThat(active(WorkloadType.INTERACTIVE)).isZero();
+    }
+
+    private void export(OutputStream outputStream) {
+        try {
+            exportLibraryUseCase.execute(1L, outputStream);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int active(WorkloadType workloadType) {
+        WorkloadPoolMonitor.PoolUsage usage = monitor.usage().get(workloadType);
+        return usage != null ? usage.active() : 0;
+    }
+
+    private int awaitWaiting(WorkloadType workloadType, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        int awaiting = 0;
+        while (System.currentTimeMillis() < deadline) {
+            WorkloadPoolMonitor.PoolUsage usage = monitor.usage().get(workloadType);
+            awaiting = usage != null ? usage.awaiting() : 0;
+            if (awaiting > 0) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        return awaiting;
+    }
+
+    /**
+     * 첫 쓰기에서 release까지 멈춰 내보내기 트랜잭션을 열어 둔다.
+     */
+    private static class BlockingOutputStream extends OutputStream {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        BlockingOutputStream(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            block();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            block();
+        }
+
+        private void block() throws IOException {
+            entered.countDown();
+            try {
+                if (!release.await(30, TimeUnit.SECONDS)) {
+                    throw new IOException("release 대기 시간 초과");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
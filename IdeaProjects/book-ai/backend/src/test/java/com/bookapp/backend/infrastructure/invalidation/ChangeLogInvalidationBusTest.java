@@ -0,0 +1,191 @@
+package com.bookapp.backend.infrastructure.invalidation;
+
+import com.bookapp.backend.BackendApplication;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.search.ContentSearchIndex;
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import com.bookapp.backend.domain.search.SearchHit;
+import com.bookapp.backend.domain.user.User;
+import com.bookapp.backend.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB를 쓰는 애플리케이션 컨텍스트 두 개(노드 A, B)를 띄워 cache_change_log로 변경이 전달되는지 확인한다.
+ * 노드마다 2차 캐시, 본문 캐시, 검색 인덱스를 따로 들고 있으므로 B의 캐시가 A의 쓰기를 따라가는지로 전달을 판단한다.
+ * 변경을 발행하지 않는 다른 노드의 쓰기는 JDBC로 직접 흉내 낸다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChangeLogInvalidationBusTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+    private static final long AWAIT_MILLIS = 10_000;
+
+    private final String database = "invalidation_" + UUID.randomUUID().toString().replace("-", "");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private JdbcTemplate jdbcTemplate;
+    private Long userId;
+
+    @BeforeAll
+    void 노드_두_개_기동() {
+        nodeA = start("a");
+        nodeB = start("b");
+        jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        userId = nodeA.getBean(UserRepository.class).save(User.builder()
+                .email("invalidation-" + UUID.randomUUID() + "@example.com")
+                .password(PASSWORD_HASH)
+                .nickname("무효화")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    @AfterAll
+    void 노드_종료() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void 다른_노드에서_수정한_책은_2차_캐시에서_지워져_새로_읽힌다() {
+        Book book = nodeA.getBean(BookRepository.class).save(book("원래 제목"));
+        BookRepository repositoryB = nodeB.getBean(BookRepository.class);
+        assertThat(repositoryB.findById(book.getId())).get().extracting(Book::getTitle).isEqualTo("원래 제목");
+
+        nodeA.getBean(BookRepository.class).save(Book.builder()
+                .id(book.getId())
+                .title("노드 A의 제목")
+                .author("저자")
+                .genre(Genre.FICTION)
+                .userId(userId)
+                .createdAt(book.getCreatedAt())
+                .version(book.getVersion())
+                .build());
+
+        await(() -> "노드 A의 제목".equals(repositoryB.findById(book.getId()).map(Book::getTitle).orElse(null)));
+    }
+
+    @Test
+    void 검색_인덱스는_바뀐_문서만_다시_읽어_반영한다() {
+        ContentSearchIndex indexB = nodeB.getBean(ContentSearchIndex.class);
+        Book book = nodeA.getBean(BookRepository.class).save(book("고래 이야기"));
+        await(() -> bookIds(indexB, "고래").contains(book.getId()));
+
+        // 변경을 발행하지 않는 쓰기 - 사용자 전체를 다시 만들면 B의 인덱스에 나타남
+        Long unpublished = insertBookDirectly("코끼리 이야기");
+
+        nodeA.getBean(BookRepository.class).save(Book.builder()
+                .id(book.getId())
+                .title("고래와 바다")
+                .author("저자")
+                .genre(Genre.FICTION)
+                .userId(userId)
+                .createdAt(book.getCreatedAt())
+                .version(book.getVersion())
+                .build());
+        await(() -> bookIds(indexB, "바다").contains(book.getId()));
+        assertThat(bookIds(indexB, "코끼리")).doesNotContain(unpublished);
+
+        nodeA.getBean(BookRepository.class).deleteById(book.getId());
+        await(() -> !bookIds(indexB, "고래").contains(book.getId()));
+    }
+
+    @Test
+    void 건너뛴_id가_추적_한도를_넘으면_로컬_캐시를_모두_비운다() {
+        Book book = nodeA.getBean(BookRepository.class).save(book("비우기 전 제목"));
+        BookRepository repositoryB = nodeB.getBean(BookRepository.class);
+        ContentSearchIndex indexB = nodeB.getBean(ContentSearchIndex.class);
+        // 인덱스 변경과 책 변경은 같은 주기에 전달되므로 인덱스에 보이면 B가 이 책의 통지를 처리한 뒤임
+        await(() -> bookIds(indexB, "비우기").contains(book.getId()));
+        assertThat(repositoryB.findById(book.getId())).get().extracting(Book::getTitle).isEqualTo("비우기 전 제목");
+
+        // 발행 없이 바뀐 행 - 키 단위 통지가 없으므로 전체 비우기로만 반영됨
+        jdbcTemplate.update("UPDATE books SET title = '비운 뒤 제목', version = version + 1 WHERE id = ?", book.getId());
+        Long unpublished = insertBookDirectly("두루미 이야기");
+        assertThat(repositoryB.findById(book.getId())).get().extracting(Book::getTitle).isEqualTo("비우기 전 제목");
+
+        long overflowFlushes = nodeB.getBean(ChangeLogInvalidationBus.class).overflowFlushCount();
+        // 추적 한도(1000)보다 큰 id 간격을 만든 뒤 이후 id가 그 뒤부터 이어지도록 함
+        long farId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_change_log", Long.class) + 5_000;
+        jdbcTemplate.update("INSERT INTO cache_change_log (id, node_id, region, entity_key) VALUES (?, 'other-node', 'USER', '0')", farId);
+        jdbcTemplate.execute("ALTER TABLE cache_change_log ALTER COLUMN id RESTART WITH " + (farId + 1));
+
+        await(() -> "비운 뒤 제목".equals(repositoryB.findById(book.getId()).map(Book::getTitle).orElse(null)));
+        await(() -> bookIds(indexB, "두루미").contains(unpublished));
+        assertThat(nodeB.getBean(ChangeLogInvalidationBus.class).overflowFlushCount()).isGreaterThan(overflowFlushes);
+
+        // 비운 뒤에도 키 단위 전달은 이어짐
+        Book after = nodeA.getBean(BookRepository.class).save(book("황새 관찰기"));
+        await(() -> bookIds(indexB, "황새").contains(after.getId()));
+    }
+
+    private ConfigurableApplicationContext start(String node) {
+        return new SpringApplicationBuilder(BackendApplication.class, TestConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+                        "--app.invalidation.transport=changelog",
+                        "--app.invalidation.poll-interval-ms=100",
+                        "--search.index.snapshot-dir=build/search-index-test/" + database + "-" + node);
+    }
+
+    private Book book(String title) {
+        return Book.builder()
+                .title(title)
+                .author("저자")
+                .genre(Genre.FICTION)
+                .userId(userId)
+                .build();
+    }
+
+    private Long insertBookDirectly(String title) {
+        Long id = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1000 FROM books", Long.class);
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, ?, '저자', 'FICTION', ?)",
+                id, title, userId);
+        return id;
+    }
+
+    private List<Long> bookIds(ContentSearchIndex index, String query) {
+        return index.search(userId, query, 50).stream()
+                .filter(hit -> hit.getType() == SearchDocumentType.BOOK)
+                .map(SearchHit::getBookId)
+                .toList();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("다른 노드의 변경이 " + AWAIT_MILLIS + "ms 안에 반영되지 않았습니다");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.bookapp.backend.infrastructure.persistence;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.infrastructure.persistence.RepositoryQueries.PlannedQuery;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL 실행 계획 테스트. QueryPlanRegressionTest와 같은 데이터와 저장소 쿼리(RepositoryQueries)를 EXPLAIN해서
+ * 등호 조건 뒤 정렬 쿼리가 filesort 없이 인덱스 순서로 읽는지 확인한다 (H2 계획으로는 확인할 수 없음).
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfiguration.class, RepositoryQueries.SqlCaptureConfiguration.class})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanMySqlTest {
+
+    private static final int BATCH_SIZE = 2000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> MYSQL.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+    }
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private RepositoryQueries queries;
+
+    @BeforeAll
+    void seed() {
+        List<Object[]> users = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            users.add(new Object[]{id, "plan" + id + "@example.com", "plan" + id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, 'pw', ?)", users);
+
+        List<Object[]> books = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            books.add(new Object[]{id, "Book " + id, "978" + String.format("%010d", id), id % 2 == 0 ? "FICTION" : "TECHNOLOGY",
+                    id % 20 + 1, minutesAfterBase(id)});
+        }
+        batchInsert("INSERT INTO books (id, title, author, isbn, genre, user_id, created_at) VALUES (?, ?, 'Author', ?, ?, ?, ?)", books);
+
+        List<Object[]> records = new ArrayList<>();
+        List<Object[]> analyses = new ArrayList<>();
+        for (long id = 1; id <= 20000; id++) {
+            records.add(new Object[]{id, id % 20 + 1, id % 2000 + 1, id % 3 == 0 ? "COMPLETED" : "IN_PROGRESS", minutesAfterBase(id)});
+            analyses.add(new Object[]{ByteBuffer.allocate(16).putLong(0).putLong(id).array(), id % 20 + 1, id % 2000 + 1,
+                    id % 2 == 0 ? "TECHNICAL_SUMMARY" : "LITERATURE_ANALYSIS", minutesAfterBase(id)});
+        }
+        batchInsert("INSERT INTO reading_records (id, user_id, book_id, content, status, created_at) VALUES (?, ?, ?, X'00', ?, ?)", records);
+        batchInsert("INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                + "VALUES (?, ?, ?, ?, X'00', ?)", analyses);
+        jdbcTemplate.update("INSERT INTO ai_analyses_archive (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                + "SELECT analysis_id, user_id, book_id, analysis_type, content, created_at FROM ai_analyses");
+        jdbcTemplate.update("INSERT INTO library_view (book_id, user_id, title, author, genre) "
+                + "SELECT id, user_id, title, author, genre FROM books");
+        jdbcTemplate.execute("ANALYZE TABLE users, books, reading_records, ai_analyses, ai_analyses_archive, library_view");
+
+        queries = new RepositoryQueries(context);
+    }
+
+    @Test
+    void 저장소_쿼리는_전체_스캔하지_않는다() {
+        SoftAssertions softly = new SoftAssertions();
+        List<PlannedQuery> all = new ArrayList<>(queries.indexed);
+        all.addAll(queries.leadingSorted);
+        queries.prefixSorted.forEach(sorted -> all.add(sorted.query()));
+        all.forEach(query -> {
+            List<Map<String, Object>> plan = explain(query);
+            softly.assertThat(plan).as(query.name() + "\n" + format(plan))
+                    .noneMatch(row -> "ALL".equals(row.get("type")));
+        });
+        softly.assertAll();
+    }
+
+    @Test
+    void 정렬_쿼리는_filesort_없이_인덱스_순서로_읽는다() {
+        SoftAssertions softly = new SoftAssertions();
+        List<PlannedQuery> sorted = new ArrayList<>(queries.leadingSorted);
+        queries.prefixSorted.forEach(query -> sorted.add(query.query()));
+        sorted.forEach(query -> {
+            List<Map<String, Object>> plan = explain(query);
+            softly.assertThat(plan).as(query.name() + "\n" + format(plan))
+                    .noneMatch(row -> String.valueOf(row.get("Extra")).contains("Using filesort"));
+        });
+        softly.assertAll();
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private static Timestamp minutesAfterBase(long minutes) {
+        return Timestamp.valueOf(BASE_TIME.plusMinutes(minutes));
+    }
+
+    private List<Map<String, Object>> explain(PlannedQuery query) {
+        return jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.args());
+    }
+
+    private static String format(List<Map<String, Object>> plan) {
+        return plan.stream()
+                .map(row -> row.get("table") + " type=" + row.get("type") + " key=" + row.get("key") + " extra=" + row.get("Extra"))
+                .collect(Collectors.joining("\n"));
+    }
+}
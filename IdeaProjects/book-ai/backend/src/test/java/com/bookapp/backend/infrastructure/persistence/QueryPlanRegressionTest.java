@@ -0,0 +1,167 @@
+package com.bookapp.backend.infrastructure.persistence;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.infrastructure.persistence.RepositoryQueries.PlannedQuery;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 쿼리의 H2 실행 계획 회귀 테스트.
+ * Flyway 스키마에 사용자 20명, 책 2,000권, 독서 기록/분석 각 20,000건을 넣고 ANALYZE한 뒤
+ * 저장소가 실제로 보내는 SQL(RepositoryQueries)을 EXPLAIN해서 전체 스캔(tableScan)이 있거나,
+ * 정렬 쿼리가 정렬 없이 읽을 수 있는 인덱스를 쓰지 못하면 실패한다.
+ * H2는 정렬 컬럼이 인덱스 첫 컬럼일 때만 정렬 비용을 고려하므로, 등호 조건 뒤 정렬 쿼리가 같은 조건 컬럼으로 시작하는
+ * 여러 인덱스 중 (조건, 정렬) 인덱스를 고르는지는 QueryPlanMySqlTest에서 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestConfiguration.class, RepositoryQueries.SqlCaptureConfiguration.class})
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:plans;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private RepositoryQueries queries;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) "
+                + "SELECT X, 'plan' || X || '@example.com', 'pw', 'plan' || X FROM SYSTEM_RANGE(1, 20)");
+        jdbcTemplate.update("INSERT INTO books (id, title, author, isbn, genre, user_id, created_at) "
+                + "SELECT X, 'Book ' || X, 'Author', '978' || LPAD(X, 10, '0'), CASE MOD(X, 2) WHEN 0 THEN 'FICTION' ELSE 'TECHNOLOGY' END, "
+                + "MOD(X, 20) + 1, DATEADD('MINUTE', X, TIMESTAMP '2026-01-01 00:00:00') FROM SYSTEM_RANGE(1, 2000)");
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status, created_at) "
+                + "SELECT X, MOD(X, 20) + 1, MOD(X, 2000) + 1, X'00', CASE MOD(X, 3) WHEN 0 THEN 'COMPLETED' ELSE 'IN_PROGRESS' END, "
+                + "DATEADD('MINUTE', X, TIMESTAMP '2026-01-01 00:00:00') FROM SYSTEM_RANGE(1, 20000)");
+        jdbcTemplate.update("INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                + "SELECT HEXTORAW(LPAD(X, 32, '0')), MOD(X, 20) + 1, MOD(X, 2000) + 1, "
+                + "CASE MOD(X, 2) WHEN 0 THEN 'TECHNICAL_SUMMARY' ELSE 'LITERATURE_ANALYSIS' END, X'00', "
+                + "DATEADD('MINUTE', X, TIMESTAMP '2026-01-01 00:00:00') FROM SYSTEM_RANGE(1, 20000)");
+        jdbcTemplate.update("INSERT INTO library_view (book_id, user_id, title, author, genre) "
+                + "SELECT id, user_id, title, author, genre FROM books");
+        jdbcTemplate.execute("ANALYZE");
+
+        queries = new RepositoryQueries(context);
+    }
+
+    @Test
+    void 저장소_쿼리는_전체_스캔_없이_인덱스를_사용한다() {
+        SoftAssertions softly = new SoftAssertions();
+        List<PlannedQuery> all = new ArrayList<>(queries.indexed);
+        all.addAll(queries.leadingSorted);
+        queries.prefixSorted.forEach(sorted -> all.add(sorted.query()));
+        all.forEach(query -> softly.assertThat(explain(query)).as(query.name()).doesNotContainIgnoringCase("tableScan"));
+        softly.assertAll();
+    }
+
+    @Test
+    void 전체_스캔을_허용한_쿼리는_조건에_맞는_인덱스가_없다() {
+        assertThat(queries.fullScans).extracting(PlannedQuery::name).containsExactlyElementsOf(queries.allowedFullScans.keySet());
+        // 인덱스가 생겨 허용 목록에서 뺄 수 있게 되면 실패하도록, 삭제 요청 여부(@SQLRestriction) 외에는 범위를 좁히지 못하는지 확인
+        Map<String, List<String>> bookIndexes = indexColumns("books");
+        queries.fullScans.forEach(query -> {
+            String plan = explain(query);
+            String accessPath = accessPath(plan, "books");
+            assertThat(accessPath.endsWith(".tableScan") || bookIndexes.get(accessPath).get(0).equals("deletion_requested_at"))
+                    .as(query.name() + "\n" + plan)
+                    .isTrue();
+        });
+    }
+
+    @Test
+    void 선두_컬럼_정렬_쿼리는_인덱스_순서로_읽어_별도_정렬이_없다() {
+        SoftAssertions softly = new SoftAssertions();
+        queries.leadingSorted.forEach(query -> softly.assertThat(explain(query)).as(query.name()).contains("index sorted"));
+        softly.assertAll();
+    }
+
+    @Test
+    void 조건_뒤_정렬_쿼리는_조건과_정렬_컬럼을_잇는_인덱스가_있고_조건_컬럼_인덱스로_읽는다() {
+        SoftAssertions softly = new SoftAssertions();
+        queries.prefixSorted.forEach(sorted -> {
+            // 정렬 컬럼을 바꾸면 인덱스 확인도 함께 고치도록, 실제 SQL의 ORDER BY에 선언한 정렬 컬럼이 있는지 확인
+            softly.assertThat(orderBy(sorted.query().sql()))
+                    .as(sorted.query().name() + " - ORDER BY")
+                    .contains(sorted.sortColumns());
+            Map<String, List<String>> indexes = indexColumns(sorted.table());
+            softly.assertThat(indexes.values())
+                    .as(sorted.query().name() + " - 인덱스 정의")
+                    .anySatisfy(columns -> assertThat(columns).startsWith(sorted.indexPrefix().toArray(String[]::new)));
+            String plan = explain(sorted.query());
+            softly.assertThat(indexes.get(accessPath(plan, sorted.table())))
+                    .as(sorted.query().name() + " - 실행 계획이 고른 인덱스\n" + plan)
+                    .isNotNull()
+                    .startsWith(sorted.equalityColumns().toArray(String[]::new));
+        });
+        softly.assertAll();
+    }
+
+    /** SQL의 ORDER BY 절. Hibernate가 프로젝션을 "ORDER BY 2"처럼 위치로 쓰면 SELECT 목록의 항목으로 바꾼다 */
+    private static String orderBy(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        String[] selected = lower.substring(lower.indexOf("select") + "select".length(), lower.indexOf(" from ")).split(",");
+        return Arrays.stream(lower.substring(lower.lastIndexOf("order by") + "order by".length()).split(","))
+                .map(String::trim)
+                .map(item -> item.matches("\\d+.*") ? selected[Integer.parseInt(item.split("\\s")[0]) - 1].trim() : item)
+                .collect(Collectors.joining(", "));
+    }
+
+    /** 테이블의 인덱스별 컬럼 목록 (소문자, 인덱스 내 순서). 보조 인덱스 뒤에는 PK 컬럼을 붙인다 */
+    private Map<String, List<String>> indexColumns(String table) {
+        Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+        List<String> primaryKey = new ArrayList<>();
+        jdbcTemplate.query("SELECT c.INDEX_NAME, c.COLUMN_NAME, i.INDEX_TYPE_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS c "
+                        + "JOIN INFORMATION_SCHEMA.INDEXES i ON i.INDEX_SCHEMA = c.INDEX_SCHEMA AND i.INDEX_NAME = c.INDEX_NAME "
+                        + "WHERE c.TABLE_SCHEMA = 'PUBLIC' AND c.TABLE_NAME = ? ORDER BY c.INDEX_NAME, c.ORDINAL_POSITION",
+                rs -> {
+                    String column = rs.getString(2).toLowerCase(Locale.ROOT);
+                    if ("PRIMARY KEY".equals(rs.getString(3))) {
+                        primaryKey.add(column);
+                    }
+                    columnsByIndex.computeIfAbsent(rs.getString(1), key -> new ArrayList<>()).add(column);
+                },
+                table.toUpperCase(Locale.ROOT));
+        columnsByIndex.values().forEach(columns -> primaryKey.stream()
+                .filter(column -> !columns.contains(column))
+                .forEach(columns::add));
+        return columnsByIndex;
+    }
+
+    /** 실행 계획에서 테이블을 읽는 인덱스 이름 (전체 스캔이면 TABLE.tableScan) */
+    private static String accessPath(String plan, String table) {
+        Matcher matcher = Pattern.compile("\"PUBLIC\"\\.\"" + table.toUpperCase(Locale.ROOT) + "\"(?: \"[^\"]+\")?\\s*/\\* PUBLIC\\.([A-Za-z0-9_.]+)")
+                .matcher(plan);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private String explain(PlannedQuery query) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query.sql(), String.class, query.args()));
+    }
+}
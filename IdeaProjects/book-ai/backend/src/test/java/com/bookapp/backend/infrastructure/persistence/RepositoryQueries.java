@@ -0,0 +1,254 @@
+package com.bookapp.backend.infrastructure.persistence;
+
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.library.LibraryViewRepository;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import com.bookapp.backend.domain.timeline.TimelineCursor;
+import com.bookapp.backend.domain.timeline.TimelineEntryType;
+import com.bookapp.backend.domain.timeline.TimelineRepository;
+import com.bookapp.backend.infrastructure.persistence.analysis.AIAnalysisArchiveJpaRepository;
+import com.bookapp.backend.infrastructure.persistence.analysis.AIAnalysisJpaRepository;
+import com.bookapp.backend.infrastructure.persistence.book.BookJpaRepository;
+import com.bookapp.backend.infrastructure.persistence.reading.ReadingRecordJpaRepository;
+import com.bookapp.backend.infrastructure.persistence.reading.ReadingRecordRevisionJpaRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 계획 테스트(QueryPlanRegressionTest, QueryPlanMySqlTest)가 EXPLAIN할 저장소 쿼리.
+ * JPA 저장소는 메서드를 호출해 Hibernate가 만든 SQL을 StatementInspector로 가로채고(실행하지 않음),
+ * JdbcTemplate 저장소는 스파이한 JdbcTemplate에서 실제로 실행한 SQL과 바인딩 값을 가져온다.
+ * 스케줄 작업 안의 쿼리만 코드의 SQL을 옮겼으므로 그 쿼리를 바꾸면 여기도 함께 고친다.
+ * 테스트 컨텍스트에는 SqlCaptureConfiguration을 Import하고 JdbcTemplate을 @MockitoSpyBean으로 바꿔야 한다.
+ */
+class RepositoryQueries {
+
+    /** WHERE 조건만 인덱스로 찾으면 되는 쿼리 */
+    final List<PlannedQuery> indexed = new ArrayList<>();
+
+    /** 정렬 컬럼이 인덱스 선두 컬럼인 쿼리 */
+    final List<PlannedQuery> leadingSorted = new ArrayList<>();
+
+    /** 등호 조건 뒤의 컬럼으로 정렬하는 쿼리 */
+    final List<SortedQuery> prefixSorted = new ArrayList<>();
+
+    /** 인덱스로 풀 수 없어 전체 스캔을 허용하는 쿼리와 그 이유 */
+    final Map<String, String> allowedFullScans = new LinkedHashMap<>();
+    final List<PlannedQuery> fullScans = new ArrayList<>();
+
+    private final SqlCapture sqlCapture;
+    private final JdbcTemplate jdbcTemplate;
+
+    RepositoryQueries(ApplicationContext context) {
+        this.sqlCapture = context.getBean(SqlCapture.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        assertThat(Mockito.mockingDetails(jdbcTemplate).isSpy()).as("JdbcTemplate은 @MockitoSpyBean이어야 함").isTrue();
+
+        BookJpaRepository books = context.getBean(BookJpaRepository.class);
+        ReadingRecordJpaRepository readingRecords = context.getBean(ReadingRecordJpaRepository.class);
+        ReadingRecordRevisionJpaRepository revisions = context.getBean(ReadingRecordRevisionJpaRepository.class);
+        AIAnalysisJpaRepository analyses = context.getBean(AIAnalysisJpaRepository.class);
+        AIAnalysisArchiveJpaRepository archivedAnalyses = context.getBean(AIAnalysisArchiveJpaRepository.class);
+        TimelineRepository timeline = context.getBean(TimelineRepository.class);
+        LibraryViewRepository libraryView = context.getBean(LibraryViewRepository.class);
+
+        indexed.add(hibernate("BookJpaRepository.findByUserId", () -> books.findByUserId(7L), 7L));
+        indexed.add(hibernate("BookJpaRepository.findByUserIdAndGenre",
+                () -> books.findByUserIdAndGenre(7L, Genre.FICTION), 7L, "FICTION"));
+        indexed.add(hibernate("BookJpaRepository.findByIsbn", () -> books.findByIsbn("9780000000042"), "9780000000042"));
+        indexed.add(hibernate("BookJpaRepository.searchByUserIdLike",
+                () -> books.searchByUserIdLike(7L, "book 4", PageRequest.of(0, 20)), 7L, "book 4", "book 4", "book 4", 20));
+        indexed.add(hibernate("ReadingRecordJpaRepository.findByUser_Id", () -> readingRecords.findByUser_Id(7L), 7L));
+        indexed.add(hibernate("ReadingRecordJpaRepository.findByUser_IdAndStatus",
+                () -> readingRecords.findByUser_IdAndStatus(7L, ReadingStatus.COMPLETED), 7L, "COMPLETED"));
+        indexed.add(hibernate("ReadingRecordJpaRepository.findByUser_IdAndBook_Id",
+                () -> readingRecords.findByUser_IdAndBook_Id(7L, 42L), 7L, 42L));
+        indexed.add(hibernate("ReadingRecordJpaRepository.countByBook_IdGroupByStatus",
+                () -> readingRecords.countByBook_IdGroupByStatus(42L), 42L));
+        indexed.add(hibernate("AIAnalysisJpaRepository.countByBookIdGroupByAnalysisType",
+                () -> analyses.countByBookIdGroupByAnalysisType(42L), 42L));
+        indexed.add(hibernate("AIAnalysisArchiveJpaRepository.countByBookIdGroupByAnalysisType",
+                () -> archivedAnalyses.countByBookIdGroupByAnalysisType(42L), 42L));
+
+        leadingSorted.add(literal("ChangeLogInvalidationBus.pollShard",
+                "SELECT id, node_id, region, entity_key FROM cache_change_log WHERE id > ? ORDER BY id LIMIT 500", 100L));
+
+        prefixSorted.add(new SortedQuery(hibernate("AIAnalysisJpaRepository.findByUserIdOrderByCreatedAtDesc",
+                () -> analyses.findByUserIdOrderByCreatedAtDesc(7L), 7L),
+                "ai_analyses", List.of("user_id"), List.of("created_at")));
+        prefixSorted.add(new SortedQuery(hibernate("AIAnalysisJpaRepository.findByBookIdOrderByCreatedAtDesc",
+                () -> analyses.findByBookIdOrderByCreatedAtDesc(42L), 42L),
+                "ai_analyses", List.of("book_id"), List.of("created_at")));
+        prefixSorted.add(new SortedQuery(hibernate("AIAnalysisJpaRepository.findByUserIdAndAnalysisTypeOrderByCreatedAtDesc",
+                () -> analyses.findByUserIdAndAnalysisTypeOrderByCreatedAtDesc(7L, AnalysisType.TECHNICAL_SUMMARY),
+                7L, "TECHNICAL_SUMMARY"),
+                "ai_analyses", List.of("user_id", "analysis_type"), List.of("created_at")));
+        prefixSorted.add(new SortedQuery(hibernate("AIAnalysisArchiveJpaRepository.findByUserIdOrderByCreatedAtDesc",
+                () -> archivedAnalyses.findByUserIdOrderByCreatedAtDesc(7L), 7L),
+                "ai_analyses_archive", List.of("user_id"), List.of("created_at")));
+        prefixSorted.add(new SortedQuery(hibernate("AIAnalysisArchiveJpaRepository.findByBookIdOrderByCreatedAtDesc",
+                () -> archivedAnalyses.findByBookIdOrderByCreatedAtDesc(42L), 42L),
+                "ai_analyses_archive", List.of("book_id"), List.of("created_at")));
+        prefixSorted.add(new SortedQuery(hibernate("AIAnalysisArchiveJpaRepository.findByUserIdAndAnalysisTypeOrderByCreatedAtDesc",
+                () -> archivedAnalyses.findByUserIdAndAnalysisTypeOrderByCreatedAtDesc(7L, AnalysisType.TECHNICAL_SUMMARY),
+                7L, "TECHNICAL_SUMMARY"),
+                "ai_analyses_archive", List.of("user_id", "analysis_type"), List.of("created_at")));
+        prefixSorted.add(new SortedQuery(hibernate("ReadingRecordJpaRepository.findByBook_IdOrderByCreatedAtDesc",
+                () -> readingRecords.findByBook_IdOrderByCreatedAtDesc(42L), 42L),
+                "reading_records", List.of("book_id"), List.of("created_at")));
+        prefixSorted.add(new SortedQuery(hibernate("ReadingRecordRevisionJpaRepository.findByReadingRecordIdOrderByRevisionNumberDesc",
+                () -> revisions.findByReadingRecordIdOrderByRevisionNumberDesc(42L, Limit.of(1)), 42L, 1),
+                "reading_record_revisions", List.of("reading_record_id"), List.of("revision_number")));
+        prefixSorted.add(new SortedQuery(hibernate("ReadingRecordRevisionJpaRepository.findSummariesByReadingRecordIdOrderByRevisionNumberDesc",
+                () -> revisions.findSummariesByReadingRecordIdOrderByRevisionNumberDesc(42L), 42L),
+                "reading_record_revisions", List.of("reading_record_id"), List.of("revision_number")));
+        prefixSorted.add(new SortedQuery(hibernate("ReadingRecordRevisionJpaRepository.findRange",
+                () -> revisions.findRange(42L, 1, 10), 42L, 1, 10),
+                "reading_record_revisions", List.of("reading_record_id"), List.of("revision_number")));
+        prefixSorted.add(new SortedQuery(jdbc("LibraryViewRepositoryImpl.findByUserId(첫 페이지)", "FROM library_view",
+                () -> libraryView.findByUserId(7L, null, 20)),
+                "library_view", List.of("user_id"), List.of("book_id")));
+        prefixSorted.add(new SortedQuery(jdbc("LibraryViewRepositoryImpl.findByUserId(다음 페이지)", "FROM library_view",
+                () -> libraryView.findByUserId(7L, 1500L, 20)),
+                "library_view", List.of("user_id"), List.of("book_id")));
+        LocalDateTime cursorTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (TimelineEntryType type : TimelineEntryType.values()) {
+            String table = switch (type) {
+                case BOOK_ADDED -> "books";
+                case READING_STARTED, READING_COMPLETED -> "reading_records";
+                case ANALYSIS_CREATED -> "ai_analyses";
+            };
+            List<String> sortColumns = switch (type) {
+                case READING_COMPLETED -> List.of("completed_at", "id");
+                case ANALYSIS_CREATED -> List.of("created_at", "analysis_id");
+                default -> List.of("created_at", "id");
+            };
+            String cursorId = type == TimelineEntryType.ANALYSIS_CREATED ? "00000000-0000-0000-0000-000000000100" : "100";
+            prefixSorted.add(new SortedQuery(jdbc("TimelineRepositoryImpl.findEntries(" + type + ")", "FROM " + table,
+                    () -> timeline.findEntries(7L, type, null, 20)),
+                    table, List.of("user_id"), sortColumns));
+            prefixSorted.add(new SortedQuery(jdbc("TimelineRepositoryImpl.findEntries(" + type + ", 커서)", "FROM " + table,
+                    () -> timeline.findEntries(7L, type, new TimelineCursor(cursorTime, type, cursorId), 20)),
+                    table, List.of("user_id"), sortColumns));
+        }
+        prefixSorted.add(new SortedQuery(literal("UserStatsReconciliationTask.nextUsers",
+                "SELECT id FROM users WHERE id > ? AND deletion_requested_at IS NULL ORDER BY id LIMIT 100", 5L),
+                "users", List.of("deletion_requested_at"), List.of("id")));
+        prefixSorted.add(new SortedQuery(literal("DeletionPurgeTask.purgeUser",
+                "SELECT id FROM books WHERE user_id = ? ORDER BY id LIMIT 500", 7L),
+                "books", List.of("user_id"), List.of("id")));
+
+        allowedFullScans.put("BookJpaRepository.findByTitleContainingIgnoreCase",
+                "사용자 조건 없는 제목 부분 일치(앞 % 와일드카드)라 인덱스로 범위를 좁힐 수 없음. 사용자 검색은 searchByUserId를 쓴다");
+        fullScans.add(hibernate("BookJpaRepository.findByTitleContainingIgnoreCase",
+                () -> books.findByTitleContainingIgnoreCase("book 4"), "%book 4%"));
+    }
+
+    /**
+     * 저장소 메서드를 호출해 Hibernate가 처음 보내는 SQL을 가로챈다. 바인딩 값은 SQL의 ? 순서대로 넘긴다.
+     * 가로챈 SQL은 실행하지 않으므로 결과나 연관 엔티티 로딩이 일어나지 않는다.
+     */
+    private PlannedQuery hibernate(String name, Runnable call, Object... args) {
+        String sql = sqlCapture.capture(call);
+        assertThat(sql).as(name).isNotNull();
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as(name + " - 바인딩 값 개수\n" + sql)
+                .isEqualTo(args.length);
+        return new PlannedQuery(name, sql, args);
+    }
+
+    /**
+     * JdbcTemplate 저장소 메서드를 실행하고, sqlMarker를 포함한 첫 조회 SQL과 그 바인딩 값을 가져온다.
+     * 스케줄 작업도 같은 JdbcTemplate을 쓰므로 SQL로 골라낸다.
+     */
+    private PlannedQuery jdbc(String name, String sqlMarker, Runnable call) {
+        Mockito.clearInvocations(jdbcTemplate);
+        call.run();
+        Invocation query = Mockito.mockingDetails(jdbcTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().startsWith("query"))
+                .filter(invocation -> invocation.getRawArguments()[0] instanceof String sql && sql.contains(sqlMarker))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " - 조회 SQL을 찾지 못함"));
+        Object[] raw = query.getRawArguments();
+        Object[] args = raw[raw.length - 1] instanceof Object[] values ? values : new Object[0];
+        return new PlannedQuery(name, (String) raw[0], args);
+    }
+
+    private static PlannedQuery literal(String name, String sql, Object... args) {
+        return new PlannedQuery(name, sql, args);
+    }
+
+    record PlannedQuery(String name, String sql, Object[] args) {
+    }
+
+    /** 등호(또는 IS NULL) 조건 컬럼 다음에 정렬 컬럼이 오는 인덱스가 있으면 정렬 없이 읽을 수 있다 */
+    record SortedQuery(PlannedQuery query, String table, List<String> equalityColumns, List<String> sortColumns) {
+
+        List<String> indexPrefix() {
+            List<String> prefix = new ArrayList<>(equalityColumns);
+            prefix.addAll(sortColumns);
+            return prefix;
+        }
+    }
+
+    /** 현재 스레드에서 가로채는 중일 때 Hibernate가 보내는 첫 SQL을 기록하고 실행을 중단시킨다 */
+    static class SqlCapture implements StatementInspector {
+
+        private final ThreadLocal<String[]> capturing = new ThreadLocal<>();
+
+        String capture(Runnable call) {
+            String[] captured = new String[1];
+            capturing.set(captured);
+            try {
+                call.run();
+            } catch (RuntimeException e) {
+                if (captured[0] == null) {
+                    throw e;
+                }
+            } finally {
+                capturing.remove();
+            }
+            return captured[0];
+        }
+
+        @Override
+        public String inspect(String sql) {
+            String[] captured = capturing.get();
+            if (captured == null) {
+                return sql;
+            }
+            captured[0] = sql;
+            throw new IllegalStateException("실행 계획 확인용으로 가로챈 SQL은 실행하지 않음");
+        }
+    }
+
+    static class SqlCaptureConfiguration {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
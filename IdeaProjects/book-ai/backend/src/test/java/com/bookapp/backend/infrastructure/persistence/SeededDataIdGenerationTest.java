@@ -0,0 +1,82 @@
+package com.bookapp.backend.infrastructure.persistence;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.analysis.AIAnalysis;
+import com.bookapp.backend.domain.analysis.AIAnalysisRepository;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.user.User;
+import com.bookapp.backend.domain.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * data.sql로 시드한 DB에서 pooled 시퀀스가 발급한 ID가 시드 행과 겹치지 않는지,
+ * BINARY(16)으로 넣은 분석 ID가 문자열 UUID로 조회되는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seeded;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.data-locations=classpath:data.sql,classpath:data-h2.sql"
+})
+class SeededDataIdGenerationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AIAnalysisRepository aiAnalysisRepository;
+
+    @Test
+    void 시드_이후_시퀀스로_발급한_ID는_고정_ID와_겹치지_않는다() {
+        User user = userRepository.save(User.builder()
+                .email("sequence@example.com")
+                .password("$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi")
+                .nickname("시퀀스")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        List<Book> books = bookRepository.saveAll(IntStream.range(0, 60)
+                .mapToObj(i -> Book.builder()
+                        .title("Sequence Book " + i)
+                        .author("Tester")
+                        .isbn(String.format("979%010d", i))
+                        .genre(Genre.FICTION)
+                        .userId(user.getId())
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .build())
+                .toList());
+
+        assertThat(user.getId()).isGreaterThan(3L);
+        assertThat(books).extracting(Book::getId).allMatch(id -> id > 3L).doesNotHaveDuplicates();
+        assertThat(bookRepository.findById(1L)).get().extracting(Book::getTitle).isEqualTo("1984");
+    }
+
+    @Test
+    void 시드한_분석은_BINARY16_ID를_UUID_문자열로_조회된다() {
+        assertThat(aiAnalysisRepository.findById("0192f1a0-c3d4-7a1b-8e2f-3a4b5c6d7e01"))
+                .get()
+                .extracting(AIAnalysis::getBookId)
+                .isEqualTo(1L);
+        assertThat(aiAnalysisRepository.findById("0192f1a0-c3d4-7a1b-8e2f-3a4b5c6d7e02")).isPresent();
+    }
+}
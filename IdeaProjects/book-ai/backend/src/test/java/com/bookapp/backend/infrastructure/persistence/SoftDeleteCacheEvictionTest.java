@@ -0,0 +1,132 @@
+package com.bookapp.backend.infrastructure.persistence;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.user.User;
+import com.bookapp.backend.domain.user.UserRepository;
+import com.bookapp.backend.infrastructure.persistence.book.BookEntity;
+import com.bookapp.backend.infrastructure.persistence.user.UserEntity;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 책 삭제 요청과 회원 탈퇴 요청(조건부 UPDATE)은 해당 행만 2차 캐시에서 지우고 같은 영역의 다른 항목은 남겨야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+class SoftDeleteCacheEvictionTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Cache cache;
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    void 사용자_생성() {
+        cache = entityManagerFactory.getCache();
+        owner = createUser();
+        other = createUser();
+    }
+
+    @Test
+    void 책_삭제_요청은_그_책만_캐시에서_지우고_목록_쿼리_캐시도_갱신한다() {
+        Book deleted = createBook(owner, "지울 책");
+        Book kept = createBook(owner, "남길 책");
+        bookRepository.findById(deleted.getId());
+        bookRepository.findById(kept.getId());
+        assertThat(bookRepository.findByUserId(owner.getId())).hasSize(2);
+
+        assertThat(bookRepository.markForDeletion(deleted.getId(), owner.getId())).isTrue();
+
+        assertThat(cache.contains(BookEntity.class, deleted.getId())).isFalse();
+        assertThat(cache.contains(BookEntity.class, kept.getId())).isTrue();
+        assertThat(bookRepository.findById(deleted.getId())).isEmpty();
+        assertThat(bookRepository.findByUserId(owner.getId())).extracting(Book::getId).containsExactly(kept.getId());
+    }
+
+    @Test
+    void 소유자가_아니면_삭제_표시도_캐시_제거도_하지_않는다() {
+        Book book = createBook(owner, "남의 책");
+        bookRepository.findById(book.getId());
+
+        assertThat(bookRepository.markForDeletion(book.getId(), other.getId())).isFalse();
+
+        assertThat(cache.contains(BookEntity.class, book.getId())).isTrue();
+        assertThat(bookRepository.findById(book.getId())).isPresent();
+    }
+
+    @Test
+    void 탈퇴_요청은_그_사용자만_캐시에서_지운다() {
+        userRepository.findById(owner.getId());
+        userRepository.findById(other.getId());
+
+        assertThat(userRepository.markForDeletion(owner.getId())).isTrue();
+
+        assertThat(cache.contains(UserEntity.class, owner.getId())).isFalse();
+        assertThat(cache.contains(UserEntity.class, other.getId())).isTrue();
+        assertThat(userRepository.findById(owner.getId())).isEmpty();
+        assertThat(userRepository.markForDeletion(owner.getId())).isFalse();
+    }
+
+    @Test
+    void 커밋_전에_다른_트랜잭션이_옛_행을_캐시에_넣어도_커밋_후_다시_지운다() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(userRepository.markForDeletion(owner.getId())).isTrue();
+            // 아직 커밋되지 않아 다른 트랜잭션은 탈퇴 전 행을 읽고 2차 캐시에 넣는다
+            assertThat(CompletableFuture.supplyAsync(() -> userRepository.findById(owner.getId())).join()).isPresent();
+            assertThat(cache.contains(UserEntity.class, owner.getId())).isTrue();
+        });
+
+        assertThat(cache.contains(UserEntity.class, owner.getId())).isFalse();
+        assertThat(userRepository.findById(owner.getId())).isEmpty();
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .email("soft-delete-" + UUID.randomUUID() + "@example.com")
+                .password(PASSWORD_HASH)
+                .nickname("삭제")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Book createBook(User user, String title) {
+        return bookRepository.save(Book.builder()
+                .title(title)
+                .author("저자")
+                .genre(Genre.FICTION)
+                .userId(user.getId())
+                .build());
+    }
+}
@@ -0,0 +1,105 @@
+package com.bookapp.backend.infrastructure.persistence.activity;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.activity.ReadingEvent;
+import com.bookapp.backend.domain.activity.ReadingEventType;
+import com.bookapp.backend.infrastructure.activity.ReadingEventRingBuffer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 독서 이벤트 드레인은 전용 스레드에서 돌므로 @Scheduled 공용 풀이 모두 긴 작업에 묶여 있어도 멈추지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reading_event_drain;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.activity.drain.interval-ms=50"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadingEventDrainTaskTest {
+
+    @Autowired
+    private ReadingEventRingBuffer ringBuffer;
+
+    @Autowired
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (1, 'drain@example.com', ?, 'drain')",
+                "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (10, '책', '저자', 'FICTION', 1)");
+    }
+
+    @Test
+    void 공용_스케줄_스레드가_모두_막혀도_이벤트를_기록하고_독서_시간을_집계한다() throws InterruptedException {
+        int poolSize = taskScheduler.getScheduledThreadPoolExecutor().getCorePoolSize();
+        assertThat(poolSize).isGreaterThan(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            taskScheduler.execute(() -> {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        try {
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            LocalDateTime startedAt = LocalDateTime.now().minusMinutes(5).truncatedTo(ChronoUnit.SECONDS);
+            ringBuffer.offerAll(List.of(
+                    event(ReadingEventType.START, startedAt),
+                    event(ReadingEventType.HEARTBEAT, startedAt.plusSeconds(30)),
+                    event(ReadingEventType.STOP, startedAt.plusSeconds(60))));
+
+            assertThat(waitForEvents(3, 5_000)).isEqualTo(3);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT reading_seconds FROM reading_activity_daily WHERE user_id = 1 AND book_id = 10", Long.class))
+                    .isEqualTo(60L);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private int waitForEvents(int expected, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        int count;
+        do {
+            count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reading_events", Integer.class);
+            if (count >= expected) {
+                break;
+            }
+            Thread.sleep(20);
+        } while (System.currentTimeMillis() < deadline);
+        return count;
+    }
+
+    private static ReadingEvent event(ReadingEventType type, LocalDateTime occurredAt) {
+        return new ReadingEvent(1L, 10L, type, occurredAt, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,169 @@
+package com.bookapp.backend.infrastructure.persistence.analysis;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.analysis.AIAnalysis;
+import com.bookapp.backend.domain.analysis.AIAnalysisRepository;
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오래된 분석의 아카이브 이동과, 저장소 조회가 hot 테이블에 없을 때 아카이브로 넘어가는지 확인한다.
+ * 배치 크기 2, 실행당 최대 2배치로 줄여 실행 한 번에 옮기는 양이 제한되는지도 본다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:analysis_archive;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.analysis.archive.after=30d",
+        "app.analysis.archive.batch-size=2",
+        "app.analysis.archive.max-batches-per-run=2"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnalysisArchiveTaskTest {
+
+    private static final long USER_ID = 1L;
+    private static final long BOOK_ID = 10L;
+    private static final long OTHER_BOOK_ID = 11L;
+    private static final String LONG_CONTENT = "오래된 분석 본문 ".repeat(40);
+
+    @Autowired
+    private AnalysisArchiveTask archiveTask;
+
+    @Autowired
+    private AIAnalysisRepository analysisRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, 'archive@example.com', ?, 'archive')",
+                USER_ID, "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, '책', '저자', 'FICTION', ?)", BOOK_ID, USER_ID);
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, '다른 책', '저자', 'FICTION', ?)", OTHER_BOOK_ID, USER_ID);
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM ai_analyses");
+        jdbcTemplate.update("DELETE FROM ai_analyses_archive");
+    }
+
+    @Test
+    void 기준보다_오래된_분석만_압축해서_옮기고_실행당_배치_수를_지킨다() {
+        for (int day = 40; day < 45; day++) {
+            insertHot(id(day), BOOK_ID, AnalysisType.LITERATURE_ANALYSIS, LONG_CONTENT, daysAgo(day));
+        }
+        insertHot(id(1), BOOK_ID, AnalysisType.LITERATURE_ANALYSIS, "최근 분석", daysAgo(1));
+
+        archiveTask.archiveOldAnalyses();
+
+        // 배치 2건 x 2배치 - 가장 오래된 것부터 옮김
+        assertThat(count("ai_analyses_archive")).isEqualTo(4);
+        assertThat(count("ai_analyses")).isEqualTo(2);
+        assertThat(analysisRepository.existsById(id(40).toString())).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ai_analyses WHERE analysis_id = ?", Integer.class,
+                bytes(id(40)))).isOne();
+
+        archiveTask.archiveOldAnalyses();
+
+        assertThat(count("ai_analyses_archive")).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForList("SELECT analysis_id FROM ai_analyses", byte[].class))
+                .containsExactly(bytes(id(1)));
+        byte[] stored = jdbcTemplate.queryForObject("SELECT content FROM ai_analyses_archive WHERE analysis_id = ?",
+                byte[].class, bytes(id(44)));
+        assertThat(TextCompression.isCompressed(stored)).isTrue();
+        assertThat(stored.length).isLessThan(LONG_CONTENT.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(TextCompression.decode(stored)).isEqualTo(LONG_CONTENT);
+    }
+
+    @Test
+    void 단건_조회와_존재_확인은_hot에_없으면_아카이브를_본다() {
+        insertHot(id(100), BOOK_ID, AnalysisType.LITERATURE_ANALYSIS, LONG_CONTENT, daysAgo(100));
+        archiveTask.archiveOldAnalyses();
+
+        AIAnalysis archived = analysisRepository.findById(id(100).toString()).orElseThrow();
+
+        assertThat(archived.getContent()).isEqualTo(LONG_CONTENT);
+        assertThat(archived.getBookId()).isEqualTo(BOOK_ID);
+        assertThat(analysisRepository.existsById(id(100).toString())).isTrue();
+        assertThat(analysisRepository.findById(id(999).toString())).isEmpty();
+        assertThat(analysisRepository.existsById("not-a-uuid")).isFalse();
+    }
+
+    @Test
+    void 목록은_hot_뒤에_아카이브를_이어_최신순을_유지한다() {
+        insertHot(id(90), BOOK_ID, AnalysisType.LITERATURE_ANALYSIS, "90일 전", daysAgo(90));
+        insertHot(id(60), BOOK_ID, AnalysisType.TECHNICAL_SUMMARY, "60일 전", daysAgo(60));
+        insertHot(id(61), OTHER_BOOK_ID, AnalysisType.LITERATURE_ANALYSIS, "61일 전", daysAgo(61));
+        archiveTask.archiveOldAnalyses();
+        insertHot(id(5), BOOK_ID, AnalysisType.LITERATURE_ANALYSIS, "5일 전", daysAgo(5));
+        insertHot(id(2), BOOK_ID, AnalysisType.TECHNICAL_SUMMARY, "2일 전", daysAgo(2));
+        assertThat(count("ai_analyses_archive")).isEqualTo(3);
+
+        assertThat(analysisRepository.findByUser_Id(USER_ID)).extracting(AIAnalysis::getContent)
+                .containsExactly("2일 전", "5일 전", "60일 전", "61일 전", "90일 전");
+        assertThat(analysisRepository.findByBook_Id(BOOK_ID)).extracting(AIAnalysis::getContent)
+                .containsExactly("2일 전", "5일 전", "60일 전", "90일 전");
+        assertThat(analysisRepository.findByUserIdAndAnalysisType(USER_ID, AnalysisType.LITERATURE_ANALYSIS))
+                .extracting(AIAnalysis::getContent)
+                .containsExactly("5일 전", "61일 전", "90일 전");
+        assertThat(analysisRepository.countByBook_IdGroupByType(BOOK_ID)).isEqualTo(Map.of(
+                AnalysisType.LITERATURE_ANALYSIS, 2L,
+                AnalysisType.TECHNICAL_SUMMARY, 2L));
+    }
+
+    @Test
+    void 아카이브된_분석도_삭제된다() {
+        insertHot(id(200), BOOK_ID, AnalysisType.LITERATURE_ANALYSIS, "아카이브", daysAgo(200));
+        archiveTask.archiveOldAnalyses();
+        assertThat(count("ai_analyses_archive")).isOne();
+
+        analysisRepository.deleteById(id(200).toString());
+
+        assertThat(count("ai_analyses_archive")).isZero();
+        assertThat(analysisRepository.findById(id(200).toString())).isEmpty();
+    }
+
+    private void insertHot(UUID id, long bookId, AnalysisType type, String content, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                bytes(id), USER_ID, bookId, type.name(), TextCompression.encode(content), Timestamp.valueOf(createdAt));
+    }
+
+    private static UUID id(int sequence) {
+        return new UUID(0x0192f1a0c3d47a1bL, 0x8e2f000000000000L | sequence);
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    private static LocalDateTime daysAgo(int days) {
+        return LocalDateTime.now().minusDays(days);
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookapp.backend.infrastructure.persistence.book;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL ngram FULLTEXT(idx_books_search) 검색의 관련도 순서와 짧은 검색어의 LIKE 대체.
+ * Docker가 없는 환경에서는 건너뛴다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookFullTextSearchMySqlTest {
+
+    private static final long USER_ID = 1L;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("book.search.full-text-enabled", () -> "true");
+    }
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void 책_등록() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, 'fulltext@example.com', ?, 'fulltext')",
+                USER_ID, "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        insertBook(1, "여행 에세이", "작가", "자바섬 여행 중에 읽은 책");
+        insertBook(2, "자바 자바 자바", "자바 연구회", "자바 입문서, 자바 문법과 자바 예제");
+        insertBook(3, "토지", "박경리", "대하소설");
+        insertBook(4, "C 언어 입문", "김저자", "포인터");
+        insertBook(5, "언어의 온도", "이기주", "C 등급 없음");
+    }
+
+    @Test
+    void 관련도가_높은_책부터_돌려준다() {
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "자바", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 여러_단어는_모두_포함한_책만_찾는다() {
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "자바 여행", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void 조사가_붙은_단어도_ngram으로_찾는다() {
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "대하", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void 한_글자_단어가_있으면_검색어_전체를_LIKE로_찾는다() {
+        // FULLTEXT로 "언어"만 찾았다면 5번도 나옴
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "C 언어", 10))).containsExactly(4L);
+    }
+
+    private void insertBook(long id, String title, String author, String description) {
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, description, user_id) VALUES (?, ?, ?, 'FICTION', ?, ?)",
+                id, title, author, description, USER_ID);
+    }
+
+    private static List<Long> ids(List<Book> books) {
+        return books.stream().map(Book::getId).toList();
+    }
+}
@@ -0,0 +1,118 @@
+package com.bookapp.backend.infrastructure.persistence.book;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 책 검색: FULLTEXT를 쓸 수 없는 환경(H2)의 LIKE 검색, 짧은 검색어의 LIKE 대체, BOOLEAN MODE 쿼리 변환.
+ * FULLTEXT 관련도 순서는 MySQL이 있어야 하므로 BookFullTextSearchMySqlTest에서 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:book_search;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BookSearchRepositoryTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void 책_등록() {
+        for (long userId : new long[]{USER_ID, OTHER_USER_ID}) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, 'search')",
+                    userId, "search-" + userId + "@example.com", "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        }
+        insertBook(1, USER_ID, "Effective Java", "Joshua Bloch", "자바 모범 사례");
+        insertBook(2, USER_ID, "토지", "박경리", "대하소설");
+        insertBook(3, USER_ID, "모던 자바 인 액션", "라울", "람다와 스트림");
+        insertBook(4, USER_ID, "C 언어 입문", "김저자", "포인터");
+        insertBook(5, USER_ID, "언어의 온도", "이기주", "C 등급 없음");
+        insertBook(6, OTHER_USER_ID, "자바의 정석", "남궁성", "다른 사용자의 책");
+        insertBook(7, USER_ID, "삭제 대기 자바", "저자", "지워질 책");
+        jdbcTemplate.update("UPDATE books SET deletion_requested_at = CURRENT_TIMESTAMP WHERE id = 7");
+    }
+
+    @AfterEach
+    void 전문_검색_설정_복원() {
+        setFullTextEnabled(false);
+    }
+
+    @Test
+    void LIKE_검색은_제목_저자_설명에서_대소문자를_가리지_않고_최근_등록순으로_찾는다() {
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "자바", 10))).containsExactly(3L, 1L);
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "JOSHUA", 10))).containsExactly(1L);
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "  대하소설 ", 10))).containsExactly(2L);
+    }
+
+    @Test
+    void 다른_사용자의_책과_삭제_대기_중인_책은_찾지_않는다() {
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "자바", 10))).doesNotContain(6L, 7L);
+        assertThat(ids(bookRepository.searchByUserId(OTHER_USER_ID, "자바", 10))).containsExactly(6L);
+    }
+
+    @Test
+    void 결과는_limit건까지만_돌려준다() {
+        assertThat(bookRepository.searchByUserId(USER_ID, "자바", 1)).hasSize(1);
+    }
+
+    @Test
+    void 전문_검색을_켜도_1글자_단어가_있으면_검색어_전체를_LIKE로_찾는다() {
+        // H2에는 MATCH ... AGAINST가 없으므로 FULLTEXT로 갔다면 실패함
+        setFullTextEnabled(true);
+
+        assertThat(ids(bookRepository.searchByUserId(USER_ID, "C 언어", 10))).containsExactly(4L);
+    }
+
+    @Test
+    void BOOLEAN_MODE_쿼리는_모든_단어를_필수_구문으로_묶는다() {
+        assertThat(BookRepositoryImpl.toBooleanModeQuery("모던  자바")).isEqualTo("+\"모던\" +\"자바\"");
+        // 연산자 문자는 지우고, 연산자만 있던 단어는 무시
+        assertThat(BookRepositoryImpl.toBooleanModeQuery("+자바 -스프링 \"람다\" *")).isEqualTo("+\"자바\" +\"스프링\" +\"람다\"");
+    }
+
+    @Test
+    void FULLTEXT로_찾을_수_없는_짧은_단어가_있으면_BOOLEAN_MODE_쿼리를_만들지_않는다() {
+        // 1글자 단어를 빼고 검색하면 조건이 넓어지므로 LIKE로 대체
+        assertThat(BookRepositoryImpl.toBooleanModeQuery("C 언어")).isNull();
+        assertThat(BookRepositoryImpl.toBooleanModeQuery("책")).isNull();
+        assertThat(BookRepositoryImpl.toBooleanModeQuery("+-")).isNull();
+    }
+
+    private void setFullTextEnabled(boolean enabled) {
+        Object target = AopTestUtils.getUltimateTargetObject(bookRepository);
+        ReflectionTestUtils.setField(target, "fullTextEnabled", enabled);
+    }
+
+    private void insertBook(long id, long userId, String title, String author, String description) {
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, description, user_id) VALUES (?, ?, ?, 'FICTION', ?, ?)",
+                id, title, author, description, userId);
+    }
+
+    private static List<Long> ids(List<Book> books) {
+        return books.stream().map(Book::getId).toList();
+    }
+}
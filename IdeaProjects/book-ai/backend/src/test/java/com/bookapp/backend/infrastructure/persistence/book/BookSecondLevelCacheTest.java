@@ -0,0 +1,137 @@
+package com.bookapp.backend.infrastructure.persistence.book;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.BookRepository;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.user.User;
+import com.bookapp.backend.domain.user.UserRepository;
+import com.bookapp.backend.infrastructure.invalidation.InvalidationRegion;
+import com.bookapp.backend.infrastructure.invalidation.LocalCacheInvalidator;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 책 2차 캐시(BookEntity)와 본문 캐시의 무효화/오래된 읽기 확인.
+ * 다른 노드의 수정은 JDBC로 직접 UPDATE해서 흉내 낸다 (이 노드의 캐시는 모름).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+class BookSecondLevelCacheTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LocalCacheInvalidator localCacheInvalidator;
+
+    private Book book;
+
+    @BeforeEach
+    void 책_생성() {
+        User user = userRepository.save(User.builder()
+                .email("cache-" + UUID.randomUUID() + "@example.com")
+                .password(PASSWORD_HASH)
+                .nickname("캐시")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        book = bookRepository.save(Book.builder()
+                .title("원래 제목")
+                .author("저자")
+                .genre(Genre.FICTION)
+                .content("원래 본문")
+                .userId(user.getId())
+                .build());
+    }
+
+    @Test
+    void 캐시되는_책_엔티티에는_본문이_매핑되지_않는다() {
+        assertThat(entityManagerFactory.getMetamodel().entity(BookEntity.class).getAttributes())
+                .extracting(Attribute::getName)
+                .doesNotContain("content");
+
+        bookRepository.findById(book.getId());
+
+        assertThat(entityManagerFactory.getCache().contains(BookEntity.class, book.getId())).isTrue();
+    }
+
+    @Test
+    void 이_노드에서_수정하면_캐시된_책과_본문이_바로_바뀐다() {
+        bookRepository.findById(book.getId());
+
+        bookRepository.save(Book.builder()
+                .id(book.getId())
+                .title("바뀐 제목")
+                .author("저자")
+                .genre(Genre.FICTION)
+                .content("바뀐 본문")
+                .userId(book.getUserId())
+                .createdAt(book.getCreatedAt())
+                .version(book.getVersion())
+                .build());
+
+        Book reloaded = bookRepository.findById(book.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("바뀐 제목");
+        assertThat(reloaded.getContent()).isEqualTo("바뀐 본문");
+        assertThat(reloaded.getVersion()).isGreaterThan(book.getVersion());
+    }
+
+    @Test
+    void 다른_노드가_본문을_바꾸면_버전이_달라_캐시된_본문을_쓰지_않는다() {
+        assertThat(bookRepository.findDetailByIdAndUserId(book.getId(), book.getUserId()))
+                .get().extracting(Book::getContent).isEqualTo("원래 본문");
+
+        updateOnAnotherNode("원래 제목", "다른 노드의 본문");
+
+        assertThat(bookRepository.findDetailByIdAndUserId(book.getId(), book.getUserId()))
+                .get().extracting(Book::getContent).isEqualTo("다른 노드의 본문");
+    }
+
+    @Test
+    void 다른_노드의_수정은_무효화_전까지_캐시에_남고_무효화_후_새로_읽는다() {
+        bookRepository.findById(book.getId());
+        updateOnAnotherNode("다른 노드의 제목", "다른 노드의 본문");
+
+        // 2차 캐시는 다른 노드의 변경을 모르므로 무효화 전에는 이전 제목을 돌려준다
+        assertThat(bookRepository.findById(book.getId())).get().extracting(Book::getTitle).isEqualTo("원래 제목");
+
+        localCacheInvalidator.onInvalidation(Map.of(InvalidationRegion.BOOK, Set.of(String.valueOf(book.getId()))));
+
+        Book reloaded = bookRepository.findById(book.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("다른 노드의 제목");
+        assertThat(reloaded.getContent()).isEqualTo("다른 노드의 본문");
+    }
+
+    private void updateOnAnotherNode(String title, String content) {
+        jdbcTemplate.update("UPDATE books SET title = ?, content = ?, version = version + 1 WHERE id = ?",
+                title, TextCompression.encode(content), book.getId());
+    }
+}
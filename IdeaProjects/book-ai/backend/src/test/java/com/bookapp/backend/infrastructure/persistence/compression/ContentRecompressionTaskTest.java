@@ -0,0 +1,156 @@
+package com.bookapp.backend.infrastructure.persistence.compression;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.infrastructure.datasource.shard.ShardExecutor;
+import com.bookapp.backend.infrastructure.scheduling.JobLeaseManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V7 이전 형식(비압축 UTF-8)으로 남은 큰 본문을 배치마다 이어서 압축 형식으로 다시 쓰고,
+ * 다시 실행해도 이미 압축된 행이나 작은 행은 건드리지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:content_recompression;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ContentRecompressionTaskTest {
+
+    private static final long USER_ID = 1L;
+    private static final long BOOK_ID = 10L;
+    // 배치 크기(200)를 넘겨 커서로 이어서 처리하는지 확인
+    private static final int LEGACY_RECORDS = 250;
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 3, 1, 9, 30);
+    private static final String LARGE = "예전 형식으로 저장된 긴 독서 기록입니다. ".repeat(100);
+    private static final String SMALL = "짧은 기록";
+
+    @Autowired
+    private ContentRecompressionTask recompressionTask;
+
+    @Autowired
+    private ShardExecutor shardExecutor;
+
+    @Autowired
+    private JobLeaseManager jobLeaseManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<byte[]> analysisIds = new ArrayList<>();
+
+    @BeforeAll
+    void 예전_형식의_행을_저장() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, 'recompress@example.com', ?, 'recompress')",
+                USER_ID, "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id, content, updated_at) "
+                + "VALUES (?, '책', '저자', 'FICTION', ?, ?, ?)", BOOK_ID, USER_ID, raw(LARGE), Timestamp.valueOf(UPDATED_AT));
+        List<Object[]> records = new ArrayList<>();
+        for (long id = 1; id <= LEGACY_RECORDS; id++) {
+            records.add(new Object[]{id, raw(LARGE + id), Timestamp.valueOf(UPDATED_AT)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reading_records (id, user_id, book_id, content, status, updated_at, version) "
+                + "VALUES (?, " + USER_ID + ", " + BOOK_ID + ", ?, 'IN_PROGRESS', ?, 0)", records);
+        // 작은 본문과 이미 압축된 본문
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status, updated_at, version) "
+                + "VALUES (1001, ?, ?, ?, 'IN_PROGRESS', ?, 0)", USER_ID, BOOK_ID, raw(SMALL), Timestamp.valueOf(UPDATED_AT));
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status, updated_at, version) "
+                + "VALUES (1002, ?, ?, ?, 'IN_PROGRESS', ?, 0)", USER_ID, BOOK_ID, TextCompression.encode(LARGE),
+                Timestamp.valueOf(UPDATED_AT));
+        for (int i = 0; i < 3; i++) {
+            byte[] analysisId = bytes(UUID.randomUUID());
+            analysisIds.add(analysisId);
+            jdbcTemplate.update("INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                    + "VALUES (?, ?, ?, 'LITERATURE_ANALYSIS', ?, CURRENT_TIMESTAMP)", analysisId, USER_ID, BOOK_ID, raw(LARGE + "분석 " + i));
+        }
+    }
+
+    @Test
+    void 큰_비압축_본문을_모두_압축하고_다시_실행해도_바꾸지_않는다() {
+        // 첫 실행은 reading_records 200건, 두 번째 실행이 나머지를 처리
+        recompressionTask.recompressNextBatch();
+        assertThat(compressedLegacyRecords()).isEqualTo(200);
+        recompressionTask.recompressNextBatch();
+        assertThat(compressedLegacyRecords()).isEqualTo(LEGACY_RECORDS);
+
+        for (long id = 1; id <= LEGACY_RECORDS; id++) {
+            byte[] stored = content("reading_records", "id", id);
+            assertThat(TextCompression.isCompressed(stored)).as("reading record %d", id).isTrue();
+            assertThat(TextCompression.decode(stored)).isEqualTo(LARGE + id);
+        }
+        assertThat(TextCompression.isCompressed(content("books", "id", BOOK_ID))).isTrue();
+        assertThat(TextCompression.decode(content("books", "id", BOOK_ID))).isEqualTo(LARGE);
+        for (int i = 0; i < analysisIds.size(); i++) {
+            byte[] stored = content("ai_analyses", "analysis_id", analysisIds.get(i));
+            assertThat(TextCompression.isCompressed(stored)).isTrue();
+            assertThat(TextCompression.decode(stored)).isEqualTo(LARGE + "분석 " + i);
+        }
+        assertThat(content("reading_records", "id", 1001L)).isEqualTo(raw(SMALL));
+        assertThat(content("reading_records", "id", 1002L)).isEqualTo(TextCompression.encode(LARGE));
+        // 재압축은 사용자의 수정이 아니므로 수정 시각을 바꾸지 않음
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT updated_at FROM reading_records", Timestamp.class))
+                .containsExactly(Timestamp.valueOf(UPDATED_AT));
+
+        // 재기동한 것처럼 진행 위치 없이 처음부터 다시 훑어도 쓰는 행이 없음
+        Map<String, Object> before = snapshot();
+        ContentRecompressionTask restarted = new ContentRecompressionTask(jdbcTemplate, shardExecutor, jobLeaseManager);
+        restarted.recompressNextBatch();
+        restarted.recompressNextBatch();
+        recompressionTask.recompressNextBatch();
+
+        assertThat(snapshot()).containsExactlyInAnyOrderEntriesOf(before);
+    }
+
+    private Map<String, Object> snapshot() {
+        Map<String, Object> contents = new HashMap<>();
+        jdbcTemplate.query("SELECT id, content, updated_at FROM reading_records", rs -> {
+            contents.put("reading_records:" + rs.getLong(1),
+                    List.of(ByteBuffer.wrap(rs.getBytes(2)), rs.getTimestamp(3)));
+        });
+        jdbcTemplate.query("SELECT id, content FROM books", rs -> {
+            contents.put("books:" + rs.getLong(1), ByteBuffer.wrap(rs.getBytes(2)));
+        });
+        jdbcTemplate.query("SELECT analysis_id, content FROM ai_analyses", rs -> {
+            contents.put("ai_analyses:" + UUID.nameUUIDFromBytes(rs.getBytes(1)), ByteBuffer.wrap(rs.getBytes(2)));
+        });
+        return contents;
+    }
+
+    private byte[] content(String table, String idColumn, Object id) {
+        return jdbcTemplate.queryForObject("SELECT content FROM " + table + " WHERE " + idColumn + " = ?", byte[].class, id);
+    }
+
+    private long compressedLegacyRecords() {
+        return jdbcTemplate.queryForList("SELECT content FROM reading_records WHERE id <= ?", byte[].class, LEGACY_RECORDS)
+                .stream()
+                .filter(TextCompression::isCompressed)
+                .count();
+    }
+
+    private static byte[] raw(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+}
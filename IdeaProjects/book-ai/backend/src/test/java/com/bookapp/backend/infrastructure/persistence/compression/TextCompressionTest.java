@@ -0,0 +1,121 @@
+package com.bookapp.backend.infrastructure.persistence.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 본문 저장 형식: 기준 크기 전후의 왕복, V7 이전에 저장된 UTF-8 원문, 마커(0xFF)와 헷갈릴 수 있는 본문.
+ */
+class TextCompressionTest {
+
+    // 한글 한 글자는 UTF-8 3바이트
+    private static final String KOREAN = "오늘 읽은 부분에서 주인공이 고향을 떠나는 장면이 인상적이었다. ";
+
+    @Test
+    void 기준_크기_미만은_UTF8_원문_그대로_저장한다() {
+        String atThreshold = korean(TextCompression.THRESHOLD_BYTES);
+        String text = atThreshold.substring(0, atThreshold.length() - 1);
+
+        byte[] stored = TextCompression.encode(text);
+
+        assertThat(text.getBytes(StandardCharsets.UTF_8)).hasSizeLessThan(TextCompression.THRESHOLD_BYTES);
+        assertThat(stored).isEqualTo(text.getBytes(StandardCharsets.UTF_8));
+        assertThat(TextCompression.isCompressed(stored)).isFalse();
+        assertThat(TextCompression.decode(stored)).isEqualTo(text);
+    }
+
+    @Test
+    void 기준_크기_이상은_압축하고_원문으로_되돌린다() {
+        String text = korean(TextCompression.THRESHOLD_BYTES);
+
+        byte[] stored = TextCompression.encode(text);
+
+        assertThat(text.getBytes(StandardCharsets.UTF_8)).hasSizeGreaterThanOrEqualTo(TextCompression.THRESHOLD_BYTES);
+        assertThat(TextCompression.isCompressed(stored)).isTrue();
+        assertThat(stored.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(TextCompression.decode(stored)).isEqualTo(text);
+    }
+
+    @Test
+    void 긴_본문도_원문으로_되돌린다() {
+        String text = korean(200_000) + "😀 끝";
+
+        assertThat(TextCompression.decode(TextCompression.encode(text))).isEqualTo(text);
+    }
+
+    @Test
+    void V7_이전에_저장된_UTF8_원문은_크기와_상관없이_그대로_읽는다() {
+        String small = "예전에 저장한 짧은 기록";
+        String large = korean(10_000);
+
+        assertThat(TextCompression.decode(small.getBytes(StandardCharsets.UTF_8))).isEqualTo(small);
+        assertThat(TextCompression.decode(large.getBytes(StandardCharsets.UTF_8))).isEqualTo(large);
+        assertThat(TextCompression.decode(new byte[0])).isEmpty();
+    }
+
+    @Test
+    void 마커와_비슷한_문자로_시작하는_본문도_압축으로_오인하지_않는다() {
+        // U+00FF(ÿ), U+FFFF는 UTF-8로 각각 C3 BF, EF BF BF라 첫 바이트가 0xFF가 되지 않음
+        for (String prefix : new String[]{"\u00FF", "\uFFFF", "\u00FF\u0001"}) {
+            String small = prefix + "짧은 본문";
+            String large = prefix + korean(TextCompression.THRESHOLD_BYTES * 2);
+
+            assertThat(TextCompression.isCompressed(small.getBytes(StandardCharsets.UTF_8))).isFalse();
+            assertThat(TextCompression.decode(TextCompression.encode(small))).isEqualTo(small);
+            assertThat(TextCompression.decode(TextCompression.encode(large))).isEqualTo(large);
+        }
+    }
+
+    @Test
+    void 마커_뒤_형식이나_데이터가_맞지_않으면_손상으로_본다() {
+        byte[] stored = TextCompression.encode(korean(TextCompression.THRESHOLD_BYTES * 2));
+
+        byte[] unknownVersion = stored.clone();
+        unknownVersion[1] = 9;
+        assertThatThrownBy(() -> TextCompression.decode(unknownVersion))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("지원하지 않는 압축 형식");
+
+        byte[] truncated = Arrays.copyOf(stored, stored.length / 2);
+        assertThatThrownBy(() -> TextCompression.decode(truncated))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("손상");
+    }
+
+    @Test
+    void 컨버터는_null을_그대로_두고_같은_형식으로_읽고_쓴다() {
+        CompressedTextConverter converter = new CompressedTextConverter();
+        String text = korean(TextCompression.THRESHOLD_BYTES * 4);
+
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(converter.convertToDatabaseColumn(text)).isEqualTo(TextCompression.encode(text));
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(text))).isEqualTo(text);
+    }
+
+    @Test
+    void 기준_크기를_지정하면_작은_본문도_압축한다() {
+        String text = korean(300);
+
+        assertThat(TextCompression.isCompressed(TextCompression.encode(text))).isFalse();
+        assertThat(TextCompression.isCompressed(TextCompression.encode(text, 64))).isTrue();
+        assertThat(TextCompression.decode(TextCompression.encode(text, 64))).isEqualTo(text);
+    }
+
+    // UTF-8로 bytes 바이트 이상이 되는 가장 짧은 한글 본문
+    private static String korean(int bytes) {
+        StringBuilder text = new StringBuilder();
+        int length = 0;
+        while (length < bytes) {
+            char next = KOREAN.charAt(text.length() % KOREAN.length());
+            text.append(next);
+            length += String.valueOf(next).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return text.toString();
+    }
+}
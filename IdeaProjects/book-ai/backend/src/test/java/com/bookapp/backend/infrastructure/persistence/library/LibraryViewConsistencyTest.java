@@ -0,0 +1,258 @@
+package com.bookapp.backend.infrastructure.persistence.library;
+
+import com.bookapp.backend.application.analysis.usecase.DeleteAnalysisUseCase;
+import com.bookapp.backend.application.book.dto.BookCreateRequest;
+import com.bookapp.backend.application.book.dto.BookUpdateRequest;
+import com.bookapp.backend.application.book.usecase.CreateBookUseCase;
+import com.bookapp.backend.application.book.usecase.DeleteBookUseCase;
+import com.bookapp.backend.application.book.usecase.UpdateBookUseCase;
+import com.bookapp.backend.application.library.dto.LibraryEntryResponse;
+import com.bookapp.backend.application.library.dto.LibraryPageResponse;
+import com.bookapp.backend.application.library.usecase.GetLibraryUseCase;
+import com.bookapp.backend.application.reading.dto.ReadingRecordCreateRequest;
+import com.bookapp.backend.application.reading.usecase.CompleteReadingUseCase;
+import com.bookapp.backend.application.reading.usecase.CreateReadingRecordUseCase;
+import com.bookapp.backend.application.reading.usecase.DeleteReadingRecordUseCase;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.library.LibraryEntry;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import com.bookapp.backend.web.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * library_view 일관성: 쓰기 유스케이스마다 행이 기본 테이블 계산과 같고, 실패한 쓰기는 함께 롤백되며,
+ * 보정 작업은 어긋난 행을 고친 뒤 다시 돌리면 어긋남이 없다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:library_view_consistency;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LibraryViewConsistencyTest {
+
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private CreateBookUseCase createBookUseCase;
+
+    @Autowired
+    private UpdateBookUseCase updateBookUseCase;
+
+    @Autowired
+    private DeleteBookUseCase deleteBookUseCase;
+
+    @Autowired
+    private CreateReadingRecordUseCase createReadingRecordUseCase;
+
+    @Autowired
+    private CompleteReadingUseCase completeReadingUseCase;
+
+    @Autowired
+    private DeleteReadingRecordUseCase deleteReadingRecordUseCase;
+
+    @Autowired
+    private DeleteAnalysisUseCase deleteAnalysisUseCase;
+
+    @Autowired
+    private GetLibraryUseCase getLibraryUseCase;
+
+    @Autowired
+    private LibraryViewReconciliationTask reconciliationTask;
+
+    @Autowired
+    private LibraryViewProjection projection;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int bookSequence;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, 'library@example.com', ?, 'library')",
+                USER_ID, "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+    }
+
+    @BeforeEach
+    void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new UserPrincipal(USER_ID, "library@example.com"), null, List.of()));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 쓰기_유스케이스마다_행이_기본_테이블_계산과_같다() {
+        Long bookId = createBook();
+        assertThat(stored(bookId)).extracting(LibraryEntry::readingRecordCount, LibraryEntry::analysisCount,
+                LibraryEntry::latestReadingStatus).containsExactly(0, 0, null);
+        assertMatchesProjection(bookId);
+
+        BookUpdateRequest update = new BookUpdateRequest("바뀐 제목 " + bookId, "바뀐 저자", null, Genre.HISTORY, null, null);
+        updateBookUseCase.execute(bookId, update, Set.of());
+        assertThat(stored(bookId)).extracting(LibraryEntry::title, LibraryEntry::author, LibraryEntry::genre)
+                .containsExactly("바뀐 제목 " + bookId, "바뀐 저자", Genre.HISTORY);
+        assertMatchesProjection(bookId);
+
+        Long first = createRecord(bookId);
+        completeReadingUseCase.execute(first);
+        Long second = createRecord(bookId);
+        assertThat(stored(bookId)).extracting(LibraryEntry::readingRecordCount, LibraryEntry::completedReadingCount,
+                LibraryEntry::latestReadingStatus).containsExactly(2, 1, ReadingStatus.IN_PROGRESS);
+        assertMatchesProjection(bookId);
+
+        // 분석 생성은 AI 호출이 필요하므로 행을 직접 넣고, 삭제 유스케이스의 갱신이 hot/아카이브를 함께 계산하는지 확인
+        LocalDateTime older = LocalDateTime.of(2026, 1, 5, 10, 0);
+        LocalDateTime newest = LocalDateTime.of(2026, 2, 1, 10, 0);
+        UUID deleted = insertAnalysis("ai_analyses", bookId, LocalDateTime.of(2026, 3, 1, 10, 0));
+        insertAnalysis("ai_analyses", bookId, older);
+        insertAnalysis("ai_analyses_archive", bookId, newest);
+        deleteAnalysisUseCase.execute(deleted.toString());
+        assertThat(stored(bookId)).extracting(LibraryEntry::analysisCount, LibraryEntry::latestAnalysisAt)
+                .containsExactly(2, newest);
+        assertMatchesProjection(bookId);
+
+        // 최근 기록을 지우면 이전 기록의 상태로 돌아감
+        deleteReadingRecordUseCase.execute(second);
+        assertThat(stored(bookId)).extracting(LibraryEntry::readingRecordCount, LibraryEntry::latestReadingStatus)
+                .containsExactly(1, ReadingStatus.COMPLETED);
+        assertMatchesProjection(bookId);
+
+        deleteBookUseCase.execute(bookId);
+        assertThat(rowCount(bookId)).isZero();
+        assertThat(projection.project("b.id = ?", bookId)).isEmpty();
+    }
+
+    @Test
+    void 롤백된_쓰기는_행도_바꾸지_않는다() {
+        Long bookId = createBook();
+        LibraryEntry before = stored(bookId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            createRecord(bookId);
+            assertThat(stored(bookId).readingRecordCount()).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+
+        assertThat(stored(bookId)).isEqualTo(before);
+        assertMatchesProjection(bookId);
+    }
+
+    @Test
+    void 보정은_어긋난_행을_고치고_다시_돌리면_어긋남이_없다() {
+        Long stale = createBook();
+        Long missing = createBook();
+        Long pendingDeletion = createBook();
+        createRecord(stale);
+        createRecord(missing);
+
+        // 카운터 오류, 행 누락, 삭제 요청된 책의 남은 행, 없는 책의 행
+        jdbcTemplate.update("UPDATE library_view SET reading_record_count = 7, latest_reading_status = 'COMPLETED' WHERE book_id = ?", stale);
+        jdbcTemplate.update("DELETE FROM library_view WHERE book_id = ?", missing);
+        jdbcTemplate.update("UPDATE books SET deletion_requested_at = CURRENT_TIMESTAMP WHERE id = ?", pendingDeletion);
+        jdbcTemplate.update("INSERT INTO library_view (book_id, user_id, title, author, genre) VALUES (999999, ?, '유령', '저자', 'OTHER')", USER_ID);
+
+        assertThat(reconciliationTask.reconcileAll()).isEqualTo(4);
+
+        assertUserMatchesProjection();
+        assertThat(rowCount(pendingDeletion)).isZero();
+        assertThat(rowCount(999999L)).isZero();
+
+        assertThat(reconciliationTask.reconcileAll()).isZero();
+    }
+
+    @Test
+    void 목록은_최근_등록순으로_빠짐없이_페이지를_넘긴다() {
+        for (int i = 0; i < 7; i++) {
+            createBook();
+        }
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT book_id FROM library_view WHERE user_id = ? ORDER BY book_id DESC", Long.class, USER_ID);
+
+        List<Long> collected = new ArrayList<>();
+        Long before = null;
+        do {
+            LibraryPageResponse page = getLibraryUseCase.execute(before, 3);
+            page.getEntries().stream().map(LibraryEntryResponse::getBookId).forEach(collected::add);
+            before = page.getNextBefore();
+        } while (before != null);
+
+        assertThat(collected).containsExactlyElementsOf(expected);
+    }
+
+    private Long createBook() {
+        int sequence = ++bookSequence;
+        return createBookUseCase.execute(BookCreateRequest.builder()
+                .title("서재 책 " + sequence)
+                .author("저자 " + sequence)
+                .genre(Genre.FICTION)
+                .build()).getId();
+    }
+
+    private Long createRecord(Long bookId) {
+        return createReadingRecordUseCase.execute(new ReadingRecordCreateRequest(bookId, "읽은 내용")).getId();
+    }
+
+    private UUID insertAnalysis(String table, Long bookId, LocalDateTime createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO " + table + " (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array(),
+                USER_ID, bookId, AnalysisType.LITERATURE_ANALYSIS.name(), TextCompression.encode("분석"),
+                Timestamp.valueOf(createdAt));
+        return id;
+    }
+
+    private LibraryEntry stored(Long bookId) {
+        return jdbcTemplate.queryForObject("SELECT " + LibraryViewRepositoryImpl.COLUMNS + " FROM library_view WHERE book_id = ?",
+                LibraryViewRepositoryImpl.ROW_MAPPER, bookId);
+    }
+
+    private int rowCount(Long bookId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM library_view WHERE book_id = ?", Integer.class, bookId);
+    }
+
+    private void assertMatchesProjection(Long bookId) {
+        assertThat(stored(bookId)).isEqualTo(projection.project("b.id = ?", bookId).get(bookId));
+    }
+
+    private void assertUserMatchesProjection() {
+        List<LibraryEntry> stored = jdbcTemplate.query(
+                "SELECT " + LibraryViewRepositoryImpl.COLUMNS + " FROM library_view WHERE user_id = ? ORDER BY book_id",
+                LibraryViewRepositoryImpl.ROW_MAPPER, USER_ID);
+        assertThat(stored).containsExactlyElementsOf(projection.project("b.user_id = ?", USER_ID).values());
+    }
+}
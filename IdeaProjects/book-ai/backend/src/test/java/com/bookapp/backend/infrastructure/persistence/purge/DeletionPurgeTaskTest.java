@@ -0,0 +1,201 @@
+package com.bookapp.backend.infrastructure.persistence.purge;
+
+import com.bookapp.backend.common.TestConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 삭제 퍼지: 한 문장에 chunk-size건, 한 번 실행에 max-chunks-per-run개 문장까지만 지우고 남은 일은 다음 실행에서 이어 가며,
+ * 책과 계정의 하위 테이블을 모두 비운 뒤에 책/계정 행을 지운다. 삭제 요청이 없는 책과 계정은 건드리지 않는다.
+ * ON DELETE CASCADE가 없는 하위 테이블(수정 이력, 아카이브, 이벤트, 집계, library_view, user_stats)도 남지 않아야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:deletion_purge;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "app.purge.chunk-size=2",
+        "app.purge.max-chunks-per-run=3",
+        // 주기 실행이 끼어들지 않도록 직접 호출
+        "app.purge.interval-ms=3600000"
+})
+class DeletionPurgeTaskTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+    private static final List<String> BOOK_CHILD_TABLES = List.of("reading_record_revisions", "reading_records", "ai_analyses",
+            "ai_analyses_archive", "reading_events", "reading_activity_daily", "library_view");
+
+    @Autowired
+    private DeletionPurgeTask purgeTask;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long revisionSequence;
+
+    @BeforeEach
+    void clear() {
+        for (String table : List.of("reading_record_revisions", "reading_events", "reading_activity_daily", "library_view",
+                "user_stats", "ai_analyses_archive", "ai_analyses", "reading_records", "books", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        insertUser(1L, false);
+    }
+
+    @Test
+    void 한_번_실행에_청크_크기씩_최대_청크_수만큼만_지운다() {
+        insertBook(10L, 1L, true);
+        insertRevisions(1L, 10L, 7);
+        insertRecords(1L, 10L, 3);
+
+        purgeTask.purgeNextChunks();
+
+        // 수정 이력 7건 중 2건씩 3문장 = 6건만 지우고 멈춤
+        assertThat(count("reading_record_revisions", 10L)).isEqualTo(1);
+        assertThat(count("reading_records", 10L)).isEqualTo(3);
+        assertThat(bookExists(10L)).isTrue();
+    }
+
+    @Test
+    void 남은_행은_다음_실행에서_이어서_지우고_마지막에_책을_지운다() {
+        insertBook(10L, 1L, true);
+        insertRevisions(1L, 10L, 7);
+        insertRecords(1L, 10L, 3);
+        insertAnalysis("ai_analyses", 1L, 10L);
+        insertAnalysis("ai_analyses_archive", 1L, 10L);
+        insertActivity(1L, 10L);
+        insertLibraryView(1L, 10L);
+
+        purgeTask.purgeNextChunks();
+        purgeTask.purgeNextChunks();
+
+        // 두 번째 실행: 남은 수정 이력 1건, 독서 기록 2건 + 1건에서 처리량을 다 씀
+        assertThat(count("reading_record_revisions", 10L)).isZero();
+        assertThat(count("reading_records", 10L)).isZero();
+        assertThat(count("ai_analyses", 10L)).isEqualTo(1);
+        assertThat(bookExists(10L)).isTrue();
+
+        // 세 번째 실행: 분석, 아카이브, 이벤트에서 처리량을 다 써 책 삭제 문장은 다음으로 넘어감
+        purgeTask.purgeNextChunks();
+
+        assertThat(count("ai_analyses_archive", 10L)).isZero();
+        assertThat(count("reading_events", 10L)).isZero();
+        assertThat(count("reading_activity_daily", 10L)).isEqualTo(1);
+        assertThat(bookExists(10L)).isTrue();
+
+        purgeTask.purgeNextChunks();
+
+        for (String table : BOOK_CHILD_TABLES) {
+            assertThat(count(table, 10L)).as(table).isZero();
+        }
+        assertThat(bookExists(10L)).isFalse();
+    }
+
+    @Test
+    void 계정을_지우면_모든_책과_하위_테이블과_통계를_지우고_다른_계정은_남긴다() {
+        insertUser(2L, true);
+        for (long bookId : new long[]{20L, 21L}) {
+            insertBook(bookId, 2L, false);
+            insertRevisions(2L, bookId, 3);
+            insertRecords(2L, bookId, 2);
+            insertAnalysis("ai_analyses", 2L, bookId);
+            insertAnalysis("ai_analyses_archive", 2L, bookId);
+            insertActivity(2L, bookId);
+            insertLibraryView(2L, bookId);
+        }
+        jdbcTemplate.update("INSERT INTO user_stats (user_id, stat_key, stat_count) VALUES (2, 'BOOK_GENRE:FICTION', 2)");
+        insertBook(10L, 1L, false);
+        insertRecords(1L, 10L, 1);
+        insertActivity(1L, 10L);
+        jdbcTemplate.update("INSERT INTO user_stats (user_id, stat_key, stat_count) VALUES (1, 'BOOK_GENRE:FICTION', 1)");
+
+        purgeUntilDone();
+
+        for (String table : List.of("reading_record_revisions", "reading_records", "ai_analyses", "ai_analyses_archive",
+                "reading_events", "reading_activity_daily", "library_view", "user_stats", "books")) {
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE user_id = 2", Long.class))
+                    .as(table).isZero();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = 2", Long.class)).isZero();
+
+        assertThat(bookExists(10L)).isTrue();
+        assertThat(count("reading_records", 10L)).isEqualTo(1);
+        assertThat(count("reading_activity_daily", 10L)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_stats WHERE user_id = 1", Long.class)).isOne();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = 1", Long.class)).isOne();
+    }
+
+    private void purgeUntilDone() {
+        for (int run = 0; run < 20; run++) {
+            if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE deletion_requested_at IS NOT NULL", Long.class) == 0) {
+                return;
+            }
+            purgeTask.purgeNextChunks();
+        }
+        throw new AssertionError("퍼지가 20번 실행 안에 끝나지 않음");
+    }
+
+    private long count(String table, long bookId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE book_id = ?", Long.class, bookId);
+    }
+
+    private boolean bookExists(long bookId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books WHERE id = ?", Long.class, bookId) > 0;
+    }
+
+    private void insertUser(long userId, boolean deletionRequested) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname, deletion_requested_at) VALUES (?, ?, ?, 'purge', "
+                + (deletionRequested ? "CURRENT_TIMESTAMP" : "NULL") + ")", userId, "purge-" + userId + "@example.com", PASSWORD_HASH);
+    }
+
+    private void insertBook(long bookId, long userId, boolean deletionRequested) {
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id, deletion_requested_at) VALUES (?, ?, '저자', 'FICTION', ?, "
+                + (deletionRequested ? "CURRENT_TIMESTAMP" : "NULL") + ")", bookId, "책 " + bookId, userId);
+    }
+
+    private void insertRevisions(long userId, long bookId, int revisions) {
+        for (int i = 1; i <= revisions; i++) {
+            jdbcTemplate.update("INSERT INTO reading_record_revisions (reading_record_id, revision_number, user_id, book_id, kind, "
+                    + "chain_length, payload, content_length, created_at) VALUES (?, 1, ?, ?, 'SNAPSHOT', 0, X'00', 1, CURRENT_TIMESTAMP)",
+                    ++revisionSequence, userId, bookId);
+        }
+    }
+
+    private void insertRecords(long userId, long bookId, int records) {
+        for (int i = 0; i < records; i++) {
+            jdbcTemplate.update("INSERT INTO reading_records (user_id, book_id, content, status) VALUES (?, ?, X'00', 'IN_PROGRESS')",
+                    userId, bookId);
+        }
+    }
+
+    private void insertAnalysis(String table, long userId, long bookId) {
+        UUID id = UUID.randomUUID();
+        byte[] analysisId = ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+        jdbcTemplate.update("INSERT INTO " + table + " (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                + "VALUES (?, ?, ?, 'LITERATURE_ANALYSIS', X'00', CURRENT_TIMESTAMP)", analysisId, userId, bookId);
+    }
+
+    private void insertActivity(long userId, long bookId) {
+        jdbcTemplate.update("INSERT INTO reading_events (user_id, book_id, event_type, occurred_at, received_at) "
+                + "VALUES (?, ?, 'HEARTBEAT', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", userId, bookId);
+        jdbcTemplate.update("INSERT INTO reading_activity_daily (user_id, activity_date, book_id, genre, reading_seconds) "
+                + "VALUES (?, CURRENT_DATE, ?, 'FICTION', 30)", userId, bookId);
+    }
+
+    private void insertLibraryView(long userId, long bookId) {
+        jdbcTemplate.update("INSERT INTO library_view (book_id, user_id, title, author, genre) VALUES (?, ?, ?, '저자', 'FICTION')",
+                bookId, userId, "책 " + bookId);
+    }
+}
@@ -0,0 +1,139 @@
+package com.bookapp.backend.infrastructure.persistence.reading;
+
+import com.bookapp.backend.domain.reading.BufferedContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선기록 로그의 재생 경계: 쓰다 중단된 꼬리와 손상된 레코드는 버리고 그 앞의 레코드는 모두 돌려준다.
+ * 기다리는 동안 쓰인 레코드는 fsync 한 번으로 함께 내려간다.
+ */
+class ContentWriteAheadLogTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private ContentWriteAheadLog writeAheadLog;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("wal/reading-content.wal");
+        writeAheadLog = new ContentWriteAheadLog(path.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeAheadLog.close();
+    }
+
+    @Test
+    void 로그_파일이_없으면_빈_목록이다() {
+        assertThat(writeAheadLog.readAll()).isEmpty();
+    }
+
+    @Test
+    void 기록한_순서대로_모든_필드를_재생한다() {
+        List<BufferedContent> written = List.of(
+                new BufferedContent(1L, 3L, 4L, "첫 편집", NOW),
+                new BufferedContent(2L, null, 1L, "", NOW.plusSeconds(1)),
+                new BufferedContent(1L, 3L, 5L, "둘째 편집 😀", NOW.plusSeconds(2)));
+        written.forEach(writeAheadLog::append);
+
+        // 다른 프로세스가 다시 연 것처럼 새 인스턴스로 읽음
+        assertThat(new ContentWriteAheadLog(path.toString()).readAll()).containsExactlyElementsOf(written);
+    }
+
+    @Test
+    void 쓰다_중단된_마지막_레코드는_어디서_끊겨도_버린다() throws IOException {
+        writeAheadLog.append(new BufferedContent(1L, 1L, 2L, "온전한 레코드", NOW));
+        long intactLength = Files.size(path);
+        writeAheadLog.append(new BufferedContent(2L, 1L, 2L, "중단된 레코드", NOW));
+        writeAheadLog.close();
+        byte[] full = Files.readAllBytes(path);
+
+        // 길이 필드 중간, CRC 중간, 고정 필드 중간, 본문 중간, 마지막 1바이트 누락
+        for (long cut : new long[]{intactLength + 2, intactLength + 6, intactLength + 12, full.length - 5, full.length - 1}) {
+            Files.write(path, Arrays.copyOf(full, (int) cut));
+
+            assertThat(writeAheadLog.readAll()).as("cut at %d", cut)
+                    .extracting(BufferedContent::readingRecordId)
+                    .containsExactly(1L);
+        }
+    }
+
+    @Test
+    void CRC가_맞지_않는_레코드부터는_읽지_않는다() throws IOException {
+        writeAheadLog.append(new BufferedContent(1L, 1L, 2L, "앞", NOW));
+        long secondStart = Files.size(path);
+        writeAheadLog.append(new BufferedContent(2L, 1L, 2L, "손상", NOW));
+        writeAheadLog.append(new BufferedContent(3L, 1L, 2L, "뒤", NOW));
+        writeAheadLog.close();
+
+        byte[] bytes = Files.readAllBytes(path);
+        // 두 번째 레코드 본문의 마지막 바이트를 뒤집음
+        int secondBodyLength = ByteBuffer.wrap(bytes, (int) secondStart, 4).getInt();
+        int corrupted = (int) secondStart + 8 + secondBodyLength - 1;
+        bytes[corrupted] ^= 0x01;
+        Files.write(path, bytes);
+
+        assertThat(writeAheadLog.readAll()).extracting(BufferedContent::readingRecordId).containsExactly(1L);
+    }
+
+    @Test
+    void 길이_필드가_고정_필드보다_작으면_손상으로_보고_멈춘다() throws IOException {
+        writeAheadLog.append(new BufferedContent(1L, 1L, 2L, "앞", NOW));
+        writeAheadLog.close();
+        Files.write(path, ByteBuffer.allocate(8).putInt(-7).putInt(0).array(), StandardOpenOption.APPEND);
+
+        assertThat(writeAheadLog.readAll()).extracting(BufferedContent::readingRecordId).containsExactly(1L);
+    }
+
+    @Test
+    void 먼저_쓰인_레코드들은_한_번의_fsync로_함께_내려간다() {
+        long first = writeAheadLog.write(new BufferedContent(1L, 1L, 2L, "첫 편집", NOW));
+        long second = writeAheadLog.write(new BufferedContent(2L, 1L, 2L, "둘째 편집", NOW));
+        long third = writeAheadLog.write(new BufferedContent(3L, 1L, 2L, "셋째 편집", NOW));
+
+        writeAheadLog.awaitDurable(third);
+        writeAheadLog.awaitDurable(first);
+        writeAheadLog.awaitDurable(second);
+
+        assertThat(writeAheadLog.syncCount()).isOne();
+
+        writeAheadLog.append(new BufferedContent(4L, 1L, 2L, "넷째 편집", NOW));
+
+        assertThat(writeAheadLog.syncCount()).isEqualTo(2);
+        assertThat(writeAheadLog.readAll()).extracting(BufferedContent::readingRecordId).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void 정리하면_남은_레코드만_담기고_이후_기록은_새_파일에_이어진다() throws IOException {
+        writeAheadLog.append(new BufferedContent(1L, 1L, 2L, "반영됨", NOW));
+        writeAheadLog.append(new BufferedContent(2L, 1L, 2L, "남음", NOW));
+        // 끊긴 꼬리도 정리로 사라져야 함
+        Files.write(path, new byte[]{0, 0, 1}, StandardOpenOption.APPEND);
+
+        writeAheadLog.rewrite(() -> List.of(new BufferedContent(2L, 1L, 2L, "남음", NOW)));
+        writeAheadLog.append(new BufferedContent(3L, 2L, 3L, "정리 후", NOW));
+
+        assertThat(writeAheadLog.readAll()).extracting(BufferedContent::readingRecordId).containsExactly(2L, 3L);
+        assertThat(Files.exists(path.resolveSibling("reading-content.wal.tmp"))).isFalse();
+    }
+}
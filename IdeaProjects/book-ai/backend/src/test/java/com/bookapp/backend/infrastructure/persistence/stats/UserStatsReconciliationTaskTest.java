@@ -0,0 +1,202 @@
+package com.bookapp.backend.infrastructure.persistence.stats;
+
+import com.bookapp.backend.application.common.UserStatsRecorder;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.reading.ReadingStatus;
+import com.bookapp.backend.domain.stats.StatKey;
+import com.bookapp.backend.domain.stats.UserStatsRepository;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * user_stats 카운터 보정: 어긋난 값, 빠진 키, 남은 키를 기본 테이블 기준으로 맞추고 어긋난 정도를 기록하는지 확인한다.
+ * 삭제 대기 중인 책의 하위 데이터는 빼고, 아카이브된 분석은 포함해야 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:user_stats_reconcile;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+class UserStatsReconciliationTaskTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+
+    @Autowired
+    private UserStatsReconciliationTask reconciliationTask;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private UserStatsRecorder userStatsRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long analysisSequence;
+
+    @BeforeEach
+    void clear() {
+        for (String table : List.of("user_stats", "ai_analyses_archive", "ai_analyses", "reading_records", "books", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void 어긋난_카운터를_기본_테이블_기준으로_맞추고_보정량을_돌려준다() {
+        insertUser(1L);
+        insertBook(10L, 1L, Genre.FICTION, false);
+        insertBook(11L, 1L, Genre.FICTION, false);
+        insertBook(12L, 1L, Genre.SCIENCE, false);
+        insertRecord(1L, 10L, ReadingStatus.COMPLETED);
+        insertRecord(1L, 11L, ReadingStatus.IN_PROGRESS);
+        insertAnalysis("ai_analyses", 1L, 10L, AnalysisType.LITERATURE_ANALYSIS);
+        // 값이 틀린 키(FICTION 5 -> 2), 없는 키(SCIENCE), 실제 데이터가 없는 키(HISTORY 3 -> 0)
+        counter(1L, StatKey.bookGenre(Genre.FICTION), 5);
+        counter(1L, StatKey.bookGenre(Genre.HISTORY), 3);
+        counter(1L, StatKey.readingStatus(ReadingStatus.COMPLETED), 1);
+        counter(1L, StatKey.readingStatus(ReadingStatus.IN_PROGRESS), 1);
+        counter(1L, StatKey.analysisType(AnalysisType.LITERATURE_ANALYSIS), 1);
+
+        long drift = reconciliationTask.reconcileAll();
+
+        assertThat(userStatsRepository.findByUserId(1L)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                StatKey.bookGenre(Genre.FICTION), 2L,
+                StatKey.bookGenre(Genre.SCIENCE), 1L,
+                StatKey.bookGenre(Genre.HISTORY), 0L,
+                StatKey.readingStatus(ReadingStatus.COMPLETED), 1L,
+                StatKey.readingStatus(ReadingStatus.IN_PROGRESS), 1L,
+                StatKey.analysisType(AnalysisType.LITERATURE_ANALYSIS), 1L));
+        // |5-2| + |0-1| + |3-0|
+        assertThat(drift).isEqualTo(7);
+    }
+
+    @Test
+    void 삭제_대기_중인_책의_하위_데이터는_빼고_아카이브된_분석은_센다() {
+        insertUser(1L);
+        insertBook(10L, 1L, Genre.FICTION, false);
+        insertBook(11L, 1L, Genre.FICTION, true);
+        insertRecord(1L, 10L, ReadingStatus.COMPLETED);
+        insertRecord(1L, 11L, ReadingStatus.COMPLETED);
+        insertAnalysis("ai_analyses", 1L, 10L, AnalysisType.LITERATURE_ANALYSIS);
+        insertAnalysis("ai_analyses_archive", 1L, 10L, AnalysisType.LITERATURE_ANALYSIS);
+        insertAnalysis("ai_analyses_archive", 1L, 10L, AnalysisType.TECHNICAL_SUMMARY);
+        insertAnalysis("ai_analyses", 1L, 11L, AnalysisType.TECHNICAL_SUMMARY);
+        insertAnalysis("ai_analyses_archive", 1L, 11L, AnalysisType.TECHNICAL_SUMMARY);
+
+        reconciliationTask.reconcileAll();
+
+        assertThat(userStatsRepository.findByUserId(1L)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                StatKey.bookGenre(Genre.FICTION), 1L,
+                StatKey.readingStatus(ReadingStatus.COMPLETED), 1L,
+                StatKey.analysisType(AnalysisType.LITERATURE_ANALYSIS), 2L,
+                StatKey.analysisType(AnalysisType.TECHNICAL_SUMMARY), 1L));
+    }
+
+    @Test
+    void 증분으로_유지한_카운터는_어긋남이_없다() {
+        insertUser(1L);
+        insertBook(10L, 1L, Genre.TECHNOLOGY, false);
+        insertBook(11L, 1L, Genre.HISTORY, false);
+        // 진행 중으로 만들어 둔 기록을 완료 처리
+        insertRecord(1L, 10L, ReadingStatus.IN_PROGRESS);
+        counter(1L, StatKey.readingStatus(ReadingStatus.IN_PROGRESS), 1);
+        insertAnalysis("ai_analyses", 1L, 11L, AnalysisType.TECHNICAL_SUMMARY);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            userStatsRecorder.booksAdded(1L, List.of(book(10L, Genre.TECHNOLOGY), book(11L, Genre.HISTORY)));
+            jdbcTemplate.update("UPDATE reading_records SET status = 'COMPLETED' WHERE book_id = 10");
+            userStatsRecorder.readingStatusChanged(1L, ReadingStatus.IN_PROGRESS, ReadingStatus.COMPLETED);
+            userStatsRecorder.analysisAdded(1L, AnalysisType.TECHNICAL_SUMMARY);
+        });
+        Map<String, Long> before = userStatsRepository.findByUserId(1L);
+
+        assertThat(reconciliationTask.reconcileAll()).isZero();
+        assertThat(userStatsRepository.findByUserId(1L)).isEqualTo(before);
+    }
+
+    @Test
+    void 카운터_증감은_기본_테이블_트랜잭션과_함께_롤백된다() {
+        insertUser(1L);
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            insertBook(10L, 1L, Genre.FICTION, false);
+            userStatsRecorder.booksAdded(1L, List.of(book(10L, Genre.FICTION)));
+            throw new IllegalStateException("강제 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(userStatsRepository.findByUserId(1L)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM books", Integer.class)).isZero();
+    }
+
+    @Test
+    void 사용자_묶음을_넘어_모든_사용자를_보정하고_탈퇴_대기_사용자는_건너뛴다() {
+        for (long userId = 1; userId <= 250; userId++) {
+            insertUser(userId);
+            insertBook(1000 + userId, userId, Genre.OTHER, false);
+        }
+        jdbcTemplate.update("UPDATE users SET deletion_requested_at = CURRENT_TIMESTAMP WHERE id = 250");
+
+        reconciliationTask.reconcileAll();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_stats WHERE stat_key = ? AND stat_count = 1", Integer.class,
+                StatKey.bookGenre(Genre.OTHER))).isEqualTo(249);
+        assertThat(userStatsRepository.findByUserId(250L)).isEmpty();
+    }
+
+    private void insertUser(long id) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, ?)",
+                id, "stats" + id + "@example.com", PASSWORD_HASH, "stats" + id);
+    }
+
+    private void insertBook(long id, long userId, Genre genre, boolean deletionRequested) {
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id, deletion_requested_at) "
+                        + "VALUES (?, '책', '저자', ?, ?, ?)",
+                id, genre.name(), userId, deletionRequested ? Timestamp.valueOf(LocalDateTime.now()) : null);
+    }
+
+    private void insertRecord(long userId, long bookId, ReadingStatus status) {
+        jdbcTemplate.update("INSERT INTO reading_records (user_id, book_id, content, status) VALUES (?, ?, ?, ?)",
+                userId, bookId, TextCompression.encode("기록"), status.name());
+    }
+
+    private void insertAnalysis(String table, long userId, long bookId, AnalysisType type) {
+        UUID id = new UUID(0x0192f1a0c3d47a1bL, 0x8e2f000000000000L | ++analysisSequence);
+        jdbcTemplate.update("INSERT INTO " + table + " (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array(),
+                userId, bookId, type.name(), TextCompression.encode("분석"));
+    }
+
+    private void counter(long userId, String statKey, long count) {
+        jdbcTemplate.update("INSERT INTO user_stats (user_id, stat_key, stat_count) VALUES (?, ?, ?)", userId, statKey, count);
+    }
+
+    private static Book book(long id, Genre genre) {
+        return Book.builder().id(id).title("책").author("저자").genre(genre).userId(1L).build();
+    }
+}
@@ -0,0 +1,214 @@
+package com.bookapp.backend.infrastructure.scheduling;
+
+import com.bookapp.backend.BackendApplication;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.infrastructure.persistence.analysis.AnalysisArchiveTask;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import com.bookapp.backend.infrastructure.persistence.purge.DeletionPurgeTask;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB를 쓰는 애플리케이션 컨텍스트 여러 개(노드)로 임대가 넘어가는 상황을 흉내 낸다.
+ * 노드가 멈춘 동안 임대가 만료된 것은 DB의 expires_at을 과거로 돌려 만든다 - 멈췄던 노드는 노드 안의 기한이
+ * 남아 있어 자기가 임대를 가졌다고 믿고 계속 쓰려 하지만, 토큰을 확인하는 쓰기는 반영되지 않아야 한다.
+ * 하트비트가 끼어들지 않도록 ttl을 길게 잡고 갱신은 renewAll()을 직접 불러 확인한다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JobLeaseFencingTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+    private static final long USER_ID = 1L;
+
+    private final String database = "job_lease_" + UUID.randomUUID().toString().replace("-", "");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void 노드_두_개_기동() {
+        nodeA = start("a");
+        nodeB = start("b");
+        jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, 'lease@example.com', ?, 'lease')",
+                USER_ID, PASSWORD_HASH);
+    }
+
+    @AfterAll
+    void 노드_종료() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void 멈췄다_깨어난_노드의_퍼지는_임대가_넘어간_뒤_아무것도_지우지_않는다() {
+        DeletionPurgeTask purgeA = nodeA.getBean(DeletionPurgeTask.class);
+        DeletionPurgeTask purgeB = nodeB.getBean(DeletionPurgeTask.class);
+        purgeA.purgeNextChunks();
+        assertThat(leases(nodeA).holdings()).containsKey("deletion-purge");
+
+        // A가 멈춘 사이 임대가 만료되어 B가 가져감
+        expire("deletion-purge");
+        purgeB.purgeNextChunks();
+        assertThat(leases(nodeB).holdings()).containsKey("deletion-purge");
+        // A는 노드 안의 기한이 남아 아직 임대를 가졌다고 봄
+        assertThat(leases(nodeA).holdings()).containsKey("deletion-purge");
+
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id, deletion_requested_at) "
+                + "VALUES (100, '지울 책', '저자', 'FICTION', ?, CURRENT_TIMESTAMP)", USER_ID);
+        long lostBefore = leases(nodeA).lostLeaseCount();
+
+        purgeA.purgeNextChunks();
+
+        assertThat(count("SELECT COUNT(*) FROM books WHERE id = 100")).isOne();
+        assertThat(leases(nodeA).lostLeaseCount()).isGreaterThan(lostBefore);
+        assertThat(leases(nodeA).holdings()).doesNotContainKey("deletion-purge");
+
+        purgeB.purgeNextChunks();
+
+        assertThat(count("SELECT COUNT(*) FROM books WHERE id = 100")).isZero();
+    }
+
+    @Test
+    void 멈췄다_깨어난_노드의_아카이브는_배치를_옮기지_않는다() {
+        AnalysisArchiveTask archiveA = nodeA.getBean(AnalysisArchiveTask.class);
+        AnalysisArchiveTask archiveB = nodeB.getBean(AnalysisArchiveTask.class);
+        archiveA.archiveOldAnalyses();
+        expire("analysis-archive");
+        archiveB.archiveOldAnalyses();
+
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (200, '분석한 책', '저자', 'FICTION', ?)",
+                USER_ID);
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                            + "VALUES (?, ?, 200, 'LITERATURE_ANALYSIS', ?, ?)",
+                    bytes(UUID.randomUUID()), USER_ID, TextCompression.encode("오래된 분석 " + i),
+                    Timestamp.valueOf(LocalDateTime.now().minusDays(400)));
+        }
+
+        archiveA.archiveOldAnalyses();
+
+        assertThat(count("SELECT COUNT(*) FROM ai_analyses WHERE book_id = 200")).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM ai_analyses_archive WHERE book_id = 200")).isZero();
+
+        archiveB.archiveOldAnalyses();
+
+        assertThat(count("SELECT COUNT(*) FROM ai_analyses WHERE book_id = 200")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM ai_analyses_archive WHERE book_id = 200")).isEqualTo(3);
+    }
+
+    @Test
+    void 진행_중인_이전_소유자의_쓰기가_끝난_뒤에야_새_노드가_임대를_얻는다() throws Exception {
+        AtomicReference<JobLease> leaseA = new AtomicReference<>();
+        assertThat(leases(nodeA).runIfHolder("fence-wait", leaseA::set)).isTrue();
+        expire("fence-wait");
+
+        CountDownLatch entered = new CountDownLatch(1);
+        AtomicLong committedAt = new AtomicLong();
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() -> {
+            leases(nodeA).fenced(leaseA.get(), () -> {
+                entered.countDown();
+                sleep(500);
+                committedAt.set(System.nanoTime());
+            });
+        });
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        AtomicLong acquiredAt = new AtomicLong();
+        assertThat(leases(nodeB).runIfHolder("fence-wait", lease -> acquiredAt.set(System.nanoTime()))).isTrue();
+
+        write.get(10, TimeUnit.SECONDS);
+        assertThat(acquiredAt.get()).isGreaterThan(committedAt.get());
+    }
+
+    @Test
+    void 갱신은_임대마다_따로_하고_빼앗긴_임대만_내려놓는다() {
+        JobLeaseManager managerA = leases(nodeA);
+        managerA.runIfHolder("renew-kept", () -> { });
+        managerA.runIfHolder("renew-stolen", () -> { });
+
+        // 다른 노드가 만료된 임대를 가져간 것과 같은 상태
+        jdbcTemplate.update("UPDATE job_leases SET owner_id = 'other-node', fencing_token = fencing_token + 1 "
+                + "WHERE job_name = 'renew-stolen'");
+        long lostBefore = managerA.lostLeaseCount();
+        managerA.renewAll();
+
+        assertThat(managerA.holdings()).containsKey("renew-kept").doesNotContainKey("renew-stolen");
+        assertThat(managerA.lostLeaseCount()).isGreaterThan(lostBefore);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT heartbeat_at > TIMESTAMPADD(SECOND, -5, CURRENT_TIMESTAMP(3)) FROM job_leases WHERE job_name = 'renew-kept'",
+                Boolean.class)).isTrue();
+    }
+
+    @Test
+    void 정상_종료한_노드의_임대는_다른_노드가_바로_이어받는다() {
+        ConfigurableApplicationContext nodeC = start("c");
+        try {
+            assertThat(leases(nodeC).runIfHolder("shutdown-handover", () -> { })).isTrue();
+            assertThat(leases(nodeA).runIfHolder("shutdown-handover", () -> { })).isFalse();
+        } finally {
+            nodeC.close();
+        }
+
+        assertThat(leases(nodeA).runIfHolder("shutdown-handover", () -> { })).isTrue();
+    }
+
+    private ConfigurableApplicationContext start(String node) {
+        return new SpringApplicationBuilder(BackendApplication.class, TestConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+                        "--app.job-lease.ttl=60s",
+                        "--app.job-lease.heartbeat-interval=30s",
+                        "--search.index.snapshot-dir=build/search-index-test/" + database + "-" + node);
+    }
+
+    private static JobLeaseManager leases(ConfigurableApplicationContext node) {
+        return node.getBean(JobLeaseManager.class);
+    }
+
+    private void expire(String jobName) {
+        jdbcTemplate.update("UPDATE job_leases SET expires_at = TIMESTAMPADD(SECOND, -1, CURRENT_TIMESTAMP(3)) WHERE job_name = ?",
+                jobName);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
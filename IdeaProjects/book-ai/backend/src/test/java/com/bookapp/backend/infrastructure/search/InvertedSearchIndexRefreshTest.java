@@ -0,0 +1,69 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.infrastructure.invalidation.NoOpInvalidationBus;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전체 재색인: 사용자별로 교체하고, 읽는 동안 이 노드가 바꾼 사용자는 읽은 값을 버리고 그 사용자만 다시 읽는다.
+ */
+class InvertedSearchIndexRefreshTest {
+
+    private final SearchIndexSource searchIndexSource = mock(SearchIndexSource.class);
+    private final InvertedSearchIndex searchIndex = new InvertedSearchIndex(searchIndexSource, new NoOpInvalidationBus());
+
+    @Test
+    void DB_기준으로_사용자별_인덱스를_교체하고_DB에_없는_사용자는_뺀다() {
+        searchIndex.put(1L, IndexedDocument.forBook(10L, "사과나무", "저자", null));
+        searchIndex.put(3L, IndexedDocument.forBook(30L, "바다거북", "저자", null));
+        when(searchIndexSource.loadAll(any())).thenAnswer(invocation -> {
+            BiConsumer<Long, IndexedDocument> sink = invocation.getArgument(0);
+            sink.accept(1L, IndexedDocument.forBook(11L, "구름다리", "저자", null));
+            sink.accept(2L, IndexedDocument.forBook(20L, "별빛정원", "저자", null));
+            return 2;
+        });
+
+        int indexed = searchIndex.refreshAll();
+
+        assertThat(indexed).isEqualTo(2);
+        assertThat(searchIndex.userIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(searchIndex.search(1L, "사과나무", 10)).isEmpty();
+        assertThat(searchIndex.search(1L, "구름다리", 10)).isNotEmpty();
+        assertThat(searchIndex.search(2L, "별빛정원", 10)).isNotEmpty();
+        verify(searchIndexSource, never()).loadUser(any(), any());
+    }
+
+    @Test
+    void 읽는_동안_이_노드가_바꾼_사용자는_읽은_값으로_덮지_않고_다시_읽는다() {
+        Book newer = Book.builder().id(10L).title("구름다리").author("저자").genre(Genre.FICTION).userId(1L).build();
+        when(searchIndexSource.loadAll(any())).thenAnswer(invocation -> {
+            BiConsumer<Long, IndexedDocument> sink = invocation.getArgument(0);
+            sink.accept(1L, IndexedDocument.forBook(10L, "사과나무", "저자", null));
+            // 전체를 읽는 동안 이 노드의 더 새로운 커밋이 반영됨
+            searchIndex.indexBook(newer);
+            return 1;
+        });
+        when(searchIndexSource.loadUser(eq(1L), any())).thenAnswer(invocation -> {
+            BiConsumer<Long, IndexedDocument> sink = invocation.getArgument(1);
+            sink.accept(1L, IndexedDocument.forBook(10L, "구름다리", "저자", null));
+            return 1;
+        });
+
+        searchIndex.refreshAll();
+
+        verify(searchIndexSource).loadUser(eq(1L), any());
+        assertThat(searchIndex.search(1L, "구름다리", 10)).isNotEmpty();
+        assertThat(searchIndex.search(1L, "사과나무", 10)).isEmpty();
+    }
+}
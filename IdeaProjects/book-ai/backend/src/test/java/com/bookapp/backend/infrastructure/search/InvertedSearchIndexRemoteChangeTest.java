@@ -0,0 +1,82 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.book.Book;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import com.bookapp.backend.infrastructure.invalidation.NoOpInvalidationBus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다른 노드의 변경 키 반영: 문서 하나만 다시 읽고, 읽는 동안 이 노드의 커밋이 끼어들면 읽은 값을 버리고 다시 읽는다.
+ */
+class InvertedSearchIndexRemoteChangeTest {
+
+    private final SearchIndexSource searchIndexSource = mock(SearchIndexSource.class);
+    private final InvertedSearchIndex searchIndex = new InvertedSearchIndex(searchIndexSource, new NoOpInvalidationBus());
+
+    @Test
+    void 바뀐_문서만_다시_읽어_반영한다() {
+        searchIndex.put(1L, IndexedDocument.forBook(10L, "사과나무", "저자", null));
+        searchIndex.put(1L, IndexedDocument.forBook(11L, "바다거북", "저자", null));
+        when(searchIndexSource.loadDocument(1L, SearchDocumentType.BOOK, "10"))
+                .thenReturn(Optional.of(IndexedDocument.forBook(10L, "구름다리", "저자", null)));
+
+        searchIndex.applyRemoteChange(InvertedSearchIndex.changeKey(1L, IndexedDocument.key(SearchDocumentType.BOOK, "10")));
+
+        assertThat(searchIndex.search(1L, "구름다리", 10)).extracting("bookId").containsExactly(10L);
+        assertThat(searchIndex.search(1L, "사과나무", 10)).isEmpty();
+        assertThat(searchIndex.search(1L, "바다거북", 10)).isNotEmpty();
+        verify(searchIndexSource, times(0)).loadUser(any(), any());
+    }
+
+    @Test
+    void 읽는_동안_이_노드가_같은_사용자를_바꾸면_다시_읽는다() {
+        Book newer = Book.builder().id(10L).title("구름다리").author("저자").genre(Genre.FICTION).userId(1L).build();
+        when(searchIndexSource.loadDocument(1L, SearchDocumentType.BOOK, "10"))
+                .thenAnswer(invocation -> {
+                    // 다른 노드의 값을 읽은 직후 이 노드의 더 새로운 커밋이 반영됨
+                    searchIndex.indexBook(newer);
+                    return Optional.of(IndexedDocument.forBook(10L, "사과나무", "저자", null));
+                })
+                .thenReturn(Optional.of(IndexedDocument.forBook(10L, "구름다리", "저자", null)));
+
+        searchIndex.applyRemoteChange(InvertedSearchIndex.changeKey(1L, IndexedDocument.key(SearchDocumentType.BOOK, "10")));
+
+        verify(searchIndexSource, times(2)).loadDocument(1L, SearchDocumentType.BOOK, "10");
+        assertThat(searchIndex.search(1L, "구름다리", 10)).isNotEmpty();
+        assertThat(searchIndex.search(1L, "사과나무", 10)).isEmpty();
+    }
+
+    @Test
+    void DB에_없는_책은_하위_문서와_함께_빠진다() {
+        searchIndex.put(1L, IndexedDocument.forBook(10L, "사과나무", "저자", null));
+        searchIndex.put(1L, IndexedDocument.forReadingRecord(100L, 10L, "사과나무 아래에서 읽음"));
+        searchIndex.put(1L, IndexedDocument.forBook(11L, "바다거북", "저자", null));
+        when(searchIndexSource.loadDocument(eq(1L), eq(SearchDocumentType.BOOK), eq("10"))).thenReturn(Optional.empty());
+
+        searchIndex.applyRemoteChange(InvertedSearchIndex.changeKey(1L, IndexedDocument.key(SearchDocumentType.BOOK, "10")));
+
+        assertThat(searchIndex.search(1L, "사과나무", 10)).isEmpty();
+        assertThat(searchIndex.search(1L, "바다거북", 10)).isNotEmpty();
+    }
+
+    @Test
+    void 사용자_ID만_있으면_그_사용자를_다시_만들고_문서가_없으면_샤드를_지운다() {
+        searchIndex.put(1L, IndexedDocument.forBook(10L, "사과나무", "저자", null));
+        when(searchIndexSource.loadUser(eq(1L), any())).thenReturn(0);
+
+        searchIndex.applyRemoteChange("1");
+
+        assertThat(searchIndex.userIds()).isEmpty();
+    }
+}
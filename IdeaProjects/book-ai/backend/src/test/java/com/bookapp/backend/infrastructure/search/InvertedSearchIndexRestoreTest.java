@@ -0,0 +1,87 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import com.bookapp.backend.infrastructure.invalidation.NoOpInvalidationBus;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InvertedSearchIndexRestoreTest {
+
+    private final InvertedSearchIndex searchIndex =
+            new InvertedSearchIndex(mock(SearchIndexSource.class), new NoOpInvalidationBus());
+
+    @Test
+    void 복원_전에_색인된_문서는_스냅샷에_덮이지_않는다() {
+        searchIndex.put(1L, IndexedDocument.forBook(10L, "사과나무", "저자", null));
+
+        searchIndex.restore(Map.of(1L, List.of(
+                IndexedDocument.forBook(10L, "바다거북", "저자", null),
+                IndexedDocument.forBook(11L, "구름다리", "저자", null))));
+
+        assertThat(searchIndex.search(1L, "사과나무", 10)).isNotEmpty();
+        assertThat(searchIndex.search(1L, "바다거북", 10)).isEmpty();
+        assertThat(searchIndex.search(1L, "구름다리", 10)).isNotEmpty();
+    }
+
+    @Test
+    void 사용자별로_DB에_없는_문서만_제거한다() {
+        searchIndex.restore(Map.of(
+                1L, List.of(IndexedDocument.forBook(10L, "사과나무", "저자", null),
+                        IndexedDocument.forBook(11L, "바다거북", "저자", null)),
+                2L, List.of(IndexedDocument.forBook(20L, "구름다리", "저자", null))));
+
+        int removed = searchIndex.retainOnly(1L, Set.of(IndexedDocument.key(
+                SearchDocumentType.BOOK, "10")))
+                + searchIndex.retainOnly(2L, Set.of());
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(searchIndex.search(1L, "사과나무", 10)).isNotEmpty();
+        assertThat(searchIndex.search(1L, "바다거북", 10)).isEmpty();
+        assertThat(searchIndex.userIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 스냅샷_복원_후_남은_키는_모든_사용자를_한_번에_확인한다() throws Exception {
+        SearchIndexSource searchIndexSource = mock(SearchIndexSource.class);
+        SearchIndexSnapshotStore snapshotStore = mock(SearchIndexSnapshotStore.class);
+        when(snapshotStore.read()).thenReturn(Optional.of(new SearchIndexSnapshotStore.Snapshot(LocalDateTime.now(), Map.of(
+                1L, List.of(IndexedDocument.forBook(10L, "사과나무", "저자", null),
+                        IndexedDocument.forBook(11L, "바다거북", "저자", null)),
+                2L, List.of(IndexedDocument.forBook(20L, "구름다리", "저자", null))))));
+        when(searchIndexSource.existingKeys(any())).thenReturn(Map.of(
+                1L, Set.of(IndexedDocument.key(SearchDocumentType.BOOK, "10")),
+                2L, Set.of()));
+
+        new SearchIndexLifecycle(searchIndex, searchIndexSource, snapshotStore).restore();
+
+        ArgumentCaptor<Collection<Long>> userIds = ArgumentCaptor.captor();
+        verify(searchIndexSource).existingKeys(userIds.capture());
+        assertThat(userIds.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(searchIndex.search(1L, "사과나무", 10)).isNotEmpty();
+        assertThat(searchIndex.search(1L, "바다거북", 10)).isEmpty();
+        assertThat(searchIndex.userIds()).containsExactly(1L);
+    }
+
+    @Test
+    void 복원은_웹_서버_시작보다_앞선_단계에서_실행된다() {
+        SearchIndexLifecycle lifecycle = new SearchIndexLifecycle(searchIndex, mock(SearchIndexSource.class),
+                mock(SearchIndexSnapshotStore.class));
+
+        // WebServerStartStopLifecycle은 DEFAULT_PHASE - 1024 단계에서 시작한다
+        assertThat(lifecycle.getPhase()).isLessThan(SmartLifecycle.DEFAULT_PHASE - 1024);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookapp.backend.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanBigramTokenizerTest {
+
+    @Test
+    void 한글은_글자_bigram으로_자른다() {
+        assertThat(KoreanBigramTokenizer.tokenize("독서를 좋아한다"))
+                .containsExactly("독서", "서를", "좋아", "아한", "한다");
+    }
+
+    @Test
+    void 조사가_붙어도_어간_bigram이_나온다() {
+        assertThat(KoreanBigramTokenizer.tokenize("독서를")).contains("독서");
+        assertThat(KoreanBigramTokenizer.tokenize("독서는")).contains("독서");
+    }
+
+    @Test
+    void 한_글자_한글은_그대로_토큰이다() {
+        assertThat(KoreanBigramTokenizer.tokenize("책 한 권")).containsExactly("책", "한", "권");
+    }
+
+    @Test
+    void 영문과_숫자는_단어_단위로_소문자로_자른다() {
+        assertThat(KoreanBigramTokenizer.tokenize("Spring Boot 3.5, JPA!"))
+                .containsExactly("spring", "boot", "3", "5", "jpa");
+    }
+
+    @Test
+    void 한글과_영문이_붙어_있으면_문자_종류가_바뀌는_곳에서_나눈다() {
+        assertThat(KoreanBigramTokenizer.tokenize("자바Spring입문"))
+                .containsExactly("자바", "spring", "입문");
+    }
+
+    @Test
+    void 전각_문자와_호환_자모는_NFKC로_정규화한다() {
+        assertThat(KoreanBigramTokenizer.tokenize("ＪＡＶＡ１７")).containsExactly("java17");
+        // 첫가끝 자모로 쓴 "독서"도 완성형과 같은 토큰이 된다
+        assertThat(KoreanBigramTokenizer.tokenize("\u1103\u1169\u11a8\u1109\u1165"))
+                .containsExactly("독서");
+    }
+
+    @Test
+    void 비었거나_구분자만_있으면_토큰이_없다() {
+        assertThat(KoreanBigramTokenizer.tokenize(null)).isEmpty();
+        assertThat(KoreanBigramTokenizer.tokenize("  \t")).isEmpty();
+        assertThat(KoreanBigramTokenizer.tokenize("... !?")).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷 복원 후 남길 키: 여러 사용자를 IN 조건으로 묶어 읽어도 사용자별로 나뉘고, 삭제 대기 책과 그 하위 문서는 빠진다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:search_source;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchIndexSourceTest {
+
+    private static final String ANALYSIS_ID = "00000000-0000-0000-0000-000000000001";
+    private static final String ARCHIVED_ANALYSIS_ID = "00000000-0000-0000-0000-000000000002";
+    private static final String DELETED_BOOK_ANALYSIS_ID = "00000000-0000-0000-0000-000000000003";
+
+    @Autowired
+    private SearchIndexSource searchIndexSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void 문서_등록() {
+        for (long userId = 1; userId <= 3; userId++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, 'keys')",
+                    userId, "keys-" + userId + "@example.com", "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        }
+        insertBook(10, 1);
+        insertBook(11, 1);
+        insertBook(20, 2);
+        insertBook(30, 3);
+        jdbcTemplate.update("UPDATE books SET deletion_requested_at = CURRENT_TIMESTAMP WHERE id = 11");
+
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status) VALUES (100, 1, 10, X'00', 'IN_PROGRESS')");
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status) VALUES (101, 1, 11, X'00', 'IN_PROGRESS')");
+        jdbcTemplate.update("INSERT INTO reading_records (id, user_id, book_id, content, status) VALUES (300, 3, 30, X'00', 'COMPLETED')");
+        insertAnalysis("ai_analyses", ANALYSIS_ID, 1, 10);
+        insertAnalysis("ai_analyses", DELETED_BOOK_ANALYSIS_ID, 1, 11);
+        insertAnalysis("ai_analyses_archive", ARCHIVED_ANALYSIS_ID, 2, 20);
+    }
+
+    @Test
+    void 사용자별로_DB에_있는_문서_키를_돌려주고_삭제_대기_책의_문서는_뺀다() {
+        Map<Long, Set<String>> keys = searchIndexSource.existingKeys(List.of(1L, 2L, 3L));
+
+        assertThat(keys.get(1L)).containsExactlyInAnyOrder(
+                IndexedDocument.key(SearchDocumentType.BOOK, "10"),
+                IndexedDocument.key(SearchDocumentType.READING_RECORD, "100"),
+                IndexedDocument.key(SearchDocumentType.ANALYSIS, ANALYSIS_ID));
+        assertThat(keys.get(2L)).containsExactlyInAnyOrder(
+                IndexedDocument.key(SearchDocumentType.BOOK, "20"),
+                IndexedDocument.key(SearchDocumentType.ANALYSIS, ARCHIVED_ANALYSIS_ID));
+        assertThat(keys.get(3L)).containsExactlyInAnyOrder(
+                IndexedDocument.key(SearchDocumentType.BOOK, "30"),
+                IndexedDocument.key(SearchDocumentType.READING_RECORD, "300"));
+    }
+
+    @Test
+    void 묶음_크기를_넘는_사용자도_모두_확인하고_문서가_없는_사용자는_빈_집합이다() {
+        // 문서가 있는 사용자를 두 번째 IN 묶음에 둔다
+        List<Long> userIds = new ArrayList<>();
+        for (long userId = 1000; userId < 1600; userId++) {
+            userIds.add(userId);
+        }
+        userIds.add(3L);
+
+        Map<Long, Set<String>> keys = searchIndexSource.existingKeys(userIds);
+
+        assertThat(keys).hasSize(userIds.size());
+        assertThat(keys.get(1000L)).isEmpty();
+        assertThat(keys.get(1599L)).isEmpty();
+        assertThat(keys.get(3L)).containsExactlyInAnyOrder(
+                IndexedDocument.key(SearchDocumentType.BOOK, "30"),
+                IndexedDocument.key(SearchDocumentType.READING_RECORD, "300"));
+    }
+
+    private void insertBook(long id, long userId) {
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, user_id) VALUES (?, ?, '저자', 'FICTION', ?)",
+                id, "책 " + id, userId);
+    }
+
+    private void insertAnalysis(String table, String analysisId, long userId, long bookId) {
+        jdbcTemplate.update("INSERT INTO " + table + " (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                + "VALUES (?, ?, ?, 'LITERATURE_ANALYSIS', X'00', CURRENT_TIMESTAMP)", toBytes(analysisId), userId, bookId);
+    }
+
+    private static byte[] toBytes(String analysisId) {
+        UUID uuid = UUID.fromString(analysisId);
+        return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+    }
+}
@@ -0,0 +1,120 @@
+package com.bookapp.backend.infrastructure.search;
+
+import com.bookapp.backend.domain.search.SearchDocumentType;
+import com.bookapp.backend.domain.search.SearchHit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * BM25 점수: 단어 빈도(tf), 희소성(idf), 문서 길이 정규화와 상위 limit개 선택.
+ */
+class UserIndexShardTest {
+
+    private final UserIndexShard shard = new UserIndexShard();
+
+    @Test
+    void 문서가_하나면_점수는_BM25_식과_같다() {
+        shard.put(book(1L, 1, Map.of("독서", 1)));
+
+        List<SearchHit> hits = shard.search(List.of("독서"), 10);
+
+        // N=1, df=1: idf = ln(1 + 0.5 / 1.5), 평균 길이와 같으므로 tf 항은 1 * 2.2 / (1 + 1.2) = 1
+        assertThat(hits).singleElement().satisfies(hit ->
+                assertThat(hit.getScore()).isCloseTo(Math.log(1 + 0.5 / 1.5), within(1e-9)));
+    }
+
+    @Test
+    void 같은_길이면_단어가_많이_나온_문서가_앞선다() {
+        shard.put(book(1L, 4, Map.of("독서", 1, "여행", 3)));
+        shard.put(book(2L, 4, Map.of("독서", 3, "여행", 1)));
+        shard.put(book(3L, 4, Map.of("요리", 4)));
+
+        assertThat(shard.search(List.of("독서"), 10)).extracting(SearchHit::getBookId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 드문_단어가_맞은_문서가_흔한_단어만_맞은_문서보다_앞선다() {
+        shard.put(book(1L, 2, Map.of("독서", 1, "여행", 1)));
+        shard.put(book(2L, 2, Map.of("독서", 1, "역사", 1)));
+        shard.put(book(3L, 2, Map.of("독서", 1, "역사", 1)));
+        shard.put(book(4L, 2, Map.of("독서", 1, "역사", 1)));
+
+        List<SearchHit> hits = shard.search(List.of("여행"), 10);
+        List<SearchHit> common = shard.search(List.of("역사"), 10);
+
+        assertThat(hits).extracting(SearchHit::getBookId).containsExactly(1L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(common.get(0).getScore());
+    }
+
+    @Test
+    void 단어_빈도가_같으면_짧은_문서가_앞선다() {
+        shard.put(book(1L, 20, Map.of("독서", 2, "여행", 18)));
+        shard.put(book(2L, 4, Map.of("독서", 2, "요리", 2)));
+
+        assertThat(shard.search(List.of("독서"), 10)).extracting(SearchHit::getBookId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 검색어에_같은_단어가_반복돼도_한_번만_센다() {
+        shard.put(book(1L, 2, Map.of("독서", 1, "여행", 1)));
+        shard.put(book(2L, 2, Map.of("요리", 2)));
+
+        double once = shard.search(List.of("독서"), 10).get(0).getScore();
+        double repeated = shard.search(List.of("독서", "독서", "독서"), 10).get(0).getScore();
+
+        assertThat(repeated).isEqualTo(once);
+    }
+
+    @Test
+    void 점수_순으로_limit개만_돌려준다() {
+        for (long id = 1; id <= 10; id++) {
+            shard.put(book(id, 10, Map.of("독서", (int) id)));
+        }
+
+        assertThat(shard.search(List.of("독서"), 3)).extracting(SearchHit::getBookId).containsExactly(10L, 9L, 8L);
+    }
+
+    @Test
+    void 같은_키로_다시_넣으면_이전_단어는_검색되지_않는다() {
+        shard.put(book(1L, 1, Map.of("독서", 1)));
+        shard.put(book(1L, 1, Map.of("여행", 1)));
+
+        assertThat(shard.search(List.of("독서"), 10)).isEmpty();
+        assertThat(shard.search(List.of("여행"), 10)).hasSize(1);
+        assertThat(shard.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 책을_지우면_그_책의_독서_기록과_분석도_빠진다() {
+        shard.put(book(1L, 1, Map.of("독서", 1)));
+        shard.put(new IndexedDocument(SearchDocumentType.READING_RECORD, "100", 1L, 1, Map.of("독서", 1)));
+        shard.put(new IndexedDocument(SearchDocumentType.ANALYSIS, "a-1", 1L, 1, Map.of("독서", 1)));
+        shard.put(book(2L, 1, Map.of("독서", 1)));
+
+        shard.removeByBookId(1L);
+
+        assertThat(shard.search(List.of("독서"), 10)).extracting(SearchHit::getType, SearchHit::getId)
+                .containsExactly(tuple(SearchDocumentType.BOOK, "2"));
+        assertThat(shard.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 문서나_검색어가_없으면_결과가_없다() {
+        assertThat(shard.search(List.of("독서"), 10)).isEmpty();
+
+        shard.put(book(1L, 1, Map.of("독서", 1)));
+
+        assertThat(shard.search(List.of(), 10)).isEmpty();
+        assertThat(shard.search(List.of("요리"), 10)).isEmpty();
+    }
+
+    private static IndexedDocument book(Long id, int length, Map<String, Integer> termFrequencies) {
+        return new IndexedDocument(SearchDocumentType.BOOK, String.valueOf(id), id, length, termFrequencies);
+    }
+}
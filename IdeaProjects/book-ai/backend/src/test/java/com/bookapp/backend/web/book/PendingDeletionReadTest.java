@@ -0,0 +1,187 @@
+package com.bookapp.backend.web.book;
+
+import com.bookapp.backend.application.book.dto.BookCreateRequest;
+import com.bookapp.backend.application.book.usecase.CreateBookUseCase;
+import com.bookapp.backend.application.reading.dto.ReadingRecordCreateRequest;
+import com.bookapp.backend.application.reading.usecase.CreateReadingRecordUseCase;
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.analysis.AnalysisType;
+import com.bookapp.backend.domain.book.Genre;
+import com.bookapp.backend.infrastructure.persistence.compression.TextCompression;
+import com.bookapp.backend.web.security.JwtUtils;
+import com.bookapp.backend.web.security.UserPrincipal;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 삭제 요청 직후(퍼지 전): 책과 그 독서 기록, 분석은 목록, 검색, 타임라인, 서재 어디에서도 보이지 않고,
+ * 탈퇴 요청한 계정의 토큰은 더 이상 인증되지 않는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pending_deletion_read;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        // 퍼지가 행을 지워 버리면 숨김 조건을 확인할 수 없으므로 끔
+        "app.purge.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PendingDeletionReadTest {
+
+    private static final String PASSWORD_HASH = "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi";
+    private static final long USER_ID = 1L;
+    private static final long LEAVING_USER_ID = 2L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CreateBookUseCase createBookUseCase;
+
+    @Autowired
+    private CreateReadingRecordUseCase createReadingRecordUseCase;
+
+    private Long keptBookId;
+    private Long deletedBookId;
+    private Long keptRecordId;
+
+    @BeforeAll
+    void 책을_등록하고_하나를_삭제_요청() throws Exception {
+        for (long userId : new long[]{USER_ID, LEAVING_USER_ID}) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, 'pending')",
+                    userId, email(userId), PASSWORD_HASH);
+        }
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new UserPrincipal(USER_ID, email(USER_ID)), null, List.of()));
+        keptBookId = createBook("남길 책 사과나무");
+        deletedBookId = createBook("지울 책 바다거북");
+        keptRecordId = createReadingRecordUseCase.execute(new ReadingRecordCreateRequest(keptBookId, "남길 기록")).getId();
+        createReadingRecordUseCase.execute(new ReadingRecordCreateRequest(deletedBookId, "지울 기록"));
+        insertAnalysis(keptBookId);
+        insertAnalysis(deletedBookId);
+        SecurityContextHolder.clearContext();
+
+        mockMvc.perform(authenticated(delete("/api/books/{id}", deletedBookId), USER_ID))
+                .andExpect(status().isNoContent());
+    }
+
+    @AfterAll
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 책_목록과_책_검색에서_빠진다() throws Exception {
+        mockMvc.perform(authenticated(get("/api/books"), USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id", contains(keptBookId.intValue())));
+        mockMvc.perform(authenticated(get("/api/books/search").param("q", "책"), USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id", contains(keptBookId.intValue())));
+    }
+
+    @Test
+    void 본문_검색에서_책과_하위_문서가_빠진다() throws Exception {
+        mockMvc.perform(authenticated(get("/api/search").param("q", "바다거북"), USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", empty()));
+        mockMvc.perform(authenticated(get("/api/search").param("q", "기록"), USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].bookId", contains(keptBookId.intValue())));
+    }
+
+    @Test
+    void 독서_기록_조회에서_빠진다() throws Exception {
+        mockMvc.perform(authenticated(get("/api/reading-records/book/{bookId}", deletedBookId), USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", empty()));
+        mockMvc.perform(authenticated(get("/api/reading-records/user/{userId}", USER_ID), USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].id", contains(keptRecordId.intValue())));
+    }
+
+    @Test
+    void 타임라인과_서재에서_빠진다() throws Exception {
+        mockMvc.perform(authenticated(get("/api/timeline").param("size", "50"), USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.entries[*].bookId", hasItem(keptBookId.intValue())))
+                .andExpect(jsonPath("$.data.entries[*].bookId", everyItem(is(keptBookId.intValue()))));
+        mockMvc.perform(authenticated(get("/api/library"), USER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.entries[*].bookId", contains(keptBookId.intValue())));
+    }
+
+    @Test
+    void 탈퇴_요청한_계정의_토큰은_인증되지_않는다() throws Exception {
+        mockMvc.perform(authenticated(get("/api/books"), LEAVING_USER_ID))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(authenticated(delete("/api/users/me"), LEAVING_USER_ID))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(authenticated(get("/api/books"), LEAVING_USER_ID))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private Long createBook(String title) {
+        return createBookUseCase.execute(BookCreateRequest.builder()
+                .title(title)
+                .author("저자")
+                .genre(Genre.FICTION)
+                .build()).getId();
+    }
+
+    private void insertAnalysis(Long bookId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array(),
+                USER_ID, bookId, AnalysisType.LITERATURE_ANALYSIS.name(), TextCompression.encode("분석"),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request, long userId) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtils.generateJwtToken(email(userId), userId));
+    }
+
+    private static String email(long userId) {
+        return "pending-" + userId + "@example.com";
+    }
+}
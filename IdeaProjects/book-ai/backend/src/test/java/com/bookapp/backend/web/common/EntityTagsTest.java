@@ -0,0 +1,59 @@
+package com.bookapp.backend.web.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityTagsTest {
+
+    @Test
+    void 헤더가_없거나_별표면_조건이_없다() {
+        assertThat(EntityTags.parseIfMatch(null)).isEmpty();
+        assertThat(EntityTags.parseIfMatch("  ")).isEmpty();
+        assertThat(EntityTags.parseIfMatch(" * ")).isEmpty();
+    }
+
+    @Test
+    void 내보낸_ETag를_그대로_받으면_그_버전이다() {
+        assertThat(EntityTags.parseIfMatch(EntityTags.of(7L))).containsExactly(7L);
+    }
+
+    @Test
+    void 쉼표로_나열한_태그는_모두_허용_버전이다() {
+        assertThat(EntityTags.parseIfMatch("\"3\", \"4\",\t\"5\"")).containsExactly(3L, 4L, 5L);
+        assertThat(EntityTags.parseIfMatch(", \"3\" ,, \"4\",")).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void 약한_태그는_강한_비교에서_빠지고_약한_태그만_있으면_412다() {
+        assertThat(EntityTags.parseIfMatch("W/\"3\", \"4\"")).containsExactly(4L);
+
+        assertThatThrownBy(() -> EntityTags.parseIfMatch("W/\"3\""))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> EntityTags.parseIfMatch("W/\"3\", W/\"4\""))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void 이_서버가_내보내지_않는_태그는_일치하지_않는다() {
+        assertThat(EntityTags.parseIfMatch("\"abc\", \"2\"")).containsExactly(2L);
+
+        assertThatThrownBy(() -> EntityTags.parseIfMatch("\"abc\""))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> EntityTags.parseIfMatch("\"99999999999999999999\""))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> EntityTags.parseIfMatch("\"\""))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void 형식이_틀린_헤더는_400이다() {
+        for (String header : new String[]{"3", "\"3", "\"3\" \"4\"", "\"3\", *", "w/\"3\"", "W/3"}) {
+            assertThatThrownBy(() -> EntityTags.parseIfMatch(header))
+                    .as(header)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
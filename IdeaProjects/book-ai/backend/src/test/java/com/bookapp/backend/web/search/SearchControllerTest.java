@@ -0,0 +1,115 @@
+package com.bookapp.backend.web.search;
+
+import com.bookapp.backend.common.TestConfiguration;
+import com.bookapp.backend.domain.search.ContentSearchIndex;
+import com.bookapp.backend.web.security.JwtUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/search: 로그인한 사용자의 문서만 점수 순으로 돌려주고, 빈 검색어는 400, limit은 1~100으로 자른다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfiguration.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:search_api;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchControllerTest {
+
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ContentSearchIndex contentSearchIndex;
+
+    @BeforeAll
+    void 책_등록() {
+        for (long userId : new long[]{USER_ID, OTHER_USER_ID}) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, nickname) VALUES (?, ?, ?, 'search')",
+                    userId, email(userId), "$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2.uheWG/igi");
+        }
+        insertBook(10, USER_ID, "독서의 기술", "독서 모임에서 함께 읽는 독서 안내서");
+        insertBook(11, USER_ID, "여행의 이유", "독서보다 여행");
+        insertBook(12, USER_ID, "요리 교과서", "집밥");
+        insertBook(20, OTHER_USER_ID, "독서 일기", "다른 사용자의 책");
+        for (long id = 100; id < 230; id++) {
+            insertBook(id, USER_ID, "산책 " + id, "산책 기록");
+        }
+        contentSearchIndex.rebuild(USER_ID);
+        contentSearchIndex.rebuild(OTHER_USER_ID);
+    }
+
+    @Test
+    void 로그인한_사용자의_문서를_점수_순으로_돌려준다() throws Exception {
+        mockMvc.perform(authenticated(get("/api/search").param("q", "독서를")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].type").value("BOOK"))
+                .andExpect(jsonPath("$.data[0].id").value("10"))
+                .andExpect(jsonPath("$.data[0].bookId").value(10))
+                .andExpect(jsonPath("$.data[1].bookId").value(11));
+    }
+
+    @Test
+    void 빈_검색어는_400이다() throws Exception {
+        mockMvc.perform(authenticated(get("/api/search").param("q", "  ")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void limit은_1에서_100_사이로_자른다() throws Exception {
+        mockMvc.perform(authenticated(get("/api/search").param("q", "산책")))
+                .andExpect(jsonPath("$.data", hasSize(20)));
+        mockMvc.perform(authenticated(get("/api/search").param("q", "산책").param("limit", "0")))
+                .andExpect(jsonPath("$.data", hasSize(1)));
+        mockMvc.perform(authenticated(get("/api/search").param("q", "산책").param("limit", "1000")))
+                .andExpect(jsonPath("$.data", hasSize(100)));
+    }
+
+    @Test
+    void 토큰이_없으면_401이다() throws Exception {
+        mockMvc.perform(get("/api/search").param("q", "독서"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtils.generateJwtToken(email(USER_ID), USER_ID));
+    }
+
+    private void insertBook(long id, long userId, String title, String description) {
+        jdbcTemplate.update("INSERT INTO books (id, title, author, genre, description, user_id) VALUES (?, ?, '저자', 'FICTION', ?, ?)",
+                id, title, description, userId);
+    }
+
+    private static String email(long userId) {
+        return "search-api-" + userId + "@example.com";
+    }
+}
@@ -0,0 +1,5 @@
+-- data.sql의 고정 ID(1~3) 뒤에서 시퀀스 ID를 발급하도록 이동
+-- pooled 생성기는 시퀀스 값을 블록의 끝으로 쓰므로 (값 - 49)가 고정 ID보다 커야 함
+ALTER SEQUENCE users_seq RESTART WITH 101;
+ALTER SEQUENCE books_seq RESTART WITH 101;
+ALTER SEQUENCE reading_records_seq RESTART WITH 101;
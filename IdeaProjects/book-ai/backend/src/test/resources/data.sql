@@ -1,4 +1,5 @@
 -- Test data for integration tests (H2 compatible)
+-- 고정 ID를 쓰므로 ID 시퀀스는 data-h2.sql, data-mysql.sql에서 이 값들 뒤로 옮긴다
 
 -- Users 
 INSERT INTO users (id, email, password, nickname, created_at, updated_at) VALUES
@@ -17,7 +18,7 @@ INSERT INTO reading_records (id, user_id, book_id, content, status, created_at,
 (2, 1, 2, 'Learned about the importance of clean code. Functions should be small and have meaningful names.', 'COMPLETED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
 (3, 2, 3, 'Harry Potter magical world is very interesting. The Hogwarts school setting is well built.', 'IN_PROGRESS', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
 
--- AI Analyses
+-- AI Analyses (analysis_id는 BINARY(16) UUIDv7)
 INSERT INTO ai_analyses (analysis_id, user_id, book_id, analysis_type, content, created_at) VALUES
-('analysis_001', 1, 1, 'LITERATURE_ANALYSIS', '1984 is a dystopian novel that vividly depicts the oppressive nature of totalitarian society. The absolute power symbolized by Big Brother and constant surveillance completely control individual freedom and thought. In particular, through the concepts of "thought police" and "doublethink", it shows how power invades even the individual inner self. This contains a warning message about surveillance systems and media manipulation in modern society, providing still valid criticism.', CURRENT_TIMESTAMP),
-('analysis_002', 1, 2, 'TECHNICAL_SUMMARY', 'Clean Code is a must-read book that emphasizes the importance of code quality in software development. Key concepts include: 1) Functions should be small and do only one thing. 2) Variable and function names should clearly reveal intent. 3) Code itself should be explanatory rather than comments. 4) Emphasizes the importance of writing test code. 5) Continuous improvement through refactoring is necessary. Through these principles, you can write code that is easy to maintain and extensible.', CURRENT_TIMESTAMP);
\ No newline at end of file
+(X'0192f1a0c3d47a1b8e2f3a4b5c6d7e01', 1, 1, 'LITERATURE_ANALYSIS', '1984 is a dystopian novel that vividly depicts the oppressive nature of totalitarian society. The absolute power symbolized by Big Brother and constant surveillance completely control individual freedom and thought. In particular, through the concepts of "thought police" and "doublethink", it shows how power invades even the individual inner self. This contains a warning message about surveillance systems and media manipulation in modern society, providing still valid criticism.', CURRENT_TIMESTAMP),
+(X'0192f1a0c3d47a1b8e2f3a4b5c6d7e02', 1, 2, 'TECHNICAL_SUMMARY', 'Clean Code is a must-read book that emphasizes the importance of code quality in software development. Key concepts include: 1) Functions should be small and do only one thing. 2) Variable and function names should clearly reveal intent. 3) Code itself should be explanatory rather than comments. 4) Emphasizes the importance of writing test code. 5) Continuous improvement through refactoring is necessary. Through these principles, you can write code that is easy to maintain and extensible.', CURRENT_TIMESTAMP);
\ No newline at end of file